@@ -37,6 +37,7 @@ import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
@@ -51,6 +52,7 @@ public class FinancialActivityAccountWritePlatformServiceImpl implements Financi
     private final GLAccountRepositoryWrapper glAccountRepositoryWrapper;
 
     @Override
+    @CacheEvict(value = "glAccountMappings", allEntries = true)
     public CommandProcessingResult createFinancialActivityAccountMapping(JsonCommand command) {
         try {
 
@@ -90,6 +92,7 @@ public class FinancialActivityAccountWritePlatformServiceImpl implements Financi
     }
 
     @Override
+    @CacheEvict(value = "glAccountMappings", allEntries = true)
     public CommandProcessingResult updateGLAccountActivityMapping(Long financialActivityAccountId, JsonCommand command) {
         try {
             this.fromApiJsonDeserializer.validateForUpdate(command.json());
@@ -129,6 +132,7 @@ public class FinancialActivityAccountWritePlatformServiceImpl implements Financi
     }
 
     @Override
+    @CacheEvict(value = "glAccountMappings", allEntries = true)
     public CommandProcessingResult deleteGLAccountActivityMapping(Long financialActivityAccountId, JsonCommand command) {
         final FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
                 .findOneWithNotFoundDetection(financialActivityAccountId);
@@ -18,7 +18,8 @@
  */
 package org.apache.fineract.accounting.glaccount.jobs.updatetrialbalancedetails;
 
-import org.apache.fineract.accounting.glaccount.domain.TrialBalanceRepositoryWrapper;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceServiceFactory;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.springframework.batch.core.Job;
@@ -28,8 +29,10 @@ import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -42,7 +45,10 @@ public class UpdateTrialBalanceDetailsConfig {
     @Autowired
     private RoutingDataSourceServiceFactory dataSourceServiceFactory;
     @Autowired
-    private TrialBalanceRepositoryWrapper trialBalanceRepositoryWrapper;
+    private FineractProperties fineractProperties;
+    @Autowired
+    @Qualifier(TaskExecutorConstant.TRIAL_BALANCE_TASK_EXECUTOR_BEAN_NAME)
+    private TaskExecutor trialBalanceTaskExecutor;
 
     @Bean
     protected Step updateTrialBalanceDetailsStep() {
@@ -58,6 +64,7 @@ public class UpdateTrialBalanceDetailsConfig {
 
     @Bean
     public UpdateTrialBalanceDetailsTasklet updateTrialBalanceDetailsTasklet() {
-        return new UpdateTrialBalanceDetailsTasklet(dataSourceServiceFactory, trialBalanceRepositoryWrapper);
+        return new UpdateTrialBalanceDetailsTasklet(dataSourceServiceFactory, transactionManager, fineractProperties,
+                trialBalanceTaskExecutor);
     }
 }
@@ -18,14 +18,24 @@
  */
 package org.apache.fineract.accounting.glaccount.jobs.updatetrialbalancedetails;
 
+import com.google.common.collect.Lists;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.accounting.glaccount.domain.TrialBalance;
-import org.apache.fineract.accounting.glaccount.domain.TrialBalanceRepositoryWrapper;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractTrialBalanceProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceServiceFactory;
@@ -33,68 +43,161 @@ import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.util.CollectionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @RequiredArgsConstructor
 public class UpdateTrialBalanceDetailsTasklet implements Tasklet {
 
+    private static final String TB_GAPS_SQL = "select distinct(je.transaction_date) from acc_gl_journal_entry je "
+            + "where je.transaction_date > (select coalesce(MAX(created_date),'2010-01-01') from m_trial_balance) "
+            + "and je.transaction_date < ? order by je.transaction_date";
+
+    private static final String CLOSING_BALANCES_SQL = "select office_id, account_id, closing_balance from m_trial_balance_closing_balance";
+
+    private static final String NEW_ROWS_SQL = "select je.office_id, je.account_id, "
+            + "SUM(CASE WHEN je.type_enum=1 THEN (-1) * je.amount ELSE je.amount END) as amount, je.entry_date, je.transaction_date "
+            + "from acc_gl_journal_entry je where je.transaction_date >= ? and je.transaction_date <= ? and MOD(je.account_id, ?) = ? "
+            + "group by je.account_id, je.office_id, je.transaction_date, je.entry_date "
+            + "order by je.account_id, je.office_id, je.transaction_date, je.entry_date";
+
+    private static final String INSERT_SQL = "insert into m_trial_balance(office_id, account_id, amount, entry_date, created_date, "
+            + "closing_balance) values (?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_CLOSING_BALANCE_SQL = "delete from m_trial_balance_closing_balance "
+            + "where office_id = ? and account_id = ?";
+
+    private static final String INSERT_CLOSING_BALANCE_SQL = "insert into m_trial_balance_closing_balance(office_id, account_id, "
+            + "closing_balance) values (?, ?, ?)";
+
     private final RoutingDataSourceServiceFactory dataSourceServiceFactory;
-    private final TrialBalanceRepositoryWrapper trialBalanceRepositoryWrapper;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+    private final TaskExecutor trialBalanceTaskExecutor;
 
+    /**
+     * Adds the trial balance rows of every complete transaction date after the last one already in the trial balance. The dates
+     * are taken in ranges: the rows of a range are aggregated by partitions of GL accounts in parallel, and stored in one
+     * transaction together with the closing balances they end on, so the last stored date always marks a complete range.
+     *
+     * Journal entries backdated to a transaction date that is already in the trial balance are not added afterwards.
+     */
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSourceServiceFactory.determineDataSourceService().retrieveDataSource());
-        final StringBuilder tbGapSqlBuilder = new StringBuilder(500);
-        tbGapSqlBuilder.append("select distinct(je.transaction_date) ").append("from acc_gl_journal_entry je ")
-                .append("where je.transaction_date > (select coalesce(MAX(created_date),'2010-01-01') from m_trial_balance)");
-        final List<LocalDate> tbGaps = jdbcTemplate.queryForList(tbGapSqlBuilder.toString(), LocalDate.class);
-        for (LocalDate tbGap : tbGaps) {
-            int days = Math.toIntExact(ChronoUnit.DAYS.between(tbGap, DateUtils.getBusinessLocalDate()));
-            if (days < 1) {
-                continue;
-            }
-            final StringBuilder sqlBuilder = new StringBuilder(600);
-            sqlBuilder.append("Insert Into m_trial_balance(office_id, account_id, Amount, entry_date, created_date,closing_balance) ")
-                    .append("Select je.office_id, je.account_id, SUM(CASE WHEN je.type_enum=1 THEN (-1) * je.amount ELSE je.amount END) ")
-                    .append("as Amount, Date(je.entry_date) as Entry_Date, je.transaction_date as Created_Date,sum(je.amount) as closing_balance ")
-                    .append("from acc_gl_journal_entry je WHERE je.transaction_date = ? ")
-                    .append("group by je.account_id, je.office_id, je.transaction_date, Date(je.entry_date)");
-            final int result = jdbcTemplate.update(sqlBuilder.toString(), tbGap);
-            log.debug("{}: Records affected by updateTrialBalanceDetails: {}", ThreadLocalContextUtil.getTenant().getName(), result);
+        final List<LocalDate> tbGaps = jdbcTemplate.queryForList(TB_GAPS_SQL, LocalDate.class, DateUtils.getBusinessLocalDate());
+        if (tbGaps.isEmpty()) {
+            log.debug("{}: No new transaction dates for updateTrialBalanceDetails", ThreadLocalContextUtil.getTenant().getName());
+            return RepeatStatus.FINISHED;
         }
-        String distinctOfficeQuery = "select distinct(office_id) from m_trial_balance where closing_balance is null group by office_id";
-        final List<Long> officeIds = jdbcTemplate.queryForList(distinctOfficeQuery, Long.class);
-        for (Long officeId : officeIds) {
-            String distinctAccountQuery = "select distinct(account_id) from m_trial_balance where office_id=? and closing_balance is null group by account_id";
-            final List<Long> accountIds = jdbcTemplate.queryForList(distinctAccountQuery, Long.class, officeId);
-            for (Long accountId : accountIds) {
-                final String closingBalanceQuery = "select closing_balance from m_trial_balance where office_id=? and account_id=? and closing_balance "
-                        + "is not null order by created_date desc, entry_date desc limit 1";
-                List<BigDecimal> closingBalanceData = jdbcTemplate.queryForList(closingBalanceQuery, BigDecimal.class, officeId, accountId);
-                List<TrialBalance> tbRows = trialBalanceRepositoryWrapper.findNewByOfficeAndAccount(officeId, accountId);
-                BigDecimal closingBalance = null;
-                if (!CollectionUtils.isEmpty(closingBalanceData)) {
-                    closingBalance = closingBalanceData.get(0);
+        final FineractTrialBalanceProperties properties = fineractProperties.getAccounting().getTrialBalance();
+        final int partitions = Math.max(1, properties.getThreads());
+        // the closing balance each office and GL account ended on in the last run
+        final Map<BalanceKey, BigDecimal> closingBalances = new ConcurrentHashMap<>();
+        jdbcTemplate.query(CLOSING_BALANCES_SQL, rs -> {
+            closingBalances.put(new BalanceKey(rs.getLong("office_id"), rs.getLong("account_id")), rs.getBigDecimal("closing_balance"));
+        });
+
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        final int batchSize = Math.max(1, properties.getBatchSize());
+        int result = 0;
+        // a GL account always falls into the same partition, so the partitions never share a closing balance
+        for (List<LocalDate> dateRange : Lists.partition(tbGaps, Math.max(1, properties.getDaysPerPass()))) {
+            final LocalDate fromDate = dateRange.get(0);
+            final LocalDate toDate = dateRange.get(dateRange.size() - 1);
+            final List<CompletableFuture<List<Object[]>>> partitionRows = IntStream.range(0, partitions)
+                    .mapToObj(partition -> CompletableFuture.supplyAsync(
+                            () -> buildRows(jdbcTemplate, fromDate, toDate, partitions, partition, closingBalances, context),
+                            trialBalanceTaskExecutor))
+                    .toList();
+            final List<Object[]> rows = new ArrayList<>();
+            for (CompletableFuture<List<Object[]>> partitionResult : partitionRows) {
+                rows.addAll(partitionResult.join());
+            }
+            final List<Object[]> closingBalanceKeys = new ArrayList<>();
+            final List<Object[]> closingBalanceRows = new ArrayList<>();
+            for (BalanceKey key : balanceKeys(rows)) {
+                closingBalanceKeys.add(new Object[] { key.officeId, key.accountId });
+                closingBalanceRows.add(new Object[] { key.officeId, key.accountId, closingBalances.get(key) });
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (List<Object[]> batch : Lists.partition(rows, batchSize)) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch);
                 }
-                if (CollectionUtils.isEmpty(closingBalanceData)) {
-                    closingBalance = BigDecimal.ZERO;
-                    for (TrialBalance row : tbRows) {
-                        closingBalance = closingBalance.add(row.getAmount());
-                        row.setClosingBalance(closingBalance);
-                    }
-                } else {
-                    for (TrialBalance tbRow : tbRows) {
-                        if (closingBalance != null) {
-                            closingBalance = closingBalance.add(tbRow.getAmount());
-                        }
-                        tbRow.setClosingBalance(closingBalance);
-                    }
+                for (List<Object[]> batch : Lists.partition(closingBalanceKeys, batchSize)) {
+                    jdbcTemplate.batchUpdate(DELETE_CLOSING_BALANCE_SQL, batch);
                 }
-                trialBalanceRepositoryWrapper.save(tbRows);
-            }
+                for (List<Object[]> batch : Lists.partition(closingBalanceRows, batchSize)) {
+                    jdbcTemplate.batchUpdate(INSERT_CLOSING_BALANCE_SQL, batch);
+                }
+            });
+            result += rows.size();
+            log.debug("{}: Records affected by updateTrialBalanceDetails from {} to {}: {}", ThreadLocalContextUtil.getTenant().getName(),
+                    fromDate, toDate, rows.size());
         }
+        contribution.incrementWriteCount(result);
         return RepeatStatus.FINISHED;
     }
+
+    /**
+     * Aggregates the journal entries of the date range for the GL accounts of the partition, and adds them to the closing
+     * balances in the order of the transaction and entry dates.
+     */
+    private List<Object[]> buildRows(final JdbcTemplate jdbcTemplate, final LocalDate fromDate, final LocalDate toDate,
+            final int partitions, final int partition, final Map<BalanceKey, BigDecimal> closingBalances, final FineractContext context) {
+        ThreadLocalContextUtil.init(context);
+        try {
+            final List<Object[]> rows = new ArrayList<>();
+            jdbcTemplate.query(NEW_ROWS_SQL, rs -> {
+                final Long officeId = rs.getLong("office_id");
+                final Long accountId = rs.getLong("account_id");
+                final BigDecimal amount = rs.getBigDecimal("amount");
+                final BigDecimal closingBalance = closingBalances.merge(new BalanceKey(officeId, accountId), amount, BigDecimal::add);
+                rows.add(new Object[] { officeId, accountId, amount, JdbcSupport.getLocalDate(rs, "entry_date"),
+                        JdbcSupport.getLocalDate(rs, "transaction_date"), closingBalance });
+            }, fromDate, toDate, partitions, partition);
+            return rows;
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private static Set<BalanceKey> balanceKeys(final List<Object[]> rows) {
+        final Set<BalanceKey> keys = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            keys.add(new BalanceKey((Long) row[0], (Long) row[1]));
+        }
+        return keys;
+    }
+
+    private static final class BalanceKey {
+
+        private final Long officeId;
+        private final Long accountId;
+
+        private BalanceKey(final Long officeId, final Long accountId) {
+            this.officeId = officeId;
+            this.accountId = accountId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof BalanceKey)) {
+                return false;
+            }
+            BalanceKey other = (BalanceKey) obj;
+            return Objects.equals(other.officeId, officeId) && Objects.equals(other.accountId, accountId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(officeId, accountId);
+        }
+    }
 }
@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.service.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Writes a page of list endpoint rows to a discarding response stream, once rendered into a String first and once
+ * streamed straight to the output. With a partial response (fields=...) the cached serializer is compared to building
+ * a new Gson for every request, as done before the serializers were cached.
+ *
+ * Run with the gc profiler to compare the allocation rate of the variants next to their latency.
+ */
+@State(Scope.Thread)
+public class PageSerializationBenchmark {
+
+    private static final Set<String> SUPPORTED_PARAMETERS = new HashSet<>(Arrays.asList("id", "accountNo", "externalId", "clientName",
+            "productName", "status", "principal", "outstanding", "interestRate", "submittedOnDate", "disbursedOnDate", "maturityDate"));
+
+    @Param({ "200", "2000" })
+    public int pageSize;
+
+    @Param({ "", "id,accountNo,principal,outstanding" })
+    public String fields;
+
+    private DefaultToApiJsonSerializer<Row> serializer;
+    private ApiRequestJsonSerializationSettings settings;
+    private Page<Row> page;
+
+    @Setup
+    public void setUp() {
+        serializer = serializer(new GoogleGsonSerializerHelper());
+        final Set<String> responseParameters = fields.isEmpty() ? new HashSet<>() : new HashSet<>(Arrays.asList(fields.split(",")));
+        settings = ApiRequestJsonSerializationSettings.from(false, responseParameters, false, false, false);
+
+        final List<Row> rows = new ArrayList<>(pageSize);
+        final LocalDate submittedOnDate = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < pageSize; i++) {
+            rows.add(new Row(i, submittedOnDate.plusDays(i % 365)));
+        }
+        page = new Page<>(rows, pageSize * 10);
+    }
+
+    @Benchmark
+    public long string() throws IOException {
+        final DiscardingOutputStream out = new DiscardingOutputStream();
+        // what the container does with a String entity
+        out.write(serializer.serialize(settings, page, SUPPORTED_PARAMETERS).getBytes(StandardCharsets.UTF_8));
+        return out.written;
+    }
+
+    @Benchmark
+    public long streaming() throws IOException {
+        final DiscardingOutputStream out = new DiscardingOutputStream();
+        serializer.serializeStreaming(settings, page, SUPPORTED_PARAMETERS).write(out);
+        return out.written;
+    }
+
+    @Benchmark
+    public long streamingUncachedSerializer() throws IOException {
+        // a fresh helper has an empty cache, so the partial response serializer is built for every call
+        final DiscardingOutputStream out = new DiscardingOutputStream();
+        serializer(new GoogleGsonSerializerHelper()).serializeStreaming(settings, page, SUPPORTED_PARAMETERS).write(out);
+        return out.written;
+    }
+
+    private static DefaultToApiJsonSerializer<Row> serializer(final GoogleGsonSerializerHelper helper) {
+        return new DefaultToApiJsonSerializer<>(new ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson(),
+                new ExcludeNothingWithPrettyPrintingOnJsonSerializerGoogleGson(), new CommandProcessingResultJsonSerializer(), helper);
+    }
+
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        private long written;
+
+        @Override
+        public void write(final int b) {
+            written++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            written += len;
+        }
+    }
+
+    /**
+     * Shaped like the rows of the loan and client list endpoints.
+     */
+    @SuppressWarnings("unused")
+    private static final class Row {
+
+        private final Long id;
+        private final String accountNo;
+        private final ExternalId externalId;
+        private final String clientName;
+        private final String productName;
+        private final String status;
+        private final BigDecimal principal;
+        private final BigDecimal outstanding;
+        private final BigDecimal interestRate;
+        private final LocalDate submittedOnDate;
+        private final LocalDate disbursedOnDate;
+        private final LocalDate maturityDate;
+
+        private Row(final long id, final LocalDate submittedOnDate) {
+            this.id = id;
+            this.accountNo = String.format("%09d", id);
+            this.externalId = new ExternalId("ext-" + id);
+            this.clientName = "Client " + id;
+            this.productName = "Personal Loan";
+            this.status = "Active";
+            this.principal = BigDecimal.valueOf(10_000 + id % 1000, 2);
+            this.outstanding = BigDecimal.valueOf(5_000 + id % 500, 2);
+            this.interestRate = BigDecimal.valueOf(1250, 2);
+            this.submittedOnDate = submittedOnDate;
+            this.disbursedOnDate = submittedOnDate.plusDays(3);
+            this.maturityDate = submittedOnDate.plusYears(1);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.avro.BulkMessageItemV1;
+import org.apache.fineract.avro.BulkMessagePayloadV1;
+import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventCompression;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compresses and inflates Avro encoded external event payloads, a single loan event and a bulk event carrying several
+ * of them, to compare the CPU cost of the algorithms and levels that can be configured for the outbox.
+ *
+ * The payload and compressed sizes of the last operation are reported as secondary results next to the latency.
+ */
+@State(Scope.Benchmark)
+public class ExternalEventCompressionBenchmark {
+
+    @Param({ "GZIP", "DEFLATE" })
+    public ExternalEventCompression compression;
+
+    @Param({ "1", "6" })
+    public int level;
+
+    @Param({ "1", "20" })
+    public int eventsPerPayload;
+
+    private byte[] payload;
+    private byte[] compressedPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ByteBufferConverter converter = new ByteBufferConverter();
+        if (eventsPerPayload == 1) {
+            payload = converter.convert(loanAccount(1L).toByteBuffer());
+        } else {
+            final List<BulkMessageItemV1> items = new ArrayList<>(eventsPerPayload);
+            for (int i = 0; i < eventsPerPayload; i++) {
+                items.add(new BulkMessageItemV1(i + 1, "LoanBalanceChangedBusinessEvent", "Loan", LoanAccountDataV1.class.getName(),
+                        loanAccount(i + 1L).toByteBuffer()));
+            }
+            payload = converter.convert(new BulkMessagePayloadV1(items).toByteBuffer());
+        }
+        compressedPayload = compression.compress(payload, level);
+    }
+
+    @Benchmark
+    public byte[] compress(final Sizes sizes) {
+        final byte[] result = compression.compress(payload, level);
+        sizes.payloadBytes = payload.length;
+        sizes.compressedBytes = result.length;
+        return result;
+    }
+
+    @Benchmark
+    public byte[] decompress() {
+        return compression.decompress(compressedPayload);
+    }
+
+    private static LoanAccountDataV1 loanAccount(final long id) {
+        final LoanAccountDataV1 loanAccount = new LoanAccountDataV1();
+        loanAccount.setId(id);
+        loanAccount.setAccountNo(String.format("%09d", id));
+        loanAccount.setExternalId("ext-loan-" + id);
+        loanAccount.setClientId(1000 + id);
+        loanAccount.setClientAccountNo(String.format("%09d", 1000 + id));
+        loanAccount.setClientName("Client " + id);
+        loanAccount.setClientOfficeId(1L);
+        loanAccount.setLoanProductId(1L);
+        loanAccount.setLoanProductName("Personal Loan");
+        loanAccount.setLoanProductDescription("Personal loan with monthly equal installments");
+        loanAccount.setLoanOfficerName("Loan Officer");
+        loanAccount.setTermFrequency(12);
+        loanAccount.setNumberOfRepayments(12);
+        loanAccount.setRepaymentEvery(1);
+        return loanAccount;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Sizes {
+
+        public long payloadBytes;
+        public long compressedBytes;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares summing installment components with immutable {@link Money} against {@link MoneyAccumulator}, mirroring the
+ * loops used by schedule generation and the repayment schedule transaction processors.
+ */
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    @Param({ "12", "360" })
+    public int installments;
+
+    @Param({ "2", "0" })
+    public int digitsAfterDecimal;
+
+    private MonetaryCurrency currency;
+    private Money[] principals;
+    private Money[] interests;
+    private BigDecimal[] percentageCharges;
+
+    @Setup
+    public void setUp() {
+        MoneyHelper.initializeRoundingMode(RoundingMode.HALF_EVEN);
+        currency = new MonetaryCurrency("USD", digitsAfterDecimal, digitsAfterDecimal == 0 ? 50 : null);
+        final Random random = new Random(42);
+        principals = new Money[installments];
+        interests = new Money[installments];
+        percentageCharges = new BigDecimal[installments];
+        for (int i = 0; i < installments; i++) {
+            principals[i] = Money.of(currency, BigDecimal.valueOf(50_000 + random.nextInt(500_000), 2));
+            interests[i] = Money.of(currency, BigDecimal.valueOf(random.nextInt(100_000), 2));
+            // percentage based charges are not rounded to the currency before being added
+            percentageCharges[i] = BigDecimal.valueOf(random.nextInt(10_000_000), 6);
+        }
+    }
+
+    @Benchmark
+    public Money[] sumWithMoney() {
+        Money principal = Money.zero(currency);
+        Money interest = Money.zero(currency);
+        Money fees = Money.zero(currency);
+        for (int i = 0; i < installments; i++) {
+            principal = principal.plus(principals[i]);
+            interest = interest.plus(interests[i]);
+            fees = fees.plus(percentageCharges[i]);
+        }
+        return new Money[] { principal, interest, fees };
+    }
+
+    @Benchmark
+    public Money[] sumWithAccumulator() {
+        final MoneyAccumulator principal = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator interest = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator fees = MoneyAccumulator.zero(currency);
+        for (int i = 0; i < installments; i++) {
+            principal.add(principals[i]);
+            interest.add(interests[i]);
+            fees.add(percentageCharges[i]);
+        }
+        return new Money[] { principal.toMoney(), interest.toMoney(), fees.toMoney() };
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor;
+
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanPaymentAllocationRule;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.AdvancedPaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.FineractStyleLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.CumulativeDecliningBalanceInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultPaymentPeriodsInOneYearCalculator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanBenchmarkFixtures;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModel;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ProgressiveLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanproduct.domain.FutureInstallmentAllocationRule;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationTransactionType;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Replays all transactions of a 360 installment loan on top of its schedule, as done after every backdated transaction,
+ * with the cumulative (Fineract style) and the advanced payment allocation transaction processors.
+ *
+ * The processors update the installments and transactions in place, so both are rebuilt for every invocation. That cost
+ * is part of the measurement, but it is the same for every processor and small compared to the replay.
+ */
+@State(Scope.Thread)
+public class RepaymentProcessingBenchmark {
+
+    private static final int INSTALLMENTS = 360;
+    private static final int DAYS_LATE = 5;
+
+    @Param({ "12", "120" })
+    public int repayments;
+
+    private LoanScheduleModel cumulativeSchedule;
+    private LoanScheduleModel progressiveSchedule;
+    private Loan cumulativeLoan;
+    private Loan progressiveLoan;
+    private LoanRepaymentScheduleTransactionProcessor cumulativeProcessor;
+    private LoanRepaymentScheduleTransactionProcessor advancedProcessor;
+
+    @Setup
+    public void setUp() {
+        LoanBenchmarkFixtures.initContext(LoanBenchmarkFixtures.DISBURSEMENT_DATE.plusMonths(repayments + 1L));
+        final MathContext mc = LoanBenchmarkFixtures.mathContext();
+        final HolidayDetailDTO holidayDetails = LoanBenchmarkFixtures.holidayDetails();
+
+        final LoanProductRelatedDetail cumulativeDetail = LoanBenchmarkFixtures.productRelatedDetail(InterestMethod.DECLINING_BALANCE,
+                LoanScheduleType.CUMULATIVE, INSTALLMENTS, false);
+        cumulativeSchedule = new CumulativeDecliningBalanceInterestLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                new DefaultPaymentPeriodsInOneYearCalculator())
+                .generate(mc, LoanBenchmarkFixtures.loanApplicationTerms(cumulativeDetail, holidayDetails), new HashSet<>(),
+                        holidayDetails);
+        cumulativeLoan = LoanBenchmarkFixtures.loan(cumulativeDetail, FineractStyleLoanRepaymentScheduleTransactionProcessor.STRATEGY_CODE);
+        cumulativeProcessor = new FineractStyleLoanRepaymentScheduleTransactionProcessor();
+
+        final LoanProductRelatedDetail progressiveDetail = LoanBenchmarkFixtures.productRelatedDetail(InterestMethod.DECLINING_BALANCE,
+                LoanScheduleType.PROGRESSIVE, INSTALLMENTS, false);
+        progressiveSchedule = new ProgressiveLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                new DefaultPaymentPeriodsInOneYearCalculator())
+                .generate(mc, LoanBenchmarkFixtures.loanApplicationTerms(progressiveDetail, holidayDetails), new HashSet<>(),
+                        holidayDetails);
+        progressiveLoan = LoanBenchmarkFixtures.loan(progressiveDetail,
+                AdvancedPaymentScheduleTransactionProcessor.ADVANCED_PAYMENT_ALLOCATION_STRATEGY);
+        progressiveLoan.setPaymentAllocationRules(List.of(new LoanPaymentAllocationRule(progressiveLoan,
+                PaymentAllocationTransactionType.DEFAULT, List.of(PaymentAllocationType.values()),
+                FutureInstallmentAllocationRule.NEXT_INSTALLMENT)));
+        // re-aging is not exercised, so its parameter repository is not needed
+        advancedProcessor = new AdvancedPaymentScheduleTransactionProcessor(null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LoanBenchmarkFixtures.resetContext();
+    }
+
+    @Benchmark
+    public ChangedTransactionDetail cumulative() {
+        final List<LoanRepaymentScheduleInstallment> installments = LoanBenchmarkFixtures.installments(cumulativeLoan,
+                cumulativeSchedule);
+        final List<LoanTransaction> transactions = LoanBenchmarkFixtures.repayments(cumulativeLoan, installments, repayments,
+                DAYS_LATE);
+        return cumulativeProcessor.reprocessLoanTransactions(LoanBenchmarkFixtures.DISBURSEMENT_DATE, transactions,
+                LoanBenchmarkFixtures.CURRENCY, installments, new HashSet<>());
+    }
+
+    @Benchmark
+    public ChangedTransactionDetail advancedPaymentAllocation() {
+        final List<LoanRepaymentScheduleInstallment> installments = LoanBenchmarkFixtures.installments(progressiveLoan,
+                progressiveSchedule);
+        final List<LoanTransaction> transactions = new ArrayList<>(repayments + 1);
+        transactions.add(LoanBenchmarkFixtures.disbursement(progressiveLoan));
+        transactions.addAll(LoanBenchmarkFixtures.repayments(progressiveLoan, installments, repayments, DAYS_LATE));
+        return advancedProcessor.reprocessLoanTransactions(LoanBenchmarkFixtures.DISBURSEMENT_DATE, transactions,
+                LoanBenchmarkFixtures.CURRENCY, installments, new HashSet<>());
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import java.math.MathContext;
+import java.util.HashSet;
+import java.util.List;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.FineractStyleLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleDTO;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Regenerates the schedule of a 360 installment loan with interest recalculation, after a number of late repayments
+ * were backdated into it. This is the path taken on every repayment, adjustment and close of business day for loans
+ * with interest recalculation enabled.
+ */
+@State(Scope.Thread)
+public class InterestRecalculationBenchmark {
+
+    private static final int INSTALLMENTS = 360;
+    private static final int DAYS_LATE = 5;
+
+    @Param({ "12", "120" })
+    public int repayments;
+
+    private MathContext mc;
+    private HolidayDetailDTO holidayDetails;
+    private LoanProductRelatedDetail detail;
+    private Loan loan;
+    private LoanScheduleGenerator generator;
+    private FineractStyleLoanRepaymentScheduleTransactionProcessor processor;
+
+    @Setup
+    public void setUp() {
+        // every repayment is in the past, so all of them are taken into account by the recalculation
+        LoanBenchmarkFixtures.initContext(LoanBenchmarkFixtures.DISBURSEMENT_DATE.plusMonths(repayments + 1L));
+        mc = LoanBenchmarkFixtures.mathContext();
+        holidayDetails = LoanBenchmarkFixtures.holidayDetails();
+        detail = LoanBenchmarkFixtures.productRelatedDetail(InterestMethod.DECLINING_BALANCE, LoanScheduleType.CUMULATIVE, INSTALLMENTS,
+                true);
+        generator = new CumulativeDecliningBalanceInterestLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                new DefaultPaymentPeriodsInOneYearCalculator());
+        processor = new FineractStyleLoanRepaymentScheduleTransactionProcessor();
+
+        loan = LoanBenchmarkFixtures.loan(detail, FineractStyleLoanRepaymentScheduleTransactionProcessor.STRATEGY_CODE);
+        final LoanScheduleModel schedule = generator.generate(mc, LoanBenchmarkFixtures.loanApplicationTerms(detail, holidayDetails),
+                new HashSet<>(), holidayDetails);
+        final List<LoanRepaymentScheduleInstallment> installments = LoanBenchmarkFixtures.installments(loan, schedule);
+        for (LoanTransaction repayment : LoanBenchmarkFixtures.repayments(loan, installments, repayments, DAYS_LATE)) {
+            loan.addLoanTransaction(repayment);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        LoanBenchmarkFixtures.resetContext();
+    }
+
+    @Benchmark
+    public LoanScheduleDTO recalculateSchedule() {
+        return generator.rescheduleNextInstallments(mc, LoanBenchmarkFixtures.loanApplicationTerms(detail, holidayDetails), loan,
+                holidayDetails, processor, null);
+    }
+}
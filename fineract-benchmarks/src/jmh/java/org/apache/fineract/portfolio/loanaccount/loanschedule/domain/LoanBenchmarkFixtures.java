@@ -0,0 +1,176 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrency;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.common.domain.DayOfWeekType;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestRecalculationCompoundingMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanPreClosureInterestCalculationStrategy;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanRescheduleStrategyMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.RecalculationFrequencyType;
+import org.apache.fineract.portfolio.loanproduct.domain.RepaymentStartDateType;
+
+/**
+ * Builds the in-memory loan domain objects shared by the loan benchmarks.
+ *
+ * Everything is created the same way the platform does it (see {@link Loan#constructLoanApplicationTerms}), but without
+ * repositories: the tenant, business date and rounding mode are put on the thread instead of being read from the
+ * database.
+ */
+public final class LoanBenchmarkFixtures {
+
+    public static final ApplicationCurrency USD = new ApplicationCurrency("USD", "US Dollar", 2, 0, "currency.USD", "$");
+    public static final MonetaryCurrency CURRENCY = MonetaryCurrency.fromApplicationCurrency(USD);
+    public static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2020, 1, 15);
+    public static final BigDecimal PRINCIPAL = BigDecimal.valueOf(100_000);
+    public static final BigDecimal ANNUAL_INTEREST_RATE = BigDecimal.valueOf(12);
+
+    private LoanBenchmarkFixtures() {}
+
+    public static void initContext(final LocalDate businessDate) {
+        MoneyHelper.initializeRoundingMode(RoundingMode.HALF_EVEN);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "UTC", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate)));
+    }
+
+    public static void resetContext() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    public static MathContext mathContext() {
+        return MoneyHelper.getMathContext();
+    }
+
+    public static HolidayDetailDTO holidayDetails() {
+        final WorkingDays workingDays = new WorkingDays("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR,SA,SU",
+                RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+        return new HolidayDetailDTO(false, new ArrayList<>(), workingDays, false, false);
+    }
+
+    public static LoanProductRelatedDetail productRelatedDetail(final InterestMethod interestMethod, final LoanScheduleType scheduleType,
+            final int numberOfRepayments, final boolean interestRecalculationEnabled) {
+        final InterestCalculationPeriodMethod interestCalculationPeriodMethod = interestMethod.isDecliningBalance()
+                ? InterestCalculationPeriodMethod.DAILY
+                : InterestCalculationPeriodMethod.SAME_AS_REPAYMENT_PERIOD;
+        return LoanProductRelatedDetail.createFrom(CURRENCY, PRINCIPAL, BigDecimal.ONE, PeriodFrequencyType.MONTHS, ANNUAL_INTEREST_RATE,
+                interestMethod, interestCalculationPeriodMethod, false, 1, PeriodFrequencyType.MONTHS, numberOfRepayments, null, null,
+                null, null, AmortizationMethod.EQUAL_INSTALLMENTS, BigDecimal.ZERO, null, DaysInMonthType.ACTUAL.getValue(),
+                DaysInYearType.ACTUAL.getValue(), interestRecalculationEnabled, false, false, null, false, scheduleType,
+                LoanScheduleProcessingType.HORIZONTAL, null);
+    }
+
+    /**
+     * Loan application terms are mutated while a schedule is generated, so a new instance is needed for every run.
+     */
+    public static LoanApplicationTerms loanApplicationTerms(final LoanProductRelatedDetail detail, final HolidayDetailDTO holidayDetails) {
+        final boolean interestRecalculationEnabled = detail.isInterestRecalculationEnabled();
+        final RecalculationFrequencyType recalculationFrequencyType = interestRecalculationEnabled
+                ? RecalculationFrequencyType.SAME_AS_REPAYMENT_PERIOD
+                : null;
+        final InterestRecalculationCompoundingMethod compoundingMethod = interestRecalculationEnabled
+                ? InterestRecalculationCompoundingMethod.NONE
+                : null;
+        final LoanPreClosureInterestCalculationStrategy preClosureStrategy = interestRecalculationEnabled
+                ? LoanPreClosureInterestCalculationStrategy.TILL_PRE_CLOSURE_DATE
+                : LoanPreClosureInterestCalculationStrategy.NONE;
+        final LoanRescheduleStrategyMethod rescheduleStrategyMethod = interestRecalculationEnabled
+                ? LoanRescheduleStrategyMethod.REDUCE_EMI_AMOUNT
+                : null;
+        final int loanTermFrequency = detail.getNumberOfRepayments();
+        return LoanApplicationTerms.assembleFrom(USD, loanTermFrequency, PeriodFrequencyType.MONTHS, null, DayOfWeekType.INVALID,
+                DISBURSEMENT_DATE, null, DISBURSEMENT_DATE.plusMonths(1), Money.zero(CURRENCY), detail, false, null, new ArrayList<>(),
+                null, null, BigDecimal.ZERO, null, recalculationFrequencyType, null, compoundingMethod, null, null, preClosureStrategy,
+                rescheduleStrategyMethod, null, PRINCIPAL, ANNUAL_INTEREST_RATE, new ArrayList<>(), null, 0, false, holidayDetails, false,
+                false, false, null, false, RepaymentStartDateType.DISBURSEMENT_DATE, DISBURSEMENT_DATE);
+    }
+
+    public static Loan loan(final LoanProductRelatedDetail detail, final String transactionProcessingStrategyCode) {
+        return Loan.newIndividualLoanApplication("000000001", null, 1, new LoanProduct(), null, null, null,
+                transactionProcessingStrategyCode, detail, null, null, null, null, null, false, false, null, null, null);
+    }
+
+    /**
+     * Converts the generated repayment periods into fresh installments, the transaction processors update them in place.
+     */
+    public static List<LoanRepaymentScheduleInstallment> installments(final Loan loan, final LoanScheduleModel loanScheduleModel) {
+        final List<LoanRepaymentScheduleInstallment> installments = new ArrayList<>();
+        for (final LoanScheduleModelPeriod period : loanScheduleModel.getPeriods()) {
+            if (period.isRepaymentPeriod()) {
+                installments.add(new LoanRepaymentScheduleInstallment(loan, period.periodNumber(), period.periodFromDate(),
+                        period.periodDueDate(), period.principalDue(), period.interestDue(), period.feeChargesDue(),
+                        period.penaltyChargesDue(), false, null, BigDecimal.ZERO));
+            }
+        }
+        return installments;
+    }
+
+    /**
+     * Repayments of the full installment amount, each paid the given number of days after the due date.
+     */
+    public static List<LoanTransaction> repayments(final Loan loan, final List<LoanRepaymentScheduleInstallment> installments,
+            final int numberOfRepayments, final int daysLate) {
+        final List<LoanTransaction> repayments = new ArrayList<>(numberOfRepayments);
+        for (int i = 0; i < numberOfRepayments && i < installments.size(); i++) {
+            final LoanRepaymentScheduleInstallment installment = installments.get(i);
+            final Money amount = installment.getPrincipal(CURRENCY).plus(installment.getInterestCharged(CURRENCY));
+            final LoanTransaction repayment = LoanTransaction.repayment(null, amount, null, installment.getDueDate().plusDays(daysLate),
+                    ExternalId.empty());
+            repayment.updateLoan(loan);
+            repayments.add(repayment);
+        }
+        return repayments;
+    }
+
+    public static LoanTransaction disbursement(final Loan loan) {
+        return new LoanTransaction(loan, null, LoanTransactionType.DISBURSEMENT.getValue(), DISBURSEMENT_DATE, PRINCIPAL, PRINCIPAL, null,
+                null, null, null, false, null, ExternalId.empty());
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import java.math.MathContext;
+import java.util.HashSet;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Generates a complete repayment schedule for a new loan with the cumulative (declining balance and flat) and the
+ * progressive schedule generators.
+ */
+@State(Scope.Thread)
+public class LoanScheduleGenerationBenchmark {
+
+    @Param({ "12", "360" })
+    public int installments;
+
+    private MathContext mc;
+    private HolidayDetailDTO holidayDetails;
+    private LoanProductRelatedDetail decliningBalanceDetail;
+    private LoanProductRelatedDetail flatDetail;
+    private LoanProductRelatedDetail progressiveDetail;
+    private LoanScheduleGenerator decliningBalanceGenerator;
+    private LoanScheduleGenerator flatGenerator;
+    private LoanScheduleGenerator progressiveGenerator;
+
+    @Setup
+    public void setUp() {
+        LoanBenchmarkFixtures.initContext(LoanBenchmarkFixtures.DISBURSEMENT_DATE);
+        mc = LoanBenchmarkFixtures.mathContext();
+        holidayDetails = LoanBenchmarkFixtures.holidayDetails();
+        decliningBalanceDetail = LoanBenchmarkFixtures.productRelatedDetail(InterestMethod.DECLINING_BALANCE, LoanScheduleType.CUMULATIVE,
+                installments, false);
+        flatDetail = LoanBenchmarkFixtures.productRelatedDetail(InterestMethod.FLAT, LoanScheduleType.CUMULATIVE, installments, false);
+        progressiveDetail = LoanBenchmarkFixtures.productRelatedDetail(InterestMethod.DECLINING_BALANCE, LoanScheduleType.PROGRESSIVE,
+                installments, false);
+        decliningBalanceGenerator = new CumulativeDecliningBalanceInterestLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                new DefaultPaymentPeriodsInOneYearCalculator());
+        flatGenerator = new CumulativeFlatInterestLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                new DefaultPaymentPeriodsInOneYearCalculator());
+        progressiveGenerator = new ProgressiveLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                new DefaultPaymentPeriodsInOneYearCalculator());
+    }
+
+    @TearDown
+    public void tearDown() {
+        LoanBenchmarkFixtures.resetContext();
+    }
+
+    @Benchmark
+    public LoanScheduleModel cumulativeDecliningBalance() {
+        return decliningBalanceGenerator.generate(mc, LoanBenchmarkFixtures.loanApplicationTerms(decliningBalanceDetail, holidayDetails),
+                new HashSet<>(), holidayDetails);
+    }
+
+    @Benchmark
+    public LoanScheduleModel cumulativeFlat() {
+        return flatGenerator.generate(mc, LoanBenchmarkFixtures.loanApplicationTerms(flatDetail, holidayDetails), new HashSet<>(),
+                holidayDetails);
+    }
+
+    @Benchmark
+    public LoanScheduleModel progressive() {
+        return progressiveGenerator.generate(mc, LoanBenchmarkFixtures.loanApplicationTerms(progressiveDetail, holidayDetails),
+                new HashSet<>(), holidayDetails);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.calc;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.loanproduct.calc.emi.FnValueFunctions;
+import org.apache.fineract.portfolio.loanproduct.calc.ratefactor.RateFactorFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Calculates the equal monthly installment of a progressive loan from the rate factor and function value of every
+ * period, which has to be repeated whenever the outstanding balance or the interest rate of the loan changes.
+ */
+@State(Scope.Benchmark)
+public class ProgressiveEmiBenchmark {
+
+    private static final BigDecimal PRINCIPAL = BigDecimal.valueOf(100_000);
+    private static final BigDecimal INTEREST_RATE = BigDecimal.valueOf(0.12);
+
+    @Param({ "12", "360" })
+    public int installments;
+
+    @Param({ "ACTUAL", "DAYS_365" })
+    public DaysInYearType daysInYearType;
+
+    private MathContext mc;
+    private LocalDate[] fromDates;
+    private LocalDate[] dueDates;
+
+    @Setup
+    public void setUp() {
+        MoneyHelper.initializeRoundingMode(RoundingMode.HALF_EVEN);
+        mc = MoneyHelper.getMathContext();
+        fromDates = new LocalDate[installments];
+        dueDates = new LocalDate[installments];
+        final LocalDate startDate = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < installments; i++) {
+            fromDates[i] = startDate.plusMonths(i);
+            dueDates[i] = startDate.plusMonths(i + 1L);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal emi() {
+        BigDecimal rateFactorProduct = BigDecimal.ONE;
+        BigDecimal fnValue = BigDecimal.ZERO;
+        for (int i = 0; i < installments; i++) {
+            final Long daysInPeriod = DateUtils.getDifferenceInDays(fromDates[i], dueDates[i]);
+            final Integer daysInYear = DateUtils.daysInYear(daysInYearType, fromDates[i]);
+            final BigDecimal rateFactor = RateFactorFunctions.rateFactor(INTEREST_RATE, daysInPeriod, daysInYear, mc);
+            rateFactorProduct = rateFactorProduct.multiply(rateFactor, mc);
+            fnValue = FnValueFunctions.fnValue(fnValue, rateFactor, mc);
+        }
+        return PRINCIPAL.multiply(rateFactorProduct, mc).divide(fnValue, mc);
+    }
+}
@@ -19,6 +19,8 @@
 package org.apache.fineract.commands.domain;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -29,8 +31,13 @@ public interface CommandSourceRepository extends JpaRepository<CommandSource, Lo
 
     CommandSource findByActionNameAndEntityNameAndIdempotencyKey(String actionName, String entityName, String idempotencyKey);
 
+    @Query("select c.id from CommandSource c where c.status = :status and c.madeOnDate is not null "
+            + "and c.madeOnDate <= :dateForPurgeCriteria and c.id > :afterId order by c.id")
+    List<Long> findIdsOfOlderCommandsWithStatus(@Param("status") Integer status,
+            @Param("dateForPurgeCriteria") OffsetDateTime dateForPurgeCriteria, @Param("afterId") Long afterId, Pageable batchSize);
+
     @Modifying(flushAutomatically = true)
-    @Query("delete from CommandSource c where c.status = :status and c.madeOnDate is not null and c.madeOnDate <= :dateForPurgeCriteria")
-    void deleteOlderEventsWithStatus(@Param("status") Integer status, @Param("dateForPurgeCriteria") OffsetDateTime dateForPurgeCriteria);
+    @Query("delete from CommandSource c where c.id in :ids")
+    void deleteCommandsWithIds(@Param("ids") List<Long> ids);
 
 }
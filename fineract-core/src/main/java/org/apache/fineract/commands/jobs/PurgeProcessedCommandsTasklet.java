@@ -19,32 +19,64 @@
 package org.apache.fineract.commands.jobs;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSourceRepository;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractJobPurgeProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+/**
+ * Deletes the processed commands older than the purge criteria in chunks of ids in ascending order, one chunk per step
+ * transaction, keeping the last deleted id in the step execution context.
+ */
 @Slf4j
 @AllArgsConstructor
 @Component
 public class PurgeProcessedCommandsTasklet implements Tasklet {
 
+    static final String PURGE_DATE_KEY = "purgeDate";
+    static final String LAST_PURGED_ID_KEY = "lastPurgedId";
+
     private final CommandSourceRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final FineractProperties fineractProperties;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        final ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        final FineractJobPurgeProperties properties = fineractProperties.getJob().getPurge();
         try {
-            Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria();
-            OffsetDateTime dateForPurgeCriteria = DateUtils.getAuditOffsetDateTime().minusDays(numberOfDaysForPurgeCriteria);
-            repository.deleteOlderEventsWithStatus(CommandProcessingResultType.PROCESSED.getValue(), dateForPurgeCriteria);
+            if (executionContext.containsKey(PURGE_DATE_KEY)) {
+                Thread.sleep(properties.getPauseMillis());
+            } else {
+                Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria();
+                OffsetDateTime dateForPurgeCriteria = DateUtils.getAuditOffsetDateTime().minusDays(numberOfDaysForPurgeCriteria);
+                executionContext.putString(PURGE_DATE_KEY, dateForPurgeCriteria.toString());
+            }
+            final OffsetDateTime dateForPurgeCriteria = OffsetDateTime.parse(executionContext.getString(PURGE_DATE_KEY));
+            final List<Long> ids = repository.findIdsOfOlderCommandsWithStatus(CommandProcessingResultType.PROCESSED.getValue(),
+                    dateForPurgeCriteria, executionContext.getLong(LAST_PURGED_ID_KEY, 0L), PageRequest.of(0, properties.getChunkSize()));
+            if (ids.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+            repository.deleteCommandsWithIds(ids);
+            executionContext.putLong(LAST_PURGED_ID_KEY, ids.get(ids.size() - 1));
+            contribution.incrementWriteCount(ids.size());
+            return ids.size() < properties.getChunkSize() ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Purging processed commands was interrupted");
         } catch (Exception e) {
             log.error("Error occurred while purging processed commands: ", e);
         }
@@ -3358,6 +3358,24 @@ public class CommandWrapperBuilder {
         return this;
     }
 
+    public CommandWrapperBuilder enableHotAccountForSavingsAccount(final Long accountId) {
+        this.actionName = "ENABLEHOTACCOUNT";
+        this.entityName = "SAVINGSACCOUNT";
+        this.savingsId = accountId;
+        this.entityId = null;
+        this.href = "/savingsaccounts/" + accountId + "?command=enableHotAccount";
+        return this;
+    }
+
+    public CommandWrapperBuilder disableHotAccountForSavingsAccount(final Long accountId) {
+        this.actionName = "DISABLEHOTACCOUNT";
+        this.entityName = "SAVINGSACCOUNT";
+        this.savingsId = accountId;
+        this.entityId = null;
+        this.href = "/savingsaccounts/" + accountId + "?command=disableHotAccount";
+        return this;
+    }
+
     public CommandWrapperBuilder blockSavingsAccount(final Long accountId) {
         this.actionName = "BLOCK";
         this.entityName = "SAVINGSACCOUNT";
@@ -0,0 +1,99 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.businessdate.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the business dates of every tenant in memory for the API requests.
+ *
+ * The dates are reloaded after the configured refresh interval, when the date of the tenant changes and after the
+ * business dates were changed on this instance. Changes made on other instances are picked up with the next reload.
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessDateCache {
+
+    private final BusinessDateReadPlatformService businessDateReadPlatformService;
+    private final FineractProperties fineractProperties;
+
+    private final ConcurrentHashMap<String, CachedBusinessDates> businessDatesByTenant = new ConcurrentHashMap<>();
+
+    public HashMap<BusinessDateType, LocalDate> getBusinessDates() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        final LocalDate tenantDate = DateUtils.getLocalDateOfTenant();
+        final long now = System.currentTimeMillis();
+        CachedBusinessDates cached = businessDatesByTenant.get(tenantIdentifier);
+        if (cached == null || cached.isStale(tenantDate, now)) {
+            final long refreshMillis = TimeUnit.SECONDS
+                    .toMillis(fineractProperties.getSecurity().getBasicauth().getCache().getBusinessDateRefreshSeconds());
+            cached = new CachedBusinessDates(businessDateReadPlatformService.getBusinessDates(), tenantDate, now + refreshMillis);
+            businessDatesByTenant.put(tenantIdentifier, cached);
+        }
+        // the map ends up in the thread local context of the request, every request gets its own copy
+        return new HashMap<>(cached.businessDates);
+    }
+
+    /**
+     * Drops the business dates of the current tenant, right away and once more after the current transaction was
+     * committed.
+     */
+    public void invalidate() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        businessDatesByTenant.remove(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    businessDatesByTenant.remove(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private static final class CachedBusinessDates {
+
+        private final HashMap<BusinessDateType, LocalDate> businessDates;
+        private final LocalDate tenantDate;
+        private final long expiresAt;
+
+        private CachedBusinessDates(final HashMap<BusinessDateType, LocalDate> businessDates, final LocalDate tenantDate,
+                final long expiresAt) {
+            this.businessDates = businessDates;
+            this.tenantDate = tenantDate;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isStale(final LocalDate currentTenantDate, final long now) {
+            return now >= expiresAt || !tenantDate.equals(currentTenantDate);
+        }
+    }
+}
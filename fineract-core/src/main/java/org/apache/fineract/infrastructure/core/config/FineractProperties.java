@@ -78,6 +78,18 @@ public class FineractProperties {
 
     private FineractSqlValidationProperties sqlValidation;
 
+    private FineractSearchProperties search;
+
+    private FineractAccountingProperties accounting;
+
+    private FineractHooksProperties hooks;
+
+    private FineractBulkImportProperties bulkImport;
+
+    private FineractCacheProperties cache;
+
+    private FineractSavingsProperties savings;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -165,6 +177,7 @@ public class FineractProperties {
         private Integer threadPoolQueueCapacity;
         private Integer retryLimit;
         private Integer pollInterval;
+        private Integer prefetchDepth;
 
     }
 
@@ -288,6 +301,28 @@ public class FineractProperties {
         private boolean enabled;
         private FineractExternalEventsProducerProperties producer;
         private int partitionSize;
+        private boolean batchInsertEnabled;
+        private FineractExternalEventsDispatcherProperties dispatcher;
+        private FineractExternalEventsCompressionProperties compression;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsCompressionProperties {
+
+        private String algorithm;
+        private int level;
+        private int minSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsDispatcherProperties {
+
+        private boolean pipelineEnabled;
+        private int readAheadBatches;
+        private int encoderThreads;
+        private int maxBatchesPerRun;
     }
 
     @Getter
@@ -365,6 +400,15 @@ public class FineractProperties {
     public static class FineractReportProperties {
 
         private FineractExportProperties export;
+        private FineractReportStreamingProperties streaming;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractReportStreamingProperties {
+
+        private boolean enabled;
+        private int fetchSize;
     }
 
     @Getter
@@ -382,12 +426,136 @@ public class FineractProperties {
         private Boolean enabled;
     }
 
+    @Getter
+    @Setter
+    public static class FineractSearchProperties {
+
+        private FineractSearchIndexProperties index;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchIndexProperties {
+
+        private boolean enabled;
+        private int rebuildBatchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAccountingProperties {
+
+        private FineractRunningBalanceProperties runningBalance;
+        private boolean journalEntryBatchInsertEnabled;
+        private FineractTrialBalanceProperties trialBalance;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractRunningBalanceProperties {
+
+        private int threads;
+        private int batchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractTrialBalanceProperties {
+
+        private int threads;
+        private int batchSize;
+        private int daysPerPass;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHooksProperties {
+
+        private int indexRefreshSeconds;
+        private FineractHookDeliveryProperties delivery;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHookDeliveryProperties {
+
+        private int threads;
+        private int queueCapacity;
+        private int timeoutSeconds;
+        private int maxIdleConnections;
+        private int maxAttempts;
+        private int retryBackoffSeconds;
+        private int retryBatchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        private int threadPoolSize;
+        private int progressUpdateRows;
+    }
+
+    /**
+     * Sizing and expiry of the single node cache regions, a region without its own settings keeps the default size and
+     * never expires
+     */
+    @Getter
+    @Setter
+    public static class FineractCacheProperties {
+
+        private int defaultMaxEntries;
+        private Map<String, FineractCacheRegionProperties> regions = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheRegionProperties {
+
+        private int maxEntries;
+        private int timeToLiveSeconds;
+        private int timeToIdleSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSavingsProperties {
+
+        private FineractSavingsHotAccountProperties hotAccount;
+        private FineractSavingsInterestPostingProperties interestPosting;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSavingsHotAccountProperties {
+
+        private int shards;
+        private int mergeBatchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSavingsInterestPostingProperties {
+
+        private int threads;
+    }
+
     @Getter
     @Setter
     public static class FineractJobProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private boolean loanCobStateCacheEnabled;
+        private FineractJobPurgeProperties purge;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractJobPurgeProperties {
+
+        private int chunkSize;
+        private long pauseMillis;
     }
 
     @Getter
@@ -410,6 +578,20 @@ public class FineractProperties {
     public static class FineractDatabaseProperties {
 
         private String defaultMasterPassword;
+        private FineractReadReplicaProperties readReplica;
+    }
+
+    /**
+     * Routing of read-only work of a read-write instance to the read-only schema server of the tenant connection
+     */
+    @Getter
+    @Setter
+    public static class FineractReadReplicaProperties {
+
+        private boolean enabled;
+        private boolean routeReadRequests;
+        private int maxLagSeconds;
+        private int healthCheckIntervalSeconds;
     }
 
     @Getter
@@ -445,6 +627,7 @@ public class FineractProperties {
     public static class UserNotificationSystemProperties {
 
         private boolean enabled;
+        private int unreadRefreshSeconds;
     }
 
     @Getter
@@ -490,6 +673,17 @@ public class FineractProperties {
     public static class FineractSecurityBasicAuth {
 
         private boolean enabled;
+        private FineractSecurityBasicAuthCache cache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSecurityBasicAuthCache {
+
+        private boolean enabled;
+        private int ttlSeconds;
+        private int maxEntries;
+        private int businessDateRefreshSeconds;
     }
 
     @Getter
@@ -28,4 +28,7 @@ public final class TaskExecutorConstant {
     public static final String CONFIGURABLE_TASK_EXECUTOR_BEAN_NAME = "fineractConfigurableThreadPoolTaskExecutor";
     public static final String EVENT_TASK_EXECUTOR_BEAN_NAME = "externalEventJmsProducerExecutor";
     public static final String LOAN_COB_CATCH_UP_TASK_EXECUTOR_BEAN_NAME = "loanCOBCatchUpThreadPoolTaskExecutor";
+    public static final String RUNNING_BALANCE_TASK_EXECUTOR_BEAN_NAME = "runningBalanceThreadPoolTaskExecutor";
+    public static final String TRIAL_BALANCE_TASK_EXECUTOR_BEAN_NAME = "trialBalanceThreadPoolTaskExecutor";
+    public static final String SAVINGS_INTEREST_POSTING_TASK_EXECUTOR_BEAN_NAME = "savingsInterestPostingThreadPoolTaskExecutor";
 }
@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.ReadReplicaRoutingContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Opens the read replica routing scope of an API request. GET requests are marked as read-only when routing of read
+ * requests is enabled, so their queries running outside of a read-only transaction are served by the read replica too.
+ */
+@RequiredArgsConstructor
+public class ReadReplicaRoutingFilter extends OncePerRequestFilter {
+
+    private final FineractProperties fineractProperties;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws IOException, ServletException {
+        FineractProperties.FineractReadReplicaProperties readReplicaProperties = fineractProperties.getDatabase().getReadReplica();
+        if (!readReplicaProperties.isEnabled() || fineractProperties.getMode().isReadOnlyMode()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ReadReplicaRoutingContext
+                .beginRequest(readReplicaProperties.isRouteReadRequests() && HttpMethod.GET.name().equals(request.getMethod()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadReplicaRoutingContext.endRequest();
+        }
+    }
+}
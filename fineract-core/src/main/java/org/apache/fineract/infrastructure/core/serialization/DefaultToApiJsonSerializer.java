@@ -19,6 +19,11 @@
 package org.apache.fineract.infrastructure.core.serialization;
 
 import com.google.gson.Gson;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Set;
 import org.apache.fineract.infrastructure.core.service.Page;
@@ -108,6 +113,24 @@ public class DefaultToApiJsonSerializer<T> implements ToApiJsonSerializer<T> {
         return serializeWithSettings(delegatedSerializer, settings, singleObject);
     }
 
+    @Override
+    public StreamingOutput serializeStreaming(final ApiRequestJsonSerializationSettings settings, final Page<T> page,
+            final Set<String> supportedResponseParameters) {
+        final Gson delegatedSerializer = findAppropriateSerializer(settings, supportedResponseParameters);
+        return out -> {
+            // the stream is owned by the container, only flush what was buffered
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (delegatedSerializer != null) {
+                delegatedSerializer.toJson(page, writer);
+            } else if (settings.isPrettyPrint()) {
+                this.excludeNothingWithPrettyPrintingOn.serialize(page, writer);
+            } else {
+                this.excludeNothingWithPrettyPrintingOff.serialize(page, writer);
+            }
+            writer.flush();
+        };
+    }
+
     private String serializeWithSettings(final Gson gson, final ApiRequestJsonSerializationSettings settings, final Object[] dataObject) {
         String json = null;
         if (gson != null) {
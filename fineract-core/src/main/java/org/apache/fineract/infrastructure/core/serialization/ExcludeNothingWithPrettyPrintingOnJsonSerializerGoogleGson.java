@@ -20,6 +20,7 @@ package org.apache.fineract.infrastructure.core.serialization;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import java.io.Writer;
 import org.springframework.stereotype.Component;
 
 /**
@@ -43,4 +44,8 @@ public final class ExcludeNothingWithPrettyPrintingOnJsonSerializerGoogleGson {
     public String serialize(final Object result) {
         return this.gson.toJson(result);
     }
+
+    public void serialize(final Object result, final Writer writer) {
+        this.gson.toJson(result, writer);
+    }
 }
@@ -29,7 +29,10 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
 import org.apache.fineract.infrastructure.core.api.DateAdapter;
 import org.apache.fineract.infrastructure.core.api.ExternalIdAdapter;
 import org.apache.fineract.infrastructure.core.api.JodaDateTimeAdapter;
@@ -46,11 +49,23 @@ import org.springframework.stereotype.Service;
 
 /**
  * Helper class for serialization of Java objects into JSON using Google's GSON.
+ *
+ * The partial response serializers are cached by their parameter sets and pretty print flag, so that the reflective
+ * type adapters Gson builds for the data classes are reused between requests asking for the same fields.
  */
 @Service
 public final class GoogleGsonSerializerHelper {
 
+    // the fields parameter comes from the client, the cache is dropped rather than growing without a bound
+    private static final int MAX_CACHED_SERIALIZERS = 512;
+
+    private final Map<SerializerKey, Gson> partialResponseSerializers = new ConcurrentHashMap<>();
+
     public Gson createGsonBuilderForPartialResponseFiltering(final boolean prettyPrint, final Set<String> responseParameters) {
+        return cachedSerializer(new SerializerKey(null, responseParameters, prettyPrint));
+    }
+
+    private Gson buildGsonForPartialResponseFiltering(final boolean prettyPrint, final Set<String> responseParameters) {
         final ExclusionStrategy strategy = new ParameterListInclusionStrategy(responseParameters);
 
         final GsonBuilder builder = new GsonBuilder().addSerializationExclusionStrategy(strategy);
@@ -63,9 +78,6 @@ public final class GoogleGsonSerializerHelper {
 
     public Gson createGsonBuilderWithParameterExclusionSerializationStrategy(final Set<String> supportedParameters,
             final boolean prettyPrint, final Set<String> responseParameters) {
-
-        final Set<String> parameterNamesToSkip = new HashSet<>();
-
         if (!responseParameters.isEmpty()) {
             // strip out all known support parameters from expected response to
             // see if unsupported parameters requested for response.
@@ -75,7 +87,14 @@ public final class GoogleGsonSerializerHelper {
             if (!differentParametersDetectedSet.isEmpty()) {
                 throw new UnsupportedParameterException(new ArrayList<>(differentParametersDetectedSet));
             }
+        }
+        return cachedSerializer(new SerializerKey(supportedParameters, responseParameters, prettyPrint));
+    }
 
+    private Gson buildGsonWithParameterExclusionSerializationStrategy(final Set<String> supportedParameters, final boolean prettyPrint,
+            final Set<String> responseParameters) {
+        final Set<String> parameterNamesToSkip = new HashSet<>();
+        if (!responseParameters.isEmpty()) {
             parameterNamesToSkip.addAll(supportedParameters);
             parameterNamesToSkip.removeAll(responseParameters);
         }
@@ -90,6 +109,15 @@ public final class GoogleGsonSerializerHelper {
         return builder.create();
     }
 
+    private Gson cachedSerializer(final SerializerKey key) {
+        if (this.partialResponseSerializers.size() >= MAX_CACHED_SERIALIZERS) {
+            this.partialResponseSerializers.clear();
+        }
+        return this.partialResponseSerializers.computeIfAbsent(key,
+                k -> k.supportedParameters == null ? buildGsonForPartialResponseFiltering(k.prettyPrint, k.responseParameters)
+                        : buildGsonWithParameterExclusionSerializationStrategy(k.supportedParameters, k.prettyPrint, k.responseParameters));
+    }
+
     public String serializedJsonFrom(final Gson serializer, final Object[] dataObjects) {
         return serializer.toJson(dataObjects);
     }
@@ -126,4 +154,21 @@ public final class GoogleGsonSerializerHelper {
         builder.registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter());
         builder.registerTypeAdapter(ExternalId.class, new ExternalIdAdapter());
     }
+
+    /**
+     * Gson instances are not bound to a type, the supported parameters of the resource stand in for the serialized type.
+     */
+    @EqualsAndHashCode
+    private static final class SerializerKey {
+
+        private final Set<String> supportedParameters;
+        private final Set<String> responseParameters;
+        private final boolean prettyPrint;
+
+        private SerializerKey(final Set<String> supportedParameters, final Set<String> responseParameters, final boolean prettyPrint) {
+            this.supportedParameters = supportedParameters == null ? null : new HashSet<>(supportedParameters);
+            this.responseParameters = new HashSet<>(responseParameters);
+            this.prettyPrint = prettyPrint;
+        }
+    }
 }
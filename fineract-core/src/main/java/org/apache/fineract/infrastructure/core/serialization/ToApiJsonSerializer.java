@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.core.serialization;
 
+import jakarta.ws.rs.core.StreamingOutput;
 import java.util.Collection;
 import java.util.Set;
 import org.apache.fineract.infrastructure.core.service.Page;
@@ -46,4 +47,11 @@ public interface ToApiJsonSerializer<T> {
     String serialize(ApiRequestJsonSerializationSettings settings, T single, Set<String> supportedResponseParameters);
 
     String serialize(ApiRequestJsonSerializationSettings settings, Page<T> singleObject, Set<String> supportedResponseParameters);
+
+    /**
+     * Same as {@link #serialize(ApiRequestJsonSerializationSettings, Page, Set)}, but the page is written straight to the
+     * response stream instead of being rendered into a String first. Unsupported partial response parameters are still
+     * rejected when this method is called, before anything is written.
+     */
+    StreamingOutput serializeStreaming(ApiRequestJsonSerializationSettings settings, Page<T> page, Set<String> supportedResponseParameters);
 }
@@ -25,13 +25,22 @@ public class Page<E> implements Serializable {
 
     private final Integer totalFilteredRecords;
     private final List<E> pageItems;
+    private final String nextCursor;
 
     public Page(final List<E> pageItems, final Integer totalFilteredRecords) {
+        this(pageItems, totalFilteredRecords, null);
+    }
+
+    public Page(final List<E> pageItems, final Integer totalFilteredRecords, final String nextCursor) {
         this.pageItems = pageItems;
         this.totalFilteredRecords = totalFilteredRecords;
+        this.nextCursor = nextCursor;
     }
 
-    public int getTotalFilteredRecords() {
+    /**
+     * @return the total number of records matching the filter, or <code>null</code> if the total was not counted
+     */
+    public Integer getTotalFilteredRecords() {
         return this.totalFilteredRecords;
     }
 
@@ -39,4 +48,8 @@ public class Page<E> implements Serializable {
         return this.pageItems;
     }
 
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
 }
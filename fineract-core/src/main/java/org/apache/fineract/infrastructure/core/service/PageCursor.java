@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import org.apache.fineract.infrastructure.core.data.ApiParameterError;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+
+/**
+ * Continuation token of a keyset paged list, holding the sort key of the last row of a page.
+ *
+ * The token is opaque for API clients, it is only meant to be passed back as the cursor parameter to fetch the next
+ * page. The office hierarchy and the other filters of the list still apply to the next page, so a forged token can not
+ * reveal rows the user could not list otherwise.
+ */
+public final class PageCursor {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+
+    private final List<String> values;
+
+    private PageCursor(final List<String> values) {
+        this.values = values;
+    }
+
+    public static PageCursor of(final Object... values) {
+        return new PageCursor(Arrays.stream(values).map(Objects::toString).toList());
+    }
+
+    public static PageCursor decode(final String token, final int size) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid(token, e);
+        }
+        final List<String> parts = new ArrayList<>(Arrays.asList(decoded.split("\\" + SEPARATOR, -1)));
+        if (parts.size() != size + 1 || !VERSION.equals(parts.remove(0))) {
+            throw invalid(token, null);
+        }
+        return new PageCursor(parts);
+    }
+
+    public String encode() {
+        final String raw = VERSION + SEPARATOR + String.join(SEPARATOR, values);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long getLong(final int index) {
+        try {
+            return Long.valueOf(values.get(index));
+        } catch (NumberFormatException e) {
+            throw invalid(encode(), e);
+        }
+    }
+
+    public LocalDate getLocalDate(final int index) {
+        try {
+            return LocalDate.parse(values.get(index));
+        } catch (DateTimeParseException e) {
+            throw invalid(encode(), e);
+        }
+    }
+
+    private static PlatformApiDataValidationException invalid(final String token, final Exception cause) {
+        final ApiParameterError error = ApiParameterError.parameterError("validation.msg.cursor.invalid",
+                "The cursor is not valid, it has to be the nextCursor of a previous page of the same list.", "cursor", token);
+        return new PlatformApiDataValidationException(List.of(error), cause);
+    }
+}
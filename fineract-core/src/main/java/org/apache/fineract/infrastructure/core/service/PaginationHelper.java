@@ -19,7 +19,10 @@
 package org.apache.fineract.infrastructure.core.service;
 
 import java.util.List;
+import java.util.function.Function;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.fineract.infrastructure.core.data.ApiParameterError;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -55,6 +58,72 @@ public class PaginationHelper {
         return new Page<>(items, totalFilteredRecords);
     }
 
+    /**
+     * Fetches a page honouring the keyset and count options of the search parameters.
+     *
+     * The total is only counted for the first page of a keyset paged list and when the client did not opt out of it. It is
+     * not queried either when the page itself tells it, i.e. when the page is not full.
+     *
+     * @param cursorOf
+     *            extracts the keyset sort key of a row, the one of the last row becomes the cursor of the next page
+     */
+    public <E> Page<E> fetchPage(final JdbcTemplate jt, final String sqlFetchRows, final Object[] args, final RowMapper<E> rowMapper,
+            final SearchParameters searchParameters, final Function<E, PageCursor> cursorOf) {
+        final List<E> items = jt.query(sqlFetchRows, rowMapper, args); // NOSONAR
+
+        String nextCursor = null;
+        if (searchParameters.isKeysetPaged() && !items.isEmpty() && items.size() >= searchParameters.getLimit()) {
+            nextCursor = cursorOf.apply(items.get(items.size() - 1)).encode();
+        }
+
+        Integer totalFilteredRecords = null;
+        if (searchParameters.isCountRequested() && !searchParameters.hasCursor()) {
+            final int offset = searchParameters.hasOffset() ? searchParameters.getOffset() : 0;
+            final boolean lastPage = !searchParameters.hasLimit() || items.size() < searchParameters.getLimit();
+            if (lastPage && (offset == 0 || !items.isEmpty())) {
+                totalFilteredRecords = offset + items.size();
+            } else {
+                final String sqlCountRows = sqlGenerator.countLastExecutedQueryResult(sqlFetchRows);
+                if (databaseTypeResolver.isMySQL()) {
+                    totalFilteredRecords = jt.queryForObject(sqlCountRows, Integer.class); // NOSONAR
+                } else {
+                    totalFilteredRecords = jt.queryForObject(sqlCountRows, Integer.class, args); // NOSONAR
+                }
+            }
+        }
+        return new Page<>(items, totalFilteredRecords, nextCursor);
+    }
+
+    /**
+     * Returns the modifier making MySQL remember the number of rows of the query, only when the total of the page is
+     * going to be counted.
+     */
+    public String calcFoundRows(final SearchParameters searchParameters) {
+        if (searchParameters != null && (!searchParameters.isCountRequested() || searchParameters.hasCursor())) {
+            return "";
+        }
+        return sqlGenerator.calcFoundRows();
+    }
+
+    /**
+     * Decodes the cursor of the search parameters, a cursor can only be combined with the default order of the list and
+     * a limit.
+     *
+     * @return the cursor, or null for the first page
+     */
+    public PageCursor getCursor(final SearchParameters searchParameters, final int keySize) {
+        if (searchParameters == null || !searchParameters.hasCursor()) {
+            return null;
+        }
+        if (!searchParameters.isKeysetPaged()) {
+            final ApiParameterError error = ApiParameterError.parameterError("validation.msg.cursor.not.supported",
+                    "The cursor requires a limit and can not be combined with offset or orderBy.", "cursor",
+                    searchParameters.getCursor());
+            throw new PlatformApiDataValidationException(List.of(error));
+        }
+        return PageCursor.decode(searchParameters.getCursor(), keySize);
+    }
+
     public <E> Page<Long> fetchPage(JdbcTemplate jdbcTemplate, String sql, Class<Long> type) {
         final List<Long> items = jdbcTemplate.queryForList(sql, type);
 
@@ -55,6 +55,9 @@ public class SearchParameters {
     private Long categoryId;
     @Getter(AccessLevel.NONE)
     private Boolean isSelfUser;
+    private String cursor;
+    @Getter(AccessLevel.NONE)
+    private Boolean count;
 
     public Integer getLimit() {
         if (limit == null) {
@@ -76,6 +79,22 @@ public class SearchParameters {
         return Boolean.TRUE.equals(isSelfUser);
     }
 
+    public boolean isCountRequested() {
+        return !Boolean.FALSE.equals(count);
+    }
+
+    public boolean hasCursor() {
+        return StringUtils.isNotBlank(this.cursor);
+    }
+
+    /**
+     * Pages in the default order of a list are fetched by keyset: the next page continues after the sort key of the last
+     * row of the previous page, passed back as the cursor, instead of skipping rows by offset.
+     */
+    public boolean isKeysetPaged() {
+        return hasLimit() && !hasOffset() && !hasOrderBy();
+    }
+
     public boolean hasOrderBy() {
         return StringUtils.isNotBlank(this.orderBy);
     }
@@ -61,8 +61,26 @@ public class DataSourcePerTenantServiceFactory {
         this.databasePasswordEncryptor = databasePasswordEncryptor;
     }
 
-    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
     public DataSource createNewDataSourceFor(final FineractPlatformTenantConnection tenantConnection) {
+        return createDataSource(tenantConnection, fineractProperties.getMode().isReadOnlyMode(), "_pool");
+    }
+
+    /**
+     * Creates a separate connection pool for the read-only schema server of the tenant, used by read-write instances to
+     * offload read-only work.
+     *
+     * @return the read replica data source or {@code null} when the tenant has no read-only schema server configured
+     */
+    public DataSource createNewReadReplicaDataSourceFor(final FineractPlatformTenantConnection tenantConnection) {
+        if (StringUtils.isBlank(tenantConnection.getReadOnlySchemaServer())) {
+            return null;
+        }
+        return createDataSource(tenantConnection, true, "_replica_pool");
+    }
+
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
+    private DataSource createDataSource(final FineractPlatformTenantConnection tenantConnection, final boolean readOnly,
+            final String poolNameSuffix) {
         if (!databasePasswordEncryptor.isMasterPasswordHashValid(tenantConnection.getMasterPasswordHash())) {
             throw new IllegalArgumentException(
                     "Invalid master password on tenant connection %d.".formatted(tenantConnection.getConnectionId()));
@@ -76,7 +94,7 @@ public class DataSourcePerTenantServiceFactory {
         String schemaPassword = tenantConnection.getSchemaPassword();
         String schemaConnectionParameters = tenantConnection.getSchemaConnectionParameters();
         // Properties to ReadOnly case
-        if (fineractProperties.getMode().isReadOnlyMode()) {
+        if (readOnly) {
             schemaServer = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaServer(), schemaServer);
             schemaPort = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaServerPort(), schemaPort);
             schemaName = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaName(), schemaName);
@@ -89,9 +107,9 @@ public class DataSourcePerTenantServiceFactory {
         log.debug("{}", jdbcUrl);
 
         HikariConfig config = new HikariConfig();
-        config.setReadOnly(fineractProperties.getMode().isReadOnlyMode());
+        config.setReadOnly(readOnly);
         config.setJdbcUrl(jdbcUrl);
-        config.setPoolName(schemaName + "_pool");
+        config.setPoolName(schemaName + poolNameSuffix);
         config.setUsername(schemaUsername);
         config.setPassword(databasePasswordEncryptor.decrypt(schemaPassword));
         config.setMinimumIdle(getMinPoolSize(tenantConnection));
@@ -276,14 +276,25 @@ public class DatabaseSpecificSQLGenerator {
     }
 
     public Long fetchPK(GeneratedKeyHolder keyHolder) {
+        return fetchPK(keyHolder.getKeys());
+    }
+
+    /**
+     * Returns the generated primary keys of a batch insert, in the order of the inserted rows.
+     */
+    public List<Long> fetchPKs(GeneratedKeyHolder keyHolder) {
+        return keyHolder.getKeyList().stream().map(this::fetchPK).toList();
+    }
+
+    private Long fetchPK(Map<String, Object> keys) {
         return switch (getDialect()) {
-            case POSTGRESQL -> (Long) keyHolder.getKeys().get("id");
+            case POSTGRESQL -> (Long) keys.get("id");
             case MYSQL -> {
                 // Mariadb
-                BigInteger generatedKey = (BigInteger) keyHolder.getKeys().get("insert_id");
+                BigInteger generatedKey = (BigInteger) keys.get("insert_id");
                 if (generatedKey == null) {
                     // Mysql
-                    generatedKey = (BigInteger) keyHolder.getKeys().get("GENERATED_KEY");
+                    generatedKey = (BigInteger) keys.get("GENERATED_KEY");
                 }
                 yield generatedKey.longValue();
             }
@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * {@link DataSource} of a tenant read replica which falls back to the primary database of the tenant.
+ *
+ * The replica is checked at most once per health check interval: it is only used while it accepts connections and its
+ * replication lag is within the configured limit. Failing to get a replica connection marks the replica as unavailable
+ * until the next check.
+ */
+@Slf4j
+public class ReadReplicaDataSource extends AbstractDataSource {
+
+    private static final String POSTGRESQL_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE CAST(COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) AS BIGINT) END";
+    private static final String MYSQL_LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Source";
+    private static final String MARIADB_LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final long maxLagSeconds;
+    private final long healthCheckIntervalMillis;
+
+    private final AtomicBoolean checkInProgress = new AtomicBoolean();
+    private volatile boolean available;
+    private volatile long nextCheckAt;
+
+    public ReadReplicaDataSource(final DataSource replica, final DataSource primary, final int maxLagSeconds,
+            final int healthCheckIntervalSeconds) {
+        this.replica = replica;
+        this.primary = primary;
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthCheckIntervalMillis = TimeUnit.SECONDS.toMillis(healthCheckIntervalSeconds);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (isReplicaAvailable()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markUnavailable(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        if (isReplicaAvailable()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                markUnavailable(e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    public boolean isReplicaAvailable() {
+        final long now = System.currentTimeMillis();
+        // only one thread checks the replica, the others go on with the last known state
+        if (now >= nextCheckAt && checkInProgress.compareAndSet(false, true)) {
+            try {
+                available = checkReplica();
+            } finally {
+                nextCheckAt = now + healthCheckIntervalMillis;
+                checkInProgress.set(false);
+            }
+        }
+        return available;
+    }
+
+    private void markUnavailable(final SQLException e) {
+        log.warn("Read replica is not available, falling back to the primary database", e);
+        available = false;
+        nextCheckAt = System.currentTimeMillis() + healthCheckIntervalMillis;
+    }
+
+    private boolean checkReplica() {
+        try (Connection connection = replica.getConnection()) {
+            if (maxLagSeconds <= 0) {
+                return true;
+            }
+            final Long lag = getReplicationLagSeconds(connection);
+            if (lag == null) {
+                log.warn("Replication of the read replica is not running, falling back to the primary database");
+                return false;
+            }
+            if (lag > maxLagSeconds) {
+                log.warn("Read replica is {} seconds behind, falling back to the primary database", lag);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("Read replica health check failed, falling back to the primary database", e);
+            return false;
+        }
+    }
+
+    private Long getReplicationLagSeconds(final Connection connection) throws SQLException {
+        final boolean postgreSQL = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(postgreSQL ? POSTGRESQL_LAG_QUERY : MYSQL_LAG_QUERY)) {
+            if (!resultSet.next()) {
+                // the server is not replicating from anywhere, e.g. the read-only schema points to the primary
+                return 0L;
+            }
+            final long lag = postgreSQL ? resultSet.getLong(1) : resultSet.getLong(getMySQLLagColumn(resultSet.getMetaData()));
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    private String getMySQLLagColumn(final ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (MYSQL_LAG_COLUMN.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return MYSQL_LAG_COLUMN;
+            }
+        }
+        return MARIADB_LAG_COLUMN;
+    }
+}
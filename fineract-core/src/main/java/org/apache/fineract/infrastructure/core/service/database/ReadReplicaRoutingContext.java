@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.springframework.batch.core.scope.context.JobSynchronizationManager;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+/**
+ * Keeps track of whether the work running on the current thread may be served by the read replica of the tenant.
+ *
+ * Transactions report whether they are read-only when they begin, the innermost running transaction decides. Outside of
+ * a transaction the API request decides, if the request was marked as read-only.
+ *
+ * Once a read-write transaction was started within a request, the rest of the request stays on the primary database,
+ * so it always reads its own writes regardless of the replication lag. Batch jobs are pinned to the primary database
+ * for the same reason, since their steps typically read what earlier chunks and steps have written.
+ */
+public final class ReadReplicaRoutingContext {
+
+    private static final ThreadLocal<Deque<Boolean>> TRANSACTIONS = new ThreadLocal<>();
+    private static final ThreadLocal<RequestScope> REQUEST = new ThreadLocal<>();
+
+    private ReadReplicaRoutingContext() {}
+
+    public static void beginRequest(final boolean readOnlyRequest) {
+        REQUEST.set(new RequestScope(readOnlyRequest));
+    }
+
+    public static void endRequest() {
+        REQUEST.remove();
+    }
+
+    public static void beginTransaction(final boolean readOnly) {
+        Deque<Boolean> transactions = TRANSACTIONS.get();
+        if (transactions == null) {
+            transactions = new ArrayDeque<>();
+            TRANSACTIONS.set(transactions);
+        }
+        transactions.push(readOnly);
+        final RequestScope request = REQUEST.get();
+        if (!readOnly && request != null) {
+            request.primaryRequired = true;
+        }
+    }
+
+    public static void endTransaction() {
+        final Deque<Boolean> transactions = TRANSACTIONS.get();
+        if (transactions == null) {
+            return;
+        }
+        transactions.poll();
+        if (transactions.isEmpty()) {
+            TRANSACTIONS.remove();
+        }
+    }
+
+    public static boolean isReadOnly() {
+        if (isBatchExecution()) {
+            return false;
+        }
+        final RequestScope request = REQUEST.get();
+        if (request != null && request.primaryRequired) {
+            return false;
+        }
+        final Deque<Boolean> transactions = TRANSACTIONS.get();
+        if (transactions != null && !transactions.isEmpty()) {
+            return transactions.peek();
+        }
+        return request != null && request.readOnly;
+    }
+
+    private static boolean isBatchExecution() {
+        // Spring Batch registers the running job and step on every thread executing them, including partition workers
+        return StepSynchronizationManager.getContext() != null || JobSynchronizationManager.getContext() != null;
+    }
+
+    private static final class RequestScope {
+
+        private final boolean readOnly;
+        private boolean primaryRequired;
+
+        private RequestScope(final boolean readOnly) {
+            this.readOnly = readOnly;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -40,23 +41,30 @@ import org.springframework.stereotype.Service;
  * {@link ThreadLocal} variable for this request.
  *
  * {@link ThreadLocalContextUtil} is used to retrieve the {@link FineractPlatformTenant} for the request.
+ *
+ * When read replica routing is enabled, read-only work (see {@link ReadReplicaRoutingContext}) is served from the
+ * read-only schema server of the tenant connection.
  */
 @Slf4j
 @Service
 public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceService, ApplicationListener<ContextRefreshedEvent> {
 
     private static final Map<Long, DataSource> TENANT_TO_DATA_SOURCE_MAP = new ConcurrentHashMap<>();
+    private static final Map<Long, DataSource> TENANT_TO_READ_REPLICA_DATA_SOURCE_MAP = new ConcurrentHashMap<>();
     private final DataSource tenantDataSource;
     private final TenantDetailsService tenantDetailsService;
+    private final FineractProperties fineractProperties;
 
     private final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory;
 
     @Autowired
     public TomcatJdbcDataSourcePerTenantService(final @Qualifier("hikariTenantDataSource") DataSource tenantDataSource,
-            final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory, final TenantDetailsService tenantDetailsService) {
+            final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory, final TenantDetailsService tenantDetailsService,
+            final FineractProperties fineractProperties) {
         this.tenantDataSource = tenantDataSource;
         this.dataSourcePerTenantServiceFactory = dataSourcePerTenantServiceFactory;
         this.tenantDetailsService = tenantDetailsService;
+        this.fineractProperties = fineractProperties;
     }
 
     @Override
@@ -75,11 +83,34 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
                 return tenantSpecificDataSource;
             });
 
+            if (isReadReplicaRoutingEnabled() && ReadReplicaRoutingContext.isReadOnly()) {
+                final DataSource primaryDataSource = actualDataSource;
+                actualDataSource = TENANT_TO_READ_REPLICA_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey,
+                        (key) -> createReadReplicaDataSource(tenantConnection, primaryDataSource));
+            }
         }
 
         return actualDataSource;
     }
 
+    private boolean isReadReplicaRoutingEnabled() {
+        // read-only instances already connect to the read-only schema server
+        return fineractProperties.getDatabase().getReadReplica().isEnabled() && !fineractProperties.getMode().isReadOnlyMode();
+    }
+
+    private DataSource createReadReplicaDataSource(final FineractPlatformTenantConnection tenantConnection,
+            final DataSource primaryDataSource) {
+        final DataSource replicaDataSource = dataSourcePerTenantServiceFactory.createNewReadReplicaDataSourceFor(tenantConnection);
+        if (replicaDataSource == null) {
+            log.debug("No read-only schema server configured for tenant connection {}, using the primary database",
+                    tenantConnection.getConnectionId());
+            return primaryDataSource;
+        }
+        final FineractProperties.FineractReadReplicaProperties readReplicaProperties = fineractProperties.getDatabase().getReadReplica();
+        return new ReadReplicaDataSource(replicaDataSource, primaryDataSource, readReplicaProperties.getMaxLagSeconds(),
+                readReplicaProperties.getHealthCheckIntervalSeconds());
+    }
+
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
         final List<FineractPlatformTenant> allTenants = tenantDetailsService.findAllTenants();
@@ -0,0 +1,274 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.avro.MessageV2;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Continuous dispatcher for the external event outbox which overlaps the three stages of sending events:
+ * <ol>
+ * <li>the calling thread reads the next page of {@link ExternalEventStatus#TO_BE_SENT} events (keyset paging on the
+ * id) while the previous pages are still being encoded and sent,</li>
+ * <li>the pages are encoded into {@link MessageV1} byte arrays, or {@link MessageV2} ones for compressed payloads, in
+ * parallel, one task per aggregate root,</li>
+ * <li>the encoded pages are handed over to the {@link ExternalEventProducer} strictly one after another and the events
+ * of a page are marked as sent as soon as the producer has acknowledged them.</li>
+ * </ol>
+ * Since every page is sent only after the previous one has been acknowledged and the events of an aggregate root keep
+ * their id order inside a page, the per-aggregate ordering of the sequential dispatcher is preserved.
+ */
+@Slf4j
+@Component
+public class PipelinedExternalEventDispatcher implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "fineract.external.events.dispatcher";
+
+    private final FineractProperties fineractProperties;
+    private final ExternalEventRepository repository;
+    private final ExternalEventProducer eventProducer;
+    private final MessageFactory messageFactory;
+    private final ByteBufferConverter byteBufferConverter;
+    private final TransactionTemplate acknowledgementTransactionTemplate;
+
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+    private final AtomicLong lagInMillis = new AtomicLong();
+    private final Counter sentEventsCounter;
+
+    private volatile ExecutorService encoderExecutor;
+    private volatile ExecutorService senderExecutor;
+
+    public PipelinedExternalEventDispatcher(FineractProperties fineractProperties, ExternalEventRepository repository,
+            ExternalEventProducer eventProducer, MessageFactory messageFactory, ByteBufferConverter byteBufferConverter,
+            PlatformTransactionManager transactionManager, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.fineractProperties = fineractProperties;
+        this.repository = repository;
+        this.eventProducer = eventProducer;
+        this.messageFactory = messageFactory;
+        this.byteBufferConverter = byteBufferConverter;
+        this.acknowledgementTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.acknowledgementTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", inFlightBatches, AtomicInteger::get)
+                .description("Number of read event pages which are being encoded or sent").register(registry);
+        Gauge.builder(METRIC_PREFIX + ".lag", lagInMillis, AtomicLong::get).baseUnit("milliseconds")
+                .description("Age of the oldest event in the last acknowledged page").register(registry);
+        this.sentEventsCounter = Counter.builder(METRIC_PREFIX + ".sent").baseUnit("events")
+                .description("Number of events acknowledged by the producer").register(registry);
+    }
+
+    public boolean isEnabled() {
+        FineractProperties.FineractExternalEventsDispatcherProperties dispatcherProperties = getDispatcherProperties();
+        return dispatcherProperties != null && dispatcherProperties.isPipelineEnabled();
+    }
+
+    /**
+     * Sends pages of queued events until the outbox is drained or the configured number of pages per run is reached.
+     *
+     * @param batchSize
+     *            the number of events read and sent together
+     */
+    public void dispatch(int batchSize) {
+        FineractProperties.FineractExternalEventsDispatcherProperties dispatcherProperties = getDispatcherProperties();
+        int readAheadBatches = Math.max(1, dispatcherProperties.getReadAheadBatches());
+        int maxBatchesPerRun = dispatcherProperties.getMaxBatchesPerRun();
+        FineractContext context = ThreadLocalContextUtil.getContext();
+
+        Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+        CompletableFuture<Void> previousSend = CompletableFuture.completedFuture(null);
+        long lastEventId = 0L;
+        int batchCount = 0;
+        try {
+            while (maxBatchesPerRun <= 0 || batchCount < maxBatchesPerRun) {
+                List<ExternalEventView> events = repository.findByStatusAndIdGreaterThanOrderById(ExternalEventStatus.TO_BE_SENT,
+                        lastEventId, PageRequest.ofSize(batchSize));
+                if (events.isEmpty()) {
+                    break;
+                }
+                lastEventId = events.get(events.size() - 1).getId();
+                batchCount++;
+
+                CompletableFuture<Map<Long, List<byte[]>>> encoded = encode(events, context);
+                CompletableFuture<Void> sent = encoded.thenAcceptBothAsync(previousSend,
+                        (partitions, previous) -> eventProducer.sendEvents(partitions), getSenderExecutor());
+                previousSend = sent;
+                inFlight.add(new InFlightBatch(events.stream().map(ExternalEventView::getId).toList(),
+                        events.get(0).getCreatedAt(), sent));
+                inFlightBatches.set(inFlight.size());
+
+                while (inFlight.size() >= readAheadBatches) {
+                    acknowledge(inFlight.poll());
+                    inFlightBatches.set(inFlight.size());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                acknowledge(inFlight.poll());
+                inFlightBatches.set(inFlight.size());
+            }
+        } finally {
+            inFlightBatches.set(0);
+        }
+        log.debug("Dispatched {} event pages", batchCount);
+    }
+
+    private CompletableFuture<Map<Long, List<byte[]>>> encode(List<ExternalEventView> events, FineractContext context) {
+        Map<Long, List<ExternalEventView>> eventsByAggregateRoot = new LinkedHashMap<>();
+        for (ExternalEventView event : events) {
+            Long aggregateRootId = event.getAggregateRootId() == null ? -1L : event.getAggregateRootId();
+            eventsByAggregateRoot.computeIfAbsent(aggregateRootId, key -> new ArrayList<>()).add(event);
+        }
+        Map<Long, CompletableFuture<List<byte[]>>> encodedPartitions = new LinkedHashMap<>();
+        eventsByAggregateRoot.forEach((aggregateRootId, partition) -> encodedPartitions.put(aggregateRootId,
+                CompletableFuture.supplyAsync(() -> createMessages(partition, context), getEncoderExecutor())));
+        return CompletableFuture.allOf(encodedPartitions.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<Long, List<byte[]>> partitions = new LinkedHashMap<>();
+            encodedPartitions.forEach((aggregateRootId, future) -> partitions.put(aggregateRootId, future.join()));
+            return partitions;
+        });
+    }
+
+    private List<byte[]> createMessages(List<ExternalEventView> events, FineractContext context) {
+        ThreadLocalContextUtil.init(context);
+        try {
+            List<byte[]> messages = new ArrayList<>(events.size());
+            for (ExternalEventView event : events) {
+                // compressed payloads need the compression field of MessageV2, the rest is sent as MessageV1
+                ByteBuffer toByteBuffer = event.getCompression() == null ? messageFactory.createMessage(event).toByteBuffer()
+                        : messageFactory.createCompressedMessage(event).toByteBuffer();
+                messages.add(byteBufferConverter.convert(toByteBuffer));
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new RuntimeException("Error while serializing the message", e);
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private void acknowledge(InFlightBatch batch) {
+        try {
+            batch.getSent().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the event acknowledgement", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Could not send the events", e.getCause());
+        }
+        OffsetDateTime sentAt = DateUtils.getAuditOffsetDateTime();
+        // Partitioning dataset to avoid exception: PreparedStatement can have at most 65,535 parameters
+        int partitionSize = fineractProperties.getEvents().getExternal().getPartitionSize();
+        acknowledgementTransactionTemplate.executeWithoutResult(status -> Lists.partition(batch.getEventIds(), partitionSize)
+                .forEach(partitionedEventIds -> repository.markEventsSent(partitionedEventIds, sentAt)));
+        sentEventsCounter.increment(batch.getEventIds().size());
+        if (batch.getOldestCreatedAt() != null) {
+            lagInMillis.set(Duration.between(batch.getOldestCreatedAt(), sentAt).toMillis());
+        }
+    }
+
+    private FineractProperties.FineractExternalEventsDispatcherProperties getDispatcherProperties() {
+        return fineractProperties.getEvents().getExternal().getDispatcher();
+    }
+
+    private ExecutorService getEncoderExecutor() {
+        if (encoderExecutor == null) {
+            synchronized (this) {
+                if (encoderExecutor == null) {
+                    int encoderThreads = Math.max(1, getDispatcherProperties().getEncoderThreads());
+                    encoderExecutor = Executors.newFixedThreadPool(encoderThreads,
+                            new ThreadFactoryBuilder().setNameFormat("external-event-encoder-%d").setDaemon(true).build());
+                }
+            }
+        }
+        return encoderExecutor;
+    }
+
+    private ExecutorService getSenderExecutor() {
+        if (senderExecutor == null) {
+            synchronized (this) {
+                if (senderExecutor == null) {
+                    senderExecutor = Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder().setNameFormat("external-event-sender-%d").setDaemon(true).build());
+                }
+            }
+        }
+        return senderExecutor;
+    }
+
+    @Override
+    public void destroy() {
+        if (encoderExecutor != null) {
+            encoderExecutor.shutdownNow();
+        }
+        if (senderExecutor != null) {
+            senderExecutor.shutdownNow();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class InFlightBatch {
+
+        private final List<Long> eventIds;
+        private final OffsetDateTime oldestCreatedAt;
+        private final CompletableFuture<Void> sent;
+    }
+}
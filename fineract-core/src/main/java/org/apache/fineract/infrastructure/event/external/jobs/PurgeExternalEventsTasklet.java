@@ -19,32 +19,66 @@
 package org.apache.fineract.infrastructure.event.external.jobs;
 
 import java.time.LocalDate;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractJobPurgeProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+/**
+ * Deletes the sent external events older than the purge criteria in chunks of ids in ascending order. Every chunk is deleted in
+ * its own step transaction and the last deleted id is kept in the step execution context, so no statement holds locks on more
+ * than one chunk of rows.
+ */
 @Slf4j
 @AllArgsConstructor
 @Component
 public class PurgeExternalEventsTasklet implements Tasklet {
 
+    static final String PURGE_DATE_KEY = "purgeDate";
+    static final String LAST_PURGED_ID_KEY = "lastPurgedId";
+
     private final ExternalEventRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final FineractProperties fineractProperties;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        final ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        final FineractJobPurgeProperties properties = fineractProperties.getJob().getPurge();
         try {
-            Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
-            LocalDate dateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria);
-            repository.deleteOlderEventsWithSentStatus(ExternalEventStatus.SENT, dateForPurgeCriteria);
+            if (executionContext.containsKey(PURGE_DATE_KEY)) {
+                // give the replicas and the other transactions some room between the chunks
+                Thread.sleep(properties.getPauseMillis());
+            } else {
+                Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
+                LocalDate dateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria);
+                executionContext.putString(PURGE_DATE_KEY, dateForPurgeCriteria.toString());
+            }
+            final LocalDate dateForPurgeCriteria = LocalDate.parse(executionContext.getString(PURGE_DATE_KEY));
+            final List<Long> ids = repository.findIdsOfOlderEventsWithStatus(ExternalEventStatus.SENT, dateForPurgeCriteria,
+                    executionContext.getLong(LAST_PURGED_ID_KEY, 0L), PageRequest.of(0, properties.getChunkSize()));
+            if (ids.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+            repository.deleteEventsWithIds(ids);
+            executionContext.putLong(LAST_PURGED_ID_KEY, ids.get(ids.size() - 1));
+            contribution.incrementWriteCount(ids.size());
+            return ids.size() < properties.getChunkSize() ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Purging external events was interrupted");
         } catch (Exception e) {
             log.error("Error occurred while purging external events: ", e);
         }
@@ -31,7 +31,6 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -60,11 +59,14 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     private final MessageFactory messageFactory;
     private final ByteBufferConverter byteBufferConverter;
     private final ConfigurationDomainService configurationDomainService;
+    private final PipelinedExternalEventDispatcher pipelinedEventDispatcher;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
-            if (isDownstreamChannelEnabled()) {
+            if (isDownstreamChannelEnabled() && pipelinedEventDispatcher.isEnabled()) {
+                pipelinedEventDispatcher.dispatch(getBatchSize());
+            } else if (isDownstreamChannelEnabled()) {
                 List<ExternalEventView> events = getQueuedEventsBatch();
                 log.debug("Queued events size: {}", events.size());
                 sendEvents(events);
@@ -134,12 +136,13 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         try {
             List<byte[]> messages = new ArrayList<>();
             for (ExternalEventView event : events) {
-                MessageV1 message = messageFactory.createMessage(event);
-                ByteBuffer toByteBuffer = message.toByteBuffer();
+                // compressed payloads need the compression field of MessageV2, the rest is sent as MessageV1
+                ByteBuffer toByteBuffer = event.getCompression() == null ? messageFactory.createMessage(event).toByteBuffer()
+                        : messageFactory.createCompressedMessage(event).toByteBuffer();
                 byte[] convert = byteBufferConverter.convert(toByteBuffer);
                 messages.add(convert);
-                log.trace("Created message to send with id: [{}], type: [{}], idempotency key: [{}]", message.getId(), message.getType(),
-                        message.getIdempotencyKey());
+                log.trace("Created message to send with id: [{}], type: [{}], idempotency key: [{}]", event.getId(), event.getType(),
+                        event.getIdempotencyKey());
             }
             return messages;
         } catch (IOException e) {
@@ -35,10 +35,16 @@ public interface ExternalEventRepository extends JpaRepository<ExternalEvent, Lo
 
     List<ExternalEventView> findByStatusOrderById(ExternalEventStatus status, Pageable batchSize);
 
+    List<ExternalEventView> findByStatusAndIdGreaterThanOrderById(ExternalEventStatus status, Long id, Pageable batchSize);
+
+    @Query("select e.id from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria and e.id > :afterId "
+            + "order by e.id")
+    List<Long> findIdsOfOlderEventsWithStatus(@Param("status") ExternalEventStatus status,
+            @Param("dateForPurgeCriteria") LocalDate dateForPurgeCriteria, @Param("afterId") Long afterId, Pageable batchSize);
+
     @Modifying(flushAutomatically = true)
-    @Query("delete from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria")
-    void deleteOlderEventsWithSentStatus(@Param("status") ExternalEventStatus status,
-            @Param("dateForPurgeCriteria") LocalDate dateForPurgeCriteria);
+    @Query("delete from ExternalEvent e where e.id in :ids")
+    void deleteEventsWithIds(@Param("ids") List<Long> ids);
 
     @Modifying
     @Query("UPDATE ExternalEvent e SET e.status = org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus.SENT, e.sentAt = :sentAt WHERE e.id IN :ids")
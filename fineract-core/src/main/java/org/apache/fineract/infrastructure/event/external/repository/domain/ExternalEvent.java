@@ -73,13 +73,23 @@ public class ExternalEvent extends AbstractPersistableCustom {
     @Column(name = "aggregate_root_id", nullable = true)
     private Long aggregateRootId;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "compression", nullable = true)
+    private ExternalEventCompression compression;
+
     public ExternalEvent(String type, String category, String schema, byte[] data, String idempotencyKey, Long aggregateRootId) {
+        this(type, category, schema, data, idempotencyKey, aggregateRootId, null);
+    }
+
+    public ExternalEvent(String type, String category, String schema, byte[] data, String idempotencyKey, Long aggregateRootId,
+            ExternalEventCompression compression) {
         this.type = type;
         this.category = category;
         this.schema = schema;
         this.data = data;
         this.idempotencyKey = idempotencyKey;
         this.aggregateRootId = aggregateRootId;
+        this.compression = compression;
         this.createdAt = DateUtils.getAuditOffsetDateTime();
         this.status = ExternalEventStatus.TO_BE_SENT;
         this.businessDate = DateUtils.getBusinessLocalDate();
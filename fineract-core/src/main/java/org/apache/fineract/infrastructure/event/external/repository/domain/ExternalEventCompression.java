@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.repository.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Algorithms the payload of an external event can be compressed with. The name is stored next to the payload in
+ * m_external_event and is sent in the compression field of the MessageV2 envelope, so consumers know how to inflate the
+ * data. Events without a compression are stored as plain Avro bytes and sent in MessageV1.
+ */
+public enum ExternalEventCompression {
+
+    GZIP {
+
+        @Override
+        OutputStream wrap(OutputStream out, int level) throws IOException {
+            return new LevelGZIPOutputStream(out, level);
+        }
+
+        @Override
+        InputStream unwrap(InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+    },
+    DEFLATE {
+
+        @Override
+        OutputStream wrap(OutputStream out, int level) {
+            return new LevelDeflaterOutputStream(out, level);
+        }
+
+        @Override
+        InputStream unwrap(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+    };
+
+    abstract OutputStream wrap(OutputStream out, int level) throws IOException;
+
+    abstract InputStream unwrap(InputStream in) throws IOException;
+
+    public byte[] compress(byte[] data, int level) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+        try (OutputStream out = wrap(result, level)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error while compressing external event payload with " + name(), e);
+        }
+        return result.toByteArray();
+    }
+
+    public byte[] decompress(byte[] data) {
+        try (InputStream in = unwrap(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Error while decompressing external event payload with " + name(), e);
+        }
+    }
+
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+
+        private LevelGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            // only the header has been written so far, nothing is deflated with the default level yet
+            def.setLevel(level);
+        }
+    }
+
+    private static final class LevelDeflaterOutputStream extends DeflaterOutputStream {
+
+        private LevelDeflaterOutputStream(OutputStream out, int level) {
+            super(out, new Deflater(level));
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the deflater is not the stream's default one, so it has to be released explicitly
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the external events posted within a transaction and writes them into m_external_event with a single JDBC
+ * batch insert right before the transaction commits. Rolled back transactions simply drop their buffer.
+ *
+ * Nested transactions only roll back to their savepoint, so the writer listens to the transaction manager and drops the
+ * events buffered since the savepoint when a nested transaction is rolled back.
+ *
+ * Other synchronizations may raise events from their own beforeCommit callback (e.g. the journal entry batch writer).
+ * Events buffered after the batch has been written are written right away, and events of a buffer registered too late
+ * to get its beforeCommit callback are written when the transaction manager notifies the commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalEventBatchWriter implements TransactionExecutionListener {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
+
+    public boolean isBufferingAvailable() {
+        return isBatchInsertEnabled() && TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    public void buffer(ExternalEvent externalEvent) {
+        ExternalEventBufferSynchronization synchronization = getOrRegisterSynchronization();
+        if (synchronization.written) {
+            log.debug("Writing external event raised after the buffered events have been written");
+            write(List.of(externalEvent));
+        } else {
+            synchronization.events.add(externalEvent);
+        }
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (!transaction.isNested()) {
+            ExternalEventBufferSynchronization synchronization = findSynchronization();
+            if (synchronization != null) {
+                synchronization.writeAndClear();
+            }
+        }
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && transaction.isNested() && isBatchInsertEnabled()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            ExternalEventBufferSynchronization synchronization = getOrRegisterSynchronization();
+            synchronization.savepointMarks.push(synchronization.events.size());
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (transaction.isNested()) {
+            // releasing the savepoint hands its events over to the enclosing transaction
+            ExternalEventBufferSynchronization synchronization = findSynchronization();
+            if (synchronization != null && !synchronization.savepointMarks.isEmpty()) {
+                synchronization.savepointMarks.pop();
+            }
+        }
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        if (transaction.isNested()) {
+            ExternalEventBufferSynchronization synchronization = findSynchronization();
+            if (synchronization != null && !synchronization.savepointMarks.isEmpty()) {
+                int mark = synchronization.savepointMarks.pop();
+                List<ExternalEvent> rolledBack = synchronization.events.subList(mark, synchronization.events.size());
+                log.debug("Dropping {} external events buffered within a rolled back nested transaction", rolledBack.size());
+                rolledBack.clear();
+            }
+        }
+    }
+
+    private ExternalEventBufferSynchronization getOrRegisterSynchronization() {
+        ExternalEventBufferSynchronization synchronization = findSynchronization();
+        if (synchronization == null) {
+            synchronization = new ExternalEventBufferSynchronization();
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        }
+        return synchronization;
+    }
+
+    private ExternalEventBufferSynchronization findSynchronization() {
+        // the buffer lives in the synchronization, because synchronizations are suspended together with their
+        // transaction while plain bound resources are not (e.g. for REQUIRES_NEW)
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof ExternalEventBufferSynchronization bufferSynchronization) {
+                return bufferSynchronization;
+            }
+        }
+        return null;
+    }
+
+    void write(List<ExternalEvent> externalEvents) {
+        if (externalEvents.isEmpty()) {
+            return;
+        }
+        List<Object[]> params = new ArrayList<>(externalEvents.size());
+        for (ExternalEvent externalEvent : externalEvents) {
+            params.add(new Object[] { externalEvent.getType(), externalEvent.getCategory(), externalEvent.getSchema(),
+                    externalEvent.getData(), externalEvent.getCreatedAt(), externalEvent.getStatus().name(), externalEvent.getSentAt(),
+                    externalEvent.getIdempotencyKey(), externalEvent.getBusinessDate(), externalEvent.getAggregateRootId(),
+                    externalEvent.getCompression() == null ? null : externalEvent.getCompression().name() });
+        }
+        jdbcTemplate.batchUpdate(batchQueryForExternalEventInsertion(), params);
+        log.debug("Inserted {} external events in batch", externalEvents.size());
+    }
+
+    private String batchQueryForExternalEventInsertion() {
+        return "INSERT INTO m_external_event(" + sqlGenerator.escape("type") + ", category, " + sqlGenerator.escape("schema")
+                + ", data, created_at, status, sent_at, idempotency_key, business_date, aggregate_root_id, compression) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    private boolean isBatchInsertEnabled() {
+        return fineractProperties.getEvents().getExternal().isBatchInsertEnabled();
+    }
+
+    private final class ExternalEventBufferSynchronization implements TransactionSynchronization {
+
+        private final List<ExternalEvent> events = new ArrayList<>();
+        private final Deque<Integer> savepointMarks = new ArrayDeque<>();
+        private boolean written;
+
+        private void writeAndClear() {
+            written = true;
+            write(events);
+            events.clear();
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writeAndClear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            events.clear();
+            savepointMarks.clear();
+        }
+    }
+}
@@ -34,11 +34,13 @@ import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEven
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventCompression;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.apache.fineract.infrastructure.event.external.service.support.ExternalEventPayloadCompressor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,6 +56,8 @@ public class ExternalEventService {
     private final ByteBufferConverter byteBufferConverter;
     private final BulkMessageItemFactory bulkMessageItemFactory;
     private final DataEnricherProcessor dataEnricherProcessor;
+    private final ExternalEventBatchWriter batchWriter;
+    private final ExternalEventPayloadCompressor payloadCompressor;
 
     private EntityManager entityManager;
 
@@ -70,7 +74,11 @@ public class ExternalEventService {
             } else {
                 externalEvent = handleRegularBusinessEvent(event);
             }
-            repository.save(externalEvent);
+            if (batchWriter.isBufferingAvailable()) {
+                batchWriter.buffer(externalEvent);
+            } else {
+                repository.save(externalEvent);
+            }
             log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
                     externalEvent.getType(), externalEvent.getCategory());
         } catch (IOException e) {
@@ -92,8 +100,8 @@ public class ExternalEventService {
         BulkMessagePayloadV1 avroDto = new BulkMessagePayloadV1(messages);
         byte[] data = byteBufferConverter.convert(avroDto.toByteBuffer());
 
-        return new ExternalEvent(bulkBusinessEvent.getType(), bulkBusinessEvent.getCategory(), BulkMessagePayloadV1.class.getName(), data,
-                idempotencyKey, bulkBusinessEvent.getAggregateRootId());
+        return createExternalEvent(bulkBusinessEvent.getType(), bulkBusinessEvent.getCategory(), BulkMessagePayloadV1.class.getName(),
+                data, idempotencyKey, bulkBusinessEvent.getAggregateRootId());
     }
 
     private <T> ExternalEvent handleRegularBusinessEvent(BusinessEvent<T> event) throws IOException {
@@ -107,7 +115,18 @@ public class ExternalEventService {
         byte[] data = byteBufferConverter.convert(buffer);
         Long aggregateRootId = event.getAggregateRootId();
 
-        return new ExternalEvent(eventType, eventCategory, schema, data, idempotencyKey, aggregateRootId);
+        return createExternalEvent(eventType, eventCategory, schema, data, idempotencyKey, aggregateRootId);
+    }
+
+    private ExternalEvent createExternalEvent(String type, String category, String schema, byte[] data, String idempotencyKey,
+            Long aggregateRootId) {
+        ExternalEventCompression compression = payloadCompressor.selectCompression(data);
+        if (compression == null) {
+            return new ExternalEvent(type, category, schema, data, idempotencyKey, aggregateRootId);
+        }
+        byte[] compressedData = payloadCompressor.compress(data, compression);
+        log.trace("Compressed payload of [{}] with {} from {} to {} bytes", type, compression, data.length, compressedData.length);
+        return new ExternalEvent(type, category, schema, compressedData, idempotencyKey, aggregateRootId, compression);
     }
 
     private void flushChangesBeforeSerialization() {
@@ -30,6 +30,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.avro.MessageV2;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
 import org.apache.fineract.infrastructure.event.external.service.message.domain.MessageBusinessDate;
@@ -95,6 +96,18 @@ public class MessageFactory implements InitializingBean {
         return createMessage(id, source, type, category, createdAt, businessDate, idempotencyKey, dataSchema, data);
     }
 
+    /**
+     * Creates the message of an event stored with a compressed payload. MessageV1 has no field to tell the compression,
+     * so these events are sent as MessageV2 while the uncompressed ones keep being sent as MessageV1.
+     */
+    public MessageV2 createCompressedMessage(ExternalEventView event) {
+        MessageV1 message = createMessage(event);
+        return MessageV2.newBuilder().setId(message.getId()).setSource(message.getSource()).setType(message.getType())
+                .setCategory(message.getCategory()).setCreatedAt(message.getCreatedAt()).setBusinessDate(message.getBusinessDate())
+                .setTenantId(message.getTenantId()).setIdempotencyKey(message.getIdempotencyKey()).setDataschema(message.getDataschema())
+                .setData(message.getData()).setCompression(event.getCompression().name()).build();
+    }
+
     private String getTenantId() {
         return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
     }
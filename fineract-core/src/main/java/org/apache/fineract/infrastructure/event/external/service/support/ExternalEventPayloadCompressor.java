@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.support;
+
+import java.util.Arrays;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventCompression;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compresses external event payloads before they are written into the outbox, based on the
+ * fineract.events.external.compression properties. Payloads below the configured minimum size are kept as they are,
+ * since the compression headers would outweigh the savings.
+ *
+ * The algorithm and the level are validated once at startup, so a misconfiguration stops the application instead of
+ * failing the business transactions raising events.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalEventPayloadCompressor implements InitializingBean {
+
+    private static final String NO_COMPRESSION = "NONE";
+
+    private final FineractProperties fineractProperties;
+
+    private ExternalEventCompression configuredCompression;
+
+    @Override
+    public void afterPropertiesSet() {
+        configuredCompression = resolveCompression(getCompressionProperties());
+    }
+
+    /**
+     * @return the compression to apply to the given payload or null if it has to be stored uncompressed
+     */
+    public ExternalEventCompression selectCompression(byte[] data) {
+        if (configuredCompression == null || data.length < getCompressionProperties().getMinSize()) {
+            return null;
+        }
+        return configuredCompression;
+    }
+
+    public byte[] compress(byte[] data, ExternalEventCompression compression) {
+        return compression.compress(data, getCompressionProperties().getLevel());
+    }
+
+    public byte[] decompress(byte[] data, ExternalEventCompression compression) {
+        return compression == null ? data : compression.decompress(data);
+    }
+
+    private static ExternalEventCompression resolveCompression(FineractProperties.FineractExternalEventsCompressionProperties properties) {
+        if (properties == null || StringUtils.isBlank(properties.getAlgorithm())
+                || NO_COMPRESSION.equalsIgnoreCase(properties.getAlgorithm().trim())) {
+            return null;
+        }
+        ExternalEventCompression result = Arrays.stream(ExternalEventCompression.values())
+                .filter(value -> value.name().equals(properties.getAlgorithm().trim().toUpperCase(Locale.ROOT))).findFirst()
+                .orElseThrow(() -> new IllegalStateException("Invalid fineract.events.external.compression.algorithm: "
+                        + properties.getAlgorithm() + ", it has to be one of NONE, "
+                        + StringUtils.join(ExternalEventCompression.values(), ", ")));
+        if (properties.getLevel() < 1 || properties.getLevel() > 9) {
+            throw new IllegalStateException(
+                    "Invalid fineract.events.external.compression.level: " + properties.getLevel() + ", it has to be between 1 and 9");
+        }
+        return result;
+    }
+
+    private FineractProperties.FineractExternalEventsCompressionProperties getCompressionProperties() {
+        return fineractProperties.getEvents().getExternal().getCompression();
+    }
+}
@@ -48,4 +48,7 @@ public class JobDetailHistoryData {
 
     @SuppressWarnings("unused")
     private String jobRunErrorLog;
+
+    @SuppressWarnings("unused")
+    private String partitionTimings;
 }
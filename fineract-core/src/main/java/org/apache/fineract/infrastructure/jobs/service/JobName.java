@@ -56,7 +56,10 @@ public enum JobName {
     LOAN_DELINQUENCY_CLASSIFICATION("Loan Delinquency Classification"), //
     SEND_ASYNCHRONOUS_EVENTS("Send Asynchronous Events"), //
     PURGE_EXTERNAL_EVENTS("Purge External Events"), //
-    PURGE_PROCESSED_COMMANDS("Purge Processed Commands");
+    PURGE_PROCESSED_COMMANDS("Purge Processed Commands"), //
+    REBUILD_SEARCH_INDEX("Rebuild Search Index"), //
+    RETRY_HOOK_DELIVERIES("Retry Hook Deliveries"), //
+    MERGE_HOT_SAVINGS_ACCOUNT_CREDITS("Merge Hot Savings Account Credits");
 
     private final String name;
 
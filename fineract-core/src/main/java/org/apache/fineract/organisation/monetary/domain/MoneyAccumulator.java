@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Mutable running total for {@link Money} values.
+ *
+ * Every {@link Money#plus(Money)} creates a new {@link Money} and normalizes its amount (strip trailing zeros, optional
+ * rounding to multiples, re-scaling), which dominates the cost of long summing loops in schedule generation and
+ * transaction processing. This accumulator keeps a single running {@link BigDecimal} and only re-scales it when an
+ * addend carries more fraction digits than the currency allows, so the result is identical to the equivalent chain of
+ * {@link Money#plus} / {@link Money#minus} calls.
+ *
+ * Currencies that round to multiples (no decimal places and a positive "in multiples of") are normalized through
+ * {@link Money} after every step to keep the exact same semantics.
+ *
+ * Instances are not thread safe and are meant to be used as local variables.
+ */
+public final class MoneyAccumulator {
+
+    private final MonetaryCurrency currency;
+    private final int digitsAfterDecimal;
+    private final boolean roundToMultiples;
+    private final RoundingMode roundingMode;
+    private BigDecimal amount;
+
+    private MoneyAccumulator(final MonetaryCurrency currency, final BigDecimal amount) {
+        this.currency = currency;
+        this.digitsAfterDecimal = currency.getDigitsAfterDecimal();
+        final Integer inMultiplesOf = currency.getCurrencyInMultiplesOf();
+        this.roundToMultiples = this.digitsAfterDecimal == 0 && inMultiplesOf != null && inMultiplesOf > 0;
+        this.roundingMode = MoneyHelper.getRoundingMode();
+        this.amount = amount;
+    }
+
+    public static MoneyAccumulator zero(final MonetaryCurrency currency) {
+        return new MoneyAccumulator(currency, Money.zero(currency).getAmount());
+    }
+
+    public static MoneyAccumulator of(final Money initial) {
+        return new MoneyAccumulator(initial.getCurrency(), initial.getAmount());
+    }
+
+    public MoneyAccumulator add(final Money moneyToAdd) {
+        if (moneyToAdd == null) {
+            return this;
+        }
+        return add(checkCurrencyEqual(moneyToAdd).getAmount());
+    }
+
+    public MoneyAccumulator add(final BigDecimal amountToAdd) {
+        if (amountToAdd == null || amountToAdd.signum() == 0) {
+            return this;
+        }
+        this.amount = normalize(this.amount.add(amountToAdd));
+        return this;
+    }
+
+    public MoneyAccumulator subtract(final Money moneyToSubtract) {
+        if (moneyToSubtract == null) {
+            return this;
+        }
+        return subtract(checkCurrencyEqual(moneyToSubtract).getAmount());
+    }
+
+    public MoneyAccumulator subtract(final BigDecimal amountToSubtract) {
+        if (amountToSubtract == null || amountToSubtract.signum() == 0) {
+            return this;
+        }
+        this.amount = normalize(this.amount.subtract(amountToSubtract));
+        return this;
+    }
+
+    public MoneyAccumulator reset() {
+        this.amount = Money.zero(this.currency).getAmount();
+        return this;
+    }
+
+    public BigDecimal getAmount() {
+        return this.amount;
+    }
+
+    public MonetaryCurrency getCurrency() {
+        return this.currency;
+    }
+
+    public Money toMoney() {
+        return Money.of(this.currency, this.amount);
+    }
+
+    private BigDecimal normalize(final BigDecimal value) {
+        if (this.roundToMultiples) {
+            return Money.of(this.currency, value).getAmount();
+        }
+        // adding amounts which fit into the currency scale is exact, rounding is only needed for excess digits
+        if (value.scale() > this.digitsAfterDecimal) {
+            return value.setScale(this.digitsAfterDecimal, this.roundingMode);
+        }
+        return value;
+    }
+
+    private Money checkCurrencyEqual(final Money money) {
+        if (!this.currency.getCode().equals(money.getCurrencyCode())) {
+            throw new UnsupportedOperationException("currencies are different.");
+        }
+        return money;
+    }
+}
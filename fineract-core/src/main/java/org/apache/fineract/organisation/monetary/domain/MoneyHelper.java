@@ -62,6 +62,14 @@ public class MoneyHelper {
         return mathContext;
     }
 
+    /**
+     * Sets the rounding mode directly, for code running without the Spring context (e.g. benchmarks).
+     */
+    public static void initializeRoundingMode(final RoundingMode mode) {
+        roundingMode = mode;
+        mathContext = null;
+    }
+
     public static void fetchRoundingModeFromGlobalConfig() {
         roundingMode = RoundingMode.valueOf(staticConfigurationDomainService.getRoundingMode());
         log.info("Fetch Rounding Mode from Global Config {}", roundingMode.name());
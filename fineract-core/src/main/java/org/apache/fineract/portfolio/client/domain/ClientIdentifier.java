@@ -124,6 +124,10 @@ public class ClientIdentifier extends AbstractAuditableWithUTCDateTimeCustom {
         return this.documentKey;
     }
 
+    public Long clientId() {
+        return this.client.getId();
+    }
+
     public Long documentTypeId() {
         return this.documentType.getId();
     }
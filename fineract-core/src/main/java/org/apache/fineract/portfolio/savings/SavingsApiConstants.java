@@ -47,6 +47,8 @@ public class SavingsApiConstants {
     public static final String unblockAction = ".unblock";
     public static final String blockCreditsAction = ".blockCredits";
     public static final String unblockCreditsAction = ".unblockCredits";
+    public static final String enableHotAccountAction = ".enableHotAccount";
+    public static final String disableHotAccountAction = ".disableHotAccount";
     public static final String blockDebitsAction = ".blockDebits";
     public static final String unblockDebitsAction = ".unblockDebits";
 
@@ -65,6 +67,8 @@ public class SavingsApiConstants {
     public static final String COMMAND_BLOCK_DEBIT = "blockDebit";
     public static final String COMMAND_UNBLOCK_DEBIT = "unblockDebit";
     public static final String COMMAND_UNBLOCK_CREDIT = "unblockCredit";
+    public static final String COMMAND_ENABLE_HOT_ACCOUNT = "enableHotAccount";
+    public static final String COMMAND_DISABLE_HOT_ACCOUNT = "disableHotAccount";
 
     // general
     public static final String localeParamName = "locale";
@@ -137,6 +141,7 @@ public class SavingsApiConstants {
     public static final String enforceMinRequiredBalanceParamName = "enforceMinRequiredBalance";
     public static final String maxAllowedLienLimitParamName = "maxAllowedLienLimit";
     public static final String lienAllowedParamName = "lienAllowed";
+    public static final String hotAccountShardsParamName = "hotAccountShards";
     public static final String minBalanceForInterestCalculationParamName = "minBalanceForInterestCalculation";
     public static final String withdrawBalanceParamName = "withdrawBalance";
     public static final String onHoldFundsParamName = "onHoldFunds";
@@ -55,7 +55,10 @@ public class SavingsAccountSummaryData implements Serializable {
     private BigDecimal availableBalance;
     private LocalDate interestPostedTillDate;
     private LocalDate prevInterestPostedTillDate;
+    private BigDecimal pendingCreditAmount;
     private transient BigDecimal runningBalanceOnInterestPostingTillDate = BigDecimal.ZERO;
+    private transient LocalDate balanceSnapshotDate;
+    private transient BigDecimal balanceOnSnapshotDate;
 
     public SavingsAccountSummaryData(final CurrencyData currency, final BigDecimal totalDeposits, final BigDecimal totalWithdrawals,
             final BigDecimal totalWithdrawalFees, final BigDecimal totalAnnualFees, final BigDecimal totalInterestEarned,
@@ -85,6 +88,10 @@ public class SavingsAccountSummaryData implements Serializable {
         this.prevInterestPostedTillDate = interestPostedTillDate;
     }
 
+    public void setPendingCreditAmount(final BigDecimal pendingCreditAmount) {
+        this.pendingCreditAmount = pendingCreditAmount;
+    }
+
     public BigDecimal getRunningBalanceOnPivotDate() {
         return this.runningBalanceOnInterestPostingTillDate;
     }
@@ -268,6 +275,11 @@ public class SavingsAccountSummaryData implements Serializable {
         this.runningBalanceOnInterestPostingTillDate = runningBalanceOnPivotDate;
     }
 
+    public void setBalanceSnapshot(final LocalDate balanceSnapshotDate, final BigDecimal balanceOnSnapshotDate) {
+        this.balanceSnapshotDate = balanceSnapshotDate;
+        this.balanceOnSnapshotDate = balanceOnSnapshotDate;
+    }
+
     public void setInterestPostedTillDate(final LocalDate date) {
         this.interestPostedTillDate = date;
     }
@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
+import org.apache.fineract.infrastructure.core.service.Page;
+import org.junit.jupiter.api.Test;
+
+public class DefaultToApiJsonSerializerTest {
+
+    private static final Set<String> SUPPORTED_PARAMETERS = Set.of("id", "name", "amount");
+
+    private final GoogleGsonSerializerHelper helper = new GoogleGsonSerializerHelper();
+    private final DefaultToApiJsonSerializer<Item> serializer = new DefaultToApiJsonSerializer<>(
+            new ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson(),
+            new ExcludeNothingWithPrettyPrintingOnJsonSerializerGoogleGson(), new CommandProcessingResultJsonSerializer(), helper);
+
+    @Test
+    public void testPartialResponseSerializerIsReusedForSameParameters() {
+        final Set<String> responseParameters = new HashSet<>(List.of("id"));
+        assertSame(helper.createGsonBuilderWithParameterExclusionSerializationStrategy(SUPPORTED_PARAMETERS, false, Set.of("id")),
+                helper.createGsonBuilderWithParameterExclusionSerializationStrategy(SUPPORTED_PARAMETERS, false, responseParameters));
+        assertNotSame(helper.createGsonBuilderWithParameterExclusionSerializationStrategy(SUPPORTED_PARAMETERS, false, Set.of("id")),
+                helper.createGsonBuilderWithParameterExclusionSerializationStrategy(SUPPORTED_PARAMETERS, true, Set.of("id")));
+        assertNotSame(helper.createGsonBuilderWithParameterExclusionSerializationStrategy(SUPPORTED_PARAMETERS, false, Set.of("id")),
+                helper.createGsonBuilderForPartialResponseFiltering(false, Set.of("id")));
+    }
+
+    @Test
+    public void testUnsupportedParameterIsRejectedEveryTime() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(UnsupportedParameterException.class, () -> helper
+                    .createGsonBuilderWithParameterExclusionSerializationStrategy(SUPPORTED_PARAMETERS, false, Set.of("id", "unknown")));
+        }
+    }
+
+    @Test
+    public void testStreamingMatchesStringSerialization() throws IOException {
+        final Page<Item> page = new Page<>(List.of(new Item(1L, "first", 10), new Item(2L, "second", 20)), 2);
+        final ApiRequestJsonSerializationSettings all = ApiRequestJsonSerializationSettings.from(false, Set.of(), false, false, false);
+        final ApiRequestJsonSerializationSettings partial = ApiRequestJsonSerializationSettings.from(false, Set.of("id", "amount"), false,
+                false, false);
+
+        assertEquals(serializer.serialize(all, page, SUPPORTED_PARAMETERS), stream(all, page));
+        assertEquals("{\"totalFilteredRecords\":2,\"pageItems\":[{\"id\":1,\"amount\":10},{\"id\":2,\"amount\":20}]}",
+                stream(partial, page));
+    }
+
+    @Test
+    public void testStreamingRejectsUnsupportedParameterBeforeWriting() {
+        final ApiRequestJsonSerializationSettings settings = ApiRequestJsonSerializationSettings.from(false, Set.of("unknown"), false,
+                false, false);
+        assertThrows(UnsupportedParameterException.class,
+                () -> serializer.serializeStreaming(settings, new Page<>(List.of(), 0), SUPPORTED_PARAMETERS));
+    }
+
+    private String stream(final ApiRequestJsonSerializationSettings settings, final Page<Item> page) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serializeStreaming(settings, page, SUPPORTED_PARAMETERS).write(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Item {
+
+        private final Long id;
+        private final String name;
+        private final Integer amount;
+
+        private Item(final Long id, final String name, final Integer amount) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class PaginationHelperTest {
+
+    private static final String QUERY = "select * from m_loan l where l.loan_status_id = ? order by l.id";
+    private static final String SQL = QUERY + " LIMIT 2 OFFSET 0";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM (" + QUERY + ") AS temp";
+    private static final Object[] ARGS = new Object[] { 300 };
+    private static final RowMapper<Long> ROW_MAPPER = (rs, rowNum) -> rs.getLong("id");
+
+    private final DatabaseTypeResolver databaseTypeResolver = Mockito.mock(DatabaseTypeResolver.class);
+    private final DatabaseSpecificSQLGenerator sqlGenerator = new DatabaseSpecificSQLGenerator(databaseTypeResolver);
+    private final PaginationHelper paginationHelper = new PaginationHelper(sqlGenerator, databaseTypeResolver);
+    private final JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+
+    @Test
+    public void testFullKeysetPageHasCursorOfLastRow() {
+        when(jdbcTemplate.query(SQL, ROW_MAPPER, ARGS)).thenReturn(List.of(5L, 7L));
+        when(jdbcTemplate.queryForObject(COUNT_SQL, Integer.class, ARGS)).thenReturn(10);
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, ROW_MAPPER,
+                SearchParameters.builder().limit(2).build(), PageCursor::of);
+
+        Assertions.assertEquals(7L, PageCursor.decode(page.getNextCursor(), 1).getLong(0));
+        Assertions.assertEquals(10, page.getTotalFilteredRecords());
+    }
+
+    @Test
+    public void testCountIsSkippedWhenNotRequested() {
+        when(jdbcTemplate.query(SQL, ROW_MAPPER, ARGS)).thenReturn(List.of(5L, 7L));
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, ROW_MAPPER,
+                SearchParameters.builder().limit(2).count(false).build(), PageCursor::of);
+
+        Assertions.assertNotNull(page.getNextCursor());
+        Assertions.assertNull(page.getTotalFilteredRecords());
+        verify(jdbcTemplate).query(SQL, ROW_MAPPER, ARGS);
+        verifyNoMoreInteractions(jdbcTemplate);
+        Assertions.assertEquals("", paginationHelper.calcFoundRows(SearchParameters.builder().count(false).build()));
+    }
+
+    @Test
+    public void testCountIsSkippedForNextKeysetPages() {
+        final String cursor = PageCursor.of(7L).encode();
+        when(jdbcTemplate.query(SQL, ROW_MAPPER, ARGS)).thenReturn(List.of(9L));
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, ROW_MAPPER,
+                SearchParameters.builder().limit(2).cursor(cursor).build(), PageCursor::of);
+
+        Assertions.assertNull(page.getNextCursor());
+        Assertions.assertNull(page.getTotalFilteredRecords());
+        verify(jdbcTemplate).query(SQL, ROW_MAPPER, ARGS);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testTotalOfLastOffsetPageIsTakenFromThePage() {
+        when(jdbcTemplate.query(SQL, ROW_MAPPER, ARGS)).thenReturn(List.of(5L));
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, ROW_MAPPER,
+                SearchParameters.builder().limit(2).offset(40).build(), PageCursor::of);
+
+        Assertions.assertEquals(41, page.getTotalFilteredRecords());
+        Assertions.assertNull(page.getNextCursor());
+        Assertions.assertNull(page.getTotalFilteredRecords());
+        verify(jdbcTemplate).query(SQL, ROW_MAPPER, ARGS);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testCursorIsRejectedWithOffsetOrOrderBy() {
+        final String cursor = PageCursor.of(7L).encode();
+        Assertions.assertThrows(PlatformApiDataValidationException.class,
+                () -> paginationHelper.getCursor(SearchParameters.builder().limit(2).offset(2).cursor(cursor).build(), 1));
+        Assertions.assertThrows(PlatformApiDataValidationException.class,
+                () -> paginationHelper.getCursor(SearchParameters.builder().limit(2).orderBy("account_no").cursor(cursor).build(), 1));
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() {
+        Assertions.assertThrows(PlatformApiDataValidationException.class,
+                () -> paginationHelper.getCursor(SearchParameters.builder().limit(2).cursor("not a cursor").build(), 1));
+        Assertions.assertThrows(PlatformApiDataValidationException.class,
+                () -> paginationHelper.getCursor(SearchParameters.builder().limit(2).cursor(PageCursor.of(7L).encode()).build(), 2));
+    }
+
+    @Test
+    public void testCompositeCursorRoundTrip() {
+        final LocalDate entryDate = LocalDate.of(2024, 2, 29);
+        final PageCursor cursor = paginationHelper
+                .getCursor(SearchParameters.builder().limit(2).cursor(PageCursor.of(entryDate, 42L).encode()).build(), 2);
+
+        Assertions.assertEquals(entryDate, cursor.getLocalDate(0));
+        Assertions.assertEquals(42L, cursor.getLong(1));
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReadReplicaDataSourceTest {
+
+    @Mock
+    private DataSource replica;
+    @Mock
+    private DataSource primary;
+    @Mock
+    private Connection replicaConnection;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet resultSet;
+    @Mock
+    private ResultSetMetaData resultSetMetaData;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica.getConnection()).willReturn(replicaConnection);
+        given(replicaConnection.getMetaData()).willReturn(databaseMetaData);
+        given(replicaConnection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(resultSet);
+        given(resultSet.getMetaData()).willReturn(resultSetMetaData);
+    }
+
+    @Test
+    public void testHealthyReplicaIsUsedWithoutLagCheck() throws SQLException {
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 0, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(replicaConnection);
+        verify(replicaConnection, times(0)).createStatement();
+    }
+
+    @Test
+    public void testPrimaryIsUsedWhenReplicaIsUnreachable() throws SQLException {
+        given(replica.getConnection()).willThrow(new SQLException("connection refused"));
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 10, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+        assertThat(underTest.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    public void testPrimaryIsUsedWhenReplicaConnectionFailsAfterHealthCheck() throws SQLException {
+        given(replica.getConnection()).willReturn(replicaConnection).willThrow(new SQLException("pool exhausted"));
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 0, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+        // the failure marks the replica as unavailable until the next health check
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+        verify(replica, times(2)).getConnection();
+    }
+
+    @Test
+    public void testPostgreSQLReplicaWithinLagThresholdIsUsed() throws SQLException {
+        givenPostgreSQLLag(10L);
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 10, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void testPostgreSQLReplicaBeyondLagThresholdFallsBackToPrimary() throws SQLException {
+        givenPostgreSQLLag(11L);
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 10, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void testMySQLReplicaLagIsReadFromReplicaStatus() throws SQLException {
+        given(databaseMetaData.getDatabaseProductName()).willReturn("MySQL");
+        given(resultSet.next()).willReturn(true);
+        given(resultSetMetaData.getColumnCount()).willReturn(1);
+        given(resultSetMetaData.getColumnLabel(1)).willReturn("Seconds_Behind_Source");
+        given(resultSet.getLong("Seconds_Behind_Source")).willReturn(120L);
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 60, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void testStoppedReplicationFallsBackToPrimary() throws SQLException {
+        given(databaseMetaData.getDatabaseProductName()).willReturn("MariaDB");
+        given(resultSet.next()).willReturn(true);
+        given(resultSetMetaData.getColumnCount()).willReturn(0);
+        given(resultSet.wasNull()).willReturn(true);
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 60, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void testServerWithoutReplicationIsUsed() throws SQLException {
+        given(databaseMetaData.getDatabaseProductName()).willReturn("MySQL");
+        given(resultSet.next()).willReturn(false);
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 60, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void testReplicaIsCheckedOncePerHealthCheckInterval() throws SQLException {
+        givenPostgreSQLLag(120L);
+        ReadReplicaDataSource underTest = new ReadReplicaDataSource(replica, primary, 10, 60);
+
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+        assertThat(underTest.getConnection()).isSameAs(primaryConnection);
+        verify(statement, times(1)).executeQuery(anyString());
+    }
+
+    private void givenPostgreSQLLag(long lagSeconds) throws SQLException {
+        given(databaseMetaData.getDatabaseProductName()).willReturn("PostgreSQL");
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong(1)).willReturn(lagSeconds);
+        given(resultSet.wasNull()).willReturn(false);
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+class ReadReplicaRoutingContextTest {
+
+    @AfterEach
+    public void tearDown() {
+        ReadReplicaRoutingContext.endRequest();
+        for (int i = 0; i < 5; i++) {
+            ReadReplicaRoutingContext.endTransaction();
+        }
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    public void testWorkOutsideOfRequestAndTransactionUsesPrimary() {
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isFalse();
+    }
+
+    @Test
+    public void testReadOnlyRequestUsesReplica() {
+        ReadReplicaRoutingContext.beginRequest(true);
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isTrue();
+
+        ReadReplicaRoutingContext.endRequest();
+        ReadReplicaRoutingContext.beginRequest(false);
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isFalse();
+    }
+
+    @Test
+    public void testInnermostTransactionDecides() {
+        ReadReplicaRoutingContext.beginTransaction(true);
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isTrue();
+
+        ReadReplicaRoutingContext.beginTransaction(false);
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isFalse();
+
+        ReadReplicaRoutingContext.endTransaction();
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isTrue();
+
+        ReadReplicaRoutingContext.endTransaction();
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isFalse();
+    }
+
+    @Test
+    public void testRequestStaysOnPrimaryAfterReadWriteTransaction() {
+        ReadReplicaRoutingContext.beginRequest(true);
+        ReadReplicaRoutingContext.beginTransaction(false);
+        ReadReplicaRoutingContext.endTransaction();
+
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isFalse();
+        ReadReplicaRoutingContext.beginTransaction(true);
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isFalse();
+    }
+
+    @Test
+    public void testBatchStepIsPinnedToPrimary() {
+        ReadReplicaRoutingContext.beginRequest(true);
+        ReadReplicaRoutingContext.beginTransaction(true);
+        StepSynchronizationManager.register(new StepExecution("step", new JobExecution(1L)));
+
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isFalse();
+
+        StepSynchronizationManager.close();
+        assertThat(ReadReplicaRoutingContext.isReadOnly()).isTrue();
+    }
+}
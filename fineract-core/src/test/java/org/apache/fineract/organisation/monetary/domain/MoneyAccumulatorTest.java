@@ -0,0 +1,105 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class MoneyAccumulatorTest {
+
+    private static final MonetaryCurrency USD = new MonetaryCurrency("USD", 2, null);
+    private static final MonetaryCurrency KES_IN_MULTIPLES_OF_50 = new MonetaryCurrency("KES", 0, 50);
+
+    private static final List<BigDecimal> AMOUNTS = List.of(new BigDecimal("10.005"), new BigDecimal("0.1"), new BigDecimal("-3.333333"),
+            BigDecimal.ZERO, new BigDecimal("1E+2"), new BigDecimal("73.25"), new BigDecimal("0.00499"), new BigDecimal("-180.4"));
+
+    private static MockedStatic<MoneyHelper> moneyHelper;
+
+    @BeforeAll
+    public static void init() {
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        moneyHelper.close();
+    }
+
+    @Test
+    public void testAddMatchesMoneyPlus() {
+        assertSameAsMoney(USD);
+    }
+
+    @Test
+    public void testAddMatchesMoneyPlusWithMultiplesOf() {
+        assertSameAsMoney(KES_IN_MULTIPLES_OF_50);
+    }
+
+    @Test
+    public void testAddMoneyAndSubtractMoney() {
+        Money expected = Money.zero(USD);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD);
+        for (BigDecimal amount : AMOUNTS) {
+            Money money = Money.of(USD, amount);
+            expected = expected.plus(money).minus(Money.of(USD, BigDecimal.ONE));
+            accumulator.add(money).subtract(Money.of(USD, BigDecimal.ONE));
+        }
+        Assertions.assertEquals(expected.getAmount(), accumulator.getAmount());
+        Assertions.assertEquals(expected.getAmount(), accumulator.toMoney().getAmount());
+    }
+
+    @Test
+    public void testOfStartsFromInitialAmount() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(Money.of(USD, new BigDecimal("12.34")));
+        accumulator.add(new BigDecimal("0.66"));
+        Assertions.assertEquals(new BigDecimal("13.00"), accumulator.getAmount());
+        accumulator.reset();
+        Assertions.assertEquals(Money.zero(USD).getAmount(), accumulator.getAmount());
+    }
+
+    @Test
+    public void testDifferentCurrencyIsRejected() {
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> accumulator.add(Money.of(KES_IN_MULTIPLES_OF_50, BigDecimal.TEN)));
+    }
+
+    private void assertSameAsMoney(final MonetaryCurrency currency) {
+        Money expected = Money.zero(currency);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(currency);
+        for (BigDecimal amount : AMOUNTS) {
+            expected = expected.plus(amount);
+            accumulator.add(amount);
+            Assertions.assertEquals(expected.getAmount(), accumulator.getAmount());
+        }
+        for (BigDecimal amount : AMOUNTS) {
+            expected = expected.minus(amount);
+            accumulator.subtract(amount);
+            Assertions.assertEquals(expected.getAmount(), accumulator.getAmount());
+        }
+        Assertions.assertEquals(expected.getAmount(), accumulator.toMoney().getAmount());
+    }
+}
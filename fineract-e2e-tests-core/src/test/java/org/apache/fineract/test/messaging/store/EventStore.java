@@ -18,20 +18,28 @@
  */
 package org.apache.fineract.test.messaging.store;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.SchemaNormalization;
 import org.apache.fineract.avro.BulkMessageItemV1;
 import org.apache.fineract.avro.BulkMessagePayloadV1;
 import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.avro.MessageV2;
 import org.apache.fineract.test.messaging.EventMessage;
 import org.apache.fineract.test.messaging.event.Event;
 import org.springframework.stereotype.Component;
@@ -42,6 +50,7 @@ import org.springframework.stereotype.Component;
 public class EventStore {
 
     public static final String BULK_BUSINESS_EVENT_TYPE = "BulkBusinessEvent";
+    private static final long MESSAGE_V2_FINGERPRINT = SchemaNormalization.parsingFingerprint64(MessageV2.getClassSchema());
     private final List<EventMessage<?>> receivedEvents = new CopyOnWriteArrayList<>();
 
     public <R, T extends Event<R>> boolean existsEventById(T type, Long id) {
@@ -69,10 +78,21 @@ public class EventStore {
     }
 
     void receive(byte[] message) throws Exception {
-        MessageV1 msgObject = MessageV1.fromByteBuffer(ByteBuffer.wrap(message));
-        String type = msgObject.getType();
-        LocalDate businessDate = LocalDate.parse(msgObject.getBusinessDate(), DateTimeFormatter.ISO_LOCAL_DATE);
-        Object dataObject = getDataObject(msgObject);
+        String type;
+        LocalDate businessDate;
+        Object dataObject;
+        // compressed payloads are sent in MessageV2, which is told apart by the schema fingerprint of the message header
+        if (isMessageV2(message)) {
+            MessageV2 msgObject = MessageV2.fromByteBuffer(ByteBuffer.wrap(message));
+            type = msgObject.getType();
+            businessDate = LocalDate.parse(msgObject.getBusinessDate(), DateTimeFormatter.ISO_LOCAL_DATE);
+            dataObject = getDataObject(msgObject.getDataschema(), msgObject.getData(), msgObject.getCompression());
+        } else {
+            MessageV1 msgObject = MessageV1.fromByteBuffer(ByteBuffer.wrap(message));
+            type = msgObject.getType();
+            businessDate = LocalDate.parse(msgObject.getBusinessDate(), DateTimeFormatter.ISO_LOCAL_DATE);
+            dataObject = getDataObject(msgObject.getDataschema(), msgObject.getData(), null);
+        }
         if (BULK_BUSINESS_EVENT_TYPE.equals(type)) {
             BulkMessagePayloadV1 bulkPayload = (BulkMessagePayloadV1) dataObject;
             List<EventMessage<Object>> bulkEvents = bulkPayload.getDatas().stream()
@@ -104,11 +124,30 @@ public class EventStore {
         }
     }
 
-    private Object getDataObject(MessageV1 msgObject)
-            throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        String dataschema = msgObject.getDataschema();
-        ByteBuffer data = msgObject.getData();
-        return deserialize(dataschema, data);
+    private static boolean isMessageV2(byte[] message) {
+        // single object encoding: 2 bytes of marker followed by the 8 bytes little endian fingerprint of the schema
+        return message.length >= 10
+                && ByteBuffer.wrap(message, 2, 8).order(ByteOrder.LITTLE_ENDIAN).getLong() == MESSAGE_V2_FINGERPRINT;
+    }
+
+    private Object getDataObject(String dataschema, ByteBuffer data, String compression)
+            throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException, InvocationTargetException, IOException {
+        return deserialize(dataschema, decompress(data, compression));
+    }
+
+    private ByteBuffer decompress(ByteBuffer data, String compression) throws IOException {
+        if (compression == null) {
+            return data;
+        }
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        try (InputStream in = switch (compression) {
+            case "GZIP" -> new GZIPInputStream(new ByteArrayInputStream(bytes));
+            case "DEFLATE" -> new InflaterInputStream(new ByteArrayInputStream(bytes));
+            default -> throw new IllegalArgumentException("Unsupported event payload compression: " + compression);
+        }) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
     }
 
     private Object deserialize(String dataschema, ByteBuffer data)
@@ -96,11 +96,20 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     String FIND_ALL_NON_CLOSED_LOANS_BY_LAST_CLOSED_BUSINESS_DATE_NOT_NULL_AND_MIN_AND_MAX_LOAN_ID = "select loan.id from Loan loan where loan.id BETWEEN :minLoanId and :maxLoanId and loan.loanStatus in (100,200,300,303,304) and :cobBusinessDate = loan.lastClosedBusinessDate";
     String FIND_ALL_NON_CLOSED_LOANS_BEHIND_BY_LOAN_IDS = "select loan.id, loan.lastClosedBusinessDate from Loan loan where loan.id IN :loanIds and loan.loanStatus in (100,200,300,303,304) and loan.lastClosedBusinessDate < :cobBusinessDate";
+    String FIND_ALL_LOANS_BEHIND_OR_UP_TO_DATE_BY_LOAN_IDS = "select loan.id, loan.lastClosedBusinessDate from Loan loan where loan.id IN :loanIds and ((loan.loanStatus in (100,200,300,303,304) and loan.lastClosedBusinessDate < :cobBusinessDate) or loan.lastClosedBusinessDate >= :cobBusinessDate)";
 
     String FIND_ALL_STAYED_LOCKED_BY_COB_BUSINESS_DATE = "select loan.id, loan.externalId, loan.accountNumber from LoanAccountLock lock left join Loan loan on lock.loanId = loan.id where lock.lockPlacedOnCobBusinessDate = :cobBusinessDate";
 
     String FIND_ALL_LOAN_IDS_BY_STATUS_ID = "SELECT loan.id FROM Loan loan WHERE loan.loanStatus = :statusId";
 
+    String FIND_ALL_BY_IDS_WITH_REPAYMENT_SCHEDULE_INSTALLMENTS = "select distinct loan from Loan loan left join fetch loan.repaymentScheduleInstallments where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_WITH_LOAN_TRANSACTIONS = "select distinct loan from Loan loan left join fetch loan.loanTransactions where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_WITH_CHARGES = "select distinct loan from Loan loan left join fetch loan.charges where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_WITH_LOAN_TERM_VARIATIONS = "select distinct loan from Loan loan left join fetch loan.loanTermVariations where loan.id IN :loanIds";
+
     @Query(FIND_GROUP_LOANS_DISBURSED_AFTER)
     List<Loan> getGroupLoansDisbursedAfter(@Param("disbursementDate") LocalDate disbursementDate, @Param("groupId") Long groupId,
             @Param("loanType") Integer loanType);
@@ -207,6 +216,10 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
     List<LoanIdAndLastClosedBusinessDate> findAllNonClosedLoansBehindByLoanIds(@Param("cobBusinessDate") LocalDate cobBusinessDate,
             @Param("loanIds") List<Long> loanIds);
 
+    @Query(FIND_ALL_LOANS_BEHIND_OR_UP_TO_DATE_BY_LOAN_IDS)
+    List<LoanIdAndLastClosedBusinessDate> findAllLoansBehindOrUpToDateByLoanIds(@Param("cobBusinessDate") LocalDate cobBusinessDate,
+            @Param("loanIds") List<Long> loanIds);
+
     @Query(FIND_ALL_NON_CLOSED_LOANS_BEHIND_OR_NULL_BY_LOAN_IDS)
     List<LoanIdAndLastClosedBusinessDate> findAllNonClosedLoansBehindOrNullByLoanIds(@Param("cobBusinessDate") LocalDate cobBusinessDate,
             @Param("loanIds") List<Long> loanIds);
@@ -227,4 +240,16 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     @Query(FIND_ALL_LOAN_IDS_BY_STATUS_ID)
     List<Long> findLoanIdByStatusId(@Param("statusId") Integer statusId);
+
+    @Query(FIND_ALL_BY_IDS_WITH_REPAYMENT_SCHEDULE_INSTALLMENTS)
+    List<Loan> findAllByIdsWithRepaymentScheduleInstallments(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_WITH_LOAN_TRANSACTIONS)
+    List<Loan> findAllByIdsWithLoanTransactions(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_WITH_CHARGES)
+    List<Loan> findAllByIdsWithCharges(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_WITH_LOAN_TERM_VARIATIONS)
+    List<Loan> findAllByIdsWithLoanTermVariations(@Param("loanIds") Collection<Long> loanIds);
 }
@@ -33,6 +33,7 @@ import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.MathUtil;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
 import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyAccumulator;
 import org.apache.fineract.portfolio.loanaccount.data.LoanChargePaidDetail;
 import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -346,20 +347,21 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
         final LoanTransaction newLoanTransaction = LoanTransaction.copyTransactionProperties(loanTransaction);
         newLoanTransaction.resetDerivedComponents();
         // determine how much is outstanding total and breakdown for principal, interest and charges
-        Money principalPortion = Money.zero(currency);
-        Money interestPortion = Money.zero(currency);
-        Money feeChargesPortion = Money.zero(currency);
-        Money penaltychargesPortion = Money.zero(currency);
+        final MoneyAccumulator principalPortion = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator interestPortion = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator feeChargesPortion = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator penaltychargesPortion = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment currentInstallment : installments) {
             if (currentInstallment.isNotFullyPaidOff()) {
-                principalPortion = principalPortion.plus(currentInstallment.getPrincipalOutstanding(currency));
-                interestPortion = interestPortion.plus(currentInstallment.getInterestOutstanding(currency));
-                feeChargesPortion = feeChargesPortion.plus(currentInstallment.getFeeChargesOutstanding(currency));
-                penaltychargesPortion = penaltychargesPortion.plus(currentInstallment.getPenaltyChargesCharged(currency));
+                principalPortion.add(currentInstallment.getPrincipalOutstanding(currency));
+                interestPortion.add(currentInstallment.getInterestOutstanding(currency));
+                feeChargesPortion.add(currentInstallment.getFeeChargesOutstanding(currency));
+                penaltychargesPortion.add(currentInstallment.getPenaltyChargesCharged(currency));
             }
         }
 
-        newLoanTransaction.updateComponentsAndTotal(principalPortion, interestPortion, feeChargesPortion, penaltychargesPortion);
+        newLoanTransaction.updateComponentsAndTotal(principalPortion.toMoney(), interestPortion.toMoney(), feeChargesPortion.toMoney(),
+                penaltychargesPortion.toMoney());
         if (!LoanTransaction.transactionAmountsMatch(currency, loanTransaction, newLoanTransaction)) {
             createNewTransaction(loanTransaction, newLoanTransaction, changedTransactionDetail);
         }
@@ -722,25 +724,25 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
             final List<LoanRepaymentScheduleInstallment> installments) {
 
         final LocalDate transactionDate = loanTransaction.getTransactionDate();
-        Money principalPortion = Money.zero(currency);
-        Money interestPortion = Money.zero(currency);
-        Money feeChargesPortion = Money.zero(currency);
-        Money penaltychargesPortion = Money.zero(currency);
+        final MoneyAccumulator principalPortion = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator interestPortion = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator feeChargesPortion = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator penaltychargesPortion = MoneyAccumulator.zero(currency);
 
         // determine how much is written off in total and breakdown for
         // principal, interest and charges
         for (final LoanRepaymentScheduleInstallment currentInstallment : installments) {
 
             if (currentInstallment.isNotFullyPaidOff()) {
-                principalPortion = principalPortion.plus(currentInstallment.writeOffOutstandingPrincipal(transactionDate, currency));
-                interestPortion = interestPortion.plus(currentInstallment.writeOffOutstandingInterest(transactionDate, currency));
-                feeChargesPortion = feeChargesPortion.plus(currentInstallment.writeOffOutstandingFeeCharges(transactionDate, currency));
-                penaltychargesPortion = penaltychargesPortion
-                        .plus(currentInstallment.writeOffOutstandingPenaltyCharges(transactionDate, currency));
+                principalPortion.add(currentInstallment.writeOffOutstandingPrincipal(transactionDate, currency));
+                interestPortion.add(currentInstallment.writeOffOutstandingInterest(transactionDate, currency));
+                feeChargesPortion.add(currentInstallment.writeOffOutstandingFeeCharges(transactionDate, currency));
+                penaltychargesPortion.add(currentInstallment.writeOffOutstandingPenaltyCharges(transactionDate, currency));
             }
         }
 
-        loanTransaction.updateComponentsAndTotal(principalPortion, interestPortion, feeChargesPortion, penaltychargesPortion);
+        loanTransaction.updateComponentsAndTotal(principalPortion.toMoney(), interestPortion.toMoney(), feeChargesPortion.toMoney(),
+                penaltychargesPortion.toMoney());
     }
 
     protected void handleChargeback(LoanTransaction loanTransaction, TransactionCtx ctx) {
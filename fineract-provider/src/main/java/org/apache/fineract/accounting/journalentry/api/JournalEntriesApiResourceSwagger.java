@@ -174,6 +174,8 @@ final class JournalEntriesApiResourceSwagger {
         @Schema(example = "2")
         public Long totalFilteredRecords;
         public List<JournalEntryTransactionItem> pageItems;
+        @Schema(example = "MXw0Mg")
+        public String nextCursor;
     }
 
 }
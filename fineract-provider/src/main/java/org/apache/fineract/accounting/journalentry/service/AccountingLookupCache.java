@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the GL account, office and closure lookups the accounting processors repeat for every leg of a transaction for
+ * the lifetime of the current transaction. Outside of a transaction every lookup goes to the repositories.
+ */
+final class AccountingLookupCache {
+
+    @SuppressWarnings("unchecked")
+    <T> T get(final String key, final Supplier<T> loader) {
+        final Map<String, Object> cache = getTransactionCache();
+        if (cache == null) {
+            return loader.get();
+        }
+        if (cache.containsKey(key)) {
+            return (T) cache.get(key);
+        }
+        final T value = loader.get();
+        cache.put(key, value);
+        return value;
+    }
+
+    private Map<String, Object> getTransactionCache() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        // kept in a synchronization, so a REQUIRES_NEW transaction gets its own cache for its own persistence context
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof LookupCacheSynchronization cacheSynchronization) {
+                return cacheSynchronization.values;
+            }
+        }
+        final LookupCacheSynchronization synchronization = new LookupCacheSynchronization();
+        TransactionSynchronizationManager.registerSynchronization(synchronization);
+        return synchronization.values;
+    }
+
+    private static final class LookupCacheSynchronization implements TransactionSynchronization {
+
+        private final Map<String, Object> values = new HashMap<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            values.clear();
+        }
+    }
+}
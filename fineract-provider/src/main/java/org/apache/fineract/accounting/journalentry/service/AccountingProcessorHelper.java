@@ -25,6 +25,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.accounting.closure.domain.GLClosure;
@@ -61,6 +62,7 @@ import org.apache.fineract.accounting.producttoaccountmapping.exception.ProductT
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.organisation.office.domain.Office;
@@ -78,6 +80,8 @@ import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionEnumD
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionRepository;
 import org.apache.fineract.portfolio.shareaccounts.data.ShareAccountTransactionEnumData;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.dao.DataAccessException;
 
 @RequiredArgsConstructor
@@ -89,6 +93,8 @@ public class AccountingProcessorHelper {
     public static final String PROVISIONING_TRANSACTION_IDENTIFIER = "P";
     public static final String SHARE_TRANSACTION_IDENTIFIER = "SH";
 
+    private static final String GL_ACCOUNT_MAPPINGS_CACHE_NAME = "glAccountMappings";
+
     private final JournalEntryRepository glJournalEntryRepository;
     private final ProductToGLAccountMappingRepository accountMappingRepository;
     private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository;
@@ -101,6 +107,9 @@ public class AccountingProcessorHelper {
     private final AccountTransfersReadPlatformService accountTransfersReadPlatformService;
     private final ChargeRepositoryWrapper chargeRepositoryWrapper;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final JournalEntryBatchWriter journalEntryBatchWriter;
+    private final CacheManager cacheManager;
+    private final AccountingLookupCache lookupCache = new AccountingLookupCache();
 
     public LoanDTO populateLoanDtoFromMap(final Map<String, Object> accountingBridgeData, final boolean cashBasedAccountingEnabled,
             final boolean upfrontAccrualBasedAccountingEnabled, final boolean periodicAccrualBasedAccountingEnabled) {
@@ -518,7 +527,7 @@ public class AccountingProcessorHelper {
     }
 
     public GLClosure getLatestClosureByBranch(final long officeId) {
-        return this.closureRepository.getLatestGLClosureByBranch(officeId);
+        return lookupCache.get("closure:" + officeId, () -> this.closureRepository.getLatestGLClosureByBranch(officeId));
     }
 
     private void createJournalEntriesForLoan(final Office office, final String currencyCode, final int accountTypeToDebitId,
@@ -895,7 +904,7 @@ public class AccountingProcessorHelper {
     }
 
     public Office getOfficeById(final long officeId) {
-        return this.officeRepository.getReferenceById(officeId);
+        return lookupCache.get("office:" + officeId, () -> this.officeRepository.getReferenceById(officeId));
     }
 
     public void createCreditJournalEntryOrReversalForLoan(final Office office, final String currencyCode, final int accountMappingTypeId,
@@ -924,7 +933,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.CLIENT.getValue(), clientId, null, null, null,
                 transactionId, null);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     private void createCreditJournalEntryForSavings(final Office office, final String currencyCode, final GLAccount account,
@@ -941,7 +950,7 @@ public class AccountingProcessorHelper {
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.SAVING.getValue(), savingsId, null, null,
                 savingsAccountTransactionId, null, null);
 
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     private void createCreditJournalEntryForLoan(final Office office, final String currencyCode, final GLAccount account, final Long loanId,
@@ -956,7 +965,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null,
                 loanTransactionId, null, null, null);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     public void createProvisioningDebitJournalEntry(LocalDate transactionDate, Long provisioningEntryId, Office office, String currencyCode,
@@ -966,7 +975,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.PROVISIONING.getValue(), provisioningEntryId,
                 null, null, null, null, null);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     public void createProvisioningCreditJournalEntry(LocalDate transactionDate, Long provisioningEntryId, Office office,
@@ -976,7 +985,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.PROVISIONING.getValue(), provisioningEntryId,
                 null, null, null, null, null);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     private void createDebitJournalEntryForLoan(final Office office, final String currencyCode, final GLAccount account, final Long loanId,
@@ -991,7 +1000,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null,
                 loanTransactionId, null, null, null);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     private void createDebitJournalEntryForSavings(final Office office, final String currencyCode, final GLAccount account,
@@ -1007,7 +1016,7 @@ public class AccountingProcessorHelper {
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.SAVING.getValue(), savingsId, null, null,
                 savingsAccountTransactionId, null, null);
 
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     private void createDebitJournalEntryForClientPayments(final Office office, final String currencyCode, final GLAccount account,
@@ -1017,7 +1026,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.CLIENT.getValue(), clientId, null, null, null,
                 transactionId, null);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     public void createJournalEntriesForShares(final Office office, final String currencyCode, final int accountTypeToDebitId,
@@ -1130,7 +1139,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.SHARES.getValue(), shareAccountId, null, null,
                 null, null, shareTransactionId);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     private void createCreditJournalEntryForShares(final Office office, final String currencyCode, final GLAccount account,
@@ -1145,10 +1154,16 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.SHARES.getValue(), shareAccountId, null, null,
                 null, null, shareTransactionId);
-        persistJournalEntry(journalEntry);
+        saveJournalEntry(journalEntry);
     }
 
     public GLAccount getLinkedGLAccountForLoanProduct(final Long loanProductId, final int accountMappingTypeId, final Long paymentTypeId) {
+        return getLinkedGLAccount("loanProduct:" + loanProductId + ":" + accountMappingTypeId + ":" + paymentTypeId,
+                () -> loadLinkedGLAccountForLoanProduct(loanProductId, accountMappingTypeId, paymentTypeId));
+    }
+
+    private GLAccount loadLinkedGLAccountForLoanProduct(final Long loanProductId, final int accountMappingTypeId,
+            final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
             FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
@@ -1182,6 +1197,11 @@ public class AccountingProcessorHelper {
     }
 
     private GLAccount getLinkedGLAccountForLoanCharges(final Long loanProductId, final int accountMappingTypeId, final Long chargeId) {
+        return getLinkedGLAccount("loanCharge:" + loanProductId + ":" + accountMappingTypeId + ":" + chargeId,
+                () -> loadLinkedGLAccountForLoanCharges(loanProductId, accountMappingTypeId, chargeId));
+    }
+
+    private GLAccount loadLinkedGLAccountForLoanCharges(final Long loanProductId, final int accountMappingTypeId, final Long chargeId) {
         ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
                 PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
         /*****
@@ -1205,6 +1225,12 @@ public class AccountingProcessorHelper {
 
     private GLAccount getLinkedGLAccountForSavingsCharges(final Long savingsProductId, final int accountMappingTypeId,
             final Long chargeId) {
+        return getLinkedGLAccount("savingsCharge:" + savingsProductId + ":" + accountMappingTypeId + ":" + chargeId,
+                () -> loadLinkedGLAccountForSavingsCharges(savingsProductId, accountMappingTypeId, chargeId));
+    }
+
+    private GLAccount loadLinkedGLAccountForSavingsCharges(final Long savingsProductId, final int accountMappingTypeId,
+            final Long chargeId) {
 
         ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
                 PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
@@ -1236,6 +1262,12 @@ public class AccountingProcessorHelper {
 
     private GLAccount getLinkedGLAccountForSavingsProduct(final Long savingsProductId, final int accountMappingTypeId,
             final Long paymentTypeId) {
+        return getLinkedGLAccount("savingsProduct:" + savingsProductId + ":" + accountMappingTypeId + ":" + paymentTypeId,
+                () -> loadLinkedGLAccountForSavingsProduct(savingsProductId, accountMappingTypeId, paymentTypeId));
+    }
+
+    private GLAccount loadLinkedGLAccountForSavingsProduct(final Long savingsProductId, final int accountMappingTypeId,
+            final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
             FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
@@ -1263,6 +1295,12 @@ public class AccountingProcessorHelper {
 
     private GLAccount getLinkedGLAccountForShareProduct(final Long shareProductId, final int accountMappingTypeId,
             final Long paymentTypeId) {
+        return getLinkedGLAccount("shareProduct:" + shareProductId + ":" + accountMappingTypeId + ":" + paymentTypeId,
+                () -> loadLinkedGLAccountForShareProduct(shareProductId, accountMappingTypeId, paymentTypeId));
+    }
+
+    private GLAccount loadLinkedGLAccountForShareProduct(final Long shareProductId, final int accountMappingTypeId,
+            final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
             FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
@@ -1286,6 +1324,11 @@ public class AccountingProcessorHelper {
     }
 
     private GLAccount getLinkedGLAccountForShareCharges(final Long shareProductId, final int accountMappingTypeId, final Long chargeId) {
+        return getLinkedGLAccount("shareCharge:" + shareProductId + ":" + accountMappingTypeId + ":" + chargeId,
+                () -> loadLinkedGLAccountForShareCharges(shareProductId, accountMappingTypeId, chargeId));
+    }
+
+    private GLAccount loadLinkedGLAccountForShareCharges(final Long shareProductId, final int accountMappingTypeId, final Long chargeId) {
         ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
                 PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
         /*****
@@ -1355,8 +1398,28 @@ public class AccountingProcessorHelper {
         }
     }
 
+    /**
+     * The GL account linked to a product or financial activity is kept for the transaction in the lookup cache and by
+     * its id in the tenant's GL account mapping cache region, which is evicted whenever the mappings change.
+     */
+    private GLAccount getLinkedGLAccount(final String key, final Supplier<GLAccount> loader) {
+        return lookupCache.get(key, () -> {
+            final Cache cache = this.cacheManager.getCache(GL_ACCOUNT_MAPPINGS_CACHE_NAME);
+            final String tenantKey = ThreadLocalContextUtil.getTenant().getTenantIdentifier().concat(key);
+            final Long glAccountId = cache == null ? null : cache.get(tenantKey, Long.class);
+            if (glAccountId != null) {
+                return getGLAccountById(glAccountId);
+            }
+            final GLAccount glAccount = loader.get();
+            if (cache != null && glAccount != null) {
+                cache.put(tenantKey, glAccount.getId());
+            }
+            return glAccount;
+        });
+    }
+
     private GLAccount getGLAccountById(final Long accountId) {
-        return this.glAccountRepository.getReferenceById(accountId);
+        return lookupCache.get("glAccount:" + accountId, () -> this.glAccountRepository.getReferenceById(accountId));
     }
 
     public Integer getValueForFeeOrPenaltyIncomeAccount(final String chargeRefundChargeType) {
@@ -1377,6 +1440,21 @@ public class AccountingProcessorHelper {
         return incomeAccount;
     }
 
+    /**
+     * Writes the journal entry legs buffered by the accounting processors in the current transaction.
+     */
+    public void flushJournalEntries() {
+        journalEntryBatchWriter.flush();
+    }
+
+    private void saveJournalEntry(final JournalEntry journalEntry) {
+        if (journalEntryBatchWriter.isBufferingAvailable()) {
+            journalEntryBatchWriter.buffer(journalEntry);
+        } else {
+            persistJournalEntry(journalEntry);
+        }
+    }
+
     public JournalEntry persistJournalEntry(JournalEntry journalEntry) {
         boolean isNew = journalEntry.isNew();
         JournalEntry savedJournalEntry = this.glJournalEntryRepository.saveAndFlush(journalEntry);
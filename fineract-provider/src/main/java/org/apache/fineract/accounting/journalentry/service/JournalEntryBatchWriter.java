@@ -0,0 +1,195 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the journal entry legs created by the accounting processors within a transaction and writes them into
+ * acc_gl_journal_entry with a single JDBC batch insert.
+ *
+ * The buffer is written when {@link #flush()} is called at the end of an accounting bridge call, so journal entries are
+ * visible to the rest of the transaction the same way as before, and right before the transaction commits for anything
+ * left over. Rolled back transactions simply drop their buffer.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JournalEntryBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO acc_gl_journal_entry (office_id, payment_details_id, account_id, "
+            + "currency_code, transaction_id, loan_transaction_id, savings_transaction_id, client_transaction_id, share_transaction_id, "
+            + "reversed, manual_entry, entry_date, type_enum, amount, description, entity_type_enum, entity_id, ref_num, "
+            + "submitted_on_date, created_by, created_on_utc, last_modified_by, last_modified_on_utc) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
+    private final AuditorAware<Long> auditorAware;
+    private final BusinessEventNotifierService businessEventNotifierService;
+
+    private EntityManager entityManager;
+
+    public boolean isBufferingAvailable() {
+        return isBatchInsertEnabled() && TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    public void buffer(JournalEntry journalEntry) {
+        getOrRegisterBuffer().add(journalEntry);
+    }
+
+    /**
+     * Writes the journal entries buffered so far in the current transaction.
+     */
+    public void flush() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        final JournalEntryBufferSynchronization synchronization = findBufferSynchronization();
+        if (synchronization != null) {
+            synchronization.writeAndClear();
+        }
+    }
+
+    private List<JournalEntry> getOrRegisterBuffer() {
+        // the buffer lives in the synchronization, because synchronizations are suspended together with their
+        // transaction while plain bound resources are not (e.g. for REQUIRES_NEW)
+        JournalEntryBufferSynchronization synchronization = findBufferSynchronization();
+        if (synchronization == null) {
+            synchronization = new JournalEntryBufferSynchronization();
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        }
+        return synchronization.journalEntries;
+    }
+
+    private JournalEntryBufferSynchronization findBufferSynchronization() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof JournalEntryBufferSynchronization bufferSynchronization) {
+                return bufferSynchronization;
+            }
+        }
+        return null;
+    }
+
+    void write(final List<JournalEntry> journalEntries) {
+        if (journalEntries.isEmpty()) {
+            return;
+        }
+        // the legs reference transactions and payment details which may not have been flushed by JPA yet
+        entityManager.flush();
+
+        final Long auditor = auditorAware.getCurrentAuditor().orElse(null);
+        final OffsetDateTime now = DateUtils.getAuditOffsetDateTime();
+        final List<Object[]> params = new ArrayList<>(journalEntries.size());
+        for (JournalEntry journalEntry : journalEntries) {
+            journalEntry.setCreatedBy(auditor);
+            journalEntry.setCreatedDate(now);
+            journalEntry.setLastModifiedBy(auditor);
+            journalEntry.setLastModifiedDate(now);
+            params.add(new Object[] { journalEntry.getOffice().getId(),
+                    journalEntry.getPaymentDetail() == null ? null : journalEntry.getPaymentDetail().getId(),
+                    journalEntry.getGlAccount().getId(), journalEntry.getCurrencyCode(), journalEntry.getTransactionId(),
+                    journalEntry.getLoanTransactionId(), journalEntry.getSavingsTransactionId(), journalEntry.getClientTransactionId(),
+                    journalEntry.getShareTransactionId(), journalEntry.isReversed(), journalEntry.isManualEntry(),
+                    journalEntry.getTransactionDate(), journalEntry.getType(), journalEntry.getAmount(), journalEntry.getDescription(),
+                    journalEntry.getEntityType(), journalEntry.getEntityId(), journalEntry.getReferenceNumber(),
+                    journalEntry.getSubmittedOnDate(), auditor, now, auditor, now });
+        }
+
+        final GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        new ArgumentPreparedStatementSetter(params.get(i)).setValues(ps);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return params.size();
+                    }
+                }, keyHolder);
+        final List<Long> ids = sqlGenerator.fetchPKs(keyHolder);
+        for (int i = 0; i < journalEntries.size(); i++) {
+            journalEntries.get(i).setId(ids.get(i));
+        }
+        log.debug("Inserted {} journal entries in batch", journalEntries.size());
+
+        for (JournalEntry journalEntry : journalEntries) {
+            if (journalEntry.getLoanTransactionId() != null) {
+                businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(journalEntry));
+            }
+        }
+    }
+
+    private boolean isBatchInsertEnabled() {
+        return fineractProperties.getAccounting().isJournalEntryBatchInsertEnabled();
+    }
+
+    @PersistenceContext
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    private final class JournalEntryBufferSynchronization implements TransactionSynchronization {
+
+        private final List<JournalEntry> journalEntries = new ArrayList<>();
+
+        private void writeAndClear() {
+            // a copy is written, so listeners of the created events may buffer further journal entries
+            final List<JournalEntry> written = new ArrayList<>(journalEntries);
+            journalEntries.clear();
+            write(written);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writeAndClear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            journalEntries.clear();
+        }
+    }
+}
@@ -47,6 +47,7 @@ import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.Page;
+import org.apache.fineract.infrastructure.core.service.PageCursor;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -239,10 +240,10 @@ public class JournalEntryReadPlatformServiceImpl implements JournalEntryReadPlat
 
         GLJournalEntryMapper rm = new GLJournalEntryMapper(associationParametersData);
         final StringBuilder sqlBuilder = new StringBuilder(200);
-        sqlBuilder.append("select ").append(sqlGenerator.calcFoundRows()).append(" ");
+        sqlBuilder.append("select ").append(paginationHelper.calcFoundRows(searchParameters)).append(" ");
         sqlBuilder.append(rm.schema());
 
-        final Object[] objectArray = new Object[15];
+        final Object[] objectArray = new Object[18];
         int arrayPos = 0;
         String whereClose = " where ";
 
@@ -352,6 +353,18 @@ public class JournalEntryReadPlatformServiceImpl implements JournalEntryReadPlat
                     " journalEntry.savings_transaction_id in (select id from m_savings_account_transaction where savings_account_id = ?)");
             objectArray[arrayPos] = searchParameters.getSavingsId();
             arrayPos = arrayPos + 1;
+
+            whereClose = " and ";
+        }
+
+        // continues after the last row of the previous page in the default order of entry date and id
+        final PageCursor cursor = this.paginationHelper.getCursor(searchParameters, 2);
+        if (cursor != null) {
+            sqlBuilder.append(whereClose).append(" (journalEntry.entry_date > ? or (journalEntry.entry_date = ? and journalEntry.id > ?))");
+            objectArray[arrayPos] = cursor.getLocalDate(0);
+            objectArray[arrayPos + 1] = cursor.getLocalDate(0);
+            objectArray[arrayPos + 2] = cursor.getLong(1);
+            arrayPos = arrayPos + 3;
         }
 
         if (searchParameters.hasOrderBy()) {
@@ -376,7 +389,8 @@ public class JournalEntryReadPlatformServiceImpl implements JournalEntryReadPlat
         }
 
         final Object[] finalObjectArray = Arrays.copyOf(objectArray, arrayPos);
-        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, rm);
+        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, rm, searchParameters,
+                entry -> PageCursor.of(entry.getTransactionDate(), entry.getId()));
     }
 
     @Override
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.common.AccountingEnumerations;
@@ -35,25 +36,59 @@ import org.apache.fineract.accounting.journalentry.data.JournalEntryData;
 import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractRunningBalanceProperties;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntryRunningBalanceUpdateService {
 
+    private static final String ACCOUNTS_TO_UPDATE_SQL = "select je.account_id as accountId, min(je.entry_date) as fromDate, "
+            + "glAccount.classification_enum as classification from acc_gl_journal_entry je "
+            + "join acc_gl_account glAccount on glAccount.id = je.account_id where je.is_running_balance_calculated = false "
+            + "group by je.account_id, glAccount.classification_enum";
+
+    private static final String ACCOUNT_ENTRIES_SELECT = "select je.id as id, je.office_id as officeId, je.entry_date as entryDate, "
+            + "je.type_enum as entryType, je.amount as amount from acc_gl_journal_entry je where je.account_id = ? ";
+    private static final String ACCOUNT_ENTRIES_SQL = ACCOUNT_ENTRIES_SELECT + "and je.entry_date >= ? order by je.entry_date, je.id ";
+    private static final String ACCOUNT_ENTRIES_AFTER_SQL = ACCOUNT_ENTRIES_SELECT
+            + "and (je.entry_date > ? or (je.entry_date = ? and je.id > ?)) order by je.entry_date, je.id ";
+
+    private static final String LAST_OFFICE_ENTRIES_SQL = "select je.office_id, je.entry_date, je.id as journal_entry_id, "
+            + "je.office_running_balance from acc_gl_journal_entry je join (select max(x.id) as id from acc_gl_journal_entry x "
+            + "join (select office_id, max(entry_date) as entry_date from acc_gl_journal_entry where account_id = ? and entry_date < ? "
+            + "group by office_id) last_date on last_date.office_id = x.office_id and last_date.entry_date = x.entry_date "
+            + "where x.account_id = ? group by x.office_id) last_entry on last_entry.id = je.id";
+
+    private static final RowMapper<AccountJournalEntry> ACCOUNT_ENTRY_MAPPER = (rs, rowNum) -> new AccountJournalEntry(rs.getLong("id"),
+            rs.getLong("officeId"), JdbcSupport.getLocalDate(rs, "entryDate"), JournalEntryType.fromInt(rs.getInt("entryType")),
+            rs.getBigDecimal("amount"));
+
+    private static final RowMapper<OfficeRunningBalance> OFFICE_RUNNING_BALANCE_MAPPER = (rs, rowNum) -> new OfficeRunningBalance(
+            rs.getLong("office_id"), JdbcSupport.getLocalDate(rs, "entry_date"), rs.getLong("journal_entry_id"),
+            rs.getBigDecimal("office_running_balance"));
+
     private final JdbcTemplate jdbcTemplate;
 
     private final OfficeRepositoryWrapper officeRepositoryWrapper;
@@ -67,16 +102,30 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
 
     private final PlatformSecurityContext platformSecurityContext;
 
+    private final PlatformTransactionManager transactionManager;
+
+    private final FineractProperties fineractProperties;
+
+    @Qualifier(TaskExecutorConstant.RUNNING_BALANCE_TASK_EXECUTOR_BEAN_NAME)
+    private final TaskExecutor runningBalanceTaskExecutor;
+
     @Override
     public void updateRunningBalance() {
-        String dateFinder = "select MIN(je.entry_date) as entityDate from acc_gl_journal_entry  je "
-                + "where je.is_running_balance_calculated=false ";
-        try {
-            LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class);
-            updateOrganizationRunningBalance(entityDate);
-        } catch (EmptyResultDataAccessException e) {
+        final List<AccountToUpdate> accounts = jdbcTemplate.query(ACCOUNTS_TO_UPDATE_SQL, (rs, rowNum) -> new AccountToUpdate(
+                rs.getLong("accountId"), JdbcSupport.getLocalDate(rs, "fromDate"), GLAccountType.fromInt(rs.getInt("classification"))));
+        if (accounts.isEmpty()) {
             log.debug("No results found for updation of running balance ");
+            return;
         }
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final FineractRunningBalanceProperties properties = fineractProperties.getAccounting().getRunningBalance();
+        // the running balances of the GL accounts do not depend on each other, so they are calculated in parallel
+        final List<CompletableFuture<Void>> results = accounts.stream()
+                .map(account -> CompletableFuture.runAsync(
+                        () -> updateAccountRunningBalance(account, properties.getBatchSize(), userId, context), runningBalanceTaskExecutor))
+                .toList();
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
     }
 
     @Override
@@ -103,89 +152,83 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
         return commandProcessingResultBuilder.build();
     }
 
-    private void updateOrganizationRunningBalance(LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-        Map<Long, Map<Long, BigDecimal>> officesRunningBalance = new HashMap<>();
-
-        final String organizationRunningBalanceQuery = "select je.organization_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(organizationRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-
-        for (Map<String, Object> entries : list) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString()); // Drizzle
-                                                                                  // is
-                                                                                  // returning
-                                                                                  // Big
-                                                                                  // Integer
-                                                                                  // where
-                                                                                  // as
-                                                                                  // MySQL
-                                                                                  // returns
-                                                                                  // Long.
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
-            }
+    private void updateAccountRunningBalance(final AccountToUpdate account, final int batchSize, final Long userId,
+            final FineractContext context) {
+        ThreadLocalContextUtil.init(context);
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> calculateAccountRunningBalance(account, batchSize, userId));
+        } catch (RuntimeException e) {
+            log.error("Failed to update the running balance of GL account {}", account.accountId, e);
+            throw e;
+        } finally {
+            ThreadLocalContextUtil.reset();
         }
+    }
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId,je.office_id as officeId "
-                + "from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by office_id,account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by office_id,account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+    /**
+     * Recalculates the running balances of every journal entry of the GL account from the date of its first journal entry
+     * with no calculated running balance, in batches in the order of the entry date and id, and stores the closing office
+     * balances as the opening balances of the next run.
+     */
+    private void calculateAccountRunningBalance(final AccountToUpdate account, final int batchSize, final Long userId) {
+        final Map<Long, OfficeRunningBalance> officeBalances = new HashMap<>();
+        BigDecimal organizationRunningBalance = BigDecimal.ZERO;
+        for (OfficeRunningBalance openingBalance : getOpeningBalances(account)) {
+            officeBalances.put(openingBalance.officeId, openingBalance);
+            organizationRunningBalance = organizationRunningBalance.add(openingBalance.runningBalance);
+        }
 
-        List<Map<String, Object>> officesRunningBalanceList = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-        for (Map<String, Object> entries : officesRunningBalanceList) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString());
-            Long officeId = Long.parseLong(entries.get("officeId").toString());
-            Map<Long, BigDecimal> runningBalance;
-            if (officesRunningBalance.containsKey(officeId)) {
-                runningBalance = officesRunningBalance.get(officeId);
-            } else {
-                runningBalance = new HashMap<>();
-                officesRunningBalance.put(officeId, runningBalance);
+        final String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
+                + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
+        final List<Object[]> params = new ArrayList<>(batchSize);
+        List<AccountJournalEntry> entries = jdbcTemplate.query(ACCOUNT_ENTRIES_SQL + sqlGenerator.limit(batchSize), ACCOUNT_ENTRY_MAPPER,
+                account.accountId, account.fromDate);
+        while (!entries.isEmpty()) {
+            for (AccountJournalEntry entry : entries) {
+                final BigDecimal amount = isIncrease(account.accountType, entry.entryType) ? entry.amount : entry.amount.negate();
+                final OfficeRunningBalance officeBalance = officeBalances.computeIfAbsent(entry.officeId,
+                        officeId -> new OfficeRunningBalance(officeId, null, null, BigDecimal.ZERO));
+                officeBalance.add(entry, amount);
+                organizationRunningBalance = organizationRunningBalance.add(amount);
+                params.add(new Object[] { Boolean.TRUE, organizationRunningBalance, officeBalance.runningBalance, userId,
+                        DateUtils.getAuditOffsetDateTime(), entry.id });
             }
-            if (!runningBalance.containsKey(accountId)) {
-                runningBalance.put(accountId, (BigDecimal) entries.get("runningBalance"));
+            jdbcTemplate.batchUpdate(sql, params);
+            params.clear();
+            if (entries.size() < batchSize) {
+                break;
             }
+            final AccountJournalEntry last = entries.get(entries.size() - 1);
+            entries = jdbcTemplate.query(ACCOUNT_ENTRIES_AFTER_SQL + sqlGenerator.limit(batchSize), ACCOUNT_ENTRY_MAPPER,
+                    account.accountId, last.entryDate, last.entryDate, last.id);
         }
 
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema(), entryMapper, entityDate);
-        if (entryDataList.size() > 0) {
-            // run a batch update of 1000 SQL statements at a time
-            final int batchUpdateSize = 1000;
-            List<Object[]> params = new ArrayList<>();
-            int batchIndex = 0;
-            String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
-                    + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-            for (int index = 0; index < entryDataList.size(); index++) {
-                JournalEntryData entryData = entryDataList.get(index);
-                Map<Long, BigDecimal> officeRunningBalanceMap;
-                if (officesRunningBalance.containsKey(entryData.getOfficeId())) {
-                    officeRunningBalanceMap = officesRunningBalance.get(entryData.getOfficeId());
-                } else {
-                    officeRunningBalanceMap = new HashMap<>();
-                    officesRunningBalance.put(entryData.getOfficeId(), officeRunningBalanceMap);
-                }
-                BigDecimal officeRunningBalance = calculateRunningBalance(entryData, officeRunningBalanceMap);
-                BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-
-                params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance,
-                        platformSecurityContext.authenticatedUser().getId(), DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-                batchIndex++;
-                if (batchIndex == batchUpdateSize || index == entryDataList.size() - 1) {
-                    this.jdbcTemplate.batchUpdate(sql, params);
-                    // reset counter and string array
-                    batchIndex = 0;
-                    params.clear();
-                }
-            }
-        }
+        jdbcTemplate.update("DELETE FROM acc_gl_account_running_balance WHERE account_id=?", account.accountId);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO acc_gl_account_running_balance (account_id, office_id, entry_date, journal_entry_id, office_running_balance) "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                officeBalances.values().stream().filter(balance -> balance.journalEntryId != null).map(balance -> new Object[] {
+                        account.accountId, balance.officeId, balance.entryDate, balance.journalEntryId, balance.runningBalance })
+                        .toList());
+    }
 
+    /**
+     * The stored office balances are the opening balances, if all of them were taken before the first date to calculate.
+     * Otherwise (journal entries were backdated before them, or no balances were stored for the account yet) they are looked
+     * up from the last journal entry of each office before that date.
+     */
+    private List<OfficeRunningBalance> getOpeningBalances(final AccountToUpdate account) {
+        final List<OfficeRunningBalance> storedBalances = jdbcTemplate.query(
+                "select office_id, entry_date, journal_entry_id, office_running_balance from acc_gl_account_running_balance "
+                        + "where account_id = ?",
+                OFFICE_RUNNING_BALANCE_MAPPER, account.accountId);
+        if (!storedBalances.isEmpty()
+                && storedBalances.stream().allMatch(balance -> DateUtils.isBefore(balance.entryDate, account.fromDate))) {
+            return storedBalances;
+        }
+        return jdbcTemplate.query(LAST_OFFICE_ENTRIES_SQL, OFFICE_RUNNING_BALANCE_MAPPER, account.accountId, account.fromDate,
+                account.accountId);
     }
 
     private void updateRunningBalance(Long officeId, LocalDate entityDate) {
@@ -224,23 +267,7 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
         }
         GLAccountType accountType = GLAccountType.fromInt(entry.getGlAccountType().getId().intValue());
         JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType().getId().intValue());
-        boolean isIncrease = false;
-        switch (accountType) {
-            case ASSET:
-            case EXPENSE:
-                if (entryType.isDebitType()) {
-                    isIncrease = true;
-                }
-            break;
-            case EQUITY:
-            case INCOME:
-            case LIABILITY:
-                if (entryType.isCreditType()) {
-                    isIncrease = true;
-                }
-            break;
-        }
-        if (isIncrease) {
+        if (isIncrease(accountType, entryType)) {
             runningBalance = runningBalance.add(entry.getAmount());
         } else {
             runningBalance = runningBalance.subtract(entry.getAmount());
@@ -249,6 +276,13 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
         return runningBalance;
     }
 
+    private static boolean isIncrease(final GLAccountType accountType, final JournalEntryType entryType) {
+        return switch (accountType) {
+            case ASSET, EXPENSE -> entryType.isDebitType();
+            case EQUITY, INCOME, LIABILITY -> entryType.isCreditType();
+        };
+    }
+
     private static final class GLJournalEntryMapper implements RowMapper<JournalEntryData> {
 
         public String officeRunningBalanceSchema() {
@@ -258,13 +292,6 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
                     + "and je.office_id=? and je.entry_date >= ? order by je.entry_date,je.id";
         }
 
-        public String organizationRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId," + "je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId  "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.entry_date >= ? order by je.entry_date,je.id";
-        }
-
         @Override
         public JournalEntryData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
 
@@ -282,4 +309,60 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
         }
     }
 
+    private static final class AccountToUpdate {
+
+        private final Long accountId;
+        private final LocalDate fromDate;
+        private final GLAccountType accountType;
+
+        private AccountToUpdate(final Long accountId, final LocalDate fromDate, final GLAccountType accountType) {
+            this.accountId = accountId;
+            this.fromDate = fromDate;
+            this.accountType = accountType;
+        }
+    }
+
+    private static final class AccountJournalEntry {
+
+        private final Long id;
+        private final Long officeId;
+        private final LocalDate entryDate;
+        private final JournalEntryType entryType;
+        private final BigDecimal amount;
+
+        private AccountJournalEntry(final Long id, final Long officeId, final LocalDate entryDate, final JournalEntryType entryType,
+                final BigDecimal amount) {
+            this.id = id;
+            this.officeId = officeId;
+            this.entryDate = entryDate;
+            this.entryType = entryType;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * Running balance of a GL account in an office as of its last journal entry.
+     */
+    private static final class OfficeRunningBalance {
+
+        private final Long officeId;
+        private LocalDate entryDate;
+        private Long journalEntryId;
+        private BigDecimal runningBalance;
+
+        private OfficeRunningBalance(final Long officeId, final LocalDate entryDate, final Long journalEntryId,
+                final BigDecimal runningBalance) {
+            this.officeId = officeId;
+            this.entryDate = entryDate;
+            this.journalEntryId = journalEntryId;
+            this.runningBalance = runningBalance;
+        }
+
+        private void add(final AccountJournalEntry entry, final BigDecimal amount) {
+            this.entryDate = entry.entryDate;
+            this.journalEntryId = entry.id;
+            this.runningBalance = this.runningBalance.add(amount);
+        }
+    }
+
 }
@@ -428,6 +428,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
             createJournalEntry(provisioningEntry.getCreatedDate(), provisioningEntry.getId(), entry.getKey().office,
                     entry.getKey().currency, liabilityMap, expenseMap);
         }
+        this.helper.flushJournalEntries();
         return "P" + provisioningEntry.getId();
     }
 
@@ -470,6 +471,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
             final AccountingProcessorForLoan accountingProcessorForLoan = this.accountingProcessorForLoanFactory
                     .determineProcessor(loanDTO);
             accountingProcessorForLoan.createJournalEntriesForLoan(loanDTO);
+            this.helper.flushJournalEntries();
         }
     }
 
@@ -486,6 +488,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
             final AccountingProcessorForSavings accountingProcessorForSavings = this.accountingProcessorForSavingsFactory
                     .determineProcessor(savingsDTO);
             accountingProcessorForSavings.createJournalEntriesForSavings(savingsDTO);
+            this.helper.flushJournalEntries();
         }
     }
 
@@ -502,6 +505,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
             final AccountingProcessorForShares accountingProcessorForShares = this.accountingProcessorForSharesFactory
                     .determineProcessor(sharesDTO);
             accountingProcessorForShares.createJournalEntriesForShares(sharesDTO);
+            this.helper.flushJournalEntries();
         }
 
     }
@@ -736,6 +740,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
     public void createJournalEntriesForClientTransactions(Map<String, Object> accountingBridgeData) {
         final ClientTransactionDTO clientTransactionDTO = this.helper.populateClientTransactionDtoFromMap(accountingBridgeData);
         accountingProcessorForClientTransactions.createJournalEntriesForClientTransaction(clientTransactionDTO);
+        this.helper.flushJournalEntries();
     }
 
     private static class OfficeCurrencyKey {
@@ -29,12 +29,14 @@ import org.apache.fineract.accounting.journalentry.service.AccountingProcessorFo
 import org.apache.fineract.accounting.journalentry.service.AccountingProcessorForSharesFactory;
 import org.apache.fineract.accounting.journalentry.service.AccountingProcessorHelper;
 import org.apache.fineract.accounting.journalentry.service.CashBasedAccountingProcessorForClientTransactions;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatformService;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatformServiceImpl;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformServiceJpaRepositoryImpl;
 import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
 import org.apache.fineract.accounting.rule.domain.AccountingRuleRepository;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
@@ -50,9 +52,12 @@ import org.apache.fineract.portfolio.client.domain.ClientTransactionRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
 import org.apache.fineract.portfolio.paymentdetail.service.PaymentDetailWritePlatformService;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
@@ -67,11 +72,20 @@ public class AccountingJournalEntryConfiguration {
             ClientTransactionRepository clientTransactionRepository,
             SavingsAccountTransactionRepository savingsAccountTransactionRepository,
             AccountTransfersReadPlatformService accountTransfersReadPlatformService, ChargeRepositoryWrapper chargeRepositoryWrapper,
-            BusinessEventNotifierService businessEventNotifierService) {
+            BusinessEventNotifierService businessEventNotifierService, JournalEntryBatchWriter journalEntryBatchWriter,
+            @Qualifier("runtimeDelegatingCacheManager") CacheManager cacheManager) {
         return new AccountingProcessorHelper(glJournalEntryRepository, accountMappingRepository, financialActivityAccountRepository,
                 closureRepository, glAccountRepository, officeRepository, loanTransactionRepository, clientTransactionRepository,
                 savingsAccountTransactionRepository, accountTransfersReadPlatformService, chargeRepositoryWrapper,
-                businessEventNotifierService);
+                businessEventNotifierService, journalEntryBatchWriter, cacheManager);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(JournalEntryBatchWriter.class)
+    public JournalEntryBatchWriter journalEntryBatchWriter(JdbcTemplate jdbcTemplate, DatabaseSpecificSQLGenerator sqlGenerator,
+            FineractProperties fineractProperties, AuditorAware<Long> auditorAware,
+            BusinessEventNotifierService businessEventNotifierService) {
+        return new JournalEntryBatchWriter(jdbcTemplate, sqlGenerator, fineractProperties, auditorAware, businessEventNotifierService);
     }
 
     @Bean
@@ -28,12 +28,14 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.boot.FineractProfiles;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -50,6 +52,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 public class InternalLoanAccountLockApiResource implements InitializingBean {
 
     private final LoanAccountLockRepository loanAccountLockRepository;
+    private final LoanCOBStateCache loanCOBStateCache;
 
     @Override
     @SuppressFBWarnings("SLF4J_SIGN_ONLY_FORMAT")
@@ -84,6 +87,7 @@ public class InternalLoanAccountLockApiResource implements InitializingBean {
             loanAccountLock.setError(error, error);
         }
         loanAccountLockRepository.save(loanAccountLock);
+        loanCOBStateCache.evict(List.of(loanId));
         return Response.status(Response.Status.ACCEPTED).build();
     }
 
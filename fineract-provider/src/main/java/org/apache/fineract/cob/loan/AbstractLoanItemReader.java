@@ -18,8 +18,17 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +39,10 @@ import org.apache.fineract.portfolio.loanaccount.exception.LoanNotFoundException
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterChunkError;
 import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ItemReader;
 
 @Slf4j
@@ -42,17 +54,110 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
     @Setter(AccessLevel.PROTECTED)
     private LinkedBlockingQueue<Long> remainingData;
 
+    /**
+     * Number of loans loaded together with their repayment schedule, transactions, charges and term variations when
+     * the local buffer of the reading thread runs empty. A value of 1 (the default) keeps the one-by-one
+     * {@link LoanRepository#findById(Object)} behaviour.
+     */
+    @Getter
+    @Setter
+    private int prefetchDepth = 1;
+
+    /**
+     * Number of loans read by a chunk. Prefetching never loads more loans than the current chunk still reads, since the
+     * unread ones would be given back and loaded again by the next chunk. A value of 0 leaves the prefetch unbounded.
+     */
+    @Getter
+    @Setter
+    private int chunkSize;
+
+    // Prefetched loans are attached to the persistence context of the chunk transaction that loaded them, so every
+    // thread of a multithreaded step keeps its own buffer and gives back the unused loan IDs when the chunk ends
+    private final ThreadLocal<PrefetchBuffer> prefetchBuffer = ThreadLocal.withInitial(PrefetchBuffer::new);
+
     @Override
     public Loan read() throws Exception {
+        if (prefetchDepth > 1) {
+            return readPrefetched();
+        }
         final Long loanId = remainingData.poll();
         if (loanId != null) {
+            return loadLoan(loanId);
+        }
+        return null;
+    }
+
+    private Loan loadLoan(Long loanId) throws LoanReadException {
+        try {
+            return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+        } catch (Exception e) {
+            throw new LoanReadException(loanId, e);
+        }
+    }
+
+    private Loan readPrefetched() throws Exception {
+        PrefetchBuffer buffer = prefetchBuffer.get();
+        if (buffer.loanIds.isEmpty()) {
+            int batchSize = getPrefetchBatchSize(buffer);
+            List<Long> loanIds = new ArrayList<>(batchSize);
+            remainingData.drainTo(loanIds, batchSize);
+            if (loanIds.isEmpty()) {
+                return null;
+            }
             try {
-                return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+                buffer.loans.putAll(prefetch(loanIds));
             } catch (Exception e) {
-                throw new LoanReadException(loanId, e);
+                log.warn("Prefetching loans {} failed, falling back to loading them one by one", loanIds, e);
+                remainingData.addAll(loanIds.subList(1, loanIds.size()));
+                buffer.readCount++;
+                return loadLoan(loanIds.get(0));
             }
+            buffer.loanIds.addAll(loanIds);
         }
-        return null;
+        final Long loanId = buffer.loanIds.poll();
+        buffer.readCount++;
+        Loan loan = buffer.loans.remove(loanId);
+        if (loan == null) {
+            throw new LoanReadException(loanId, new LoanNotFoundException(loanId));
+        }
+        return loan;
+    }
+
+    private int getPrefetchBatchSize(PrefetchBuffer buffer) {
+        if (chunkSize <= 0) {
+            return prefetchDepth;
+        }
+        return Math.max(1, Math.min(prefetchDepth, chunkSize - buffer.readCount));
+    }
+
+    private Map<Long, Loan> prefetch(List<Long> loanIds) {
+        // the follow-up queries return the same managed instances and initialize one association each, which avoids
+        // both the N+1 lazy loads and the cartesian product of fetching several bags in a single query
+        Map<Long, Loan> loansById = loanRepository.findAllByIdsWithRepaymentScheduleInstallments(loanIds).stream()
+                .collect(Collectors.toMap(Loan::getId, Function.identity(), (first, second) -> first));
+        if (!loansById.isEmpty()) {
+            List<Long> foundLoanIds = List.copyOf(loansById.keySet());
+            loanRepository.findAllByIdsWithLoanTransactions(foundLoanIds);
+            loanRepository.findAllByIdsWithCharges(foundLoanIds);
+            loanRepository.findAllByIdsWithLoanTermVariations(foundLoanIds);
+        }
+        return loansById;
+    }
+
+    @AfterChunk
+    public void afterChunk(@NotNull ChunkContext context) {
+        releasePrefetchedLoans();
+    }
+
+    @AfterChunkError
+    public void afterChunkError(@NotNull ChunkContext context) {
+        releasePrefetchedLoans();
+    }
+
+    private void releasePrefetchedLoans() {
+        PrefetchBuffer buffer = prefetchBuffer.get();
+        remainingData.addAll(buffer.loanIds);
+        prefetchBuffer.remove();
     }
 
     @AfterStep
@@ -60,4 +165,10 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
         return ExitStatus.COMPLETED;
     }
 
+    private static final class PrefetchBuffer {
+
+        private final Deque<Long> loanIds = new ArrayDeque<>();
+        private final Map<Long, Loan> loans = new HashMap<>();
+        private int readCount;
+    }
 }
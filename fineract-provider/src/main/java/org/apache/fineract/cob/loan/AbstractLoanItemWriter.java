@@ -18,10 +18,14 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.jetbrains.annotations.NotNull;
@@ -33,6 +37,7 @@ import org.springframework.batch.item.data.RepositoryItemWriter;
 public abstract class AbstractLoanItemWriter extends RepositoryItemWriter<Loan> {
 
     private final LoanLockingService loanLockingService;
+    private final LoanCOBStateCache loanCOBStateCache;
 
     @Override
     public void write(@NotNull Chunk<? extends Loan> items) throws Exception {
@@ -40,6 +45,12 @@ public abstract class AbstractLoanItemWriter extends RepositoryItemWriter<Loan>
             super.write(items);
             List<Long> loanIds = items.getItems().stream().map(AbstractPersistableCustom::getId).toList();
             loanLockingService.deleteByLoanIdInAndLockOwner(loanIds, getLockOwner());
+            Map<LocalDate, List<Long>> loanIdsByClosedBusinessDate = items.getItems().stream()
+                    .filter(loan -> loan.getLastClosedBusinessDate() != null)
+                    .collect(Collectors.groupingBy(Loan::getLastClosedBusinessDate,
+                            Collectors.mapping(AbstractPersistableCustom::getId, Collectors.toList())));
+            loanIdsByClosedBusinessDate.forEach((closedBusinessDate, closedLoanIds) -> loanCOBStateCache
+                    .markUpToDateAfterCommit(closedLoanIds, closedBusinessDate));
         }
     }
 
@@ -24,6 +24,7 @@ import org.apache.fineract.cob.common.InitialisationTasklet;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.BatchWorkerCondition;
 import org.apache.fineract.cob.listener.ChunkProcessingLoanItemListener;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -80,6 +81,8 @@ public class LoanCOBWorkerConfiguration {
     private FineractProperties fineractProperties;
     @Autowired
     private LoanLockingService loanLockingService;
+    @Autowired
+    private LoanCOBStateCache loanCOBStateCache;
 
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
@@ -177,7 +180,11 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchDepth(propertyService.getPrefetchDepth(LoanCOBConstant.JOB_NAME));
+        loanItemReader.setChunkSize(propertyService.getChunkSize(LoanCOBConstant.JOB_NAME));
+        return loanItemReader;
     }
 
     @Bean
@@ -189,7 +196,7 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemWriter cobWorkerItemWriter() {
-        LoanItemWriter repositoryItemWriter = new LoanItemWriter(loanLockingService);
+        LoanItemWriter repositoryItemWriter = new LoanItemWriter(loanLockingService, loanCOBStateCache);
         repositoryItemWriter.setRepository(loanRepository);
         return repositoryItemWriter;
     }
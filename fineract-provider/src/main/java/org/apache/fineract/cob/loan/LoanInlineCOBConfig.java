@@ -23,6 +23,7 @@ import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
 import org.apache.fineract.cob.listener.InlineCOBLoanItemListener;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.jobs.domain.CustomJobParameterRepository;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -68,6 +69,8 @@ public class LoanInlineCOBConfig {
 
     @Autowired
     private LoanLockingService loanLockingService;
+    @Autowired
+    private LoanCOBStateCache loanCOBStateCache;
 
     @Bean
     public InlineLoanCOBBuildExecutionContextTasklet inlineLoanCOBBuildExecutionContextTasklet() {
@@ -116,7 +119,7 @@ public class LoanInlineCOBConfig {
 
     @Bean
     public InlineCOBLoanItemWriter inlineCobWorkerItemWriter() {
-        InlineCOBLoanItemWriter repositoryItemWriter = new InlineCOBLoanItemWriter(loanLockingService);
+        InlineCOBLoanItemWriter repositoryItemWriter = new InlineCOBLoanItemWriter(loanLockingService, loanCOBStateCache);
         repositoryItemWriter.setRepository(loanRepository);
         return repositoryItemWriter;
     }
@@ -26,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -60,6 +61,7 @@ public class LoanLockingServiceImpl implements LoanLockingService {
     private final JdbcTemplate jdbcTemplate;
     private final FineractProperties fineractProperties;
     private final LoanAccountLockRepository loanAccountLockRepository;
+    private final LoanCOBStateCache loanCOBStateCache;
 
     @Override
     public void upgradeLock(List<Long> accountsToLock, LockOwner lockOwner) {
@@ -100,6 +102,7 @@ public class LoanLockingServiceImpl implements LoanLockingService {
             ps.setObject(4, DateUtils.getAuditOffsetDateTime());
             ps.setObject(5, cobBusinessDate);
         });
+        loanCOBStateCache.evict(loanIds);
     }
 
     @Override
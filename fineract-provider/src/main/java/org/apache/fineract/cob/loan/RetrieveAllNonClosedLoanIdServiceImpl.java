@@ -72,6 +72,11 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         return loanRepository.findAllNonClosedLoansBehindByLoanIds(businessDate, loanIds);
     }
 
+    @Override
+    public List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindOrUpToDate(LocalDate businessDate, List<Long> loanIds) {
+        return loanRepository.findAllLoansBehindOrUpToDateByLoanIds(businessDate, loanIds);
+    }
+
     @Override
     public List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindDateOrNull(LocalDate businessDate, List<Long> loanIds) {
         return loanRepository.findAllNonClosedLoansBehindOrNullByLoanIds(businessDate, loanIds);
@@ -32,6 +32,8 @@ public interface RetrieveLoanIdService {
 
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindDate(LocalDate businessDate, List<Long> loanIds);
 
+    List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindOrUpToDate(LocalDate businessDate, List<Long> loanIds);
+
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindDateOrNull(LocalDate businessDate, List<Long> loanIds);
 
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsOldestCobProcessed(LocalDate businessDate);
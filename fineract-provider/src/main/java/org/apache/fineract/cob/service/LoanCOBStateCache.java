@@ -0,0 +1,157 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tenant scoped bitmap of the loans which are known to be closed by COB up to the current COB date.
+ *
+ * Such a loan is not behind, so the loan COB API filter skips the last closed business date query and inline COB for
+ * these loans. A loan is only marked once it was read or written with a last closed business date not before the COB
+ * date of this node, and the bitmap of a tenant is dropped as soon as that COB date changes, so the cache never claims
+ * more than the query would have answered with the same COB date.
+ *
+ * The hard lock check of the filter does not use the cache: the cached COB date can lag behind the database for the
+ * refresh interval of the business dates, and locks placed on other nodes only evict the loan on those nodes.
+ *
+ * Loan ids are dense, so a bitmap of them takes a bit per loan of the tenant.
+ */
+@Component
+public class LoanCOBStateCache {
+
+    private final boolean enabled;
+    private final Map<String, TenantState> statesByTenant = new ConcurrentHashMap<>();
+
+    public LoanCOBStateCache(final FineractProperties fineractProperties) {
+        this.enabled = fineractProperties.getJob() != null && fineractProperties.getJob().isLoanCobStateCacheEnabled();
+    }
+
+    public boolean isUpToDate(final Long loanId) {
+        if (!enabled || !isCacheable(loanId)) {
+            return false;
+        }
+        final TenantState state = statesByTenant.get(tenantIdentifier());
+        return state != null && state.contains(cobDate(), loanId);
+    }
+
+    /**
+     * Marks loans which were closed up to the given COB date. Loans of an other COB date than the current one of the tenant
+     * are ignored, as they are either behind or the COB date of the node is about to change.
+     */
+    public void markUpToDate(final Collection<Long> loanIds, final LocalDate closedBusinessDate) {
+        if (!enabled || loanIds.isEmpty() || closedBusinessDate == null) {
+            return;
+        }
+        final LocalDate cobDate = cobDate();
+        if (cobDate == null || closedBusinessDate.isBefore(cobDate)) {
+            return;
+        }
+        statesByTenant.computeIfAbsent(tenantIdentifier(), k -> new TenantState()).add(cobDate, loanIds);
+    }
+
+    /**
+     * Same as {@link #markUpToDate(Collection, LocalDate)}, once the current transaction was committed.
+     */
+    public void markUpToDateAfterCommit(final Collection<Long> loanIds, final LocalDate closedBusinessDate) {
+        if (!enabled || loanIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    markUpToDate(loanIds, closedBusinessDate);
+                }
+            });
+        } else {
+            markUpToDate(loanIds, closedBusinessDate);
+        }
+    }
+
+    /**
+     * Forgets loans which are being locked or whose last closed business date was moved by other means than COB.
+     */
+    public void evict(final Collection<Long> loanIds) {
+        if (!enabled || loanIds.isEmpty()) {
+            return;
+        }
+        final TenantState state = statesByTenant.get(tenantIdentifier());
+        if (state != null) {
+            state.remove(loanIds);
+        }
+    }
+
+    private static boolean isCacheable(final Long loanId) {
+        return loanId != null && loanId >= 0 && loanId <= Integer.MAX_VALUE;
+    }
+
+    private static LocalDate cobDate() {
+        return ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+    }
+
+    private static String tenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+
+    private static final class TenantState {
+
+        private LocalDate cobDate;
+        private BitSet loanIds = new BitSet();
+
+        private synchronized boolean contains(final LocalDate currentCobDate, final Long loanId) {
+            return currentCobDate != null && currentCobDate.equals(cobDate) && loanIds.get(loanId.intValue());
+        }
+
+        private synchronized void add(final LocalDate currentCobDate, final Collection<Long> ids) {
+            if (cobDate != null && currentCobDate.isBefore(cobDate)) {
+                // the COB date of the tenant was already moved on by an other thread
+                return;
+            }
+            if (!currentCobDate.equals(cobDate)) {
+                cobDate = currentCobDate;
+                loanIds = new BitSet();
+            }
+            for (Long id : ids) {
+                if (isCacheable(id)) {
+                    loanIds.set(id.intValue());
+                }
+            }
+        }
+
+        private synchronized void remove(final Collection<Long> ids) {
+            for (Long id : ids) {
+                if (isCacheable(id)) {
+                    loanIds.clear(id.intValue());
+                }
+            }
+        }
+    }
+}
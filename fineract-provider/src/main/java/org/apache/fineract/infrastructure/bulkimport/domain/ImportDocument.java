@@ -63,6 +63,9 @@ public class ImportDocument extends AbstractPersistableCustom {
     @Column(name = "failure_count", nullable = true)
     private Integer failureCount;
 
+    @Column(name = "records_per_second", nullable = true)
+    private Integer recordsPerSecond;
+
     protected ImportDocument() {
 
     }
@@ -101,6 +104,23 @@ public class ImportDocument extends AbstractPersistableCustom {
         this.failureCount = errorCount;
     }
 
+    public void update(final LocalDateTime endTime, final Integer successCount, final Integer errorCount, final Integer recordsPerSecond) {
+        update(endTime, successCount, errorCount);
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    /**
+     * Records the progress of a running import, the end time is the time of the last progress update until the import
+     * is completed.
+     */
+    public void updateProgress(final LocalDateTime updateTime, final Integer successCount, final Integer errorCount,
+            final Integer recordsPerSecond) {
+        this.endTime = updateTime;
+        this.successCount = successCount;
+        this.failureCount = errorCount;
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
     public Document getDocument() {
         return this.document;
     }
@@ -24,4 +24,12 @@ import org.apache.poi.ss.usermodel.Workbook;
 public interface ImportHandler {
 
     Count process(Workbook workbook, String locale, String dateFormat);
+
+    /**
+     * Same as {@link #process(Workbook, String, String)}, reporting the progress of the import on the way. Handlers which
+     * do not report progress only report the end result.
+     */
+    default Count process(Workbook workbook, String locale, String dateFormat, ImportProgress progress) {
+        return process(workbook, locale, dateFormat);
+    }
 }
@@ -0,0 +1,184 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the commands of an import in parallel across accounts, while the rows of the same account are run one after the
+ * other in their original order.
+ *
+ * The rows are grouped by account and the groups are taken by a fixed pool of workers created for the import. The
+ * outcome of every row is handed back to the importing thread through a bounded queue: the workbook is not thread safe,
+ * so only the importing thread writes the status cells, and the workers wait when it falls behind.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParallelImportExecutor {
+
+    private static final int QUEUED_RESULTS_PER_WORKER = 64;
+
+    private final FineractProperties fineractProperties;
+
+    /**
+     * @param rows
+     *            rows to import, in the order of the sheet
+     * @param accountFunction
+     *            account of a row, rows without an account are run on their own
+     * @param command
+     *            imports a row, runs on a worker
+     * @param resultHandler
+     *            receives every row with the exception it failed with or null, runs on the importing thread
+     * @param progress
+     *            receives the number of imported and failed rows after every row, runs on the importing thread
+     */
+    public <T> Count execute(final List<T> rows, final Function<T, ?> accountFunction, final Consumer<T> command,
+            final BiConsumer<T, RuntimeException> resultHandler, final ImportProgress progress) {
+        if (rows.isEmpty()) {
+            return Count.instance(0, 0);
+        }
+        final Queue<List<T>> groups = new ConcurrentLinkedQueue<>(groupByAccount(rows, accountFunction));
+        final int workerCount = Math.max(1, Math.min(fineractProperties.getBulkImport().getThreadPoolSize(), groups.size()));
+        final BlockingQueue<RowResult<T>> results = new LinkedBlockingQueue<>(workerCount * QUEUED_RESULTS_PER_WORKER);
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        final ExecutorService workerPool = Executors.newFixedThreadPool(workerCount,
+                new ThreadFactoryBuilder().setNameFormat("bulk-import-%d").setDaemon(true).build());
+        try {
+            final List<Future<?>> workers = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(workerPool.submit(() -> {
+                    importGroups(groups, command, results, context, securityContext);
+                    return null;
+                }));
+            }
+            int successCount = 0;
+            int errorCount = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                final RowResult<T> result = takeResult(results, workers);
+                resultHandler.accept(result.row, result.error);
+                if (result.error == null) {
+                    successCount++;
+                } else {
+                    errorCount++;
+                }
+                progress.update(successCount, errorCount);
+            }
+            return Count.instance(successCount, errorCount);
+        } finally {
+            workerPool.shutdownNow();
+        }
+    }
+
+    private static <T> List<List<T>> groupByAccount(final List<T> rows, final Function<T, ?> accountFunction) {
+        final Map<Object, List<T>> rowsByAccount = new LinkedHashMap<>();
+        for (T row : rows) {
+            final Object account = accountFunction.apply(row);
+            rowsByAccount.computeIfAbsent(account == null ? new Object() : account, k -> new ArrayList<>()).add(row);
+        }
+        return new ArrayList<>(rowsByAccount.values());
+    }
+
+    private static <T> void importGroups(final Queue<List<T>> groups, final Consumer<T> command, final BlockingQueue<RowResult<T>> results,
+            final FineractContext context, final SecurityContext securityContext) throws InterruptedException {
+        ThreadLocalContextUtil.init(context);
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            List<T> group = groups.poll();
+            while (group != null) {
+                for (T row : group) {
+                    RuntimeException error = null;
+                    try {
+                        command.accept(row);
+                    } catch (RuntimeException e) {
+                        error = e;
+                    }
+                    results.put(new RowResult<>(row, error));
+                }
+                group = groups.poll();
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private static <T> RowResult<T> takeResult(final BlockingQueue<RowResult<T>> results, final List<Future<?>> workers) {
+        try {
+            while (true) {
+                final RowResult<T> result = results.poll(1, TimeUnit.SECONDS);
+                if (result != null) {
+                    return result;
+                }
+                if (workers.stream().allMatch(Future::isDone)) {
+                    // every row reports a result, so the workers can only be done early if one of them died
+                    for (Future<?> worker : workers) {
+                        worker.get();
+                    }
+                    final RowResult<T> lastResult = results.poll();
+                    if (lastResult != null) {
+                        return lastResult;
+                    }
+                    throw new IllegalStateException("Import workers finished without reporting every row");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import worker failed", e.getCause());
+        }
+    }
+
+    private static final class RowResult<T> {
+
+        private final T row;
+        private final RuntimeException error;
+
+        private RowResult(final T row, final RuntimeException error) {
+            this.row = row;
+            this.error = error;
+        }
+    }
+}
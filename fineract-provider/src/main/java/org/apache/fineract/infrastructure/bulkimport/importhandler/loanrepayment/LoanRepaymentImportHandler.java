@@ -19,12 +19,18 @@
 package org.apache.fineract.infrastructure.bulkimport.importhandler.loanrepayment;
 
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
 import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
@@ -33,11 +39,15 @@ import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateI
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportProgress;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ParallelImportExecutor;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
 import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -56,42 +66,81 @@ public class LoanRepaymentImportHandler implements ImportHandler {
     private final LoanReadPlatformService loanReadPlatformService;
 
     private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final ParallelImportExecutor parallelImportExecutor;
+    private final FineractProperties fineractProperties;
 
     @Autowired
     public LoanRepaymentImportHandler(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
-            final LoanReadPlatformService loanReadPlatformService) {
+            final LoanReadPlatformService loanReadPlatformService, final ParallelImportExecutor parallelImportExecutor,
+            final FineractProperties fineractProperties) {
         this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
         this.loanReadPlatformService = loanReadPlatformService;
+        this.parallelImportExecutor = parallelImportExecutor;
+        this.fineractProperties = fineractProperties;
     }
 
     @Override
     public Count process(final Workbook workbook, final String locale, final String dateFormat) {
+        return process(workbook, locale, dateFormat, ImportProgress.NONE);
+    }
+
+    @Override
+    public Count process(final Workbook workbook, final String locale, final String dateFormat, final ImportProgress progress) {
 
         List<LoanTransactionData> loanRepayments = readExcelFile(workbook, locale, dateFormat);
-        return importEntity(workbook, loanRepayments, dateFormat);
+        return importEntity(workbook, loanRepayments, dateFormat, progress);
     }
 
     private List<LoanTransactionData> readExcelFile(final Workbook workbook, final String locale, final String dateFormat) {
         List<LoanTransactionData> loanRepayments = new ArrayList<>();
         Sheet loanRepaymentSheet = workbook.getSheet(TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME);
         Integer noOfEntries = ImportHandlerUtils.getNumberOfRows(loanRepaymentSheet, LoanRepaymentConstants.AMOUNT_COL);
-        Long loanAccountId = null;
+        List<Row> rows = new ArrayList<>();
+        Set<String> loanAccountNumbers = new LinkedHashSet<>();
         for (int rowIndex = 1; rowIndex <= noOfEntries; rowIndex++) {
             Row row;
             row = loanRepaymentSheet.getRow(rowIndex);
             if (ImportHandlerUtils.isNotImported(row, LoanRepaymentConstants.STATUS_COL)) {
-                loanRepayments.add(readLoanRepayment(workbook, loanAccountId, row, locale, dateFormat));
+                rows.add(row);
+                String loanAccountNumber = readLoanAccountNumber(row);
+                if (loanAccountNumber != null) {
+                    loanAccountNumbers.add(loanAccountNumber);
+                }
             }
         }
+        Map<String, Long> loanIdsByAccountNumber = retrieveLoanIds(loanAccountNumbers);
+        // the same handful of repayment types is used by every row
+        Sheet extrasSheet = workbook.getSheet(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME);
+        Map<String, Long> repaymentTypeIds = new HashMap<>();
+        for (Row row : rows) {
+            loanRepayments.add(readLoanRepayment(extrasSheet, loanIdsByAccountNumber, repaymentTypeIds, row, locale, dateFormat));
+        }
         return loanRepayments;
     }
 
-    private LoanTransactionData readLoanRepayment(final Workbook workbook, Long loanAccountId, final Row row, final String locale,
-            final String dateFormat) {
+    private String readLoanAccountNumber(final Row row) {
         String loanaccountInfo = ImportHandlerUtils.readAsString(LoanRepaymentConstants.LOAN_ACCOUNT_NO_COL, row);
         if (loanaccountInfo != null) {
-            List<String> loanAccountAr = Splitter.on(SEPARATOR).splitToList(loanaccountInfo);
-            loanAccountId = this.loanReadPlatformService.retrieveLoanIdByAccountNumber(loanAccountAr.get(0));
+            return Splitter.on(SEPARATOR).splitToList(loanaccountInfo).get(0);
+        }
+        return null;
+    }
+
+    private Map<String, Long> retrieveLoanIds(final Set<String> loanAccountNumbers) {
+        Map<String, Long> loanIds = new HashMap<>();
+        for (List<String> partition : Lists.partition(new ArrayList<>(loanAccountNumbers),
+                fineractProperties.getQuery().getInClauseParameterSizeLimit())) {
+            loanIds.putAll(this.loanReadPlatformService.retrieveLoanIdsByAccountNumbers(partition));
+        }
+        return loanIds;
+    }
+
+    private LoanTransactionData readLoanRepayment(final Sheet extrasSheet, final Map<String, Long> loanIdsByAccountNumber,
+            final Map<String, Long> repaymentTypeIds, final Row row, final String locale, final String dateFormat) {
+        Long loanAccountId = null;
+        String loanAccountNumber = readLoanAccountNumber(row);
+        if (loanAccountNumber != null) {
+            loanAccountId = loanIdsByAccountNumber.get(loanAccountNumber);
         }
         BigDecimal repaymentAmount = null;
         if (ImportHandlerUtils.readAsDouble(LoanRepaymentConstants.AMOUNT_COL, row) != null) {
@@ -99,8 +148,7 @@ public class LoanRepaymentImportHandler implements ImportHandler {
         }
         LocalDate repaymentDate = ImportHandlerUtils.readAsDate(LoanRepaymentConstants.REPAID_ON_DATE_COL, row);
         String repaymentType = ImportHandlerUtils.readAsString(LoanRepaymentConstants.REPAYMENT_TYPE_COL, row);
-        Long repaymentTypeId = ImportHandlerUtils.getIdByName(workbook.getSheet(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME),
-                repaymentType);
+        Long repaymentTypeId = repaymentTypeIds.computeIfAbsent(repaymentType, name -> ImportHandlerUtils.getIdByName(extrasSheet, name));
         String accountNumber = ImportHandlerUtils.readAsString(LoanRepaymentConstants.ACCOUNT_NO_COL, row);
         Integer checkNumber = ImportHandlerUtils.readAsInt(LoanRepaymentConstants.CHECK_NO_COL, row);
         Integer routingCode = ImportHandlerUtils.readAsInt(LoanRepaymentConstants.ROUTING_CODE_COL, row);
@@ -110,43 +158,43 @@ public class LoanRepaymentImportHandler implements ImportHandler {
                 receiptNumber, bankNumber, loanAccountId, EMPTY_STR, row.getRowNum(), locale, dateFormat);
     }
 
-    private Count importEntity(final Workbook workbook, final List<LoanTransactionData> loanRepayments, final String dateFormat) {
+    private Count importEntity(final Workbook workbook, final List<LoanTransactionData> loanRepayments, final String dateFormat,
+            final ImportProgress progress) {
         Sheet loanRepaymentSheet = workbook.getSheet(TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME);
-        int successCount = 0;
-        int errorCount = 0;
-        String errorMessage;
         GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
         gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
+        // Gson is thread safe, one instance serves every worker
+        Gson gson = gsonBuilder.create();
+        CellStyle importedStyle = ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN);
 
-        for (LoanTransactionData loanRepayment : loanRepayments) {
-            try {
-
-                JsonObject loanRepaymentJsonob = gsonBuilder.create().toJsonTree(loanRepayment).getAsJsonObject();
-                loanRepaymentJsonob.remove("manuallyReversed");
-                String payload = loanRepaymentJsonob.toString();
-                final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                        .loanRepaymentTransaction(loanRepayment.getAccountId()) //
-                        .withJson(payload) //
-                        .build(); //
-                commandsSourceWritePlatformService.logCommandSource(commandRequest);
-                successCount++;
+        // repayments of the same loan are posted in the order of the sheet, different loans in parallel
+        Count count = parallelImportExecutor.execute(loanRepayments, LoanTransactionData::getAccountId, loanRepayment -> {
+            JsonObject loanRepaymentJsonob = gson.toJsonTree(loanRepayment).getAsJsonObject();
+            loanRepaymentJsonob.remove("manuallyReversed");
+            String payload = loanRepaymentJsonob.toString();
+            final CommandWrapper commandRequest = new CommandWrapperBuilder() //
+                    .loanRepaymentTransaction(loanRepayment.getAccountId()) //
+                    .withJson(payload) //
+                    .build(); //
+            commandsSourceWritePlatformService.logCommandSource(commandRequest);
+        }, (loanRepayment, ex) -> {
+            if (ex == null) {
                 Cell statusCell = loanRepaymentSheet.getRow(loanRepayment.getRowIndex()).createCell(LoanRepaymentConstants.STATUS_COL);
                 statusCell.setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
-                statusCell.setCellStyle(ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN));
-            } catch (RuntimeException ex) {
-                errorCount++;
+                statusCell.setCellStyle(importedStyle);
+            } else {
                 LOG.error("Problem occurred in importEntity function", ex);
-                errorMessage = ImportHandlerUtils.getErrorMessage(ex);
+                String errorMessage = ImportHandlerUtils.getErrorMessage(ex);
                 ImportHandlerUtils.writeErrorMessage(loanRepaymentSheet, loanRepayment.getRowIndex(), errorMessage,
                         LoanRepaymentConstants.STATUS_COL);
             }
+        }, progress);
 
-        }
         loanRepaymentSheet.setColumnWidth(LoanRepaymentConstants.STATUS_COL, TemplatePopulateImportConstants.SMALL_COL_SIZE);
         ImportHandlerUtils.writeString(LoanRepaymentConstants.STATUS_COL,
                 loanRepaymentSheet.getRow(TemplatePopulateImportConstants.ROWHEADER_INDEX),
                 TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER);
-        return Count.instance(successCount, errorCount);
+        return count;
     }
 
 }
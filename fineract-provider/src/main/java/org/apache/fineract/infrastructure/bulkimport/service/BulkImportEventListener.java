@@ -30,6 +30,8 @@ import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportProgress;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -53,14 +55,17 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
     private final ApplicationContext applicationContext;
     private final ImportDocumentRepository importRepository;
     private final DocumentWritePlatformService documentService;
+    private final FineractProperties fineractProperties;
 
     @Autowired
     public BulkImportEventListener(final TenantDetailsService tenantDetailsService, final ApplicationContext context,
-            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService) {
+            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService,
+            final FineractProperties fineractProperties) {
         this.tenantDetailsService = tenantDetailsService;
         this.applicationContext = context;
         this.importRepository = importRepository;
         this.documentService = documentService;
+        this.fineractProperties = fineractProperties;
     }
 
     @Override
@@ -134,9 +139,22 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         }
 
         final Workbook workbook = event.getWorkbook();
-        final Count count = importHandler.process(workbook, event.getLocale(), event.getDateFormat());
-        importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount(), count.getErrorCount());
+        final long start = System.currentTimeMillis();
+        final int progressUpdateRows = Math.max(1, fineractProperties.getBulkImport().getProgressUpdateRows());
+        final ImportProgress progress = (successCount, errorCount) -> {
+            final int processed = successCount + errorCount;
+            if (processed % progressUpdateRows == 0) {
+                importDocument.updateProgress(DateUtils.getLocalDateTimeOfTenant(), successCount, errorCount,
+                        recordsPerSecond(processed, start));
+                this.importRepository.saveAndFlush(importDocument);
+            }
+        };
+        final Count count = importHandler.process(workbook, event.getLocale(), event.getDateFormat(), progress);
+        final int recordsPerSecond = recordsPerSecond(count.getSuccessCount() + count.getErrorCount(), start);
+        importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount(), count.getErrorCount(), recordsPerSecond);
         this.importRepository.saveAndFlush(importDocument);
+        LOG.info("Import {} finished with {} imported and {} failed rows ({} rows/s)", event.getImportId(), count.getSuccessCount(),
+                count.getErrorCount(), recordsPerSecond);
 
         final Set<String> modifiedParams = new HashSet<>();
         modifiedParams.add("fileName");
@@ -163,4 +181,9 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         this.documentService.updateDocument(documentCommand, bis);
     }
 
+    private static int recordsPerSecond(final int records, final long start) {
+        final long elapsedMillis = System.currentTimeMillis() - start;
+        return elapsedMillis > 0 ? (int) (records * 1000L / elapsedMillis) : records;
+    }
+
 }
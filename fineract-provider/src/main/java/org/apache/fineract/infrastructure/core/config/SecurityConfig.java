@@ -28,13 +28,14 @@ import java.util.List;
 import java.util.Objects;
 import org.apache.fineract.commands.domain.CommandSourceRepository;
 import org.apache.fineract.commands.service.CommandSourceService;
-import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
+import org.apache.fineract.infrastructure.businessdate.service.BusinessDateCache;
 import org.apache.fineract.infrastructure.cache.service.CacheWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.apache.fineract.infrastructure.core.filters.CorrelationHeaderFilter;
 import org.apache.fineract.infrastructure.core.filters.IdempotencyStoreFilter;
 import org.apache.fineract.infrastructure.core.filters.IdempotencyStoreHelper;
+import org.apache.fineract.infrastructure.core.filters.ReadReplicaRoutingFilter;
 import org.apache.fineract.infrastructure.core.filters.RequestResponseFilter;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.core.service.MDCWrapper;
@@ -46,6 +47,8 @@ import org.apache.fineract.infrastructure.security.filter.InsecureTwoFactorAuthe
 import org.apache.fineract.infrastructure.security.filter.TenantAwareBasicAuthenticationFilter;
 import org.apache.fineract.infrastructure.security.filter.TwoFactorAuthenticationFilter;
 import org.apache.fineract.infrastructure.security.service.BasicAuthTenantDetailsService;
+import org.apache.fineract.infrastructure.security.service.BasicAuthenticationCache;
+import org.apache.fineract.infrastructure.security.service.CachingAuthenticationManager;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.infrastructure.security.service.TenantAwareJpaPlatformUserDetailsService;
 import org.apache.fineract.infrastructure.security.service.TwoFactorService;
@@ -102,7 +105,9 @@ public class SecurityConfig {
     @Autowired
     private BasicAuthTenantDetailsService basicAuthTenantDetailsService;
     @Autowired
-    private BusinessDateReadPlatformService businessDateReadPlatformService;
+    private BusinessDateCache businessDateCache;
+    @Autowired
+    private BasicAuthenticationCache basicAuthenticationCache;
     @Autowired
     private MDCWrapper mdcWrapper;
     @Autowired
@@ -141,7 +146,8 @@ public class SecurityConfig {
                 .addFilterBefore(tenantAwareBasicAuthenticationFilter(), SecurityContextHolderFilter.class) //
                 .addFilterAfter(requestResponseFilter(), ExceptionTranslationFilter.class) //
                 .addFilterAfter(correlationHeaderFilter(), RequestResponseFilter.class) //
-                .addFilterAfter(fineractInstanceModeApiFilter(), CorrelationHeaderFilter.class); //
+                .addFilterAfter(fineractInstanceModeApiFilter(), CorrelationHeaderFilter.class) //
+                .addFilterAfter(readReplicaRoutingFilter(), FineractInstanceModeApiFilter.class); //
         if (!Objects.isNull(loanCOBFilterHelper)) {
             http.addFilterAfter(loanCOBApiFilter(), FineractInstanceModeApiFilter.class) //
                     .addFilterAfter(idempotencyStoreFilter(), LoanCOBApiFilter.class); //
@@ -182,6 +188,10 @@ public class SecurityConfig {
         return new FineractInstanceModeApiFilter(fineractProperties);
     }
 
+    public ReadReplicaRoutingFilter readReplicaRoutingFilter() {
+        return new ReadReplicaRoutingFilter(fineractProperties);
+    }
+
     public IdempotencyStoreFilter idempotencyStoreFilter() {
         return new IdempotencyStoreFilter(fineractRequestContextHolder, idempotencyStoreHelper, fineractProperties);
     }
@@ -191,9 +201,10 @@ public class SecurityConfig {
     }
 
     public TenantAwareBasicAuthenticationFilter tenantAwareBasicAuthenticationFilter() throws Exception {
-        TenantAwareBasicAuthenticationFilter filter = new TenantAwareBasicAuthenticationFilter(authenticationManagerBean(),
-                basicAuthenticationEntryPoint(), toApiJsonSerializer, configurationDomainService, cacheWritePlatformService,
-                userNotificationService, basicAuthTenantDetailsService, businessDateReadPlatformService);
+        TenantAwareBasicAuthenticationFilter filter = new TenantAwareBasicAuthenticationFilter(
+                new CachingAuthenticationManager(authenticationManagerBean(), basicAuthenticationCache), basicAuthenticationEntryPoint(),
+                toApiJsonSerializer, configurationDomainService, cacheWritePlatformService, userNotificationService,
+                basicAuthTenantDetailsService, businessDateCache);
         filter.setRequestMatcher(antMatcher("/api/**"));
         return filter;
     }
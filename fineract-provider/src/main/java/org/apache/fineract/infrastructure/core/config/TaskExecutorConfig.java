@@ -47,4 +47,34 @@ public class TaskExecutorConfig {
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
         return threadPoolTaskExecutor;
     }
+
+    @Bean(TaskExecutorConstant.RUNNING_BALANCE_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor runningBalanceThreadPoolTaskExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        int threads = Math.max(1, fineractProperties.getAccounting().getRunningBalance().getThreads());
+        threadPoolTaskExecutor.setCorePoolSize(threads);
+        threadPoolTaskExecutor.setMaxPoolSize(threads);
+        threadPoolTaskExecutor.setThreadNamePrefix("running-balance-");
+        return threadPoolTaskExecutor;
+    }
+
+    @Bean(TaskExecutorConstant.TRIAL_BALANCE_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor trialBalanceThreadPoolTaskExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        int threads = Math.max(1, fineractProperties.getAccounting().getTrialBalance().getThreads());
+        threadPoolTaskExecutor.setCorePoolSize(threads);
+        threadPoolTaskExecutor.setMaxPoolSize(threads);
+        threadPoolTaskExecutor.setThreadNamePrefix("trial-balance-");
+        return threadPoolTaskExecutor;
+    }
+
+    @Bean(TaskExecutorConstant.SAVINGS_INTEREST_POSTING_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor savingsInterestPostingThreadPoolTaskExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        int threads = Math.max(1, fineractProperties.getSavings().getInterestPosting().getThreads());
+        threadPoolTaskExecutor.setCorePoolSize(threads);
+        threadPoolTaskExecutor.setMaxPoolSize(threads);
+        threadPoolTaskExecutor.setThreadNamePrefix("savings-interest-poster-");
+        return threadPoolTaskExecutor;
+    }
 }
@@ -19,14 +19,22 @@
 
 package org.apache.fineract.infrastructure.core.config.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import java.time.Duration;
+import java.util.List;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCacheProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCacheRegionProperties;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -37,6 +45,22 @@ public class CacheConfig {
 
     public static final String CONFIG_BY_NAME_CACHE_NAME = "configByName";
 
+    private static final String CURRENCIES_CACHE_NAME = "currencies";
+    private static final String WORKING_DAYS_CACHE_NAME = "workingDays";
+    private static final String HOLIDAYS_CACHE_NAME = "holidays";
+    private static final String PAYMENT_TYPES_CACHE_NAME = "payment_types";
+    private static final String PAYMENT_TYPES_WITH_CODE_CACHE_NAME = "paymentTypesWithCode";
+    private static final String GL_ACCOUNT_MAPPINGS_CACHE_NAME = "glAccountMappings";
+    private static final String USER_TF_ACCESS_TOKEN_CACHE_NAME = "userTFAccessToken";
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final Duration USER_TF_ACCESS_TOKEN_TIME_TO_IDLE = Duration.ofHours(2);
+
+    private static final List<String> CACHE_NAMES = List.of("users", "usersByUsername", "tenantsById", "offices", "officesForDropdown",
+            "officesById", "charges", "funds", "code_values", "codes", "hooks", "tfConfig", CONFIG_BY_NAME_CACHE_NAME,
+            USER_TF_ACCESS_TOKEN_CACHE_NAME,
+            CURRENCIES_CACHE_NAME, WORKING_DAYS_CACHE_NAME, HOLIDAYS_CACHE_NAME, PAYMENT_TYPES_CACHE_NAME,
+            PAYMENT_TYPES_WITH_CODE_CACHE_NAME, GL_ACCOUNT_MAPPINGS_CACHE_NAME);
+
     @Bean
     public TransactionBoundCacheManager defaultCacheManager(JCacheCacheManager ehCacheManager) {
         SpecifiedCacheSupportingCacheManager cacheManager = new SpecifiedCacheSupportingCacheManager();
@@ -47,68 +71,48 @@ public class CacheConfig {
     }
 
     @Bean
-    public JCacheCacheManager ehCacheManager() {
-        JCacheCacheManager jCacheCacheManager = new JCacheCacheManager();
-        jCacheCacheManager.setCacheManager(getInternalEhCacheManager());
+    public JCacheCacheManager ehCacheManager(FineractProperties fineractProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        JCacheCacheManager jCacheCacheManager = new MeteredJCacheCacheManager(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        jCacheCacheManager.setCacheManager(getInternalEhCacheManager(fineractProperties.getCache()));
         return jCacheCacheManager;
     }
 
-    private CacheManager getInternalEhCacheManager() {
+    private CacheManager getInternalEhCacheManager(FineractCacheProperties cacheProperties) {
         CachingProvider provider = Caching.getCachingProvider();
         CacheManager cacheManager = provider.getCacheManager();
 
-        javax.cache.configuration.Configuration<Object, Object> defaultTemplate = Eh107Configuration.fromEhcacheCacheConfiguration(
-                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(10000))
-                        .withExpiry(ExpiryPolicyBuilder.noExpiration()).build());
-
-        if (cacheManager.getCache("users") == null) {
-            cacheManager.createCache("users", defaultTemplate);
-        }
-        if (cacheManager.getCache("usersByUsername") == null) {
-            cacheManager.createCache("usersByUsername", defaultTemplate);
-        }
-        if (cacheManager.getCache("tenantsById") == null) {
-            cacheManager.createCache("tenantsById", defaultTemplate);
-        }
-        if (cacheManager.getCache("offices") == null) {
-            cacheManager.createCache("offices", defaultTemplate);
-        }
-        if (cacheManager.getCache("officesForDropdown") == null) {
-            cacheManager.createCache("officesForDropdown", defaultTemplate);
-        }
-        if (cacheManager.getCache("officesById") == null) {
-            cacheManager.createCache("officesById", defaultTemplate);
-        }
-        if (cacheManager.getCache("charges") == null) {
-            cacheManager.createCache("charges", defaultTemplate);
-        }
-        if (cacheManager.getCache("funds") == null) {
-            cacheManager.createCache("funds", defaultTemplate);
-        }
-        if (cacheManager.getCache("code_values") == null) {
-            cacheManager.createCache("code_values", defaultTemplate);
-        }
-        if (cacheManager.getCache("codes") == null) {
-            cacheManager.createCache("codes", defaultTemplate);
-        }
-        if (cacheManager.getCache("hooks") == null) {
-            cacheManager.createCache("hooks", defaultTemplate);
-        }
-        if (cacheManager.getCache("tfConfig") == null) {
-            cacheManager.createCache("tfConfig", defaultTemplate);
-        }
-        if (cacheManager.getCache(CONFIG_BY_NAME_CACHE_NAME) == null) {
-            cacheManager.createCache(CONFIG_BY_NAME_CACHE_NAME, defaultTemplate);
+        for (String cacheName : CACHE_NAMES) {
+            if (cacheManager.getCache(cacheName) == null) {
+                cacheManager.createCache(cacheName, getTemplate(cacheProperties, cacheName));
+            }
         }
+        return cacheManager;
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> getTemplate(FineractCacheProperties cacheProperties,
+            String cacheName) {
+        FineractCacheRegionProperties region = cacheProperties == null ? null : cacheProperties.getRegions().get(cacheName);
+        int maxEntries = region != null && region.getMaxEntries() > 0 ? region.getMaxEntries() : getDefaultMaxEntries(cacheProperties);
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                        .withExpiry(getExpiry(region, cacheName)).build());
+    }
 
-        javax.cache.configuration.Configuration<Object, Object> accessTokenTemplate = Eh107Configuration.fromEhcacheCacheConfiguration(
-                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(10000))
-                        .withExpiry(ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofHours(2))).build());
+    private int getDefaultMaxEntries(FineractCacheProperties cacheProperties) {
+        return cacheProperties != null && cacheProperties.getDefaultMaxEntries() > 0 ? cacheProperties.getDefaultMaxEntries()
+                : DEFAULT_MAX_ENTRIES;
+    }
 
-        if (cacheManager.getCache("userTFAccessToken") == null) {
-            cacheManager.createCache("userTFAccessToken", accessTokenTemplate);
+    private ExpiryPolicy<Object, Object> getExpiry(FineractCacheRegionProperties region, String cacheName) {
+        if (region != null && region.getTimeToLiveSeconds() > 0) {
+            return ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(region.getTimeToLiveSeconds()));
         }
-
-        return cacheManager;
+        if (region != null && region.getTimeToIdleSeconds() > 0) {
+            return ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofSeconds(region.getTimeToIdleSeconds()));
+        }
+        if (USER_TF_ACCESS_TOKEN_CACHE_NAME.equals(cacheName)) {
+            return ExpiryPolicyBuilder.timeToIdleExpiration(USER_TF_ACCESS_TOKEN_TIME_TO_IDLE);
+        }
+        return ExpiryPolicyBuilder.noExpiration();
     }
 }
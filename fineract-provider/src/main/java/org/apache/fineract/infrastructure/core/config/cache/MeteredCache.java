@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} decorator which counts the lookups of the cache as <code>fineract.cache.gets</code>, tagged with the name
+ * of the cache and whether the lookup was a hit or a miss.
+ */
+public class MeteredCache implements Cache {
+
+    private static final String METRIC_NAME = "fineract.cache.gets";
+
+    private final Cache delegate;
+    private final Counter hits;
+    private final Counter misses;
+
+    public MeteredCache(final Cache delegate, final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hits = Counter.builder(METRIC_NAME).tag("cache", delegate.getName()).tag("result", "hit")
+                .description("Number of cache lookups which found a cached value").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("cache", delegate.getName()).tag("result", "miss")
+                .description("Number of cache lookups which did not find a cached value").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final ValueWrapper value = delegate.get(key);
+        record(value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(final Object key, final Class<T> type) {
+        final T value = delegate.get(key, type);
+        record(value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final AtomicBoolean loaded = new AtomicBoolean();
+        final T value = delegate.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        record(!loaded.get());
+        return value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(final Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private void record(final boolean hit) {
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+}
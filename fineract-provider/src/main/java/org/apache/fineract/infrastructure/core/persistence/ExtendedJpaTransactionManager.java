@@ -23,6 +23,7 @@ import jakarta.persistence.FlushModeType;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.core.service.database.ReadReplicaRoutingContext;
 import org.springframework.jdbc.datasource.JdbcTransactionObjectSupport;
 import org.springframework.orm.jpa.EntityManagerHolder;
 import org.springframework.orm.jpa.JpaTransactionManager;
@@ -40,7 +41,14 @@ public class ExtendedJpaTransactionManager extends JpaTransactionManager {
 
     @Override
     protected void doBegin(Object transaction, TransactionDefinition definition) {
-        super.doBegin(transaction, definition);
+        // the connection is acquired while beginning the transaction, so the routing has to be known upfront
+        ReadReplicaRoutingContext.beginTransaction(definition.isReadOnly());
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error e) {
+            ReadReplicaRoutingContext.endTransaction();
+            throw e;
+        }
         if (isReadOnlyTx(transaction)) {
             EntityManager entityManager = getCurrentEntityManager();
             if (entityManager != null) {
@@ -64,7 +72,11 @@ public class ExtendedJpaTransactionManager extends JpaTransactionManager {
 
     @Override
     protected void doCleanupAfterCompletion(Object transaction) {
-        super.doCleanupAfterCompletion(transaction);
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            ReadReplicaRoutingContext.endTransaction();
+        }
         invokeLifecycleCallbacks(TransactionLifecycleCallback::afterCompletion);
     }
 
@@ -26,8 +26,7 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.hooks.domain.Hook;
 import org.apache.fineract.infrastructure.hooks.event.HookEvent;
 import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
-import org.apache.fineract.infrastructure.hooks.processor.HookProcessor;
-import org.apache.fineract.infrastructure.hooks.processor.HookProcessorProvider;
+import org.apache.fineract.infrastructure.hooks.service.HookDeliveryService;
 import org.apache.fineract.infrastructure.hooks.service.HookReadPlatformService;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.stereotype.Service;
@@ -37,7 +36,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class FineractHookListener implements HookListener {
 
-    private final HookProcessorProvider hookProcessorProvider;
+    private final HookDeliveryService hookDeliveryService;
     private final HookReadPlatformService hookReadPlatformService;
 
     @Override
@@ -56,13 +55,12 @@ public class FineractHookListener implements HookListener {
                 hookEventSource.getActionName());
 
         for (final Hook hook : hooks) {
-            final HookProcessor processor = hookProcessorProvider.getProcessor(hook);
             try {
-                processor.process(hook, payload, entityName, actionName, fineractContext);
-            } catch (Throwable e) {
-                log.error("Hook {} failed in HookProcessor {} for tenantIdentifier/user {}/{}, entityName: {}, actionName: {}, payload {} ",
-                        hook.getId(), processor.getClass().getSimpleName(), fineractContext.getTenantContext().getTenantIdentifier(),
-                        appUser.getDisplayName(), entityName, actionName, payload, e);
+                hookDeliveryService.dispatch(hook, payload, entityName, actionName, fineractContext);
+            } catch (RuntimeException e) {
+                log.error("Hook {} could not be dispatched for tenantIdentifier/user {}/{}, entityName: {}, actionName: {}, payload {} ",
+                        hook.getId(), fineractContext.getTenantContext().getTenantIdentifier(), appUser.getDisplayName(), entityName,
+                        actionName, payload, e);
             }
         }
     }
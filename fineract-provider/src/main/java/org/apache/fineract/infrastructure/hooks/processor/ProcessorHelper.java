@@ -18,24 +18,35 @@
  */
 package org.apache.fineract.infrastructure.hooks.processor;
 
+import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import retrofit2.Call;
-import retrofit2.Callback;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
+/**
+ * Creates the {@link WebHookService}s of the hook processors.
+ *
+ * All services share one HTTP client, so connections to the same host are pooled and kept alive across deliveries, and
+ * the services are created once per URL.
+ */
 @Service
 public final class ProcessorHelper {
 
@@ -43,6 +54,7 @@ public final class ProcessorHelper {
     // org.apache.fineract.client.util.FineractClient.Builder.insecure()
 
     private static final Logger LOG = LoggerFactory.getLogger(ProcessorHelper.class);
+    private static final long CONNECTION_KEEP_ALIVE_MINUTES = 5;
 
     @SuppressWarnings("unused")
     private static final X509TrustManager insecureX509TrustManager = new X509TrustManager() {
@@ -66,17 +78,27 @@ public final class ProcessorHelper {
      */
     private final boolean insecureHttpClient = Boolean.getBoolean("fineract.insecureHttpClient");
     private final SSLContext insecureSSLContext;
+    private final OkHttpClient client;
+    private final ConcurrentHashMap<String, WebHookService> servicesByUrl = new ConcurrentHashMap<>();
 
-    public ProcessorHelper() throws KeyManagementException, NoSuchAlgorithmException {
+    public ProcessorHelper(final FineractProperties fineractProperties) throws KeyManagementException, NoSuchAlgorithmException {
         if (insecureHttpClient) {
             insecureSSLContext = createInsecureSSLContext();
         } else {
             insecureSSLContext = null;
         }
+        client = createClient(fineractProperties.getHooks().getDelivery());
     }
 
-    private OkHttpClient createClient() {
-        var okBuilder = new OkHttpClient.Builder();
+    private OkHttpClient createClient(final FineractProperties.FineractHookDeliveryProperties deliveryProperties) {
+        // the deliveries call the client synchronously from the hook delivery workers, which bound the concurrent
+        // requests, so only the pool of idle connections kept alive for reuse is sized here
+        var okBuilder = new OkHttpClient.Builder()
+                .connectionPool(
+                        new ConnectionPool(deliveryProperties.getMaxIdleConnections(), CONNECTION_KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .connectTimeout(deliveryProperties.getTimeoutSeconds(), TimeUnit.SECONDS)
+                .readTimeout(deliveryProperties.getTimeoutSeconds(), TimeUnit.SECONDS)
+                .writeTimeout(deliveryProperties.getTimeoutSeconds(), TimeUnit.SECONDS);
         if (insecureHttpClient) {
             configureInsecureClient(okBuilder);
         }
@@ -96,24 +118,26 @@ public final class ProcessorHelper {
         return insecureSSLContext;
     }
 
-    @SuppressWarnings("rawtypes")
-    public Callback createCallback(final String url) {
-        return new Callback() {
-
-            @Override
-            public void onResponse(@SuppressWarnings("unused") Call call, retrofit2.Response response) {
-                LOG.debug("URL: {} - Status: {}", url, response.code());
-            }
+    public WebHookService createWebHookService(final String url) {
+        return servicesByUrl.computeIfAbsent(url, this::createService);
+    }
 
-            @Override
-            public void onFailure(@SuppressWarnings("unused") Call call, Throwable t) {
-                LOG.error("URL: {} - Retrofit failure occurred", url, t);
-            }
-        };
+    /**
+     * Sends the request on the calling thread.
+     *
+     * @throws IOException
+     *             if the request could not be sent or was not answered with a successful status
+     */
+    public <T> T execute(final Call<T> call, final String url) throws IOException {
+        final Response<T> response = call.execute();
+        LOG.debug("URL: {} - Status: {}", url, response.code());
+        if (!response.isSuccessful()) {
+            throw new IOException("URL: " + url + " - Status: " + response.code());
+        }
+        return response.body();
     }
 
-    public WebHookService createWebHookService(final String url) {
-        final OkHttpClient client = createClient();
+    private WebHookService createService(final String url) {
         final Retrofit.Builder retrofitBuilder = new Retrofit.Builder();
         retrofitBuilder.baseUrl(url);
         retrofitBuilder.client(client);
@@ -121,21 +145,4 @@ public final class ProcessorHelper {
         final Retrofit retrofit = retrofitBuilder.build();
         return retrofit.create(WebHookService.class);
     }
-
-    @SuppressWarnings("rawtypes")
-    public Callback createCallback(final String url, String payload) {
-
-        return new Callback() {
-
-            @Override
-            public void onResponse(@SuppressWarnings("unused") Call call, retrofit2.Response response) {
-                LOG.debug("URL: {} - Status: {}", url, response.code());
-            }
-
-            @Override
-            public void onFailure(@SuppressWarnings("unused") Call call, Throwable t) {
-                LOG.error("URL: {} - Retrofit failure occured", url, t);
-            }
-        };
-    }
 }
@@ -0,0 +1,225 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessor;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessorProvider;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+/**
+ * Delivers hook events off the thread which raised them.
+ *
+ * Deliveries are queued to a fixed pool of workers through a bounded queue. A delivery which fails, or which does not
+ * fit into the queue, is stored in the <code>m_hook_delivery_outbox</code> table and retried by the Retry Hook
+ * Deliveries job with an exponential backoff, until the configured number of attempts is reached.
+ */
+@Slf4j
+@Service
+public class HookDeliveryService implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "fineract.hooks.delivery";
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final long MAX_BACKOFF_SECONDS = TimeUnit.DAYS.toSeconds(1);
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final FineractProperties.FineractHookDeliveryProperties deliveryProperties;
+    private final HookProcessorProvider hookProcessorProvider;
+    private final HookRepository hookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final MeterRegistry registry;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedDeliveriesCounter;
+
+    public HookDeliveryService(FineractProperties fineractProperties, HookProcessorProvider hookProcessorProvider,
+            HookRepository hookRepository, JdbcTemplate jdbcTemplate, DatabaseSpecificSQLGenerator sqlGenerator,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.deliveryProperties = fineractProperties.getHooks().getDelivery();
+        this.hookProcessorProvider = hookProcessorProvider;
+        this.hookRepository = hookRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
+        this.executor = new ThreadPoolExecutor(deliveryProperties.getThreads(), deliveryProperties.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(deliveryProperties.getQueueCapacity()),
+                new ThreadFactoryBuilder().setNameFormat("hook-delivery-%d").setDaemon(true).build(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, e -> e.getQueue().size())
+                .description("Number of hook deliveries waiting for a worker").register(registry);
+        this.rejectedDeliveriesCounter = Counter.builder(METRIC_PREFIX + ".rejected").baseUnit("deliveries")
+                .description("Number of hook deliveries stored for retry because the delivery queue was full").register(registry);
+    }
+
+    public void dispatch(final Hook hook, final String payload, final String entityName, final String actionName,
+            final FineractContext context) {
+        try {
+            executor.execute(() -> deliver(hook, payload, entityName, actionName, context));
+        } catch (RejectedExecutionException e) {
+            rejectedDeliveriesCounter.increment();
+            log.warn("Hook delivery queue is full, hook {} for entityName: {}, actionName: {} is stored for retry", hook.getId(),
+                    entityName, actionName);
+            storeForRetry(hook.getId(), payload, entityName, actionName, 0, "Delivery queue is full");
+        }
+    }
+
+    /**
+     * Retries the stored deliveries which are due, the oldest ones first.
+     *
+     * @return the number of deliveries which succeeded
+     */
+    public int retryFailedDeliveries() {
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final OutboxEntryMapper mapper = new OutboxEntryMapper();
+        final List<OutboxEntry> entries = jdbcTemplate.query(mapper.schema() + sqlGenerator.limit(deliveryProperties.getRetryBatchSize()),
+                mapper, DateUtils.getAuditOffsetDateTime(), deliveryProperties.getMaxAttempts());
+        int delivered = 0;
+        for (final OutboxEntry entry : entries) {
+            final Hook hook = hookRepository.findById(entry.hookId).orElse(null);
+            if (hook == null || !Boolean.TRUE.equals(hook.getIsActive())) {
+                jdbcTemplate.update("delete from m_hook_delivery_outbox where id = ?", entry.id);
+                continue;
+            }
+            final String error = attempt(hook, entry.payload, entry.entityName, entry.actionName, context);
+            if (error == null) {
+                jdbcTemplate.update("delete from m_hook_delivery_outbox where id = ?", entry.id);
+                delivered++;
+            } else {
+                final int attempts = entry.attempts + 1;
+                jdbcTemplate.update(
+                        "update m_hook_delivery_outbox set attempts = ?, last_error = ?, next_attempt_on_utc = ? where id = ?", attempts,
+                        error, nextAttempt(attempts), entry.id);
+            }
+        }
+        log.info("Retried {} hook deliveries, {} succeeded", entries.size(), delivered);
+        return delivered;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void deliver(final Hook hook, final String payload, final String entityName, final String actionName,
+            final FineractContext context) {
+        ThreadLocalContextUtil.init(context);
+        try {
+            final String error = attempt(hook, payload, entityName, actionName, context);
+            if (error != null) {
+                storeForRetry(hook.getId(), payload, entityName, actionName, 1, error);
+            }
+        } catch (RuntimeException e) {
+            log.error("Hook {} could not be stored for retry, entityName: {}, actionName: {}", hook.getId(), entityName, actionName, e);
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    /**
+     * @return <code>null</code> if the hook was delivered, the error otherwise
+     */
+    private String attempt(final Hook hook, final String payload, final String entityName, final String actionName,
+            final FineractContext context) {
+        final HookProcessor processor = hookProcessorProvider.getProcessor(hook);
+        if (processor == null) {
+            log.warn("Hook {} has no processor for template {}, nothing to deliver", hook.getId(), hook.getTemplate().getName());
+            return null;
+        }
+        final String tenantIdentifier = context.getTenantContext().getTenantIdentifier();
+        final Timer.Sample sample = Timer.start(registry);
+        String error = null;
+        try {
+            processor.process(hook, payload, entityName, actionName, context);
+        } catch (Exception e) {
+            error = StringUtils.abbreviate(e.getClass().getSimpleName() + ": " + e.getMessage(), MAX_ERROR_LENGTH);
+            log.error("Hook {} failed in HookProcessor {} for tenantIdentifier {}, entityName: {}, actionName: {}, payload {} ",
+                    hook.getId(), processor.getClass().getSimpleName(), tenantIdentifier, entityName, actionName, payload, e);
+        } finally {
+            sample.stop(Timer.builder(METRIC_PREFIX).description("Duration of hook deliveries").tag("tenant", tenantIdentifier)
+                    .tag("hook", String.valueOf(hook.getId())).tag("outcome", error == null ? "success" : "failure").register(registry));
+        }
+        return error;
+    }
+
+    private void storeForRetry(final Long hookId, final String payload, final String entityName, final String actionName,
+            final int attempts, final String error) {
+        final OffsetDateTime now = DateUtils.getAuditOffsetDateTime();
+        jdbcTemplate.update("insert into m_hook_delivery_outbox (hook_id, entity_name, action_name, payload, attempts, last_error,"
+                + " next_attempt_on_utc, created_on_utc) values (?, ?, ?, ?, ?, ?, ?, ?)", hookId, entityName, actionName, payload,
+                attempts, error, attempts == 0 ? now : nextAttempt(attempts), now);
+    }
+
+    private OffsetDateTime nextAttempt(final int attempts) {
+        final long backoffSeconds = deliveryProperties.getRetryBackoffSeconds()
+                * (1L << Math.min(attempts - 1, MAX_BACKOFF_EXPONENT));
+        return DateUtils.getAuditOffsetDateTime().plusSeconds(Math.min(backoffSeconds, MAX_BACKOFF_SECONDS));
+    }
+
+    private static final class OutboxEntryMapper implements RowMapper<OutboxEntry> {
+
+        public String schema() {
+            return "select id, hook_id, entity_name, action_name, payload, attempts from m_hook_delivery_outbox"
+                    + " where next_attempt_on_utc <= ? and attempts < ? order by next_attempt_on_utc, id ";
+        }
+
+        @Override
+        public OutboxEntry mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+            return new OutboxEntry(rs.getLong("id"), rs.getLong("hook_id"), rs.getString("entity_name"), rs.getString("action_name"),
+                    rs.getString("payload"), rs.getInt("attempts"));
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class OutboxEntry {
+
+        private final Long id;
+        private final Long hookId;
+        private final String entityName;
+        private final String actionName;
+        private final String payload;
+        private final int attempts;
+    }
+}
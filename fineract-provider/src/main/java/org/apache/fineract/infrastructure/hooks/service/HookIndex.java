@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.domain.HookResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory index of the active hooks of every tenant, keyed by the entity and action of the events they listen to.
+ *
+ * The hooks of a tenant are loaded with a single query on first use and reloaded after the configured refresh interval,
+ * so looking up the hooks of a command does not hit the database. Changing a hook invalidates the index of the tenant
+ * right away and once more after the change was committed, so no stale index can be published in between.
+ */
+@Component
+@RequiredArgsConstructor
+public class HookIndex {
+
+    private final HookRepository hookRepository;
+    private final FineractProperties fineractProperties;
+
+    private final ConcurrentHashMap<String, TenantHooks> hooksByTenant = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> generationByTenant = new ConcurrentHashMap<>();
+
+    public List<Hook> getHooks(final String entityName, final String actionName) {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        TenantHooks hooks = hooksByTenant.get(tenantIdentifier);
+        if (hooks == null || hooks.isExpired(System.currentTimeMillis())) {
+            hooks = load(tenantIdentifier);
+        }
+        return hooks.get(entityName, actionName);
+    }
+
+    public void invalidate() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        evict(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    evict(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private TenantHooks load(final String tenantIdentifier) {
+        final long generation = generation(tenantIdentifier).get();
+        final Map<String, List<Hook>> hooksByEvent = new HashMap<>();
+        for (final Hook hook : hookRepository.findAllActiveHooks()) {
+            for (final HookResource event : hook.getEvents()) {
+                hooksByEvent.computeIfAbsent(key(event.getEntityName(), event.getActionName()), k -> new ArrayList<>()).add(hook);
+            }
+        }
+        final long refreshMillis = TimeUnit.SECONDS.toMillis(fineractProperties.getHooks().getIndexRefreshSeconds());
+        final TenantHooks loaded = new TenantHooks(hooksByEvent, System.currentTimeMillis() + refreshMillis);
+        // a hook changed while loading, the next lookup has to load the index again
+        hooksByTenant.compute(tenantIdentifier, (k, current) -> generation(tenantIdentifier).get() == generation ? loaded : current);
+        return loaded;
+    }
+
+    private void evict(final String tenantIdentifier) {
+        hooksByTenant.compute(tenantIdentifier, (k, current) -> {
+            generation(tenantIdentifier).incrementAndGet();
+            return null;
+        });
+    }
+
+    private AtomicLong generation(final String tenantIdentifier) {
+        return generationByTenant.computeIfAbsent(tenantIdentifier, k -> new AtomicLong());
+    }
+
+    private static String key(final String entityName, final String actionName) {
+        return entityName + ":" + actionName;
+    }
+
+    private static final class TenantHooks {
+
+        private final Map<String, List<Hook>> hooksByEvent;
+        private final long expiresAt;
+
+        private TenantHooks(final Map<String, List<Hook>> hooksByEvent, final long expiresAt) {
+            this.hooksByEvent = hooksByEvent;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return now >= expiresAt;
+        }
+
+        private List<Hook> get(final String entityName, final String actionName) {
+            return hooksByEvent.getOrDefault(key(entityName, actionName), List.of());
+        }
+    }
+}
@@ -32,10 +32,8 @@ import org.apache.fineract.infrastructure.hooks.data.Grouping;
 import org.apache.fineract.infrastructure.hooks.data.HookData;
 import org.apache.fineract.infrastructure.hooks.data.HookTemplateData;
 import org.apache.fineract.infrastructure.hooks.domain.Hook;
-import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
 import org.apache.fineract.infrastructure.hooks.exception.HookNotFoundException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -46,8 +44,8 @@ import org.springframework.stereotype.Service;
 public class HookReadPlatformServiceImpl implements HookReadPlatformService {
 
     private final JdbcTemplate jdbcTemplate;
-    private final HookRepository hookRepository;
     private final PlatformSecurityContext context;
+    private final HookIndex hookIndex;
 
     @Override
     public Collection<HookData> retrieveAllHooks() {
@@ -73,9 +71,8 @@ public class HookReadPlatformServiceImpl implements HookReadPlatformService {
     }
 
     @Override
-    @Cacheable(value = "hooks", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('HK')")
     public List<Hook> retrieveHooksByEvent(final String entityName, final String actionName) {
-        return hookRepository.findAllHooksListeningToEvent(entityName, actionName);
+        return hookIndex.getHooks(entityName, actionName);
     }
 
     @Override
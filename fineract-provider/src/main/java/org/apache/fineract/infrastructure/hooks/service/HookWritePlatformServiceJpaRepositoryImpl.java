@@ -64,7 +64,6 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.template.domain.Template;
 import org.apache.fineract.template.domain.TemplateRepository;
 import org.apache.fineract.template.exception.TemplateNotFoundException;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
@@ -81,10 +80,10 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
     private final HookCommandFromApiJsonDeserializer fromApiJsonDeserializer;
     private final FromJsonHelper fromApiJsonHelper;
     private final ProcessorHelper processorHelper;
+    private final HookIndex hookIndex;
 
     @Transactional
     @Override
-    @CacheEvict(value = "hooks", allEntries = true)
     public CommandProcessingResult createHook(final JsonCommand command) {
 
         try {
@@ -108,6 +107,7 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
             validateHookRules(template, config, allEvents);
 
             this.hookRepository.saveAndFlush(hook);
+            this.hookIndex.invalidate();
 
             return new CommandProcessingResultBuilder().withCommandId(command.commandId()).withEntityId(hook.getId()).build();
         } catch (final JpaSystemException | DataIntegrityViolationException dve) {
@@ -122,7 +122,6 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
 
     @Transactional
     @Override
-    @CacheEvict(value = "hooks", allEntries = true)
     public CommandProcessingResult updateHook(final Long hookId, final JsonCommand command) {
 
         try {
@@ -164,6 +163,7 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
                 }
 
                 this.hookRepository.saveAndFlush(hook);
+                this.hookIndex.invalidate();
             }
 
             return new CommandProcessingResultBuilder() //
@@ -183,13 +183,13 @@ public class HookWritePlatformServiceJpaRepositoryImpl implements HookWritePlatf
 
     @Transactional
     @Override
-    @CacheEvict(value = "hooks", allEntries = true)
     public CommandProcessingResult deleteHook(final Long hookId) {
 
         this.context.authenticatedUser();
         final Hook hook = retrieveHookBy(hookId);
         try {
             this.hookRepository.delete(hook);
+            this.hookIndex.invalidate();
         } catch (final JpaSystemException | DataIntegrityViolationException e) {
             throw new PlatformDataIntegrityException("error.msg.unknown.data.integrity.issue",
                     "Unknown data integrity issue with resource: " + e.getMostSpecificCause(), e);
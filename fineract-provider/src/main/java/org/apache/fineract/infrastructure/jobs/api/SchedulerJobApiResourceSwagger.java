@@ -94,6 +94,8 @@ final class SchedulerJobApiResourceSwagger {
             public String status;
             @Schema(example = "cron")
             public String triggerType;
+            @Schema(example = "PAY_DUE_SAVINGS_CHARGES partition - Step:partition_1: COMPLETED in 1520 ms, read 100, written 100, failed 0")
+            public String partitionTimings;
         }
 
         @Schema(example = "8")
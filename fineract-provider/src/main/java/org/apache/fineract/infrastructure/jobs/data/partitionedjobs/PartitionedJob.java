@@ -21,15 +21,27 @@ package org.apache.fineract.infrastructure.jobs.data.partitionedjobs;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.cob.loan.LoanCOBConstant;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.partitioning.IdRangePartitionedJobFactory;
 
 @RequiredArgsConstructor
 public enum PartitionedJob {
 
-    LOAN_COB(LoanCOBConstant.LOAN_COB_PARTITIONER_STEP);
+    LOAN_COB(LoanCOBConstant.LOAN_COB_PARTITIONER_STEP, false), //
+    ADD_PERIODIC_ACCRUAL_ENTRIES(IdRangePartitionedJobFactory.getPartitionerStepName(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES), true), //
+    APPLY_CHARGE_TO_OVERDUE_LOAN_INSTALLMENT(
+            IdRangePartitionedJobFactory.getPartitionerStepName(JobName.APPLY_CHARGE_TO_OVERDUE_LOAN_INSTALLMENT), true), //
+    PAY_DUE_SAVINGS_CHARGES(IdRangePartitionedJobFactory.getPartitionerStepName(JobName.PAY_DUE_SAVINGS_CHARGES), true);
 
     @Getter
     private final String partitionerStepName;
 
+    /**
+     * Whether the job runs as a tasklet unless it has an entry in the partitioned job properties.
+     */
+    @Getter
+    private final boolean partitionedOnlyIfConfigured;
+
     public static boolean existsByJobName(String jobName) {
         PartitionedJob partitionedJob = null;
         for (PartitionedJob job : values()) {
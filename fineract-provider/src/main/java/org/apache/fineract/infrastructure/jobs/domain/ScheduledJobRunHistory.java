@@ -67,6 +67,9 @@ public class ScheduledJobRunHistory extends AbstractPersistableCustom {
     @Column(name = "error_log")
     private String errorLog;
 
+    @Column(name = "partition_timings")
+    private String partitionTimings;
+
     public ScheduledJobRunHistory(final ScheduledJobDetail scheduledJobDetail, final Long version, final Date startTime, final Date endTime,
             final String status, final String errorMessage, final String triggerType, final String errorLog) {
         this.scheduledJobDetail = scheduledJobDetail;
@@ -63,7 +63,10 @@ public class LoanCOBApiFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        request = new BodyCachingHttpServletRequestWrapper(request);
+        // only the batch API body is read by the filter, everything else is streamed to the resource untouched
+        if (helper.isBatchApi(request.getPathInfo())) {
+            request = new BodyCachingHttpServletRequestWrapper(request);
+        }
 
         if (!helper.isOnApiList(request)) {
             proceed(filterChain, request, response);
@@ -29,6 +29,7 @@ import com.google.common.collect.Lists;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -36,7 +37,6 @@ import java.util.List;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.batch.domain.BatchRequest;
 import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
@@ -44,6 +44,7 @@ import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
 import org.apache.fineract.cob.service.LoanAccountLockService;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -72,6 +73,7 @@ public class LoanCOBFilterHelper implements InitializingBean {
     private final LoanRepository loanRepository;
     private final FineractProperties fineractProperties;
     private final RetrieveLoanIdService retrieveLoanIdService;
+    private final LoanCOBStateCache loanCOBStateCache;
 
     private final LoanRescheduleRequestRepository loanRescheduleRequestRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -154,8 +156,8 @@ public class LoanCOBFilterHelper implements InitializingBean {
                 && URL_FUNCTION.test(pathInfo);
     }
 
-    private boolean isBatchApi(String pathInfo) {
-        return pathInfo.startsWith("/v1/batches");
+    public boolean isBatchApi(String pathInfo) {
+        return pathInfo != null && pathInfo.startsWith("/v1/batches");
     }
 
     private boolean isGlim(String pathInfo) {
@@ -181,15 +183,34 @@ public class LoanCOBFilterHelper implements InitializingBean {
     }
 
     private boolean isLoanHardLocked(List<Long> loanIds) {
+        // always checked in the database, the COB state cache is neither shared between the nodes nor aware of a COB date
+        // change before the business dates of this node are refreshed
         return loanIds.stream().anyMatch(loanAccountLockService::isLoanHardLocked);
     }
 
     public boolean isLoanBehind(List<Long> loanIds) {
+        List<Long> notUpToDateLoanIds = loanIds.stream().filter(loanId -> !loanCOBStateCache.isUpToDate(loanId)).toList();
+        if (notUpToDateLoanIds.isEmpty()) {
+            return false;
+        }
+        LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
         List<LoanIdAndLastClosedBusinessDate> loanIdAndLastClosedBusinessDates = new ArrayList<>();
-        List<List<Long>> partitions = Lists.partition(loanIds, fineractProperties.getQuery().getInClauseParameterSizeLimit());
-        partitions.forEach(partition -> loanIdAndLastClosedBusinessDates.addAll(retrieveLoanIdService
-                .retrieveLoanIdsBehindDate(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE), partition)));
-        return CollectionUtils.isNotEmpty(loanIdAndLastClosedBusinessDates);
+        List<List<Long>> partitions = Lists.partition(notUpToDateLoanIds,
+                fineractProperties.getQuery().getInClauseParameterSizeLimit());
+        partitions.forEach(partition -> loanIdAndLastClosedBusinessDates
+                .addAll(retrieveLoanIdService.retrieveLoanIdsBehindOrUpToDate(cobBusinessDate, partition)));
+
+        boolean behind = false;
+        List<Long> upToDateLoanIds = new ArrayList<>();
+        for (LoanIdAndLastClosedBusinessDate loan : loanIdAndLastClosedBusinessDates) {
+            if (loan.getLastClosedBusinessDate() == null || loan.getLastClosedBusinessDate().isBefore(cobBusinessDate)) {
+                behind = true;
+            } else {
+                upToDateLoanIds.add(loan.getId());
+            }
+        }
+        loanCOBStateCache.markUpToDate(upToDateLoanIds, cobBusinessDate);
+        return behind;
     }
 
     public List<Long> calculateRelevantLoanIds(HttpServletRequest request) throws IOException {
@@ -22,12 +22,15 @@ import java.time.LocalDate;
 import java.util.Date;
 import java.util.HashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.jobs.domain.ScheduledJobDetail;
 import org.apache.fineract.infrastructure.jobs.domain.ScheduledJobRunHistory;
+import org.apache.fineract.infrastructure.jobs.service.jobname.JobNameService;
+import org.apache.fineract.infrastructure.springbatch.partitioning.PartitionTimingService;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
 import org.quartz.JobExecutionContext;
@@ -43,6 +46,7 @@ import org.springframework.stereotype.Component;
  * Global job Listener class to set Tenant details to {@link ThreadLocalContextUtil} for batch Job and stores the batch
  * job status to database after the execution
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SchedulerJobListener implements JobListener {
@@ -50,6 +54,8 @@ public class SchedulerJobListener implements JobListener {
     private final SchedularWritePlatformService schedularService;
     private final AppUserRepositoryWrapper userRepository;
     private final BusinessDateReadPlatformService businessDateReadPlatformService;
+    private final JobNameService jobNameService;
+    private final PartitionTimingService partitionTimingService;
     private int stackTraceLevel = 0;
 
     @Override
@@ -112,13 +118,25 @@ public class SchedulerJobListener implements JobListener {
 
         final ScheduledJobRunHistory runHistory = new ScheduledJobRunHistory().setScheduledJobDetail(scheduledJobDetails)
                 .setVersion(version).setStartTime(context.getFireTime()).setEndTime(new Date()).setStatus(status)
-                .setErrorMessage(errorMessage).setTriggerType(triggerType).setErrorLog(errorLog);
+                .setErrorMessage(errorMessage).setTriggerType(triggerType).setErrorLog(errorLog)
+                .setPartitionTimings(getPartitionTimings(scheduledJobDetails));
         // scheduledJobDetails.addRunHistory(runHistory);
 
         this.schedularService.saveOrUpdate(scheduledJobDetails, runHistory);
 
     }
 
+    private String getPartitionTimings(final ScheduledJobDetail scheduledJobDetails) {
+        try {
+            final String jobName = jobNameService.getJobByHumanReadableName(scheduledJobDetails.getJobName()).getEnumStyleName();
+            return partitionTimingService.summarizeLastExecution(jobName);
+        } catch (RuntimeException e) {
+            // the timings are informative only, the run history is saved without them
+            log.warn("Failed to summarize the partitions of job {}", scheduledJobDetails.getJobName(), e);
+            return null;
+        }
+    }
+
     private Throwable getCauseFromException(final Throwable exception) {
         if (this.stackTraceLevel <= SchedulerServiceConstants.STACK_TRACE_LEVEL && exception.getCause() != null
                 && (exception.getCause().toString().contains(SchedulerServiceConstants.SCHEDULER_EXCEPTION)
@@ -157,7 +157,8 @@ public class SchedulerJobRunnerReadServiceImpl implements SchedulerJobRunnerRead
                     " job.id,job.display_name as displayName,job.next_run_time as nextRunTime,job.initializing_errorlog as initializingError,job.cron_expression as cronExpression,job.is_active as active,job.currently_running as currentlyRunning,")
                     .append(" runHistory.version,runHistory.start_time as lastRunStartTime,runHistory.end_time as lastRunEndTime,runHistory.")
                     .append(sqlGenerator.escape("status"))
-                    .append(",runHistory.error_message as jobRunErrorMessage,runHistory.trigger_type as triggerType,runHistory.error_log as jobRunErrorLog ")
+                    .append(",runHistory.error_message as jobRunErrorMessage,runHistory.trigger_type as triggerType,runHistory.error_log as jobRunErrorLog,"
+                            + "runHistory.partition_timings as partitionTimings ")
                     .append(" from job job  left join job_run_history runHistory ON job.id=runHistory.job_id and job.previous_run_start_time=runHistory.start_time ");
         }
 
@@ -205,7 +206,8 @@ public class SchedulerJobRunnerReadServiceImpl implements SchedulerJobRunnerRead
             sqlBuilder = new StringBuilder(200)
                     .append(" runHistory.version,runHistory.start_time as runStartTime,runHistory.end_time as runEndTime,runHistory."
                             + sqlGenerator.escape("status")
-                            + ",runHistory.error_message as jobRunErrorMessage,runHistory.trigger_type as triggerType,runHistory.error_log as jobRunErrorLog ")
+                            + ",runHistory.error_message as jobRunErrorMessage,runHistory.trigger_type as triggerType,runHistory.error_log as jobRunErrorLog,"
+                            + "runHistory.partition_timings as partitionTimings ")
                     .append(" from job job join job_run_history runHistory ON job.id=runHistory.job_id");
         }
 
@@ -222,9 +224,10 @@ public class SchedulerJobRunnerReadServiceImpl implements SchedulerJobRunnerRead
             final String jobRunErrorMessage = rs.getString("jobRunErrorMessage");
             final String triggerType = rs.getString("triggerType");
             final String jobRunErrorLog = rs.getString("jobRunErrorLog");
+            final String partitionTimings = rs.getString("partitionTimings");
             final JobDetailHistoryData jobDetailHistory = new JobDetailHistoryData().setVersion(version).setJobRunStartTime(jobRunStartTime)
                     .setJobRunEndTime(jobRunEndTime).setStatus(status).setJobRunErrorMessage(jobRunErrorMessage).setTriggerType(triggerType)
-                    .setJobRunErrorLog(jobRunErrorLog);
+                    .setJobRunErrorLog(jobRunErrorLog).setPartitionTimings(partitionTimings);
             return jobDetailHistory;
         }
 
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.jobs.data.partitionedjobs.PartitionedJob;
 import org.apache.fineract.infrastructure.jobs.domain.JobExecutionRepository;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.TransactionStatus;
@@ -39,6 +40,7 @@ public class StuckJobExecutorServiceImpl implements StuckJobExecutorService {
     private final JobExecutionRepository jobExecutionRepository;
     private final TransactionTemplate transactionTemplate;
     private final JobOperator jobOperator;
+    private final PropertyService propertyService;
 
     @Override
     public void resumeStuckJob(String jobName) {
@@ -67,7 +69,10 @@ public class StuckJobExecutorServiceImpl implements StuckJobExecutorService {
     }
 
     private boolean isPartitionedJob(String jobName) {
-        return PartitionedJob.existsByJobName(jobName);
+        if (!PartitionedJob.existsByJobName(jobName)) {
+            return false;
+        }
+        return !PartitionedJob.valueOf(jobName).isPartitionedOnlyIfConfigured() || propertyService.isPartitionedJob(jobName);
     }
 
     private String getPartitionerStepName(String name) {
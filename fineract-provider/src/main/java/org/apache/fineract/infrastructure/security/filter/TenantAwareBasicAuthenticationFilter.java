@@ -30,7 +30,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
-import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
+import org.apache.fineract.infrastructure.businessdate.service.BusinessDateCache;
 import org.apache.fineract.infrastructure.cache.domain.CacheType;
 import org.apache.fineract.infrastructure.cache.service.CacheWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
@@ -76,7 +76,7 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
     private final CacheWritePlatformService cacheWritePlatformService;
     private final UserNotificationService userNotificationService;
     private final BasicAuthTenantDetailsService basicAuthTenantDetailsService;
-    private final BusinessDateReadPlatformService businessDateReadPlatformService;
+    private final BusinessDateCache businessDateCache;
 
     @Setter
     private RequestMatcher requestMatcher = AnyRequestMatcher.INSTANCE;
@@ -85,14 +85,14 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
             final AuthenticationEntryPoint authenticationEntryPoint, ToApiJsonSerializer<PlatformRequestLog> toApiJsonSerializer,
             ConfigurationDomainService configurationDomainService, CacheWritePlatformService cacheWritePlatformService,
             UserNotificationService userNotificationService, BasicAuthTenantDetailsService basicAuthTenantDetailsService,
-            BusinessDateReadPlatformService businessDateReadPlatformService) {
+            BusinessDateCache businessDateCache) {
         super(authenticationManager, authenticationEntryPoint);
         this.toApiJsonSerializer = toApiJsonSerializer;
         this.configurationDomainService = configurationDomainService;
         this.cacheWritePlatformService = cacheWritePlatformService;
         this.userNotificationService = userNotificationService;
         this.basicAuthTenantDetailsService = basicAuthTenantDetailsService;
-        this.businessDateReadPlatformService = businessDateReadPlatformService;
+        this.businessDateCache = businessDateCache;
     }
 
     @Override
@@ -129,7 +129,7 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
                     }
                     final FineractPlatformTenant tenant = basicAuthTenantDetailsService.loadTenantById(tenantIdentifier, isReportRequest);
                     ThreadLocalContextUtil.setTenant(tenant);
-                    HashMap<BusinessDateType, LocalDate> businessDates = businessDateReadPlatformService.getBusinessDates();
+                    HashMap<BusinessDateType, LocalDate> businessDates = businessDateCache.getBusinessDates();
                     ThreadLocalContextUtil.setBusinessDates(businessDates);
                     String authToken = request.getHeader("Authorization");
 
@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Short lived, tenant scoped cache of successful basic authentications.
+ *
+ * Entries are keyed by a HMAC of the username and password, with a key which is generated on startup and never leaves
+ * the JVM, so neither the password nor a plain hash of it is kept in memory. Changing a user, a role or the permissions
+ * of a tenant drops all cached authentications of that tenant.
+ */
+@Component
+public class BasicAuthenticationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+
+    private final FineractProperties.FineractSecurityBasicAuthCache cacheProperties;
+    private final SecretKeySpec secretKey;
+    private final Map<String, Map<String, CachedAuthentication>> authenticationsByTenant = new ConcurrentHashMap<>();
+
+    public BasicAuthenticationCache(final FineractProperties fineractProperties) {
+        this.cacheProperties = fineractProperties.getSecurity().getBasicauth().getCache();
+        final byte[] key = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        this.secretKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        return cacheProperties != null && cacheProperties.isEnabled();
+    }
+
+    public Authentication get(final String username, final String password) {
+        final Map<String, CachedAuthentication> authentications = authenticationsByTenant.get(tenantIdentifier());
+        if (authentications == null) {
+            return null;
+        }
+        final String key = key(username, password);
+        final CachedAuthentication cached = authentications.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            authentications.remove(key, cached);
+            return null;
+        }
+        return cached.authentication;
+    }
+
+    public void put(final String username, final String password, final Authentication authentication) {
+        final Map<String, CachedAuthentication> authentications = authenticationsByTenant
+                .computeIfAbsent(tenantIdentifier(), k -> new ConcurrentHashMap<>());
+        final long now = System.currentTimeMillis();
+        if (authentications.size() >= cacheProperties.getMaxEntries()) {
+            authentications.values().removeIf(cached -> cached.isExpired(now));
+            if (authentications.size() >= cacheProperties.getMaxEntries()) {
+                return;
+            }
+        }
+        authentications.put(key(username, password),
+                new CachedAuthentication(authentication, now + TimeUnit.SECONDS.toMillis(cacheProperties.getTtlSeconds())));
+    }
+
+    /**
+     * Drops the cached authentications of the current tenant, right away and once more after the current transaction was
+     * committed, so an authentication which was cached while the change was in flight does not survive it.
+     */
+    public void invalidate() {
+        final String tenantIdentifier = tenantIdentifier();
+        authenticationsByTenant.remove(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    authenticationsByTenant.remove(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private String key(final String username, final String password) {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not calculate the key of the authentication", e);
+        }
+    }
+
+    private static String tenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+
+    private static final class CachedAuthentication {
+
+        private final Authentication authentication;
+        private final long expiresAt;
+
+        private CachedAuthentication(final Authentication authentication, final long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * {@link AuthenticationManager} which serves repeated basic authentications of the same credentials from the
+ * {@link BasicAuthenticationCache}, so the password is only hashed once per cache period.
+ */
+@RequiredArgsConstructor
+public class CachingAuthenticationManager implements AuthenticationManager {
+
+    private final AuthenticationManager delegate;
+    private final BasicAuthenticationCache basicAuthenticationCache;
+
+    @Override
+    public Authentication authenticate(final Authentication authentication) throws AuthenticationException {
+        if (!basicAuthenticationCache.isEnabled() || !(authentication instanceof UsernamePasswordAuthenticationToken)
+                || !(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+        final String username = authentication.getName();
+        final Authentication cached = basicAuthenticationCache.get(username, password);
+        if (cached != null) {
+            return cached;
+        }
+        final Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            basicAuthenticationCache.put(username, password, result);
+        }
+        return result;
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.fineract.infrastructure.springbatch;
 
 public interface PropertyService {
 
+    boolean isPartitionedJob(String jobName);
+
     Integer getPartitionSize(String jobName);
 
     Integer getChunkSize(String jobName);
@@ -33,4 +35,6 @@ public interface PropertyService {
     Integer getThreadPoolQueueCapacity(String jobName);
 
     Integer getPollInterval(String jobName);
+
+    Integer getPrefetchDepth(String jobName);
 }
@@ -30,6 +30,12 @@ public class PropertyServiceImpl implements PropertyService {
 
     private final FineractProperties fineractProperties;
 
+    @Override
+    public boolean isPartitionedJob(String jobName) {
+        return fineractProperties.getPartitionedJob().getPartitionedJobProperties().stream()
+                .anyMatch(jobProperty -> jobName.equals(jobProperty.getJobName()));
+    }
+
     @Override
     public Integer getPartitionSize(String jobName) {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPartitionSize);
@@ -65,6 +71,11 @@ public class PropertyServiceImpl implements PropertyService {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPollInterval);
     }
 
+    @Override
+    public Integer getPrefetchDepth(String jobName) {
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPrefetchDepth);
+    }
+
     private Integer getProperty(String jobName, Function<? super FineractProperties.PartitionedJobProperty, Integer> function) {
         List<FineractProperties.PartitionedJobProperty> jobProperties = fineractProperties.getPartitionedJob()
                 .getPartitionedJobProperties();
@@ -0,0 +1,44 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partitioning;
+
+import java.util.List;
+
+/**
+ * Work of a batch job which can be split into ranges of entity ids, so the ranges can be processed by the batch workers
+ * in parallel.
+ */
+public interface IdRangeJobWork {
+
+    /**
+     * Retrieves the ids of the entities to be processed in ascending order.
+     *
+     * @param fromId
+     *            the lowest id to retrieve (inclusive), or null for no lower limit
+     * @param toId
+     *            the highest id to retrieve (inclusive), or null for no upper limit
+     */
+    List<Long> retrieveIds(Long fromId, Long toId);
+
+    /**
+     * Processes a single entity. It is called in a new transaction for every entity, so a failure only rolls back the
+     * changes of the given entity.
+     */
+    void process(Long id) throws Exception;
+}
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partitioning;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.integration.partition.RemotePartitioningManagerStepBuilderFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Builds the jobs which are able to run either as a single tasklet or partitioned by id ranges across the batch workers.
+ *
+ * A job is partitioned only if this instance is a batch manager and the job has an entry in the partitioned job
+ * properties, otherwise the tasklet of the job runs as before. The workers need the worker step of the job, registered
+ * as a bean with the worker step name passed here, because the partitions are sent to them by the name of the step.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdRangePartitionedJobFactory {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+    private final PropertyService propertyService;
+    private final AppUserRepositoryWrapper userRepository;
+    private final ObjectProvider<RemotePartitioningManagerStepBuilderFactory> managerStepBuilderFactory;
+    private final ObjectProvider<DirectChannel> outboundRequests;
+
+    public static String getPartitionerStepName(JobName jobName) {
+        return jobName.name() + " partition - Step";
+    }
+
+    public Job createJob(JobName jobName, Step taskletStep, String workerStepName, IdRangeJobWork work) {
+        Step step = isPartitioned(jobName) ? createPartitionerStep(jobName, workerStepName, work) : taskletStep;
+        return new JobBuilder(jobName.name(), jobRepository).start(step).incrementer(new RunIdIncrementer()).build();
+    }
+
+    public Step createWorkerStep(JobName jobName, IdRangeJobWork work) {
+        return new IdRangeWorkerStep(jobName.name() + " worker - Step", jobRepository, transactionManager, userRepository, work,
+                propertyService.getChunkSize(jobName.name()));
+    }
+
+    public boolean isPartitioned(JobName jobName) {
+        return fineractProperties.getMode().isBatchManagerEnabled() && propertyService.isPartitionedJob(jobName.name())
+                && managerStepBuilderFactory.getIfAvailable() != null;
+    }
+
+    private Step createPartitionerStep(JobName jobName, String workerStepName, IdRangeJobWork work) {
+        IdRangePartitioner partitioner = new IdRangePartitioner(jobName.name(), work, propertyService.getPartitionSize(jobName.name()));
+        return managerStepBuilderFactory.getObject().get(getPartitionerStepName(jobName)) //
+                .partitioner(workerStepName, partitioner) //
+                .pollInterval(propertyService.getPollInterval(jobName.name())) //
+                .outputChannel(outboundRequests.getObject()) //
+                .build();
+    }
+}
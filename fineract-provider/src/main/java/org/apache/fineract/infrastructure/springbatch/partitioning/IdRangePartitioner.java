@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partitioning;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StopWatch;
+
+/**
+ * Splits the ids of an {@link IdRangeJobWork} into contiguous id ranges holding at most partition size entities each.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String PARTITION_PREFIX = "partition_";
+    public static final String PARTITION_KEY = "partition";
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private final String jobName;
+    private final IdRangeJobWork work;
+    private final int partitionSize;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        StopWatch sw = new StopWatch();
+        sw.start();
+        List<Long> ids = work.retrieveIds(null, null);
+        sw.stop();
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int from = 0; from < ids.size(); from += partitionSize) {
+            int to = Math.min(from + partitionSize, ids.size()) - 1;
+            String partitionName = PARTITION_PREFIX + (partitions.size() + 1);
+            partitions.put(partitionName, createPartition(partitionName, ids.get(from), ids.get(to)));
+        }
+        // like the loan COB, at least one partition is created even if there is nothing to be processed
+        if (partitions.isEmpty()) {
+            partitions.put(PARTITION_PREFIX + 1, createPartition(PARTITION_PREFIX + 1, 0L, 0L));
+        }
+        log.info("{} found {} entities to be processed. {} partitions were created using partition size {}. Retrieving the ids took {} ms.",
+                jobName, ids.size(), partitions.size(), partitionSize, sw.getTotalTimeMillis());
+        return partitions;
+    }
+
+    private ExecutionContext createPartition(String partitionName, Long minId, Long maxId) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putString(PARTITION_KEY, partitionName);
+        executionContext.putLong(MIN_ID_KEY, minId);
+        executionContext.putLong(MAX_ID_KEY, maxId);
+        return executionContext;
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partitioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.JobInterruptedException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.AbstractStep;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+/**
+ * Worker step processing the id range of a single partition created by the {@link IdRangePartitioner}.
+ *
+ * Every entity is processed in its own transaction. The progress is saved in the execution context of the partition after
+ * every chunk, so a restarted partition retries the entities which failed and goes on after the last processed id
+ * instead of starting over. The partition fails if any of its entities failed.
+ */
+@Slf4j
+public class IdRangeWorkerStep extends AbstractStep {
+
+    public static final String LAST_PROCESSED_ID_KEY = "lastProcessedId";
+    public static final String FAILED_IDS_KEY = "failedIds";
+
+    private static final TransactionDefinition NEW_TRANSACTION = new DefaultTransactionDefinition(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    private final IdRangeJobWork work;
+    private final PlatformTransactionManager transactionManager;
+    private final AppUserRepositoryWrapper userRepository;
+    private final int chunkSize;
+
+    public IdRangeWorkerStep(String name, JobRepository jobRepository, PlatformTransactionManager transactionManager,
+            AppUserRepositoryWrapper userRepository, IdRangeJobWork work, int chunkSize) {
+        super(name);
+        setJobRepository(jobRepository);
+        this.transactionManager = transactionManager;
+        this.userRepository = userRepository;
+        this.work = work;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void doExecute(StepExecution stepExecution) throws Exception {
+        initialiseContext();
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        long maxId = executionContext.getLong(IdRangePartitioner.MAX_ID_KEY);
+        long fromId = executionContext.containsKey(LAST_PROCESSED_ID_KEY) ? executionContext.getLong(LAST_PROCESSED_ID_KEY) + 1
+                : executionContext.getLong(IdRangePartitioner.MIN_ID_KEY);
+        Set<Long> failedIds = parseIds(executionContext.getString(FAILED_IDS_KEY, ""));
+        List<Long> ids = new ArrayList<>(failedIds);
+        if (fromId <= maxId) {
+            ids.addAll(work.retrieveIds(fromId, maxId));
+        }
+
+        List<Throwable> errors = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            if (stepExecution.isTerminateOnly()) {
+                throw new JobInterruptedException("Partition " + stepExecution.getStepName() + " was stopped");
+            }
+            for (Long id : ids.subList(from, Math.min(from + chunkSize, ids.size()))) {
+                stepExecution.setReadCount(stepExecution.getReadCount() + 1);
+                try {
+                    processInNewTransaction(id);
+                    failedIds.remove(id);
+                    stepExecution.setWriteCount(stepExecution.getWriteCount() + 1);
+                } catch (Exception e) {
+                    log.error("{} failed to process id {}", getName(), id, e);
+                    failedIds.add(id);
+                    errors.add(e);
+                    stepExecution.setProcessSkipCount(stepExecution.getProcessSkipCount() + 1);
+                }
+                if (id >= fromId) {
+                    executionContext.putLong(LAST_PROCESSED_ID_KEY, id);
+                }
+            }
+            executionContext.putString(FAILED_IDS_KEY, failedIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            stepExecution.incrementCommitCount();
+            getJobRepository().updateExecutionContext(stepExecution);
+            getJobRepository().update(stepExecution);
+        }
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
+        }
+    }
+
+    private void initialiseContext() {
+        AppUser user = userRepository.fetchSystemUser();
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(user, user.getPassword(), user.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        // the input channel sets up the context of the loan COB, these jobs run with the business date of the manager
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+    }
+
+    private void processInNewTransaction(Long id) throws Exception {
+        TransactionStatus status = transactionManager.getTransaction(NEW_TRANSACTION);
+        try {
+            work.process(id);
+        } catch (Exception e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+        transactionManager.commit(status);
+    }
+
+    private static Set<Long> parseIds(String ids) {
+        Set<Long> result = new LinkedHashSet<>();
+        if (StringUtils.isNotBlank(ids)) {
+            Arrays.stream(ids.split(",")).map(Long::valueOf).forEach(result::add);
+        }
+        return result;
+    }
+}
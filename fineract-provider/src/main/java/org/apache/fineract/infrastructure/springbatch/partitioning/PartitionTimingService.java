@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partitioning;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Summarizes the partitions of a partitioned job execution for the job run history, one line per partition with its
+ * status, duration and item counts.
+ */
+@Service
+@RequiredArgsConstructor
+public class PartitionTimingService {
+
+    private final JobExplorer jobExplorer;
+
+    /**
+     * @return the summary of the partitions of the last execution of the given job, or null if it was not partitioned
+     */
+    public String summarizeLastExecution(String jobName) {
+        JobInstance jobInstance = jobExplorer.getLastJobInstance(jobName);
+        if (jobInstance == null) {
+            return null;
+        }
+        JobExecution jobExecution = jobExplorer.getLastJobExecution(jobInstance);
+        return jobExecution == null ? null : summarize(jobExecution);
+    }
+
+    public static String summarize(JobExecution jobExecution) {
+        Set<String> stepNames = jobExecution.getStepExecutions().stream().map(StepExecution::getStepName).collect(Collectors.toSet());
+        String summary = jobExecution.getStepExecutions().stream() //
+                .filter(stepExecution -> isPartition(stepExecution.getStepName(), stepNames)) //
+                .sorted(Comparator.comparing(StepExecution::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()))) //
+                .map(PartitionTimingService::summarize) //
+                .collect(Collectors.joining("\n"));
+        return summary.isEmpty() ? null : summary;
+    }
+
+    // the step executions of the partitions are named after the partitioner step and the name of the partition
+    private static boolean isPartition(String stepName, Set<String> stepNames) {
+        int separator = stepName.lastIndexOf(':');
+        return separator > 0 && stepNames.contains(stepName.substring(0, separator));
+    }
+
+    private static String summarize(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        LocalDateTime endTime = stepExecution.getEndTime();
+        String duration = startTime == null || endTime == null ? "-" : Duration.between(startTime, endTime).toMillis() + " ms";
+        return String.format("%s: %s in %s, read %d, written %d, failed %d", stepExecution.getStepName(), stepExecution.getStatus(),
+                duration, stepExecution.getReadCount(), stepExecution.getWriteCount(), stepExecution.getProcessSkipCount());
+    }
+}
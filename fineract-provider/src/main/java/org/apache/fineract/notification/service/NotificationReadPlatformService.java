@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.notification.service;
 
+import java.util.Collection;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.notification.data.NotificationData;
@@ -26,6 +27,8 @@ public interface NotificationReadPlatformService {
 
     boolean hasUnreadNotifications(Long appUserId);
 
+    void updateUnreadNotificationsCache(Collection<Long> appUserIds, boolean hasNotifications);
+
     Page<NotificationData> getAllUnreadNotifications(SearchParameters searchParameters);
 
     Page<NotificationData> getAllNotifications(SearchParameters searchParameters);
@@ -20,9 +20,12 @@ package org.apache.fineract.notification.service;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
@@ -32,70 +35,56 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.infrastructure.security.utils.ColumnValidator;
 import org.apache.fineract.notification.cache.CacheNotificationResponseHeader;
 import org.apache.fineract.notification.data.NotificationData;
-import org.apache.fineract.notification.data.NotificationMapperData;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 
 @RequiredArgsConstructor
 public class NotificationReadPlatformServiceImpl implements NotificationReadPlatformService {
 
-    private HashMap<Long, HashMap<Long, CacheNotificationResponseHeader>> tenantNotificationResponseHeaderCache = new HashMap<>();
+    private final Map<Long, Map<Long, CacheNotificationResponseHeader>> tenantNotificationResponseHeaderCache = new ConcurrentHashMap<>();
 
     private final NotificationDataRow notificationDataRow = new NotificationDataRow();
-    private final NotificationMapperRow notificationMapperRow = new NotificationMapperRow();
 
     private final JdbcTemplate jdbcTemplate;
     private final PlatformSecurityContext context;
     private final ColumnValidator columnValidator;
     private final PaginationHelper paginationHelper;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
 
     @Override
     public boolean hasUnreadNotifications(Long appUserId) {
-        Long tenantId = ThreadLocalContextUtil.getTenant().getId();
         Long now = System.currentTimeMillis() / 1000L;
-        if (this.tenantNotificationResponseHeaderCache.containsKey(tenantId)) {
-            HashMap<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = this.tenantNotificationResponseHeaderCache
-                    .get(tenantId);
-            if (notificationResponseHeaderCache.containsKey(appUserId)) {
-                Long lastFetch = notificationResponseHeaderCache.get(appUserId).getLastFetch();
-                if ((now - lastFetch) > 1) {
-                    return this.createUpdateCacheValue(appUserId, now, notificationResponseHeaderCache);
-                } else {
-                    return notificationResponseHeaderCache.get(appUserId).hasNotifications();
-                }
-            } else {
-                return this.createUpdateCacheValue(appUserId, now, notificationResponseHeaderCache);
-            }
-        } else {
-            return this.initializeTenantNotificationResponseHeaderCache(tenantId, now, appUserId);
-
+        CacheNotificationResponseHeader cached = getNotificationResponseHeaderCache().get(appUserId);
+        if (cached != null && (now - cached.getLastFetch()) <= getUnreadRefreshSeconds()) {
+            return cached.hasNotifications();
         }
+        boolean hasNotifications = checkForUnreadNotifications(appUserId);
+        getNotificationResponseHeaderCache().put(appUserId, new CacheNotificationResponseHeader(hasNotifications, now));
+        return hasNotifications;
     }
 
-    private boolean initializeTenantNotificationResponseHeaderCache(Long tenantId, Long now, Long appUserId) {
-        HashMap<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = new HashMap<>();
-        this.tenantNotificationResponseHeaderCache.put(tenantId, notificationResponseHeaderCache);
-        return this.createUpdateCacheValue(appUserId, now, notificationResponseHeaderCache);
+    @Override
+    public void updateUnreadNotificationsCache(Collection<Long> appUserIds, boolean hasNotifications) {
+        Long now = System.currentTimeMillis() / 1000L;
+        Map<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = getNotificationResponseHeaderCache();
+        for (Long appUserId : appUserIds) {
+            notificationResponseHeaderCache.put(appUserId, new CacheNotificationResponseHeader(hasNotifications, now));
+        }
     }
 
-    private boolean createUpdateCacheValue(Long appUserId, Long now,
-            HashMap<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache) {
-        boolean hasNotifications;
+    private Map<Long, CacheNotificationResponseHeader> getNotificationResponseHeaderCache() {
         Long tenantId = ThreadLocalContextUtil.getTenant().getId();
-        CacheNotificationResponseHeader cacheNotificationResponseHeader;
-        hasNotifications = checkForUnreadNotifications(appUserId);
-        cacheNotificationResponseHeader = new CacheNotificationResponseHeader(hasNotifications, now);
-        notificationResponseHeaderCache.put(appUserId, cacheNotificationResponseHeader);
-        this.tenantNotificationResponseHeaderCache.put(tenantId, notificationResponseHeaderCache);
-        return hasNotifications;
+        return this.tenantNotificationResponseHeaderCache.computeIfAbsent(tenantId, k -> new ConcurrentHashMap<>());
+    }
+
+    private long getUnreadRefreshSeconds() {
+        return fineractProperties.getNotification().getUserNotificationSystem().getUnreadRefreshSeconds();
     }
 
     private boolean checkForUnreadNotifications(Long appUserId) {
-        String sql = "SELECT id, notification_id as notificationId, user_id as userId, is_read as isRead, created_at "
-                + "as createdAt FROM notification_mapper WHERE user_id = ? AND is_read = false";
-        List<NotificationMapperData> notificationMappers = this.jdbcTemplate.query(sql, notificationMapperRow, appUserId);
-        return notificationMappers.size() > 0;
+        String sql = "SELECT nm.id FROM notification_mapper nm WHERE nm.user_id = ? AND nm.is_read = false " + sqlGenerator.limit(1);
+        return !this.jdbcTemplate.queryForList(sql, Long.class, appUserId).isEmpty();
     }
 
     @Override
@@ -103,6 +92,7 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
         final Long appUserId = context.authenticatedUser().getId();
         String sql = "UPDATE notification_mapper SET is_read = true WHERE is_read = false and user_id = ?";
         this.jdbcTemplate.update(sql, appUserId);
+        updateUnreadNotificationsCache(List.of(appUserId), false);
     }
 
     @Override
@@ -157,31 +147,6 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
         return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), params, this.notificationDataRow);
     }
 
-    private static final class NotificationMapperRow implements RowMapper<NotificationMapperData> {
-
-        @Override
-        public NotificationMapperData mapRow(ResultSet rs, int rowNum) throws SQLException {
-            NotificationMapperData notificationMapperData = new NotificationMapperData();
-
-            final Long id = rs.getLong("id");
-            notificationMapperData.setId(id);
-
-            final Long notificationId = rs.getLong("notificationId");
-            notificationMapperData.setNotificationId(notificationId);
-
-            final Long userId = rs.getLong("userId");
-            notificationMapperData.setUserId(userId);
-
-            final boolean isRead = rs.getBoolean("isRead");
-            notificationMapperData.setRead(isRead);
-
-            final String createdAt = rs.getString("createdAt");
-            notificationMapperData.setCreatedAt(createdAt);
-
-            return notificationMapperData;
-        }
-    }
-
     private static final class NotificationDataRow implements RowMapper<NotificationData> {
 
         @Override
@@ -37,6 +37,7 @@ public class NotificationWritePlatformServiceImpl implements NotificationWritePl
     private final NotificationGeneratorReadRepositoryWrapper notificationGeneratorReadRepositoryWrapper;
     private final AppUserRepository appUserRepository;
     private final NotificationMapperWritePlatformService notificationMapperWritePlatformService;
+    private final NotificationReadPlatformService notificationReadPlatformService;
 
     private Long insertIntoNotificationGenerator(String objectType, Long objectIdentifier, String action, Long actorId,
             String notificationContent, boolean isSystemGenerated) {
@@ -56,6 +57,7 @@ public class NotificationWritePlatformServiceImpl implements NotificationWritePl
                 isSystemGenerated);
 
         insertIntoNotificationMapper(userIds, generatedNotificationId);
+        this.notificationReadPlatformService.updateUnreadNotificationsCache(userIds, true);
         return generatedNotificationId;
     }
 
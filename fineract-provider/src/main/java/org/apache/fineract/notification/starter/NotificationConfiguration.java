@@ -55,8 +55,10 @@ public class NotificationConfiguration {
     @Bean
     @ConditionalOnMissingBean(NotificationReadPlatformService.class)
     public NotificationReadPlatformService notificationReadPlatformService(JdbcTemplate jdbcTemplate, PlatformSecurityContext context,
-            ColumnValidator columnValidator, PaginationHelper paginationHelper, DatabaseSpecificSQLGenerator sqlGenerator) {
-        return new NotificationReadPlatformServiceImpl(jdbcTemplate, context, columnValidator, paginationHelper, sqlGenerator);
+            ColumnValidator columnValidator, PaginationHelper paginationHelper, DatabaseSpecificSQLGenerator sqlGenerator,
+            FineractProperties fineractProperties) {
+        return new NotificationReadPlatformServiceImpl(jdbcTemplate, context, columnValidator, paginationHelper, sqlGenerator,
+                fineractProperties);
     }
 
     @Bean
@@ -64,9 +66,11 @@ public class NotificationConfiguration {
     public NotificationWritePlatformService notificationWritePlatformService(
             NotificationGeneratorWritePlatformService notificationGeneratorWritePlatformService,
             NotificationGeneratorReadRepositoryWrapper notificationGeneratorReadRepositoryWrapper, AppUserRepository appUserRepository,
-            NotificationMapperWritePlatformService notificationMapperWritePlatformService) {
+            NotificationMapperWritePlatformService notificationMapperWritePlatformService,
+            NotificationReadPlatformService notificationReadPlatformService) {
         return new NotificationWritePlatformServiceImpl(notificationGeneratorWritePlatformService,
-                notificationGeneratorReadRepositoryWrapper, appUserRepository, notificationMapperWritePlatformService);
+                notificationGeneratorReadRepositoryWrapper, appUserRepository, notificationMapperWritePlatformService,
+                notificationReadPlatformService);
     }
 
     @Bean
@@ -20,6 +20,7 @@ package org.apache.fineract.organisation.monetary.domain;
 
 import org.apache.fineract.organisation.monetary.exception.CurrencyNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -32,6 +33,10 @@ import org.springframework.stereotype.Service;
  * This is to avoid need for checking and throwing in multiple areas of code base where
  * {@link ApplicationCurrencyRepository} is required.
  * </p>
+ *
+ * <p>
+ * Currencies are static reference data, so they are cached per tenant and only expire with the cache region.
+ * </p>
  */
 @Service
 public class ApplicationCurrencyRepositoryWrapper {
@@ -43,6 +48,7 @@ public class ApplicationCurrencyRepositoryWrapper {
         this.repository = repository;
     }
 
+    @Cacheable(value = "currencies", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#currency.getCode() + '_' + #currency.getDigitsAfterDecimal() + '_' + #currency.getCurrencyInMultiplesOf())")
     public ApplicationCurrency findOneWithNotFoundDetection(final MonetaryCurrency currency) {
 
         final ApplicationCurrency defaultApplicationCurrency = this.repository.findOneByCode(currency.getCode());
@@ -59,6 +65,7 @@ public class ApplicationCurrencyRepositoryWrapper {
     /**
      * Used when its not needed for {@link ApplicationCurrency} to inherit decimal place settings of existing currency.
      */
+    @Cacheable(value = "currencies", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#currencyCode)")
     public ApplicationCurrency findOneWithNotFoundDetection(final String currencyCode) {
         final ApplicationCurrency applicationCurrency = this.repository.findOneByCode(currencyCode);
         if (applicationCurrency == null) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.fineract.organisation.workingdays.exception.WorkingDaysNotFoundException;
 import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -40,7 +41,15 @@ public class WorkingDaysRepositoryWrapper {
         this.repository = repository;
     }
 
+    @Cacheable(value = "workingDays", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('wd')")
     public WorkingDays findOne() {
+        return findOneForUpdate();
+    }
+
+    /**
+     * Reads the working days bypassing the cache, so the cached instance is never modified by an update.
+     */
+    public WorkingDays findOneForUpdate() {
         final List<WorkingDays> workingDaysList = this.repository.findAll();
 
         if (workingDaysList == null || workingDaysList.isEmpty()) {
@@ -61,6 +70,7 @@ public class WorkingDaysRepositoryWrapper {
         this.repository.delete(workingDays);
     }
 
+    @Cacheable(value = "workingDays", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('wd' + #transactionDate)")
     public boolean isWorkingDay(LocalDate transactionDate) {
         final WorkingDays workingDays = findOne();
         return WorkingDaysUtil.isWorkingDay(workingDays, transactionDate);
@@ -31,6 +31,7 @@ import org.apache.fineract.organisation.workingdays.api.WorkingDaysApiConstants;
 import org.apache.fineract.organisation.workingdays.data.WorkingDayValidator;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepositoryWrapper;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -41,12 +42,13 @@ public class WorkingDaysWritePlatformServiceJpaRepositoryImpl implements Working
 
     @Transactional
     @Override
+    @CacheEvict(value = "workingDays", allEntries = true)
     public CommandProcessingResult updateWorkingDays(JsonCommand command) {
         String recurrence = "";
         RRule rrule = null;
         try {
             this.fromApiJsonDeserializer.validateForUpdate(command.json());
-            final WorkingDays workingDays = this.daysRepositoryWrapper.findOne();
+            final WorkingDays workingDays = this.daysRepositoryWrapper.findOneForUpdate();
 
             recurrence = command.stringValueOfParameterNamed(WorkingDaysApiConstants.recurrence);
             rrule = new RRule(recurrence);
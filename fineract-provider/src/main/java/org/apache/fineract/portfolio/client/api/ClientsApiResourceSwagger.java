@@ -168,6 +168,8 @@ final class ClientsApiResourceSwagger {
         @Schema(example = "2")
         public Integer totalFilteredRecords;
         public Set<GetClientsPageItemsResponse> pageItems;
+        @Schema(example = "MXw0Mg")
+        public String nextCursor;
     }
 
     @Schema(description = "GetClientsClientIdResponse")
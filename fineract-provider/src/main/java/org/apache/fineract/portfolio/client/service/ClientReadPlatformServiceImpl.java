@@ -41,6 +41,7 @@ import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidati
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ExternalIdFactory;
 import org.apache.fineract.infrastructure.core.service.Page;
+import org.apache.fineract.infrastructure.core.service.PageCursor;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -187,7 +188,7 @@ public class ClientReadPlatformServiceImpl implements ClientReadPlatformService
         // }
         List<Object> paramList = new ArrayList<>(Arrays.asList(underHierarchySearchString, underHierarchySearchString));
         final StringBuilder sqlBuilder = new StringBuilder(200);
-        sqlBuilder.append("select " + sqlGenerator.calcFoundRows() + " ");
+        sqlBuilder.append("select " + paginationHelper.calcFoundRows(searchParameters) + " ");
         sqlBuilder.append(this.clientToDataMapper.schema());
         sqlBuilder.append(" where (o.hierarchy like ? or transferToOffice.hierarchy like ?) ");
 
@@ -204,6 +205,12 @@ public class ClientReadPlatformServiceImpl implements ClientReadPlatformService
                 sqlBuilder.append(" and (").append(extraCriteria).append(")");
             }
 
+            final PageCursor cursor = this.paginationHelper.getCursor(searchParameters, 1);
+            if (cursor != null) {
+                sqlBuilder.append(" and c.id > ?");
+                paramList.add(cursor.getLong(0));
+            }
+
             if (searchParameters.hasOrderBy()) {
                 sqlBuilder.append(" order by ").append(searchParameters.getOrderBy());
                 this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getOrderBy());
@@ -211,6 +218,8 @@ public class ClientReadPlatformServiceImpl implements ClientReadPlatformService
                     sqlBuilder.append(' ').append(searchParameters.getSortOrder());
                     this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getSortOrder());
                 }
+            } else if (searchParameters.isKeysetPaged()) {
+                sqlBuilder.append(" order by c.id");
             }
 
             if (searchParameters.hasLimit()) {
@@ -221,6 +230,8 @@ public class ClientReadPlatformServiceImpl implements ClientReadPlatformService
                     sqlBuilder.append(sqlGenerator.limit(searchParameters.getLimit()));
                 }
             }
+            return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), paramList.toArray(), this.clientToDataMapper,
+                    searchParameters, client -> PageCursor.of(client.getId()));
         }
         return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), paramList.toArray(), this.clientToDataMapper);
     }
@@ -1146,6 +1146,8 @@ final class LoansApiResourceSwagger {
         @Schema(example = "1")
         public Integer totalFilteredRecords;
         public Set<GetLoansLoanIdResponse> pageItems;
+        @Schema(example = "MXw0Mg")
+        public String nextCursor;
     }
 
     @Schema(description = "PostLoansRequest")
@@ -18,28 +18,39 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
 
+import org.apache.fineract.cob.conditions.BatchWorkerCondition;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.partitioning.IdRangePartitionedJobFactory;
 import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualWritePlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.job.builder.JobBuilder;
-import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class AddPeriodicAccrualEntriesConfig {
 
+    public static final String WORKER_STEP_NAME = "addPeriodicAccrualEntriesWorkerStep";
+
     @Autowired
     private JobRepository jobRepository;
     @Autowired
     private PlatformTransactionManager transactionManager;
     @Autowired
     private LoanAccrualPlatformService loanAccrualPlatformService;
+    @Autowired
+    private LoanReadPlatformService loanReadPlatformService;
+    @Autowired
+    private LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+    @Autowired
+    private IdRangePartitionedJobFactory partitionedJobFactory;
 
     @Bean
     protected Step addPeriodicAccrualEntriesStep() {
@@ -49,12 +60,23 @@ public class AddPeriodicAccrualEntriesConfig {
 
     @Bean
     public Job addPeriodicAccrualEntriesJob() {
-        return new JobBuilder(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name(), jobRepository).start(addPeriodicAccrualEntriesStep())
-                .incrementer(new RunIdIncrementer()).build();
+        return partitionedJobFactory.createJob(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES, addPeriodicAccrualEntriesStep(), WORKER_STEP_NAME,
+                addPeriodicAccrualEntriesWork());
+    }
+
+    @Bean(name = WORKER_STEP_NAME)
+    @Conditional(BatchWorkerCondition.class)
+    public Step addPeriodicAccrualEntriesWorkerStep() {
+        return partitionedJobFactory.createWorkerStep(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES, addPeriodicAccrualEntriesWork());
     }
 
     @Bean
     public AddPeriodicAccrualEntriesTasklet addPeriodicAccrualEntriesTasklet() {
         return new AddPeriodicAccrualEntriesTasklet(loanAccrualPlatformService);
     }
+
+    @Bean
+    public AddPeriodicAccrualEntriesWork addPeriodicAccrualEntriesWork() {
+        return new AddPeriodicAccrualEntriesWork(loanReadPlatformService, loanAccrualWritePlatformService);
+    }
 }
@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.springbatch.partitioning.IdRangeJobWork;
+import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualWritePlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+
+@RequiredArgsConstructor
+public class AddPeriodicAccrualEntriesWork implements IdRangeJobWork {
+
+    private final LoanReadPlatformService loanReadPlatformService;
+    private final LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+
+    @Override
+    public List<Long> retrieveIds(Long fromId, Long toId) {
+        return loanReadPlatformService.retrievePeriodicAccrualData(DateUtils.getBusinessLocalDate(), fromId, toId).stream()
+                .map(LoanScheduleAccrualData::getLoanId).distinct().sorted().toList();
+    }
+
+    @Override
+    public void process(Long loanId) throws Exception {
+        final LocalDate tillDate = DateUtils.getBusinessLocalDate();
+        final Collection<LoanScheduleAccrualData> accrualData = loanReadPlatformService.retrievePeriodicAccrualData(tillDate, loanId,
+                loanId);
+        if (!accrualData.isEmpty()) {
+            loanAccrualWritePlatformService.addPeriodicAccruals(tillDate, loanId, accrualData);
+        }
+    }
+}
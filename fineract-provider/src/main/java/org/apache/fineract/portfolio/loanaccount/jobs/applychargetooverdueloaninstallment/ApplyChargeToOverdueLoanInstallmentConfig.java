@@ -18,24 +18,27 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.applychargetooverdueloaninstallment;
 
+import org.apache.fineract.cob.conditions.BatchWorkerCondition;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.partitioning.IdRangePartitionedJobFactory;
 import org.apache.fineract.portfolio.loanaccount.service.LoanChargeWritePlatformService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.job.builder.JobBuilder;
-import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class ApplyChargeToOverdueLoanInstallmentConfig {
 
+    public static final String WORKER_STEP_NAME = "applyChargeToOverdueLoanInstallmentWorkerStep";
+
     @Autowired
     private JobRepository jobRepository;
     @Autowired
@@ -46,6 +49,8 @@ public class ApplyChargeToOverdueLoanInstallmentConfig {
     private LoanReadPlatformService loanReadPlatformService;
     @Autowired
     private LoanChargeWritePlatformService loanChargeWritePlatformService;
+    @Autowired
+    private IdRangePartitionedJobFactory partitionedJobFactory;
 
     @Bean
     protected Step applyChargeToOverdueLoanInstallmentStep() {
@@ -55,8 +60,15 @@ public class ApplyChargeToOverdueLoanInstallmentConfig {
 
     @Bean
     public Job applyChargeToOverdueLoanInstallmentsJob() {
-        return new JobBuilder(JobName.APPLY_CHARGE_TO_OVERDUE_LOAN_INSTALLMENT.name(), jobRepository)
-                .start(applyChargeToOverdueLoanInstallmentStep()).incrementer(new RunIdIncrementer()).build();
+        return partitionedJobFactory.createJob(JobName.APPLY_CHARGE_TO_OVERDUE_LOAN_INSTALLMENT, applyChargeToOverdueLoanInstallmentStep(),
+                WORKER_STEP_NAME, applyChargeToOverdueLoanInstallmentWork());
+    }
+
+    @Bean(name = WORKER_STEP_NAME)
+    @Conditional(BatchWorkerCondition.class)
+    public Step applyChargeToOverdueLoanInstallmentWorkerStep() {
+        return partitionedJobFactory.createWorkerStep(JobName.APPLY_CHARGE_TO_OVERDUE_LOAN_INSTALLMENT,
+                applyChargeToOverdueLoanInstallmentWork());
     }
 
     @Bean
@@ -64,4 +76,10 @@ public class ApplyChargeToOverdueLoanInstallmentConfig {
         return new ApplyChargeToOverdueLoanInstallmentTasklet(configurationDomainService, loanReadPlatformService,
                 loanChargeWritePlatformService);
     }
+
+    @Bean
+    public ApplyChargeToOverdueLoanInstallmentWork applyChargeToOverdueLoanInstallmentWork() {
+        return new ApplyChargeToOverdueLoanInstallmentWork(configurationDomainService, loanReadPlatformService,
+                loanChargeWritePlatformService);
+    }
 }
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applychargetooverdueloaninstallment;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.partitioning.IdRangeJobWork;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.OverdueLoanScheduleData;
+import org.apache.fineract.portfolio.loanaccount.service.LoanChargeWritePlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+
+@RequiredArgsConstructor
+public class ApplyChargeToOverdueLoanInstallmentWork implements IdRangeJobWork {
+
+    private final ConfigurationDomainService configurationDomainService;
+    private final LoanReadPlatformService loanReadPlatformService;
+    private final LoanChargeWritePlatformService loanChargeWritePlatformService;
+
+    @Override
+    public List<Long> retrieveIds(Long fromId, Long toId) {
+        return retrieveOverdueInstallments(fromId, toId).stream().map(OverdueLoanScheduleData::getLoanId).distinct().sorted().toList();
+    }
+
+    @Override
+    public void process(Long loanId) {
+        final Collection<OverdueLoanScheduleData> overdueInstallments = retrieveOverdueInstallments(loanId, loanId);
+        if (!overdueInstallments.isEmpty()) {
+            loanChargeWritePlatformService.applyOverdueChargesForLoan(loanId, overdueInstallments);
+        }
+    }
+
+    private Collection<OverdueLoanScheduleData> retrieveOverdueInstallments(Long fromId, Long toId) {
+        return loanReadPlatformService.retrieveAllLoansWithOverdueInstallments(configurationDomainService.retrievePenaltyWaitPeriod(),
+                configurationDomainService.isBackdatePenaltiesEnabled(), fromId, toId);
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
@@ -96,6 +97,13 @@ public interface LoanReadPlatformService {
      */
     Collection<OverdueLoanScheduleData> retrieveAllLoansWithOverdueInstallments(Long penaltyWaitPeriod, Boolean backdatePenalties);
 
+    /**
+     * Same as {@link #retrieveAllLoansWithOverdueInstallments(Long, Boolean)}, limited to the loans with an id between
+     * the given ids (both inclusive). A null id means no limit.
+     */
+    Collection<OverdueLoanScheduleData> retrieveAllLoansWithOverdueInstallments(Long penaltyWaitPeriod, Boolean backdatePenalties,
+            Long fromLoanId, Long toLoanId);
+
     Collection<OverdueLoanScheduleData> retrieveAllOverdueInstallmentsForLoan(Loan loan);
 
     Integer retriveLoanCounter(Long groupId, Integer loanType, Long productId);
@@ -118,6 +126,8 @@ public interface LoanReadPlatformService {
 
     Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(LocalDate tillDate, Loan loan);
 
+    Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(LocalDate tillDate, Long fromLoanId, Long toLoanId);
+
     LoanTransactionData retrieveLoanChargeOffTemplate(Long loanId);
 
     Collection<Long> fetchLoansForInterestRecalculation();
@@ -150,6 +160,8 @@ public interface LoanReadPlatformService {
 
     Long retrieveLoanIdByAccountNumber(String loanAccountNumber);
 
+    Map<String, Long> retrieveLoanIdsByAccountNumbers(Collection<String> loanAccountNumbers);
+
     String retrieveAccountNumberByAccountId(Long accountId);
 
     Integer retrieveNumberOfActiveLoans();
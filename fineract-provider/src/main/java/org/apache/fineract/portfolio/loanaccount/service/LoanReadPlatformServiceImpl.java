@@ -50,6 +50,7 @@ import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ExternalIdFactory;
 import org.apache.fineract.infrastructure.core.service.Page;
+import org.apache.fineract.infrastructure.core.service.PageCursor;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -140,6 +141,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
@@ -307,7 +309,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         final LoanMapper loanMapper = new LoanMapper(sqlGenerator, delinquencyReadPlatformService);
 
         final StringBuilder sqlBuilder = new StringBuilder(200);
-        sqlBuilder.append("select " + sqlGenerator.calcFoundRows() + " ");
+        sqlBuilder.append("select " + paginationHelper.calcFoundRows(searchParameters) + " ");
         sqlBuilder.append(loanMapper.loanSchema());
 
         // TODO - for time being this will data scope list of loans returned to
@@ -349,6 +351,13 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
                 arrayPos = arrayPos + 1;
             }
 
+            final PageCursor cursor = this.paginationHelper.getCursor(searchParameters, 1);
+            if (cursor != null) {
+                sqlBuilder.append(" and l.id > ?");
+                extraCriterias.add(cursor.getLong(0));
+                arrayPos = arrayPos + 1;
+            }
+
             if (searchParameters.hasOrderBy()) {
                 sqlBuilder.append(" order by ").append(searchParameters.getOrderBy());
                 this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getOrderBy());
@@ -357,6 +366,8 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
                     sqlBuilder.append(' ').append(searchParameters.getSortOrder());
                     this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getSortOrder());
                 }
+            } else if (searchParameters.isKeysetPaged()) {
+                sqlBuilder.append(" order by l.id");
             }
 
             if (searchParameters.hasLimit()) {
@@ -370,7 +381,11 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         }
         final Object[] objectArray = extraCriterias.toArray();
         final Object[] finalObjectArray = Arrays.copyOf(objectArray, arrayPos);
-        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, loanMapper);
+        if (searchParameters == null) {
+            return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, loanMapper);
+        }
+        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, loanMapper, searchParameters,
+                loan -> PageCursor.of(loan.getId()));
     }
 
     @Override
@@ -1635,23 +1650,39 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
     @Override
     public Collection<OverdueLoanScheduleData> retrieveAllLoansWithOverdueInstallments(final Long penaltyWaitPeriod,
             final Boolean backdatePenalties) {
+        return retrieveAllLoansWithOverdueInstallments(penaltyWaitPeriod, backdatePenalties, null, null);
+    }
+
+    @Override
+    public Collection<OverdueLoanScheduleData> retrieveAllLoansWithOverdueInstallments(final Long penaltyWaitPeriod,
+            final Boolean backdatePenalties, final Long fromLoanId, final Long toLoanId) {
         final MusoniOverdueLoanScheduleMapper rm = new MusoniOverdueLoanScheduleMapper();
 
         final StringBuilder sqlBuilder = new StringBuilder(400);
+        final List<Object> params = new ArrayList<>(4);
         sqlBuilder.append("select ").append(rm.schema())
                 .append(" where " + sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "?", "day") + " > ls.duedate ")
                 .append(" and ls.completed_derived <> true and mc.charge_applies_to_enum =1 ")
                 .append(" and ls.recalculated_interest_component <> true ")
                 .append(" and mc.charge_time_enum = 9 and ml.loan_status_id = 300 ");
+        params.add(penaltyWaitPeriod);
 
-        if (backdatePenalties) {
-            return this.jdbcTemplate.query(sqlBuilder.toString(), rm, penaltyWaitPeriod);
+        if (!backdatePenalties) {
+            // Only apply for duedate = yesterday (so that we don't apply
+            // penalties on the duedate itself)
+            sqlBuilder.append(" and ls.duedate >= " + sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "(? + 1)", "day"));
+            params.add(penaltyWaitPeriod);
+        }
+        if (fromLoanId != null) {
+            sqlBuilder.append(" and ml.id >= ? ");
+            params.add(fromLoanId);
+        }
+        if (toLoanId != null) {
+            sqlBuilder.append(" and ml.id <= ? ");
+            params.add(toLoanId);
         }
-        // Only apply for duedate = yesterday (so that we don't apply
-        // penalties on the duedate itself)
-        sqlBuilder.append(" and ls.duedate >= " + sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "(? + 1)", "day"));
 
-        return this.jdbcTemplate.query(sqlBuilder.toString(), rm, penaltyWaitPeriod, penaltyWaitPeriod);
+        return this.jdbcTemplate.query(sqlBuilder.toString(), rm, params.toArray()); // NOSONAR
     }
 
     @Override
@@ -1848,14 +1879,22 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
     @Override
     public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Loan loan) {
+        final Long loanId = loan == null ? null : loan.getId();
+        return retrievePeriodicAccrualData(tillDate, loanId, loanId);
+    }
+
+    @Override
+    public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Long fromLoanId,
+            final Long toLoanId) {
         final String chargeAccrualDateCriteria = configurationDomainService.getAccrualDateConfigForCharge();
         if (chargeAccrualDateCriteria.equalsIgnoreCase(ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE)) {
-            return retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(tillDate, loan);
+            return retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(tillDate, fromLoanId, toLoanId);
         }
-        return retrievePeriodicAccrualDataForDefaultProcessing(tillDate, loan);
+        return retrievePeriodicAccrualDataForDefaultProcessing(tillDate, fromLoanId, toLoanId);
     }
 
-    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForDefaultProcessing(final LocalDate tillDate, final Loan loan) {
+    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForDefaultProcessing(final LocalDate tillDate,
+            final Long fromLoanId, final Long toLoanId) {
         LoanSchedulePeriodicAccrualMapper mapper = new LoanSchedulePeriodicAccrualMapper();
         LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
         final StringBuilder sqlBuilder = new StringBuilder(400);
@@ -1872,9 +1911,13 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
             sqlBuilder.append(" and ls.duedate > :organisationStartDate ");
             paramMap.put("organisationStartDate", organisationStartDate);
         }
-        if (loan != null) {
-            sqlBuilder.append(" and loan.id= :loanId ");
-            paramMap.put("loanId", loan.getId());
+        if (fromLoanId != null) {
+            sqlBuilder.append(" and loan.id >= :fromLoanId ");
+            paramMap.put("fromLoanId", fromLoanId);
+        }
+        if (toLoanId != null) {
+            sqlBuilder.append(" and loan.id <= :toLoanId ");
+            paramMap.put("toLoanId", toLoanId);
         }
         sqlBuilder.append(" order by loan.id,ls.duedate ");
         paramMap.put("active", LoanStatus.ACTIVE.getValue());
@@ -1884,7 +1927,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
     }
 
     private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(final LocalDate tillDate,
-            final Loan loan) {
+            final Long fromLoanId, final Long toLoanId) {
         LoanSchedulePeriodicAccrualMapper mapper = new LoanSchedulePeriodicAccrualMapper();
         LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
         final StringBuilder sqlBuilder = new StringBuilder(400);
@@ -1900,9 +1943,13 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
             sqlBuilder.append(" and ls.duedate > :organisationStartDate ");
             paramMap.put("organisationStartDate", organisationStartDate);
         }
-        if (loan != null) {
-            sqlBuilder.append(" and loan.id= :loanId ");
-            paramMap.put("loanId", loan.getId());
+        if (fromLoanId != null) {
+            sqlBuilder.append(" and loan.id >= :fromLoanId ");
+            paramMap.put("fromLoanId", fromLoanId);
+        }
+        if (toLoanId != null) {
+            sqlBuilder.append(" and loan.id <= :toLoanId ");
+            paramMap.put("toLoanId", toLoanId);
         }
         sqlBuilder.append(" order by loan.id,ls.duedate ");
         paramMap.put("active", LoanStatus.ACTIVE.getValue());
@@ -2576,6 +2623,18 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         }
     }
 
+    @Override
+    public Map<String, Long> retrieveLoanIdsByAccountNumbers(Collection<String> loanAccountNumbers) {
+        final Map<String, Long> loanIds = new HashMap<>();
+        if (loanAccountNumbers.isEmpty()) {
+            return loanIds;
+        }
+        final String sql = "select l.account_no as accountNo, l.id as id from m_loan l where l.account_no in (:accountNumbers)";
+        this.namedParameterJdbcTemplate.query(sql, Map.of("accountNumbers", loanAccountNumbers),
+                (RowCallbackHandler) rs -> loanIds.put(rs.getString("accountNo"), rs.getLong("id")));
+        return loanIds;
+    }
+
     @Override
     public String retrieveAccountNumberByAccountId(Long accountId) {
         try {
@@ -588,6 +588,12 @@ public class SavingsAccountsApiResource {
         } else if (is(commandParam, SavingsApiConstants.COMMAND_UNBLOCK_ACCOUNT)) {
             final CommandWrapper commandRequest = builder.unblockSavingsAccount(accountId).build();
             result = commandsSourceWritePlatformService.logCommandSource(commandRequest);
+        } else if (is(commandParam, SavingsApiConstants.COMMAND_ENABLE_HOT_ACCOUNT)) {
+            final CommandWrapper commandRequest = builder.enableHotAccountForSavingsAccount(accountId).build();
+            result = commandsSourceWritePlatformService.logCommandSource(commandRequest);
+        } else if (is(commandParam, SavingsApiConstants.COMMAND_DISABLE_HOT_ACCOUNT)) {
+            final CommandWrapper commandRequest = builder.disableHotAccountForSavingsAccount(accountId).build();
+            result = commandsSourceWritePlatformService.logCommandSource(commandRequest);
         }
 
         if (result == null) {
@@ -597,7 +603,8 @@ public class SavingsAccountsApiResource {
                             "postInterest", "close", "assignSavingsOfficer", "unassignSavingsOfficer",
                             SavingsApiConstants.COMMAND_BLOCK_DEBIT, SavingsApiConstants.COMMAND_UNBLOCK_DEBIT,
                             SavingsApiConstants.COMMAND_BLOCK_CREDIT, SavingsApiConstants.COMMAND_UNBLOCK_CREDIT,
-                            SavingsApiConstants.COMMAND_BLOCK_ACCOUNT, SavingsApiConstants.COMMAND_UNBLOCK_ACCOUNT });
+                            SavingsApiConstants.COMMAND_BLOCK_ACCOUNT, SavingsApiConstants.COMMAND_UNBLOCK_ACCOUNT,
+                            SavingsApiConstants.COMMAND_ENABLE_HOT_ACCOUNT, SavingsApiConstants.COMMAND_DISABLE_HOT_ACCOUNT });
         }
 
         return toApiJsonSerializer.serialize(result);
@@ -264,6 +264,8 @@ final class SavingsAccountsApiResourceSwagger {
             public BigDecimal accountBalance;
             @Schema(example = "0")
             public BigDecimal availableBalance;
+            @Schema(example = "0", description = "Deposits to a hot account that are not merged into the account balance yet")
+            public BigDecimal pendingCreditAmount;
         }
 
         @Schema(example = "1")
@@ -56,6 +56,7 @@ import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDoma
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ExternalIdFactory;
 import org.apache.fineract.organisation.staff.domain.Staff;
 import org.apache.fineract.organisation.staff.domain.StaffRepositoryWrapper;
@@ -77,6 +78,7 @@ import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
 import org.apache.fineract.portfolio.savings.exception.SavingsProductNotFoundException;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountDailyBalanceService;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -101,6 +103,7 @@ public class SavingsAccountAssembler {
     private final JdbcTemplate jdbcTemplate;
     private final ConfigurationDomainService configurationDomainService;
     private final ExternalIdFactory externalIdFactory;
+    private final SavingsAccountDailyBalanceService savingsAccountDailyBalanceService;
 
     @Autowired
     public SavingsAccountAssembler(final SavingsAccountTransactionSummaryWrapper savingsAccountTransactionSummaryWrapper,
@@ -110,7 +113,8 @@ public class SavingsAccountAssembler {
             final SavingsAccountRepositoryWrapper savingsAccountRepository,
             final SavingsAccountChargeAssembler savingsAccountChargeAssembler, final FromJsonHelper fromApiJsonHelper,
             final AccountTransfersReadPlatformService accountTransfersReadPlatformService, final JdbcTemplate jdbcTemplate,
-            final ConfigurationDomainService configurationDomainService, ExternalIdFactory externalIdFactory) {
+            final ConfigurationDomainService configurationDomainService, ExternalIdFactory externalIdFactory,
+            final SavingsAccountDailyBalanceService savingsAccountDailyBalanceService) {
         this.savingsAccountTransactionSummaryWrapper = savingsAccountTransactionSummaryWrapper;
         this.savingsAccountTransactionDataSummaryWrapper = savingsAccountTransactionDataSummaryWrapper;
         this.clientRepository = clientRepository;
@@ -124,6 +128,7 @@ public class SavingsAccountAssembler {
         this.jdbcTemplate = jdbcTemplate;
         this.configurationDomainService = configurationDomainService;
         this.externalIdFactory = externalIdFactory;
+        this.savingsAccountDailyBalanceService = savingsAccountDailyBalanceService;
     }
 
     /**
@@ -359,16 +364,11 @@ public class SavingsAccountAssembler {
 
                     savingsAccountTransactions.get(0).getSavingsAccount()
                             .setStartInterestCalculationDate(interestPostedTillDate.minusDays(relaxingDaysForPivotDate));
-                    List<SavingsAccountTransaction> pivotDateTransaction = this.savingsAccountRepository
-                            .findTransactionRunningBalanceBeforePivotDate(account,
-                                    interestPostedTillDate.minusDays(relaxingDaysForPivotDate + 1));
-                    if (pivotDateTransaction != null && !pivotDateTransaction.isEmpty()) {
-                        account.getSummary().setRunningBalanceOnPivotDate(pivotDateTransaction.get(pivotDateTransaction.size() - 1)
-                                .getRunningBalance(account.getCurrency()).getAmount());
-                    }
+                    setRunningBalanceOnPivotDate(account, interestPostedTillDate.minusDays(relaxingDaysForPivotDate));
                 } else {
                     savingsAccountTransactions = this.savingsAccountRepository.findTransactionsAfterPivotDate(account,
                             account.getSummary().getInterestPostedTillDate());
+                    setRunningBalanceOnPivotDate(account, account.getSummary().getInterestPostedTillDate());
                 }
 
                 if (savingsAccountTransactions != null && savingsAccountTransactions.size() > 0) {
@@ -379,12 +379,38 @@ public class SavingsAccountAssembler {
                 savingsAccountTransactions = this.savingsAccountRepository.findAllTransactions(account);
                 account.setSavingsAccountTransactions(savingsAccountTransactions);
             }
+        } else {
+            setBalanceSnapshot(account);
         }
 
         account.setHelpers(this.savingsAccountTransactionSummaryWrapper, this.savingsHelper);
         return account;
     }
 
+    /**
+     * Only the transactions from the pivot date on are loaded, so the balance checks and the interest calculation start
+     * from the end of day balance of the day before, taken from the nearest end of day snapshot.
+     */
+    private void setRunningBalanceOnPivotDate(final SavingsAccount account, final LocalDate pivotDate) {
+        account.getSummary().setRunningBalanceOnPivotDate(
+                this.savingsAccountDailyBalanceService.retrieveEndOfDayBalance(account.getId(), pivotDate.minusDays(1)));
+    }
+
+    /**
+     * Without a pivot date all the transactions are loaded, but the balance checks and the interest calculation replay the
+     * balances from the end of day balance of the day before the business date. Transactions of earlier days added or
+     * reversed afterwards make the account fall back to replaying its whole history.
+     */
+    private void setBalanceSnapshot(final SavingsAccount account) {
+        if (account.getId() == null || !account.depositAccountType().isSavingsDeposit()) {
+            return;
+        }
+        final LocalDate snapshotDate = DateUtils.getBusinessLocalDate().minusDays(1);
+        account.getSummary().setBalanceSnapshot(snapshotDate,
+                this.savingsAccountDailyBalanceService.retrieveEndOfDayBalance(account.getId(), snapshotDate),
+                this.savingsAccountDailyBalanceService.retrieveAmountOnHold(account.getId(), snapshotDate));
+    }
+
     public SavingsAccountData assembleSavings(final SavingsAccountData account) {
 
         // Update last running balance on account level
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.jpa.JpaEntityManagerFactory;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes the end of day balance snapshots of a savings account which are affected by a created, changed or deleted
+ * transaction.
+ *
+ * The snapshots are removed by the unit of work writing the transaction, on the same connection, so they cannot outlive
+ * the change regardless of which service or repository saved it.
+ */
+@Component
+@RequiredArgsConstructor
+public class SavingsAccountDailyBalanceListener extends DescriptorEventAdapter implements InitializingBean {
+
+    private static final String INVALIDATE_SQL = "DELETE FROM m_savings_account_daily_balance"
+            + " WHERE savings_account_id = #SAVINGS_ACCOUNT_ID AND balance_date >= #BALANCE_DATE";
+    private static final List<String> BALANCE_ATTRIBUTES = List.of("amount", "reversed", "reversalTransaction", "typeOf");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterPropertiesSet() {
+        entityManagerFactory.unwrap(JpaEntityManagerFactory.class).getServerSession().getDescriptor(SavingsAccountTransaction.class)
+                .getEventManager().addListener(this);
+    }
+
+    @Override
+    public void postInsert(final DescriptorEvent event) {
+        invalidate(event);
+    }
+
+    @Override
+    public void postUpdate(final DescriptorEvent event) {
+        // derived balance fields are updated on every recalculation, only the ones changing the balance matter
+        final ObjectChangeSet changeSet = event.getChangeSet();
+        if (changeSet == null || BALANCE_ATTRIBUTES.stream().anyMatch(changeSet::hasChangeFor)) {
+            invalidate(event);
+        }
+    }
+
+    @Override
+    public void postDelete(final DescriptorEvent event) {
+        invalidate(event);
+    }
+
+    private void invalidate(final DescriptorEvent event) {
+        final SavingsAccountTransaction transaction = (SavingsAccountTransaction) event.getSource();
+        final DataModifyQuery query = new DataModifyQuery(new SQLCall(INVALIDATE_SQL));
+        query.addArgument("SAVINGS_ACCOUNT_ID");
+        query.addArgument("BALANCE_DATE");
+        event.getSession().executeQuery(query, List.of(transaction.getSavingsAccount().getId(), transaction.getTransactionDate()));
+    }
+}
@@ -23,6 +23,7 @@ import java.math.MathContext;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ import java.util.Set;
 import java.util.UUID;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.business.domain.savings.transaction.SavingsDepositBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.savings.transaction.SavingsWithdrawalBusinessEvent;
@@ -38,11 +40,16 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
 import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.note.domain.Note;
+import org.apache.fineract.portfolio.note.domain.NoteRepository;
 import org.apache.fineract.portfolio.paymentdetail.domain.PaymentDetail;
+import org.apache.fineract.portfolio.paymentdetail.domain.PaymentDetailRepository;
 import org.apache.fineract.portfolio.savings.SavingsAccountTransactionType;
 import org.apache.fineract.portfolio.savings.SavingsTransactionBooleanValues;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountPendingCreditData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDTO;
 import org.apache.fineract.portfolio.savings.exception.DepositAccountTransactionNotAllowedException;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountPendingCreditService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -58,6 +65,10 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
     private final ConfigurationDomainService configurationDomainService;
     private final DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final SavingsAccountPendingCreditService savingsAccountPendingCreditService;
+    private final PaymentDetailRepository paymentDetailRepository;
+    private final NoteRepository noteRepository;
+    private final FineractProperties fineractProperties;
 
     @Autowired
     public SavingsAccountDomainServiceJpa(final SavingsAccountRepositoryWrapper savingsAccountRepository,
@@ -66,7 +77,10 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
             final JournalEntryWritePlatformService journalEntryWritePlatformService,
             final ConfigurationDomainService configurationDomainService, final PlatformSecurityContext context,
             final DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository,
-            final BusinessEventNotifierService businessEventNotifierService) {
+            final BusinessEventNotifierService businessEventNotifierService,
+            final SavingsAccountPendingCreditService savingsAccountPendingCreditService,
+            final PaymentDetailRepository paymentDetailRepository,
+            final NoteRepository noteRepository, final FineractProperties fineractProperties) {
         this.savingsAccountRepository = savingsAccountRepository;
         this.savingsAccountTransactionRepository = savingsAccountTransactionRepository;
         this.applicationCurrencyRepositoryWrapper = applicationCurrencyRepositoryWrapper;
@@ -75,6 +89,10 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         this.context = context;
         this.depositAccountOnHoldTransactionRepository = depositAccountOnHoldTransactionRepository;
         this.businessEventNotifierService = businessEventNotifierService;
+        this.savingsAccountPendingCreditService = savingsAccountPendingCreditService;
+        this.paymentDetailRepository = paymentDetailRepository;
+        this.noteRepository = noteRepository;
+        this.fineractProperties = fineractProperties;
     }
 
     @Transactional
@@ -103,6 +121,11 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
             updateExistingTransactionsDetails(account, existingTransactionIds, existingReversedTransactionIds);
         }
 
+        // credits of a hot account are only applied here, so the debit is checked against them as well
+        final List<MergedCredit> mergedCredits = account.isHotAccount()
+                ? applyAllPendingCredits(account, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate)
+                : List.of();
+
         Integer accountType = null;
         final SavingsAccountTransactionDTO transactionDTO = new SavingsAccountTransactionDTO(fmt, transactionDate, transactionAmount,
                 paymentDetail, null, accountType);
@@ -113,7 +136,7 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
 
         final LocalDate today = DateUtils.getBusinessLocalDate();
 
-        if (account.isBeforeLastPostingPeriod(transactionDate, backdatedTxnsAllowedTill)) {
+        if (account.isBeforeLastPostingPeriod(earliestOf(transactionDate, mergedCredits), backdatedTxnsAllowedTill)) {
             account.postInterest(mc, today, transactionBooleanValues.isInterestTransfer(), isSavingsInterestPostingAtCurrentPeriodEnd,
                     financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
         } else {
@@ -131,6 +154,7 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         account.validateAccountBalanceDoesNotBecomeNegative(transactionAmount, transactionBooleanValues.isExceptionForBalanceCheck(),
                 depositAccountOnHoldTransactions, backdatedTxnsAllowedTill);
 
+        saveMergedCredits(account, mergedCredits);
         saveTransactionToGenerateTransactionId(withdrawal);
         if (backdatedTxnsAllowedTill) {
             // Update transactions separately
@@ -141,10 +165,120 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, transactionBooleanValues.isAccountTransfer(),
                 backdatedTxnsAllowedTill);
 
+        for (final MergedCredit mergedCredit : mergedCredits) {
+            businessEventNotifierService.notifyPostBusinessEvent(new SavingsDepositBusinessEvent(mergedCredit.deposit));
+        }
         businessEventNotifierService.notifyPostBusinessEvent(new SavingsWithdrawalBusinessEvent(withdrawal));
         return withdrawal;
     }
 
+    @Transactional
+    @Override
+    public List<SavingsAccountTransaction> handlePendingCredits(final SavingsAccount account, final boolean backdatedTxnsAllowedTill) {
+        context.authenticatedUser();
+        final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
+                .isSavingsInterestPostingAtCurrentPeriodEnd();
+        final Integer financialYearBeginningMonth = this.configurationDomainService.retrieveFinancialYearBeginningMonth();
+        final Long relaxingDaysConfigForPivotDate = this.configurationDomainService.retrieveRelaxingDaysConfigForPivotDate();
+        final boolean postReversals = this.configurationDomainService.isReversalTransactionAllowed();
+        final Set<Long> existingTransactionIds = new HashSet<>();
+        final Set<Long> existingReversedTransactionIds = new HashSet<>();
+
+        if (backdatedTxnsAllowedTill) {
+            updateTransactionDetailsWithPivotConfig(account, existingTransactionIds, existingReversedTransactionIds);
+        } else {
+            updateExistingTransactionsDetails(account, existingTransactionIds, existingReversedTransactionIds);
+        }
+
+        final List<MergedCredit> mergedCredits = applyPendingCredits(account, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate);
+        if (mergedCredits.isEmpty()) {
+            return List.of();
+        }
+
+        final boolean isInterestTransfer = false;
+        final LocalDate postInterestOnDate = null;
+        final MathContext mc = MathContext.DECIMAL64;
+        final LocalDate today = DateUtils.getBusinessLocalDate();
+        if (account.isBeforeLastPostingPeriod(earliestOf(today, mergedCredits), backdatedTxnsAllowedTill)) {
+            account.postInterest(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd, financialYearBeginningMonth,
+                    postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
+        } else {
+            account.calculateInterestUsing(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd,
+                    financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
+        }
+
+        saveMergedCredits(account, mergedCredits);
+        if (backdatedTxnsAllowedTill) {
+            // Update transactions separately
+            saveUpdatedTransactionsOfSavingsAccount(account.getSavingsAccountTransactionsWithPivotConfig());
+        }
+        this.savingsAccountRepository.saveAndFlush(account);
+
+        postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, false, backdatedTxnsAllowedTill);
+
+        final List<SavingsAccountTransaction> deposits = new ArrayList<>(mergedCredits.size());
+        for (final MergedCredit mergedCredit : mergedCredits) {
+            businessEventNotifierService.notifyPostBusinessEvent(new SavingsDepositBusinessEvent(mergedCredit.deposit));
+            deposits.add(mergedCredit.deposit);
+        }
+        return deposits;
+    }
+
+    /**
+     * Turns all pending credits of a hot account into deposit transactions, batch by batch, so a debit is checked against
+     * every credit made before it.
+     */
+    private List<MergedCredit> applyAllPendingCredits(final SavingsAccount account, final boolean backdatedTxnsAllowedTill,
+            final Long relaxingDaysConfigForPivotDate) {
+        final List<MergedCredit> mergedCredits = new ArrayList<>();
+        List<MergedCredit> batch;
+        do {
+            batch = applyPendingCredits(account, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate);
+            mergedCredits.addAll(batch);
+        } while (!batch.isEmpty());
+        return mergedCredits;
+    }
+
+    /**
+     * Turns the oldest pending credits of a hot account into deposit transactions. The pending rows are locked by the read and
+     * removed right away, the caller saves the returned deposits together with the account.
+     */
+    private List<MergedCredit> applyPendingCredits(final SavingsAccount account, final boolean backdatedTxnsAllowedTill,
+            final Long relaxingDaysConfigForPivotDate) {
+        final List<SavingsAccountPendingCreditData> pendingCredits = this.savingsAccountPendingCreditService
+                .retrievePendingCreditsForMerge(account.getId(), this.fineractProperties.getSavings().getHotAccount().getMergeBatchSize());
+        if (pendingCredits.isEmpty()) {
+            return List.of();
+        }
+        final List<MergedCredit> mergedCredits = new ArrayList<>(pendingCredits.size());
+        for (final SavingsAccountPendingCreditData pendingCredit : pendingCredits) {
+            final PaymentDetail paymentDetail = pendingCredit.getPaymentDetailId() == null ? null
+                    : this.paymentDetailRepository.getReferenceById(pendingCredit.getPaymentDetailId());
+            final SavingsAccountTransactionDTO transactionDTO = new SavingsAccountTransactionDTO(DateUtils.DEFAULT_DATE_FORMATTER,
+                    pendingCredit.getTransactionDate(), pendingCredit.getAmount(), paymentDetail, null, null);
+            final SavingsAccountTransaction deposit = account.deposit(transactionDTO, SavingsAccountTransactionType.DEPOSIT,
+                    backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate, pendingCredit.getRefNo());
+            mergedCredits.add(new MergedCredit(deposit, pendingCredit));
+        }
+        this.savingsAccountPendingCreditService.removeMergedCredits(account.getId(), pendingCredits);
+        return mergedCredits;
+    }
+
+    private void saveMergedCredits(final SavingsAccount account, final List<MergedCredit> mergedCredits) {
+        for (final MergedCredit mergedCredit : mergedCredits) {
+            saveTransactionToGenerateTransactionId(mergedCredit.deposit);
+            final String noteText = mergedCredit.pendingCredit.getNote();
+            if (noteText != null) {
+                this.noteRepository.save(Note.savingsTransactionNote(account, mergedCredit.deposit, noteText));
+            }
+        }
+    }
+
+    private static LocalDate earliestOf(final LocalDate transactionDate, final List<MergedCredit> mergedCredits) {
+        return mergedCredits.stream().map(mergedCredit -> mergedCredit.pendingCredit.getTransactionDate())
+                .min(Comparator.naturalOrder()).filter(date -> DateUtils.isBefore(date, transactionDate)).orElse(transactionDate);
+    }
+
     @Transactional
     @Override
     public SavingsAccountTransaction handleDeposit(final SavingsAccount account, final DateTimeFormatter fmt,
@@ -329,4 +463,15 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
 
         return reversal;
     }
+
+    private static final class MergedCredit {
+
+        private final SavingsAccountTransaction deposit;
+        private final SavingsAccountPendingCreditData pendingCredit;
+
+        private MergedCredit(final SavingsAccountTransaction deposit, final SavingsAccountPendingCreditData pendingCredit) {
+            this.deposit = deposit;
+            this.pendingCredit = pendingCredit;
+        }
+    }
 }
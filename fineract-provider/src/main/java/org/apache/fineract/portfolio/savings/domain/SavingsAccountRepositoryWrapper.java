@@ -65,6 +65,14 @@ public class SavingsAccountRepositoryWrapper {
         return account;
     }
 
+    /**
+     * Loads the account without its transactions and charges, for checks that only need the account itself.
+     */
+    @Transactional(readOnly = true)
+    public SavingsAccount findOneWithoutCollectionsWithNotFoundDetection(final Long savingsId) {
+        return this.repository.findById(savingsId).orElseThrow(() -> new SavingsAccountNotFoundException(savingsId));
+    }
+
     @Transactional
     public SavingsAccount findSavingsWithNotFoundDetection(final Long savingsId, final boolean backdatedTxnsAllowedTill) {
         SavingsAccount account = null;
@@ -135,11 +143,6 @@ public class SavingsAccountRepositoryWrapper {
         return this.savingsAccountTransactionRepository.findTransactionsAfterPivotDate(savingsAccount, transactionDate);
     }
 
-    public List<SavingsAccountTransaction> findTransactionRunningBalanceBeforePivotDate(
-            @Param("savingsAccount") SavingsAccount savingsAccount, @Param("date") LocalDate date) {
-        return this.savingsAccountTransactionRepository.findTransactionRunningBalanceBeforePivotDate(savingsAccount, date);
-    }
-
     @Transactional
     public List<SavingsAccountTransaction> findAllTransactions(@Param("savingsAccount") SavingsAccount savingsAccount) {
         return this.savingsAccountTransactionRepository.findBySavingsAccount(savingsAccount);
@@ -0,0 +1,66 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.mergehotsavingsaccountcredits;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountPendingCreditService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@Slf4j
+@RequiredArgsConstructor
+public class MergeHotSavingsAccountCreditsTasklet implements Tasklet {
+
+    private final SavingsAccountPendingCreditService savingsAccountPendingCreditService;
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        final List<Long> accountIds = savingsAccountPendingCreditService.retrieveAccountIdsWithPendingCredits();
+        List<Throwable> exceptions = new ArrayList<>();
+        int merged = 0;
+        for (final Long accountId : accountIds) {
+            try {
+                int mergedBatch;
+                do {
+                    mergedBatch = savingsAccountWritePlatformService.mergePendingCredits(accountId);
+                    merged += mergedBatch;
+                } while (mergedBatch > 0);
+            } catch (final Exception ex) {
+                exceptions.add(ex);
+                log.error("Merging pending credits failed for savings account: {}", accountId, ex);
+            }
+        }
+        log.debug("{}: Pending credits merged into {} hot savings accounts: {}", ThreadLocalContextUtil.getTenant().getName(),
+                accountIds.size(), merged);
+        contribution.incrementWriteCount(merged);
+        if (!exceptions.isEmpty()) {
+            throw new JobExecutionException(exceptions);
+        }
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -18,23 +18,26 @@
  */
 package org.apache.fineract.portfolio.savings.jobs.payduesavingscharges;
 
+import org.apache.fineract.cob.conditions.BatchWorkerCondition;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.partitioning.IdRangePartitionedJobFactory;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountChargeReadPlatformService;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.job.builder.JobBuilder;
-import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class PayDueSavingsChargesConfig {
 
+    public static final String WORKER_STEP_NAME = "payDueSavingsChargesWorkerStep";
+
     @Autowired
     private JobRepository jobRepository;
     @Autowired
@@ -43,6 +46,8 @@ public class PayDueSavingsChargesConfig {
     private SavingsAccountChargeReadPlatformService savingsAccountChargeReadPlatformService;
     @Autowired
     private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    @Autowired
+    private IdRangePartitionedJobFactory partitionedJobFactory;
 
     @Bean
     protected Step payDueSavingsChargesStep() {
@@ -52,12 +57,23 @@ public class PayDueSavingsChargesConfig {
 
     @Bean
     public Job payDueSavingsChargesJob() {
-        return new JobBuilder(JobName.PAY_DUE_SAVINGS_CHARGES.name(), jobRepository).start(payDueSavingsChargesStep())
-                .incrementer(new RunIdIncrementer()).build();
+        return partitionedJobFactory.createJob(JobName.PAY_DUE_SAVINGS_CHARGES, payDueSavingsChargesStep(), WORKER_STEP_NAME,
+                payDueSavingsChargesWork());
+    }
+
+    @Bean(name = WORKER_STEP_NAME)
+    @Conditional(BatchWorkerCondition.class)
+    public Step payDueSavingsChargesWorkerStep() {
+        return partitionedJobFactory.createWorkerStep(JobName.PAY_DUE_SAVINGS_CHARGES, payDueSavingsChargesWork());
     }
 
     @Bean
     public PayDueSavingsChargesTasklet payDueSavingsChargesTasklet() {
         return new PayDueSavingsChargesTasklet(savingsAccountChargeReadPlatformService, savingsAccountWritePlatformService);
     }
+
+    @Bean
+    public PayDueSavingsChargesWork payDueSavingsChargesWork() {
+        return new PayDueSavingsChargesWork(savingsAccountChargeReadPlatformService, savingsAccountWritePlatformService);
+    }
 }
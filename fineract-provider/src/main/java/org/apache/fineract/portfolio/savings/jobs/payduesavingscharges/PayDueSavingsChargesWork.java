@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.payduesavingscharges;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.springbatch.partitioning.IdRangeJobWork;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountAnnualFeeData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountChargeReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+
+/**
+ * Pays the due charges by savings account, so the charges of an account are always paid by the same worker, in the
+ * order of their due dates.
+ */
+@RequiredArgsConstructor
+public class PayDueSavingsChargesWork implements IdRangeJobWork {
+
+    private final SavingsAccountChargeReadPlatformService savingsAccountChargeReadPlatformService;
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public List<Long> retrieveIds(Long fromId, Long toId) {
+        return savingsAccountChargeReadPlatformService.retrieveChargesWithDue(fromId, toId).stream()
+                .map(SavingsAccountAnnualFeeData::getAccountId).distinct().sorted().toList();
+    }
+
+    @Override
+    public void process(Long accountId) {
+        for (SavingsAccountAnnualFeeData charge : savingsAccountChargeReadPlatformService.retrieveChargesWithDue(accountId, accountId)) {
+            savingsAccountWritePlatformService.applyChargeDue(charge.getId(), accountId);
+        }
+    }
+}
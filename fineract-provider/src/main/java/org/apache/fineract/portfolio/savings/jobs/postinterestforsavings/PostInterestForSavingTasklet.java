@@ -20,17 +20,18 @@ package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
 
 import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType.ACTIVE;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.Callable;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
@@ -41,180 +42,191 @@ import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPos
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Posts the interest of the active savings accounts as a pipeline: the savings accounts are read page by page (keyset
+ * paged by id) and split into batches, which are handed over through a bounded queue to the posters running on the
+ * savings interest posting executor. Reading the next page overlaps with posting the previous ones, and the bounded
+ * queue stops the reader when the posters fall behind.
+ *
+ * The thread-pool-size job parameter is the number of posters, capped at the size of the executor
+ * (fineract.savings.interest-posting.threads). The reader gives up when every poster has stopped, since nothing would
+ * drain the queue anymore.
+ *
+ * The number of read, posted and failed savings accounts, the throughput and the highest backlog of the queue are stored
+ * in the execution context of the step.
+ */
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public class PostInterestForSavingTasklet implements Tasklet {
 
-    private static final int QUEUE_SIZE = 1;
+    private static final List<SavingsAccountData> END_OF_DATA = Collections.emptyList();
+    private static final int QUEUED_BATCHES_PER_POSTER = 2;
+    private static final long QUEUE_OFFER_TIMEOUT_MILLIS = 200;
 
     private final SavingsAccountReadPlatformService savingAccountReadPlatformService;
     private final ConfigurationDomainService configurationDomainService;
-    private final Queue<List<SavingsAccountData>> queue = new ArrayDeque<>();
     private final ApplicationContext applicationContext;
-    @Qualifier(TaskExecutorConstant.CONFIGURABLE_TASK_EXECUTOR_BEAN_NAME)
-    private final ThreadPoolTaskExecutor taskExecutor;
+    @Qualifier(TaskExecutorConstant.SAVINGS_INTEREST_POSTING_TASK_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor interestPostingTaskExecutor;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         final int threadPoolSize = Integer.parseInt((String) chunkContext.getStepContext().getJobParameters().get("thread-pool-size"));
-        taskExecutor.setCorePoolSize(threadPoolSize);
-        taskExecutor.setMaxPoolSize(threadPoolSize);
         final int batchSize = Integer.parseInt((String) chunkContext.getStepContext().getJobParameters().get("batch-size"));
-        final int pageSize = batchSize * threadPoolSize;
-        Long maxSavingsIdInList = 0L;
+        final int posterCount = Math.max(1, Math.min(threadPoolSize, interestPostingTaskExecutor.getMaxPoolSize()));
+        final int pageSize = batchSize * posterCount;
         final boolean backdatedTxnsAllowedTill = this.configurationDomainService.retrievePivotDateConfig();
+        final FineractContext context = ThreadLocalContextUtil.getContext();
 
-        long start = System.currentTimeMillis();
-
-        log.debug("Reading Savings Account Data!");
-        List<SavingsAccountData> savingsAccounts = savingAccountReadPlatformService
-                .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxSavingsIdInList);
-
-        if (savingsAccounts != null && savingsAccounts.size() > 0) {
-            savingsAccounts = Collections.synchronizedList(savingsAccounts);
-            long finish = System.currentTimeMillis();
-            log.debug("Done fetching Data within {} milliseconds", finish - start);
-            queue.add(savingsAccounts);
-
-            if (!CollectionUtils.isEmpty(queue)) {
-                do {
-                    int totalFilteredRecords = savingsAccounts.size();
-                    log.debug("Starting Interest posting - total records - {}", totalFilteredRecords);
-                    List<SavingsAccountData> queueElement = queue.element();
-                    maxSavingsIdInList = queueElement.get(queueElement.size() - 1).getId();
-                    postInterest(queue.remove(), threadPoolSize, backdatedTxnsAllowedTill, pageSize, maxSavingsIdInList);
-                } while (!CollectionUtils.isEmpty(queue));
+        final PostingMetrics metrics = new PostingMetrics();
+        final BlockingQueue<List<SavingsAccountData>> queue = new LinkedBlockingQueue<>(posterCount * QUEUED_BATCHES_PER_POSTER);
+        final List<Future<?>> posters = new ArrayList<>(posterCount);
+        final long start = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < posterCount; i++) {
+                posters.add(interestPostingTaskExecutor.submit(() -> {
+                    postInterest(queue, backdatedTxnsAllowedTill, context, metrics);
+                    return null;
+                }));
+            }
+            try {
+                readSavingsAccounts(queue, posters, backdatedTxnsAllowedTill, pageSize, batchSize, metrics);
+            } finally {
+                for (int i = 0; i < posters.size(); i++) {
+                    if (!enqueue(queue, END_OF_DATA, posters)) {
+                        break;
+                    }
+                }
+            }
+            for (Future<?> poster : posters) {
+                poster.get();
             }
+        } catch (ExecutionException e) {
+            log.error("Execution exception while interest posting entries", e);
+        } finally {
+            posters.forEach(poster -> poster.cancel(true));
+            metrics.store(contribution, System.currentTimeMillis() - start);
         }
         return RepeatStatus.FINISHED;
     }
 
-    private void postInterest(List<SavingsAccountData> savingsAccounts, int threadPoolSize, final boolean backdatedTxnsAllowedTill,
-            final int pageSize, Long maxSavingsIdInList) {
-        List<Callable<Void>> posters = new ArrayList<>();
-        int fromIndex = 0;
-        int size = savingsAccounts.size();
-        int batchSize = (int) Math.ceil((double) size / threadPoolSize);
-
-        if (batchSize == 0) {
-            return;
-        }
-
-        int toIndex = (batchSize > size - 1) ? size : batchSize;
-        while (toIndex < size && savingsAccounts.get(toIndex - 1).getId().equals(savingsAccounts.get(toIndex).getId())) {
-            toIndex++;
-        }
-        boolean lastBatch = false;
-        int loopCount = size / batchSize + 1;
-
-        FineractContext context = ThreadLocalContextUtil.getContext();
-
-        Callable<Void> fetchData = () -> {
-            ThreadLocalContextUtil.init(context);
-            Long maxId = maxSavingsIdInList;
-            if (!queue.isEmpty()) {
-                maxId = Math.max(maxSavingsIdInList, queue.element().get(queue.element().size() - 1).getId());
+    private void readSavingsAccounts(final BlockingQueue<List<SavingsAccountData>> queue, final List<Future<?>> posters,
+            final boolean backdatedTxnsAllowedTill, final int pageSize, final int batchSize, final PostingMetrics metrics)
+            throws InterruptedException {
+        Long maxSavingsIdInList = 0L;
+        while (true) {
+            log.debug("Reading Savings Account Data after id {}", maxSavingsIdInList);
+            final List<SavingsAccountData> savingsAccounts = savingAccountReadPlatformService
+                    .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxSavingsIdInList);
+            if (savingsAccounts.isEmpty()) {
+                break;
             }
-
-            while (queue.size() <= QUEUE_SIZE) {
-                log.debug("Fetching while threads are running!");
-                List<SavingsAccountData> savingsAccountDataList = Collections.synchronizedList(this.savingAccountReadPlatformService
-                        .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxId));
-                if (savingsAccountDataList.isEmpty()) {
-                    break;
+            metrics.readAccounts.addAndGet(savingsAccounts.size());
+            for (List<SavingsAccountData> batch : split(savingsAccounts, batchSize)) {
+                if (!enqueue(queue, batch, posters)) {
+                    throw new IllegalStateException("Every savings interest poster has stopped, interest posting is aborted after id "
+                            + maxSavingsIdInList);
                 }
-                maxId = savingsAccountDataList.get(savingsAccountDataList.size() - 1).getId();
-                queue.add(savingsAccountDataList);
+                metrics.updateMaxBacklog(queue.size());
             }
-            return null;
-        };
-        posters.add(fetchData);
-
-        for (long i = 0; i < loopCount; i++) {
-            List<SavingsAccountData> subList = safeSubList(savingsAccounts, fromIndex, toIndex);
-            SavingsSchedularInterestPosterTask savingsSchedularInterestPosterTask = applicationContext
-                    .getBean(SavingsSchedularInterestPosterTask.class);
-            savingsSchedularInterestPosterTask.setSavingAccounts(subList);
-            savingsSchedularInterestPosterTask.setBackdatedTxnsAllowedTill(backdatedTxnsAllowedTill);
-            savingsSchedularInterestPosterTask.setContext(ThreadLocalContextUtil.getContext());
-
-            posters.add(savingsSchedularInterestPosterTask);
+            maxSavingsIdInList = savingsAccounts.get(savingsAccounts.size() - 1).getId();
+            log.debug("Queued {} savings accounts, {} batches waiting to be posted", savingsAccounts.size(), queue.size());
+        }
+    }
 
-            if (lastBatch) {
-                break;
-            }
-            if (toIndex + batchSize > size - 1) {
-                lastBatch = true;
-            }
-            fromIndex = fromIndex + (toIndex - fromIndex);
-            toIndex = (toIndex + batchSize > size - 1) ? size : toIndex + batchSize;
-            while (toIndex < size && savingsAccounts.get(toIndex - 1).getId().equals(savingsAccounts.get(toIndex).getId())) {
-                toIndex++;
+    /**
+     * Hands the batch over to the posters, waiting while the queue is full.
+     *
+     * @return false if every poster has stopped before the batch could be queued
+     */
+    private static boolean enqueue(final BlockingQueue<List<SavingsAccountData>> queue, final List<SavingsAccountData> batch,
+            final List<Future<?>> posters) throws InterruptedException {
+        while (!queue.offer(batch, QUEUE_OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (posters.stream().allMatch(Future::isDone)) {
+                return false;
             }
         }
+        return true;
+    }
 
-        List<Future<Void>> responses = new ArrayList<>();
-        posters.forEach(poster -> responses.add(taskExecutor.submit(poster)));
-        Long maxId = maxSavingsIdInList;
-        if (!queue.isEmpty()) {
-            maxId = Math.max(maxSavingsIdInList, queue.element().get(queue.element().size() - 1).getId());
+    private void postInterest(final BlockingQueue<List<SavingsAccountData>> queue, final boolean backdatedTxnsAllowedTill,
+            final FineractContext context, final PostingMetrics metrics) throws InterruptedException {
+        try {
+            List<SavingsAccountData> batch = queue.take();
+            while (batch != END_OF_DATA) {
+                try {
+                    final SavingsSchedularInterestPosterTask savingsSchedularInterestPosterTask = applicationContext
+                            .getBean(SavingsSchedularInterestPosterTask.class);
+                    savingsSchedularInterestPosterTask.setSavingAccounts(batch);
+                    savingsSchedularInterestPosterTask.setBackdatedTxnsAllowedTill(backdatedTxnsAllowedTill);
+                    savingsSchedularInterestPosterTask.setContext(context);
+                    savingsSchedularInterestPosterTask.call();
+                    metrics.postedAccounts.addAndGet(batch.size());
+                } catch (Exception e) {
+                    log.error("Interest posting failed for savings accounts {} to {}", batch.get(0).getId(),
+                            batch.get(batch.size() - 1).getId(), e);
+                    metrics.failedAccounts.addAndGet(batch.size());
+                    metrics.failedBatches.incrementAndGet();
+                }
+                batch = queue.take();
+            }
+        } finally {
+            ThreadLocalContextUtil.reset();
         }
+    }
 
-        while (queue.size() <= QUEUE_SIZE) {
-            log.debug("Fetching while threads are running!..:: this is not supposed to run........");
-            savingsAccounts = Collections.synchronizedList(this.savingAccountReadPlatformService
-                    .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxId));
-            if (savingsAccounts.isEmpty()) {
-                break;
+    /**
+     * Splits the page into batches, never splitting the data of a savings account between two batches.
+     */
+    private static List<List<SavingsAccountData>> split(final List<SavingsAccountData> savingsAccounts, final int batchSize) {
+        final List<List<SavingsAccountData>> batches = new ArrayList<>();
+        final int size = savingsAccounts.size();
+        int fromIndex = 0;
+        while (fromIndex < size) {
+            int toIndex = Math.min(fromIndex + batchSize, size);
+            while (toIndex < size && savingsAccounts.get(toIndex - 1).getId().equals(savingsAccounts.get(toIndex).getId())) {
+                toIndex++;
             }
-            maxId = savingsAccounts.get(savingsAccounts.size() - 1).getId();
-            log.debug("Add to the Queue");
-            queue.add(savingsAccounts);
+            batches.add(savingsAccounts.subList(fromIndex, toIndex));
+            fromIndex = toIndex;
         }
-
-        checkCompletion(responses);
-        log.debug("Queue size {}", queue.size());
+        return batches;
     }
 
-    private <T> List<T> safeSubList(List<T> list, int fromIndex, int toIndex) {
-        int size = list.size();
-        if (fromIndex >= size || toIndex <= 0 || fromIndex >= toIndex) {
-            return Collections.emptyList();
-        }
+    private static final class PostingMetrics {
 
-        fromIndex = Math.max(0, fromIndex);
-        toIndex = Math.min(size, toIndex);
+        private final AtomicLong readAccounts = new AtomicLong();
+        private final AtomicLong postedAccounts = new AtomicLong();
+        private final AtomicLong failedAccounts = new AtomicLong();
+        private final AtomicInteger failedBatches = new AtomicInteger();
+        private final AtomicInteger maxBacklog = new AtomicInteger();
 
-        return list.subList(fromIndex, toIndex);
-    }
+        private void updateMaxBacklog(final int backlog) {
+            maxBacklog.accumulateAndGet(backlog, Math::max);
+        }
 
-    private void checkCompletion(List<Future<Void>> responses) {
-        try {
-            for (Future<Void> f : responses) {
-                f.get();
-            }
-            boolean allThreadsExecuted;
-            int noOfThreadsExecuted = 0;
-            for (Future<Void> future : responses) {
-                if (future.isDone()) {
-                    noOfThreadsExecuted++;
-                }
-            }
-            allThreadsExecuted = noOfThreadsExecuted == responses.size();
-            if (!allThreadsExecuted) {
-                log.error("All threads could not execute.");
-            }
-        } catch (InterruptedException e1) {
-            log.error("Interrupted while interest posting entries", e1);
-        } catch (ExecutionException e2) {
-            log.error("Execution exception while interest posting entries", e2);
+        private void store(final StepContribution contribution, final long elapsedMillis) {
+            final long posted = postedAccounts.get();
+            final long accountsPerSecond = elapsedMillis > 0 ? posted * 1000 / elapsedMillis : posted;
+            final ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+            executionContext.putLong("readSavingsAccounts", readAccounts.get());
+            executionContext.putLong("postedSavingsAccounts", posted);
+            executionContext.putLong("failedSavingsAccounts", failedAccounts.get());
+            executionContext.putInt("failedBatches", failedBatches.get());
+            executionContext.putInt("maxQueuedBatches", maxBacklog.get());
+            executionContext.putLong("savingsAccountsPerSecond", accountsPerSecond);
+            executionContext.putLong("elapsedMillis", elapsedMillis);
+            contribution.incrementWriteCount(posted);
+            log.info("Interest posted for {} of {} savings accounts in {} ms ({} accounts/s), {} failed batches, max backlog {} batches",
+                    posted, readAccounts.get(), elapsedMillis, accountsPerSecond, failedBatches.get(), maxBacklog.get());
         }
     }
 }
@@ -23,6 +23,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.MonthDay;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -255,12 +256,28 @@ public class SavingsAccountChargeReadPlatformServiceImpl implements SavingsAccou
 
     @Override
     public Collection<SavingsAccountAnnualFeeData> retrieveChargesWithDue() {
-        final String sql = "select " + this.chargeDueMapper.schema()
-                + " where sac.charge_due_date is not null and sac.charge_due_date <= ? and sac.waived = false and sac.is_paid_derived=false and sac.is_active=true and sa.status_enum = ? "
-                + " order by sac.charge_due_date ";
+        return retrieveChargesWithDue(null, null);
+    }
 
-        return this.jdbcTemplate.query(sql, this.chargeDueMapper, // NOSONAR
-                new Object[] { DateUtils.getBusinessLocalDate(), SavingsAccountStatusType.ACTIVE.getValue() }); // NOSONAR
+    @Override
+    public Collection<SavingsAccountAnnualFeeData> retrieveChargesWithDue(final Long fromAccountId, final Long toAccountId) {
+        final StringBuilder sqlBuilder = new StringBuilder(400);
+        final List<Object> params = new ArrayList<>(4);
+        sqlBuilder.append("select ").append(this.chargeDueMapper.schema()).append(
+                " where sac.charge_due_date is not null and sac.charge_due_date <= ? and sac.waived = false and sac.is_paid_derived=false and sac.is_active=true and sa.status_enum = ? ");
+        params.add(DateUtils.getBusinessLocalDate());
+        params.add(SavingsAccountStatusType.ACTIVE.getValue());
+        if (fromAccountId != null) {
+            sqlBuilder.append(" and sa.id >= ? ");
+            params.add(fromAccountId);
+        }
+        if (toAccountId != null) {
+            sqlBuilder.append(" and sa.id <= ? ");
+            params.add(toAccountId);
+        }
+        sqlBuilder.append(" order by sac.charge_due_date ");
+
+        return this.jdbcTemplate.query(sqlBuilder.toString(), this.chargeDueMapper, params.toArray()); // NOSONAR
     }
 
 }
@@ -393,9 +393,18 @@ public class SavingsAccountInterestPostingServiceImpl implements SavingsAccountI
         Money runningBalance = openingAccountBalance.copy();
 
         List<SavingsAccountTransactionData> accountTransactionsSorted = retrieveListOfTransactions(savingsAccountData);
+        List<SavingsAccountTransactionData> replayedTransactions = accountTransactionsSorted;
+        if (!backdatedTxnsAllowedTill) {
+            final List<SavingsAccountTransactionData> transactionsAfterSnapshot = retrieveTransactionsAfterBalanceSnapshot(
+                    accountTransactionsSorted, savingsAccountData);
+            if (transactionsAfterSnapshot != null) {
+                runningBalance = Money.of(savingsAccountData.getCurrency(), savingsAccountData.getSummary().getBalanceOnSnapshotDate());
+                replayedTransactions = transactionsAfterSnapshot;
+            }
+        }
         boolean isTransactionsModified = false;
 
-        for (final SavingsAccountTransactionData transaction : accountTransactionsSorted) {
+        for (final SavingsAccountTransactionData transaction : replayedTransactions) {
             if (transaction.isReversed() || transaction.isReversalTransaction()) {
                 transaction.zeroBalanceFields();
             } else {
@@ -456,6 +465,38 @@ public class SavingsAccountInterestPostingServiceImpl implements SavingsAccountI
         resetAccountTransactionsEndOfDayBalances(accountTransactionsSorted, interestPostingUpToDate, savingsAccountData);
     }
 
+    /**
+     * Returns the transactions after the end of day balance snapshot if the balances can be replayed from it: none of the
+     * transactions up to the snapshot date was added during this posting and the running balance of the last of them
+     * matches the snapshot. Transactions are only reversed here together with adding a replacement of the same date.
+     * Returns null if the balances have to be replayed from the first transaction.
+     */
+    private List<SavingsAccountTransactionData> retrieveTransactionsAfterBalanceSnapshot(
+            final List<SavingsAccountTransactionData> transactionsSorted, final SavingsAccountData savingsAccountData) {
+        final LocalDate snapshotDate = savingsAccountData.getSummary().getBalanceSnapshotDate();
+        if (snapshotDate == null) {
+            return null;
+        }
+        int fromIndex = 0;
+        BigDecimal runningBalanceOnSnapshotDate = BigDecimal.ZERO;
+        while (fromIndex < transactionsSorted.size()
+                && !DateUtils.isAfter(transactionsSorted.get(fromIndex).getTransactionDate(), snapshotDate)) {
+            final SavingsAccountTransactionData transaction = transactionsSorted.get(fromIndex);
+            if (transaction.getId() == null) {
+                return null;
+            }
+            if (transaction.isNotReversed() && !transaction.isReversalTransaction()) {
+                runningBalanceOnSnapshotDate = transaction.getRunningBalance();
+            }
+            fromIndex++;
+        }
+        final BigDecimal balanceOnSnapshotDate = savingsAccountData.getSummary().getBalanceOnSnapshotDate();
+        if (runningBalanceOnSnapshotDate == null || runningBalanceOnSnapshotDate.compareTo(balanceOnSnapshotDate) != 0) {
+            return null;
+        }
+        return transactionsSorted.subList(fromIndex, transactionsSorted.size());
+    }
+
     public void addTransactionToExisting(final SavingsAccountTransactionData transaction, final SavingsAccountData savingsAccountData) {
         savingsAccountData.updateTransactions(transaction);
     }
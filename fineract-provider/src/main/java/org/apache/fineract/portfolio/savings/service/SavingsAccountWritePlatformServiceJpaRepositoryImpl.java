@@ -52,6 +52,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
@@ -102,6 +103,7 @@ import org.apache.fineract.portfolio.savings.SavingsTransactionBooleanValues;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountChargeDataValidator;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountDataValidator;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountPendingCreditData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDTO;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDataValidator;
@@ -118,6 +120,7 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrap
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionRepository;
+import org.apache.fineract.portfolio.savings.exception.DepositAccountTransactionNotAllowedException;
 import org.apache.fineract.portfolio.savings.exception.PostInterestAsOnDateException;
 import org.apache.fineract.portfolio.savings.exception.PostInterestAsOnDateException.PostInterestAsOnExceptionType;
 import org.apache.fineract.portfolio.savings.exception.PostInterestClosingDateException;
@@ -166,6 +169,8 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
     private final GSIMRepositoy gsimRepository;
     private final SavingsAccountInterestPostingService savingsAccountInterestPostingService;
     private final ErrorHandler errorHandler;
+    private final SavingsAccountPendingCreditService savingsAccountPendingCreditService;
+    private final FineractProperties fineractProperties;
 
     @Transactional
     @Override
@@ -280,6 +285,12 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
         this.context.authenticatedUser();
 
         this.savingsAccountTransactionDataValidator.validate(command);
+        if (DateUtils.isEqualBusinessDate(command.localDateValueOfParameterNamed("transactionDate"))) {
+            final SavingsAccount account = this.savingAccountRepositoryWrapper.findOneWithoutCollectionsWithNotFoundDetection(savingsId);
+            if (account.isHotAccount()) {
+                return depositToHotAccount(account, command);
+            }
+        }
         boolean isGsim = false;
 
         final boolean backdatedTxnsAllowedTill = this.savingAccountAssembler.getPivotConfigStatus();
@@ -339,6 +350,67 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
                 .build();
     }
 
+    /**
+     * Records the deposit as a pending credit instead of locking and rebuilding the account. The credit is turned into a deposit
+     * transaction by the next withdrawal or by the merge job.
+     *
+     * The deposit transaction does not exist yet, so the result has no entity id. It carries the id of the pending credit as
+     * sub-entity id and the reference number of the credit as resource identifier and transaction id. The reference number
+     * is kept as ref_no of the deposit transaction once the credit is merged.
+     */
+    private CommandProcessingResult depositToHotAccount(final SavingsAccount account, final JsonCommand command) {
+        final AppUser user = this.context.authenticatedUser();
+        checkClientOrGroupActive(account);
+        account.validateForAccountBlock();
+        account.validateForCreditBlock();
+        if (!account.allowDeposit()) {
+            throw new DepositAccountTransactionNotAllowedException(account.getId(), "deposit", account.depositAccountType());
+        }
+
+        final Locale locale = command.extractLocale();
+        final DateTimeFormatter fmt = DateTimeFormatter.ofPattern(command.dateFormat()).withLocale(locale);
+        final LocalDate transactionDate = command.localDateValueOfParameterNamed("transactionDate");
+        final BigDecimal transactionAmount = command.bigDecimalValueOfParameterNamed("transactionAmount");
+
+        this.savingsAccountTransactionDataValidator.validateTransactionWithPivotDate(transactionDate, account);
+        final boolean backdatedTxnsAllowedTill = this.savingAccountAssembler.getPivotConfigStatus();
+        final Long relaxingDaysConfigForPivotDate = this.configurationDomainService.retrieveRelaxingDaysConfigForPivotDate();
+        account.validateDeposit(new SavingsAccountTransactionDTO(fmt, transactionDate, transactionAmount, null, null, null),
+                backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate);
+
+        final Map<String, Object> changes = new LinkedHashMap<>();
+        final PaymentDetail paymentDetail = this.paymentDetailWritePlatformService.createAndPersistPaymentDetail(command, changes);
+        final String noteText = command.stringValueOfParameterNamed("note");
+        final SavingsAccountPendingCreditData pendingCredit = SavingsAccountPendingCreditData.builder() //
+                .savingsAccountId(account.getId()) //
+                .transactionDate(transactionDate) //
+                .amount(transactionAmount) //
+                .paymentDetailId(paymentDetail == null ? null : paymentDetail.getId()) //
+                .refNo(UUID.randomUUID().toString()) //
+                .note(StringUtils.isNotBlank(noteText) ? noteText : null) //
+                .build();
+        final Long pendingCreditId = this.savingsAccountPendingCreditService.recordPendingCredit(pendingCredit,
+                account.getHotAccountShards(), user.getId());
+
+        return new CommandProcessingResultBuilder() //
+                .withResourceIdAsString(pendingCredit.getRefNo()) //
+                .withSubEntityId(pendingCreditId) //
+                .withTransactionId(pendingCredit.getRefNo()) //
+                .withOfficeId(account.officeId()) //
+                .withClientId(account.clientId()) //
+                .withGroupId(account.groupId()) //
+                .withSavingsId(account.getId()) //
+                .with(changes) //
+                .build();
+    }
+
+    private void mergeAllPendingCredits(final SavingsAccount account, final boolean backdatedTxnsAllowedTill) {
+        List<SavingsAccountTransaction> deposits;
+        do {
+            deposits = this.savingsAccountDomainService.handlePendingCredits(account, backdatedTxnsAllowedTill);
+        } while (!deposits.isEmpty());
+    }
+
     private Long saveTransactionToGenerateTransactionId(final SavingsAccountTransaction transaction) {
         this.savingsAccountTransactionRepository.saveAndFlush(transaction);
         return transaction.getId();
@@ -894,6 +966,9 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
         final AppUser user = this.context.authenticatedUser();
 
         final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, false);
+        if (account.isHotAccount()) {
+            mergeAllPendingCredits(account, false);
+        }
         this.savingsAccountTransactionDataValidator.validateClosing(command, account);
 
         final boolean isLinkedWithAnyActiveLoan = this.accountAssociationsReadPlatformService.isLinkedWithAnyActiveAccount(savingsId);
@@ -1853,6 +1928,46 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
                 .withClientId(account.clientId()).withGroupId(account.groupId()).withSavingsId(savingsId).with(changes).build();
     }
 
+    @Transactional
+    @Override
+    public CommandProcessingResult enableHotAccount(final Long savingsId) {
+        this.context.authenticatedUser();
+
+        final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, false);
+        checkClientOrGroupActive(account);
+        final Map<String, Object> changes = account.enableHotAccount(this.fineractProperties.getSavings().getHotAccount().getShards());
+        this.savingAccountRepositoryWrapper.saveAndFlush(account);
+        this.savingsAccountPendingCreditService.createShards(savingsId, account.getHotAccountShards());
+
+        return new CommandProcessingResultBuilder().withEntityId(savingsId).withOfficeId(account.officeId())
+                .withClientId(account.clientId()).withGroupId(account.groupId()).withSavingsId(savingsId).with(changes).build();
+    }
+
+    @Transactional
+    @Override
+    public CommandProcessingResult disableHotAccount(final Long savingsId) {
+        this.context.authenticatedUser();
+
+        final boolean backdatedTxnsAllowedTill = this.savingAccountAssembler.getPivotConfigStatus();
+        final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, backdatedTxnsAllowedTill);
+        final Map<String, Object> changes = account.disableHotAccount();
+        // credits recorded while this runs are still picked up by the merge job
+        mergeAllPendingCredits(account, backdatedTxnsAllowedTill);
+        this.savingAccountRepositoryWrapper.saveAndFlush(account);
+        this.savingsAccountPendingCreditService.removeShards(savingsId);
+
+        return new CommandProcessingResultBuilder().withEntityId(savingsId).withOfficeId(account.officeId())
+                .withClientId(account.clientId()).withGroupId(account.groupId()).withSavingsId(savingsId).with(changes).build();
+    }
+
+    @Transactional
+    @Override
+    public int mergePendingCredits(final Long savingsId) {
+        final boolean backdatedTxnsAllowedTill = this.savingAccountAssembler.getPivotConfigStatus();
+        final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, backdatedTxnsAllowedTill);
+        return this.savingsAccountDomainService.handlePendingCredits(account, backdatedTxnsAllowedTill).size();
+    }
+
     @Transactional
     @Override
     public CommandProcessingResult blockDebits(final Long savingsId, final JsonCommand command) {
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Normalizes searchable values into the tokens of the search index.
+ *
+ * Every value is indexed as a whole and, if it consists of several words, word by word as well, so that prefix
+ * searches match the beginning of any word of a name. Exact match searches only compare with the whole values.
+ */
+public final class SearchIndexTokenizer {
+
+    public static final int MAX_TOKEN_LENGTH = 100;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s,;:/()]+");
+
+    private SearchIndexTokenizer() {}
+
+    public static Set<String> tokenize(final Collection<String> values) {
+        final Set<String> tokens = new LinkedHashSet<>();
+        for (final String value : values) {
+            final String token = normalize(value);
+            if (token.isEmpty()) {
+                continue;
+            }
+            tokens.add(token);
+            for (final String word : WORD_SEPARATOR.split(token)) {
+                if (!word.isEmpty()) {
+                    tokens.add(word);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * The normalized whole values, which are the only tokens an exact match search compares with.
+     */
+    public static Set<String> wholeValues(final Collection<String> values) {
+        final Set<String> wholeValues = new LinkedHashSet<>();
+        for (final String value : values) {
+            final String token = normalize(value);
+            if (!token.isEmpty()) {
+                wholeValues.add(token);
+            }
+        }
+        return wholeValues;
+    }
+
+    public static String normalize(final String value) {
+        if (value == null) {
+            return "";
+        }
+        return StringUtils.left(value.trim().toLowerCase(Locale.ROOT), MAX_TOKEN_LENGTH);
+    }
+
+    /**
+     * Turns a search query into a LIKE pattern matching the tokens starting with it.
+     */
+    public static String prefixPattern(final String query) {
+        return normalize(query).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientIdentifierBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.share.ShareAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the m_search_index token table used by the global search.
+ *
+ * Entities created or modified through the API are indexed once their transaction committed, based on the business
+ * events raised for them. Changes which are not covered by business events (e.g. loan external ids or direct database
+ * updates) are picked up by the Rebuild Search Index job.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexWritePlatformServiceImpl implements SearchIndexWritePlatformService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final PlatformTransactionManager transactionManager;
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final FineractProperties fineractProperties;
+
+    @PostConstruct
+    public void addListeners() {
+        if (!isEnabled()) {
+            return;
+        }
+        // the client and group listeners cover the create, activate and update events, which all extend them
+        businessEventNotifierService.addPostBusinessEventListener(ClientBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.CLIENT, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(ClientIdentifierBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.CLIENTIDENTIFIER, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(GroupsBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.GROUP, event.get().getResourceId()));
+        businessEventNotifierService.addPostBusinessEventListener(LoanCreatedBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.LOAN, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(SavingsCreateBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.SAVING, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(ShareAccountCreateBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.SHARE, event.get().getId()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return fineractProperties.getSearch().getIndex().isEnabled();
+    }
+
+    @Override
+    public void reindex(final SearchIndexEntityType entityType, final Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        final List<IndexedEntity> entities = namedParameterJdbcTemplate.query(
+                selectSql(entityType) + " where e.id in (:ids)", new MapSqlParameterSource("ids", entityIds),
+                (rs, rowNum) -> mapEntity(entityType, rs));
+        namedParameterJdbcTemplate.update("delete from m_search_index where entity_type = :entityType and entity_id in (:ids)",
+                new MapSqlParameterSource("entityType", entityType.name()).addValue("ids", entityIds));
+        insertTokens(entityType, entities);
+    }
+
+    @Override
+    public void rebuild() {
+        final int batchSize = fineractProperties.getSearch().getIndex().getRebuildBatchSize();
+        final TransactionTemplate transactionTemplate = newTransactionTemplate();
+        for (final SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            long lastId = 0L;
+            long indexed = 0L;
+            boolean hasMore = true;
+            while (hasMore) {
+                final List<IndexedEntity> entities = jdbcTemplate.query(
+                        selectSql(entityType) + " where e.id > ? order by e.id " + sqlGenerator.limit(batchSize),
+                        (rs, rowNum) -> mapEntity(entityType, rs), lastId);
+                hasMore = entities.size() == batchSize;
+                final long fromId = lastId;
+                // the last batch also drops the tokens of deleted entities at the end of the table
+                final long toId = hasMore ? entities.get(entities.size() - 1).id : Long.MAX_VALUE;
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update("delete from m_search_index where entity_type = ? and entity_id > ? and entity_id <= ?",
+                            entityType.name(), fromId, toId);
+                    insertTokens(entityType, entities);
+                });
+                lastId = toId;
+                indexed += entities.size();
+            }
+            log.info("Rebuilt search index of {} {} entities", indexed, entityType);
+        }
+    }
+
+    private void reindexAfterCommit(final SearchIndexEntityType entityType, final Long entityId) {
+        if (entityId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindexQuietly(Map.of(entityType, Set.of(entityId)));
+            return;
+        }
+        getOrRegisterPendingEntities().computeIfAbsent(entityType, type -> new LinkedHashSet<>()).add(entityId);
+    }
+
+    private Map<SearchIndexEntityType, Set<Long>> getOrRegisterPendingEntities() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof SearchIndexSynchronization searchIndexSynchronization) {
+                return searchIndexSynchronization.pendingEntities;
+            }
+        }
+        SearchIndexSynchronization synchronization = new SearchIndexSynchronization();
+        TransactionSynchronizationManager.registerSynchronization(synchronization);
+        return synchronization.pendingEntities;
+    }
+
+    private void reindexQuietly(final Map<SearchIndexEntityType, Set<Long>> pendingEntities) {
+        try {
+            // the business transaction is already committed, so the index is updated in a transaction of its own
+            newTransactionTemplate().executeWithoutResult(status -> pendingEntities.forEach(this::reindex));
+        } catch (RuntimeException e) {
+            // the entities become searchable with the next run of the rebuild job
+            log.warn("Failed to update the search index of {}", pendingEntities, e);
+        }
+    }
+
+    private TransactionTemplate newTransactionTemplate() {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    private static String selectSql(final SearchIndexEntityType entityType) {
+        return "select e.id, e." + String.join(", e.", entityType.getColumns()) + " from " + entityType.getTableName() + " e";
+    }
+
+    private static IndexedEntity mapEntity(final SearchIndexEntityType entityType, final ResultSet rs) throws SQLException {
+        final List<String> values = new ArrayList<>(entityType.getColumns().size());
+        for (int i = 0; i < entityType.getColumns().size(); i++) {
+            values.add(rs.getString(i + 2));
+        }
+        return new IndexedEntity(rs.getLong(1), SearchIndexTokenizer.tokenize(values), SearchIndexTokenizer.wholeValues(values));
+    }
+
+    private void insertTokens(final SearchIndexEntityType entityType, final List<IndexedEntity> entities) {
+        final List<Object[]> params = new ArrayList<>();
+        for (final IndexedEntity entity : entities) {
+            for (final String token : entity.tokens) {
+                params.add(new Object[] { entityType.name(), entity.id, token, entity.wholeValues.contains(token) });
+            }
+        }
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into m_search_index (entity_type, entity_id, token, whole_value) values (?, ?, ?, ?)",
+                    params);
+        }
+    }
+
+    private static final class IndexedEntity {
+
+        private final long id;
+        private final Set<String> tokens;
+        private final Set<String> wholeValues;
+
+        private IndexedEntity(final long id, final Set<String> tokens, final Set<String> wholeValues) {
+            this.id = id;
+            this.tokens = tokens;
+            this.wholeValues = wholeValues;
+        }
+    }
+
+    private final class SearchIndexSynchronization implements TransactionSynchronization {
+
+        private final Map<SearchIndexEntityType, Set<Long>> pendingEntities = new EnumMap<>(SearchIndexEntityType.class);
+
+        @Override
+        public void afterCommit() {
+            if (!pendingEntities.isEmpty()) {
+                reindexQuietly(Collections.unmodifiableMap(pendingEntities));
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            pendingEntities.clear();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
+import org.apache.fineract.infrastructure.security.service.BasicAuthenticationCache;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.command.PermissionsCommand;
 import org.apache.fineract.useradministration.domain.Permission;
@@ -41,6 +42,7 @@ public class PermissionWritePlatformServiceJpaRepositoryImpl implements Permissi
     private final PlatformSecurityContext context;
     private final PermissionRepository permissionRepository;
     private final PermissionsCommandFromApiJsonDeserializer fromApiJsonDeserializer;
+    private final BasicAuthenticationCache basicAuthenticationCache;
 
     @Caching(evict = { @CacheEvict(value = "users", allEntries = true), @CacheEvict(value = "usersByUsername", allEntries = true) })
     @Transactional
@@ -74,6 +76,7 @@ public class PermissionWritePlatformServiceJpaRepositoryImpl implements Permissi
 
         if (!changedPermissions.isEmpty()) {
             changes.put("permissions", changedPermissions);
+            this.basicAuthenticationCache.invalidate();
         }
 
         return new CommandProcessingResultBuilder().withCommandId(command.commandId()).with(changes).build();
@@ -30,6 +30,7 @@ import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
+import org.apache.fineract.infrastructure.security.service.BasicAuthenticationCache;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.command.PermissionsCommand;
 import org.apache.fineract.useradministration.domain.Permission;
@@ -55,6 +56,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
     private final PermissionRepository permissionRepository;
     private final RoleDataValidator roleCommandFromApiJsonDeserializer;
     private final PermissionsCommandFromApiJsonDeserializer permissionsFromApiJsonDeserializer;
+    private final BasicAuthenticationCache basicAuthenticationCache;
 
     @Transactional
     @Override
@@ -112,6 +114,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
             final Map<String, Object> changes = role.update(command);
             if (!changes.isEmpty()) {
                 this.roleRepository.saveAndFlush(role);
+                this.basicAuthenticationCache.invalidate();
             }
 
             return new CommandProcessingResultBuilder() //
@@ -161,6 +164,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
         if (!changedPermissions.isEmpty()) {
             changes.put("permissions", changedPermissions);
             this.roleRepository.saveAndFlush(role);
+            this.basicAuthenticationCache.invalidate();
         }
 
         return new CommandProcessingResultBuilder() //
@@ -204,6 +208,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
             }
 
             this.roleRepository.delete(role);
+            this.basicAuthenticationCache.invalidate();
             return new CommandProcessingResultBuilder().withEntityId(roleId).build();
         } catch (final JpaSystemException | DataIntegrityViolationException e) {
             throw ErrorHandler.getMappable(e, "error.msg.unknown.data.integrity.issue",
@@ -237,6 +242,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
              */
             role.disableRole();
             this.roleRepository.saveAndFlush(role);
+            this.basicAuthenticationCache.invalidate();
             return new CommandProcessingResultBuilder().withEntityId(roleId).build();
 
         } catch (final JpaSystemException | DataIntegrityViolationException e) {
@@ -260,6 +266,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
 
             role.enableRole();
             this.roleRepository.saveAndFlush(role);
+            this.basicAuthenticationCache.invalidate();
             return new CommandProcessingResultBuilder().withEntityId(roleId).build();
 
         } catch (final JpaSystemException | DataIntegrityViolationException e) {
@@ -19,6 +19,7 @@
 package org.apache.fineract.useradministration.starter;
 
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.BasicAuthenticationCache;
 import org.apache.fineract.infrastructure.security.service.PlatformPasswordEncoder;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
@@ -75,10 +76,10 @@ public class UserAdministrationConfiguration {
             PlatformPasswordEncoder platformPasswordEncoder, AppUserRepository appUserRepository,
             OfficeRepositoryWrapper officeRepositoryWrapper, RoleRepository roleRepository, UserDataValidator fromApiJsonDeserializer,
             AppUserPreviousPasswordRepository appUserPreviewPasswordRepository, StaffRepositoryWrapper staffRepositoryWrapper,
-            ClientRepositoryWrapper clientRepositoryWrapper) {
+            ClientRepositoryWrapper clientRepositoryWrapper, BasicAuthenticationCache basicAuthenticationCache) {
         return new AppUserWritePlatformServiceJpaRepositoryImpl(context, userDomainService, platformPasswordEncoder, appUserRepository,
                 officeRepositoryWrapper, roleRepository, fromApiJsonDeserializer, appUserPreviewPasswordRepository, staffRepositoryWrapper,
-                clientRepositoryWrapper);
+                clientRepositoryWrapper, basicAuthenticationCache);
     }
 
     @Bean
@@ -105,8 +106,10 @@ public class UserAdministrationConfiguration {
     @Bean
     @ConditionalOnMissingBean(PermissionWritePlatformService.class)
     public PermissionWritePlatformService permissionWritePlatformService(PlatformSecurityContext context,
-            PermissionRepository permissionRepository, PermissionsCommandFromApiJsonDeserializer fromApiJsonDeserializer) {
-        return new PermissionWritePlatformServiceJpaRepositoryImpl(context, permissionRepository, fromApiJsonDeserializer);
+            PermissionRepository permissionRepository, PermissionsCommandFromApiJsonDeserializer fromApiJsonDeserializer,
+            BasicAuthenticationCache basicAuthenticationCache) {
+        return new PermissionWritePlatformServiceJpaRepositoryImpl(context, permissionRepository, fromApiJsonDeserializer,
+                basicAuthenticationCache);
     }
 
     @Bean
@@ -119,8 +122,9 @@ public class UserAdministrationConfiguration {
     @ConditionalOnMissingBean(RoleWritePlatformService.class)
     public RoleWritePlatformService roleWritePlatformService(PlatformSecurityContext context, RoleRepository roleRepository,
             PermissionRepository permissionRepository, RoleDataValidator roleCommandFromApiJsonDeserializer,
-            PermissionsCommandFromApiJsonDeserializer permissionsFromApiJsonDeserializer) {
+            PermissionsCommandFromApiJsonDeserializer permissionsFromApiJsonDeserializer,
+            BasicAuthenticationCache basicAuthenticationCache) {
         return new RoleWritePlatformServiceJpaRepositoryImpl(context, roleRepository, permissionRepository,
-                roleCommandFromApiJsonDeserializer, permissionsFromApiJsonDeserializer);
+                roleCommandFromApiJsonDeserializer, permissionsFromApiJsonDeserializer, basicAuthenticationCache);
     }
 }
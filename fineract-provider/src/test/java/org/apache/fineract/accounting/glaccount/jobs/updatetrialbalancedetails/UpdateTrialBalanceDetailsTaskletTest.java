@@ -0,0 +1,255 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.jobs.updatetrialbalancedetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractAccountingProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractTrialBalanceProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceService;
+import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceServiceFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UpdateTrialBalanceDetailsTaskletTest {
+
+    private static final Long OFFICE_1 = 1L;
+    private static final Long OFFICE_2 = 2L;
+    // with two partitions the even account is aggregated by partition 0, the odd one by partition 1
+    private static final Long ACCOUNT_EVEN = 10L;
+    private static final Long ACCOUNT_ODD = 11L;
+    private static final LocalDate DAY_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate DAY_2 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY_3 = LocalDate.of(2024, 1, 3);
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 4);
+
+    @Mock
+    private RoutingDataSourceServiceFactory dataSourceServiceFactory;
+    @Mock
+    private RoutingDataSourceService dataSourceService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private StepContribution contribution;
+    @Mock
+    private ChunkContext chunkContext;
+
+    private final FineractTrialBalanceProperties trialBalanceProperties = new FineractTrialBalanceProperties();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final List<LocalDate> transactionDates = new ArrayList<>();
+    private final List<Object[]> storedClosingBalances = new ArrayList<>();
+    private final Map<String, List<Map<String, Object>>> journalRows = new HashMap<>();
+    private final List<Object[]> partitionQueries = Collections.synchronizedList(new ArrayList<>());
+    private final List<Object[]> insertedRows = new ArrayList<>();
+    private final List<Object[]> insertedClosingBalances = new ArrayList<>();
+    private final List<Integer> insertBatchSizes = new ArrayList<>();
+    private UpdateTrialBalanceDetailsTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        trialBalanceProperties.setThreads(2);
+        trialBalanceProperties.setBatchSize(100);
+        trialBalanceProperties.setDaysPerPass(2);
+        FineractAccountingProperties accountingProperties = new FineractAccountingProperties();
+        accountingProperties.setTrialBalance(trialBalanceProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setAccounting(accountingProperties);
+
+        given(dataSourceServiceFactory.determineDataSourceService()).willReturn(dataSourceService);
+        given(dataSourceService.retrieveDataSource()).willReturn(mock(DataSource.class));
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        underTest = new UpdateTrialBalanceDetailsTasklet(dataSourceServiceFactory, transactionManager, fineractProperties,
+                executorService::execute);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testNothingIsWrittenWithoutNewTransactionDates() throws Exception {
+        try (MockedConstruction<JdbcTemplate> jdbcTemplates = mockConstruction(JdbcTemplate.class, (jdbcTemplate, context) -> {
+            stubJdbcTemplate(jdbcTemplate);
+        })) {
+            RepeatStatus status = underTest.execute(contribution, chunkContext);
+
+            JdbcTemplate jdbcTemplate = jdbcTemplates.constructed().get(0);
+            // only the dates after the last one in the trial balance and before the business date are complete
+            verify(jdbcTemplate).queryForList(contains("(select coalesce(MAX(created_date),'2010-01-01') from m_trial_balance)"),
+                    eq(LocalDate.class), eq(BUSINESS_DATE));
+            verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+            assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        }
+    }
+
+    @Test
+    public void testDatesAreAggregatedInRangesByAccountPartition() throws Exception {
+        transactionDates.addAll(List.of(DAY_1, DAY_2, DAY_3));
+
+        try (MockedConstruction<JdbcTemplate> jdbcTemplates = mockConstruction(JdbcTemplate.class, (jdbcTemplate, context) -> {
+            stubJdbcTemplate(jdbcTemplate);
+        })) {
+            underTest.execute(contribution, chunkContext);
+        }
+
+        assertThat(partitionQueries).extracting(args -> args[0] + ".." + args[1] + " " + args[3] + "/" + args[2])
+                .containsExactlyInAnyOrder(DAY_1 + ".." + DAY_2 + " 0/2", DAY_1 + ".." + DAY_2 + " 1/2", DAY_3 + ".." + DAY_3 + " 0/2",
+                        DAY_3 + ".." + DAY_3 + " 1/2");
+        // every range is stored in a transaction of its own
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    public void testClosingBalancesAreCarriedForwardPerOfficeAndAccount() throws Exception {
+        transactionDates.addAll(List.of(DAY_1, DAY_2, DAY_3));
+        storedClosingBalances.add(new Object[] { OFFICE_1, ACCOUNT_EVEN, new BigDecimal("100") });
+        givenJournalRows(DAY_1, 0, journalRow(OFFICE_1, ACCOUNT_EVEN, "5", DAY_1), journalRow(OFFICE_2, ACCOUNT_EVEN, "7", DAY_1),
+                journalRow(OFFICE_1, ACCOUNT_EVEN, "-3", DAY_2));
+        givenJournalRows(DAY_1, 1, journalRow(OFFICE_1, ACCOUNT_ODD, "20", DAY_2));
+        givenJournalRows(DAY_3, 0, journalRow(OFFICE_1, ACCOUNT_EVEN, "1", DAY_3));
+
+        try (MockedConstruction<JdbcTemplate> jdbcTemplates = mockConstruction(JdbcTemplate.class, (jdbcTemplate, context) -> {
+            stubJdbcTemplate(jdbcTemplate);
+        })) {
+            underTest.execute(contribution, chunkContext);
+        }
+
+        assertThat(insertedRows).extracting(row -> row[0] + "/" + row[1] + " " + row[4] + " " + row[2] + " -> " + row[5])
+                .containsExactlyInAnyOrder("1/10 " + DAY_1 + " 5 -> 105", "2/10 " + DAY_1 + " 7 -> 7", "1/10 " + DAY_2 + " -3 -> 102",
+                        "1/11 " + DAY_2 + " 20 -> 20", "1/10 " + DAY_3 + " 1 -> 103");
+        // the closing balances each range ends on are stored with it
+        assertThat(insertedClosingBalances).extracting(row -> row[0] + "/" + row[1] + " " + row[2])
+                .containsExactlyInAnyOrder("1/10 102", "2/10 7", "1/11 20", "1/10 103");
+        verify(contribution).incrementWriteCount(5);
+    }
+
+    @Test
+    public void testRowsAreInsertedInBatches() throws Exception {
+        trialBalanceProperties.setBatchSize(2);
+        trialBalanceProperties.setDaysPerPass(3);
+        transactionDates.addAll(List.of(DAY_1, DAY_2, DAY_3));
+        givenJournalRows(DAY_1, 0, journalRow(OFFICE_1, ACCOUNT_EVEN, "5", DAY_1), journalRow(OFFICE_1, ACCOUNT_EVEN, "6", DAY_2),
+                journalRow(OFFICE_1, ACCOUNT_EVEN, "7", DAY_3));
+
+        try (MockedConstruction<JdbcTemplate> jdbcTemplates = mockConstruction(JdbcTemplate.class, (jdbcTemplate, context) -> {
+            stubJdbcTemplate(jdbcTemplate);
+        })) {
+            underTest.execute(contribution, chunkContext);
+        }
+
+        assertThat(insertBatchSizes).containsExactly(2, 1);
+        assertThat(insertedClosingBalances).extracting(row -> row[0] + "/" + row[1] + " " + row[2]).containsExactly("1/10 18");
+    }
+
+    private void stubJdbcTemplate(final JdbcTemplate jdbcTemplate) {
+        given(jdbcTemplate.queryForList(anyString(), eq(LocalDate.class), any(Object[].class))).willReturn(transactionDates);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] balance : storedClosingBalances) {
+                handler.processRow(resultSet(Map.of("office_id", balance[0], "account_id", balance[1], "closing_balance", balance[2])));
+            }
+            return null;
+        }).given(jdbcTemplate).query(contains("from m_trial_balance_closing_balance"), any(RowCallbackHandler.class));
+        willAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            partitionQueries.add(new Object[] { args[2], args[3], args[4], args[5] });
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map<String, Object> row : journalRows.getOrDefault(args[2] + "/" + args[5], List.of())) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        }).given(jdbcTemplate).query(contains("from acc_gl_journal_entry je where"), any(RowCallbackHandler.class), any(Object[].class));
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<Object[]> params = invocation.getArgument(1);
+            if (sql.startsWith("insert into m_trial_balance(")) {
+                insertedRows.addAll(params);
+                insertBatchSizes.add(params.size());
+            } else if (sql.startsWith("insert into m_trial_balance_closing_balance")) {
+                insertedClosingBalances.addAll(params);
+            }
+            return new int[params.size()];
+        });
+    }
+
+    @SafeVarargs
+    private void givenJournalRows(final LocalDate fromDate, final int partition, final Map<String, Object>... rows) {
+        journalRows.put(fromDate + "/" + partition, List.of(rows));
+    }
+
+    private static Map<String, Object> journalRow(final Long officeId, final Long accountId, final String amount,
+            final LocalDate transactionDate) {
+        return Map.of("office_id", officeId, "account_id", accountId, "amount", new BigDecimal(amount), "entry_date",
+                Date.valueOf(transactionDate), "transaction_date", Date.valueOf(transactionDate));
+    }
+
+    private static ResultSet resultSet(final Map<String, Object> values) {
+        return mock(ResultSet.class, invocation -> invocation.getArguments().length == 0 ? null : values.get(invocation.getArgument(0)));
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.PortfolioProductType;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JournalEntryBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private AuditorAware<Long> auditorAware;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private Office office;
+    @Mock
+    private GLAccount glAccount;
+
+    private JournalEntryBatchWriter underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
+        ThreadLocalContextUtil.setTenant(tenant);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        FineractProperties.FineractAccountingProperties accountingProperties = new FineractProperties.FineractAccountingProperties();
+        accountingProperties.setJournalEntryBatchInsertEnabled(true);
+        given(fineractProperties.getAccounting()).willReturn(accountingProperties);
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(1L));
+        given(office.getId()).willReturn(1L);
+        given(glAccount.getId()).willReturn(2L);
+        underTest = new JournalEntryBatchWriter(jdbcTemplate, sqlGenerator, fineractProperties, auditorAware,
+                businessEventNotifierService);
+        underTest.setEntityManager(entityManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testBufferingIsNotAvailableWithoutTransaction() {
+        assertThat(underTest.isBufferingAvailable()).isFalse();
+    }
+
+    @Test
+    public void testBufferedJournalEntriesAreWrittenInOneBatchOnFlush() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThat(underTest.isBufferingAvailable()).isTrue();
+        given(sqlGenerator.fetchPKs(any(GeneratedKeyHolder.class))).willReturn(List.of(11L, 12L));
+        JournalEntry loanEntry = journalEntry("L1", 1L, null);
+        JournalEntry savingsEntry = journalEntry("S1", null, 1L);
+        // when
+        underTest.buffer(loanEntry);
+        underTest.buffer(savingsEntry);
+        Mockito.verifyNoInteractions(jdbcTemplate);
+        underTest.flush();
+        // then
+        ArgumentCaptor<BatchPreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(entityManager).flush();
+        verify(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), setterCaptor.capture(), any(KeyHolder.class));
+        assertThat(setterCaptor.getValue().getBatchSize()).isEqualTo(2);
+        assertThat(loanEntry.getId()).isEqualTo(11L);
+        assertThat(savingsEntry.getId()).isEqualTo(12L);
+        assertThat(loanEntry.getCreatedBy()).contains(1L);
+        ArgumentCaptor<LoanJournalEntryCreatedBusinessEvent> eventCaptor = ArgumentCaptor
+                .forClass(LoanJournalEntryCreatedBusinessEvent.class);
+        verify(businessEventNotifierService).notifyPostBusinessEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().get()).isSameAs(loanEntry);
+        // nothing is left for the commit
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        verify(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+    }
+
+    @Test
+    public void testBufferedJournalEntriesAreDroppedOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        underTest.buffer(journalEntry("L1", 1L, null));
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+        verify(businessEventNotifierService, never()).notifyPostBusinessEvent(any());
+    }
+
+    private JournalEntry journalEntry(String transactionId, Long loanTransactionId, Long savingsTransactionId) {
+        return JournalEntry.createNew(office, null, glAccount, "USD", transactionId, false, LocalDate.now(ZoneId.systemDefault()),
+                JournalEntryType.DEBIT, BigDecimal.TEN, null, PortfolioProductType.LOAN.getValue(), 1L, null, loanTransactionId,
+                savingsTransactionId, null, null);
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractAccountingProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractRunningBalanceProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JournalEntryRunningBalanceUpdateServiceImplTest {
+
+    private static final Long ACCOUNT_ID = 10L;
+    private static final Long OFFICE_1 = 1L;
+    private static final Long OFFICE_2 = 2L;
+    private static final LocalDate DAY_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate DAY_2 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY_3 = LocalDate.of(2024, 1, 3);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private AppUser appUser;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private final List<Object[]> updatedEntries = new ArrayList<>();
+    private final List<Object[]> storedBalances = new ArrayList<>();
+    private JournalEntryRunningBalanceUpdateServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, DAY_3)));
+        FineractRunningBalanceProperties runningBalanceProperties = new FineractRunningBalanceProperties();
+        runningBalanceProperties.setThreads(2);
+        runningBalanceProperties.setBatchSize(2);
+        FineractAccountingProperties accountingProperties = new FineractAccountingProperties();
+        accountingProperties.setRunningBalance(runningBalanceProperties);
+        fineractProperties.setAccounting(accountingProperties);
+
+        given(platformSecurityContext.authenticatedUser()).willReturn(appUser);
+        given(appUser.getId()).willReturn(1L);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(sqlGenerator.limit(2)).willReturn("LIMIT 2");
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).willReturn(List.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            // the service reuses its parameter list between the batches, so the rows are copied right away
+            List<Object[]> params = invocation.getArgument(1);
+            String sql = invocation.getArgument(0);
+            (sql.startsWith("UPDATE acc_gl_journal_entry") ? updatedEntries : storedBalances).addAll(params);
+            return new int[params.size()];
+        });
+        underTest = new JournalEntryRunningBalanceUpdateServiceImpl(jdbcTemplate, null, null, null, sqlGenerator, platformSecurityContext,
+                transactionManager, fineractProperties, new SyncTaskExecutor());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testStoredBalancesAreUsedAsOpeningBalancesOfEveryOffice() {
+        givenAccountToUpdate(GLAccountType.ASSET, DAY_2);
+        givenRows("from acc_gl_account_running_balance", List.of(officeBalance(OFFICE_1, DAY_1, 5L, "100"),
+                officeBalance(OFFICE_2, DAY_1, 6L, "50")));
+        givenRows("je.entry_date >= ?", List.of(entry(7L, OFFICE_1, DAY_2, JournalEntryType.DEBIT, "10"),
+                entry(8L, OFFICE_2, DAY_2, JournalEntryType.CREDIT, "20")));
+        givenRows("je.entry_date > ? or", List.of(entry(9L, OFFICE_1, DAY_3, JournalEntryType.DEBIT, "5")));
+
+        underTest.updateRunningBalance();
+
+        verify(jdbcTemplate, never()).query(contains("last_entry"), any(RowMapper.class), any(Object[].class));
+        // organisation totals run over all offices, office totals per office
+        assertRunningBalances(updatedEntries.get(0), 7L, "160", "110");
+        assertRunningBalances(updatedEntries.get(1), 8L, "140", "30");
+        assertRunningBalances(updatedEntries.get(2), 9L, "145", "115");
+        assertThat(updatedEntries).hasSize(3);
+        verify(jdbcTemplate).update(contains("DELETE FROM acc_gl_account_running_balance"), eq(ACCOUNT_ID));
+        assertThat(storedBalances).extracting(row -> row[1] + "/" + row[2] + "/" + row[3] + "/" + row[4])
+                .containsExactlyInAnyOrder(OFFICE_1 + "/" + DAY_3 + "/9/115", OFFICE_2 + "/" + DAY_2 + "/8/30");
+    }
+
+    @Test
+    public void testBackdatedEntryFallsBackToLastEntriesBeforeIt() {
+        givenAccountToUpdate(GLAccountType.ASSET, DAY_2);
+        // the stored balance was taken after the backdated entry, so it cannot be the opening balance
+        givenRows("from acc_gl_account_running_balance", List.of(officeBalance(OFFICE_1, DAY_3, 9L, "115")));
+        givenRows("last_entry", List.of(officeBalance(OFFICE_1, DAY_1, 5L, "100")));
+        givenRows("je.entry_date >= ?", List.of(entry(7L, OFFICE_1, DAY_2, JournalEntryType.CREDIT, "30")));
+
+        underTest.updateRunningBalance();
+
+        verify(jdbcTemplate).query(contains("last_entry"), any(RowMapper.class), eq(ACCOUNT_ID), eq(DAY_2), eq(ACCOUNT_ID));
+        assertThat(updatedEntries).hasSize(1);
+        assertRunningBalances(updatedEntries.get(0), 7L, "70", "70");
+    }
+
+    @Test
+    public void testMissingStoredBalancesFallBackToLastEntries() {
+        givenAccountToUpdate(GLAccountType.LIABILITY, DAY_2);
+        givenRows("last_entry", List.of(officeBalance(OFFICE_1, DAY_1, 5L, "40"), officeBalance(OFFICE_2, DAY_1, 6L, "60")));
+        givenRows("je.entry_date >= ?", List.of(entry(7L, OFFICE_2, DAY_2, JournalEntryType.CREDIT, "25")));
+
+        underTest.updateRunningBalance();
+
+        // credits increase liabilities
+        assertThat(updatedEntries).hasSize(1);
+        assertRunningBalances(updatedEntries.get(0), 7L, "125", "85");
+    }
+
+    @Test
+    public void testSameDateEntriesContinueAfterTheLastIdOfTheBatch() {
+        givenAccountToUpdate(GLAccountType.ASSET, DAY_2);
+        givenRows("je.entry_date >= ?", List.of(entry(7L, OFFICE_1, DAY_2, JournalEntryType.DEBIT, "10"),
+                entry(8L, OFFICE_1, DAY_2, JournalEntryType.DEBIT, "20")));
+        givenRows("je.entry_date > ? or", List.of(entry(9L, OFFICE_1, DAY_2, JournalEntryType.CREDIT, "5")));
+
+        underTest.updateRunningBalance();
+
+        verify(jdbcTemplate).query(contains("je.entry_date > ? or (je.entry_date = ? and je.id > ?)"), any(RowMapper.class),
+                eq(ACCOUNT_ID), eq(DAY_2), eq(DAY_2), eq(8L));
+        assertThat(updatedEntries).hasSize(3);
+        assertRunningBalances(updatedEntries.get(2), 9L, "25", "25");
+        assertThat(storedBalances).hasSize(1);
+        assertThat(storedBalances.get(0)).containsExactly(ACCOUNT_ID, OFFICE_1, DAY_2, 9L, new BigDecimal("25"));
+    }
+
+    @Test
+    public void testNothingIsCalculatedWithoutPendingEntries() {
+        given(jdbcTemplate.query(contains("is_running_balance_calculated = false"), any(RowMapper.class))).willReturn(List.of());
+
+        underTest.updateRunningBalance();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenAccountToUpdate(final GLAccountType accountType, final LocalDate fromDate) {
+        given(jdbcTemplate.query(contains("is_running_balance_calculated = false"), any(RowMapper.class)))
+                .willAnswer(invocation -> mapRows(invocation.getArgument(1),
+                        List.of(Map.of("accountId", ACCOUNT_ID, "fromDate", fromDate, "classification", accountType.getValue()))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(final String sql, final List<Map<String, Object>> rows) {
+        given(jdbcTemplate.query(contains(sql), any(RowMapper.class), any(Object[].class)))
+                .willAnswer(invocation -> mapRows(invocation.getArgument(1), rows));
+    }
+
+    private static List<Object> mapRows(final RowMapper<?> rowMapper, final List<Map<String, Object>> rows) throws Exception {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            ResultSet rs = mock(ResultSet.class, invocation -> {
+                Object value = row.get(invocation.<String>getArgument(0));
+                return switch (invocation.getMethod().getName()) {
+                    case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                    case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                    case "getDate" -> value == null ? null : Date.valueOf((LocalDate) value);
+                    default -> value;
+                };
+            });
+            result.add(rowMapper.mapRow(rs, i));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> officeBalance(final Long officeId, final LocalDate entryDate, final Long journalEntryId,
+            final String runningBalance) {
+        return Map.of("office_id", officeId, "entry_date", entryDate, "journal_entry_id", journalEntryId, "office_running_balance",
+                new BigDecimal(runningBalance));
+    }
+
+    private static Map<String, Object> entry(final Long id, final Long officeId, final LocalDate entryDate, final JournalEntryType type,
+            final String amount) {
+        return Map.of("id", id, "officeId", officeId, "entryDate", entryDate, "entryType", type.getValue(), "amount",
+                new BigDecimal(amount));
+    }
+
+    private static void assertRunningBalances(final Object[] params, final Long entryId, final String organizationRunningBalance,
+            final String officeRunningBalance) {
+        assertThat(params[5]).isEqualTo(entryId);
+        assertThat((BigDecimal) params[1]).isEqualByComparingTo(organizationRunningBalance);
+        assertThat((BigDecimal) params[2]).isEqualByComparingTo(officeRunningBalance);
+    }
+}
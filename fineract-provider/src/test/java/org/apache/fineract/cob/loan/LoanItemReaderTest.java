@@ -25,13 +25,17 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.domain.LoanAccountLock;
@@ -44,10 +48,12 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ExecutionContext;
 
 @ExtendWith(MockitoExtension.class)
@@ -169,4 +175,126 @@ class LoanItemReaderTest {
 
         Mockito.verifyNoMoreInteractions(loanRepository);
     }
+
+    @Test
+    public void testLoanItemReaderPrefetch() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchDepth(3);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L, 4L, 5L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L, 4L, 5L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        List<Loan> loans = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            Loan prefetchedLoan = Mockito.mock(Loan.class);
+            when(prefetchedLoan.getId()).thenReturn(i);
+            loans.add(prefetchedLoan);
+        }
+        when(loanRepository.findAllByIdsWithRepaymentScheduleInstallments(List.of(1L, 2L, 3L))).thenReturn(loans.subList(0, 3));
+        when(loanRepository.findAllByIdsWithRepaymentScheduleInstallments(List.of(4L, 5L))).thenReturn(loans.subList(3, 5));
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(loans.get(i), loanItemReader.read());
+        }
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, times(2)).findAllByIdsWithRepaymentScheduleInstallments(Mockito.anyCollection());
+        verify(loanRepository, times(2)).findAllByIdsWithLoanTransactions(Mockito.anyCollection());
+        verify(loanRepository, times(2)).findAllByIdsWithCharges(Mockito.anyCollection());
+        verify(loanRepository, times(2)).findAllByIdsWithLoanTermVariations(Mockito.anyCollection());
+        Mockito.verifyNoMoreInteractions(loanRepository);
+    }
+
+    @Test
+    public void testLoanItemReaderPrefetchReleasesUnreadLoansAfterChunk() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchDepth(2);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 2L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        Loan firstLoan = Mockito.mock(Loan.class);
+        when(firstLoan.getId()).thenReturn(1L);
+        Loan secondLoan = Mockito.mock(Loan.class);
+        when(secondLoan.getId()).thenReturn(2L);
+        when(loanRepository.findAllByIdsWithRepaymentScheduleInstallments(List.of(1L, 2L))).thenReturn(List.of(firstLoan, secondLoan));
+        when(loanRepository.findAllByIdsWithRepaymentScheduleInstallments(List.of(2L))).thenReturn(List.of(secondLoan));
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        Assertions.assertEquals(firstLoan, loanItemReader.read());
+        loanItemReader.afterChunk(Mockito.mock(ChunkContext.class));
+        Assertions.assertEquals(secondLoan, loanItemReader.read());
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, times(1)).findAllByIdsWithRepaymentScheduleInstallments(List.of(2L));
+    }
+
+    @Test
+    public void testLoanItemReaderPrefetchIsCappedAtChunkSize() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchDepth(2);
+        loanItemReader.setChunkSize(3);
+        List<Long> loanIds = LongStream.rangeClosed(1, 7).boxed().toList();
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 7L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(loanIds));
+        List<LoanAccountLock> accountLocks = loanIds.stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(loanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING)).thenReturn(accountLocks);
+        Map<Long, Loan> loans = new HashMap<>();
+        for (Long loanId : loanIds) {
+            Loan prefetchedLoan = Mockito.mock(Loan.class);
+            when(prefetchedLoan.getId()).thenReturn(loanId);
+            loans.put(loanId, prefetchedLoan);
+        }
+        when(loanRepository.findAllByIdsWithRepaymentScheduleInstallments(Mockito.anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).stream().map(loans::get).toList());
+
+        // when: 3 chunks of 3, 3 and 1 loans
+        loanItemReader.beforeStep(stepExecution);
+        for (int chunk = 0; chunk < 3; chunk++) {
+            for (int i = 0; i < 3; i++) {
+                Loan read = loanItemReader.read();
+                if (read == null) {
+                    break;
+                }
+                Assertions.assertEquals(loans.get((long) chunk * 3 + i + 1), read);
+            }
+            loanItemReader.afterChunk(Mockito.mock(ChunkContext.class));
+        }
+        Assertions.assertNull(loanItemReader.read());
+
+        // then: no chunk loads a loan it does not read, so no loan is loaded twice
+        InOrder inOrder = Mockito.inOrder(loanRepository);
+        inOrder.verify(loanRepository).findAllByIdsWithRepaymentScheduleInstallments(List.of(1L, 2L));
+        inOrder.verify(loanRepository).findAllByIdsWithRepaymentScheduleInstallments(List.of(3L));
+        inOrder.verify(loanRepository).findAllByIdsWithRepaymentScheduleInstallments(List.of(4L, 5L));
+        inOrder.verify(loanRepository).findAllByIdsWithRepaymentScheduleInstallments(List.of(6L));
+        inOrder.verify(loanRepository).findAllByIdsWithRepaymentScheduleInstallments(List.of(7L));
+        verify(loanRepository, times(5)).findAllByIdsWithRepaymentScheduleInstallments(Mockito.anyCollection());
+    }
 }
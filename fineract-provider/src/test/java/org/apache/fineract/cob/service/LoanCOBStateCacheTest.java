@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoanCOBStateCacheTest {
+
+    private static final LocalDate COB_DATE = LocalDate.of(2024, 1, 10);
+
+    private LoanCOBStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        setCobDate(COB_DATE);
+        cache = new LoanCOBStateCache(fineractProperties(true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void loansClosedUpToTheCobDateAreUpToDate() {
+        cache.markUpToDate(List.of(1L, 2L), COB_DATE);
+        cache.markUpToDate(List.of(3L), COB_DATE.minusDays(1));
+
+        assertTrue(cache.isUpToDate(1L));
+        assertTrue(cache.isUpToDate(2L));
+        assertFalse(cache.isUpToDate(3L));
+        assertFalse(cache.isUpToDate(4L));
+    }
+
+    @Test
+    void loansAreForgottenWhenTheCobDateChanges() {
+        cache.markUpToDate(List.of(1L), COB_DATE);
+
+        setCobDate(COB_DATE.plusDays(1));
+        assertFalse(cache.isUpToDate(1L));
+
+        cache.markUpToDate(List.of(2L), COB_DATE.plusDays(1));
+        assertTrue(cache.isUpToDate(2L));
+        setCobDate(COB_DATE);
+        assertFalse(cache.isUpToDate(1L));
+    }
+
+    @Test
+    void evictedLoansAreNotUpToDate() {
+        cache.markUpToDate(List.of(1L, 2L), COB_DATE);
+
+        cache.evict(List.of(1L));
+
+        assertFalse(cache.isUpToDate(1L));
+        assertTrue(cache.isUpToDate(2L));
+    }
+
+    @Test
+    void loansAreTrackedPerTenant() {
+        cache.markUpToDate(List.of(1L), COB_DATE);
+
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+        setCobDate(COB_DATE);
+
+        assertFalse(cache.isUpToDate(1L));
+    }
+
+    @Test
+    void nothingIsCachedWhenDisabled() {
+        cache = new LoanCOBStateCache(fineractProperties(false));
+
+        cache.markUpToDate(List.of(1L), COB_DATE);
+
+        assertFalse(cache.isUpToDate(1L));
+    }
+
+    private static FineractProperties fineractProperties(boolean enabled) {
+        final FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setLoanCobStateCacheEnabled(enabled);
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJob(jobProperties);
+        return fineractProperties;
+    }
+
+    private static void setCobDate(LocalDate cobDate) {
+        final HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, cobDate.plusDays(1));
+        businessDates.put(BusinessDateType.COB_DATE, cobDate);
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.fineract.commands.jobs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,10 +31,12 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.fineract.commands.domain.CommandSourceRepository;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -43,10 +47,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.repeat.RepeatStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,7 +64,6 @@ public class PurgeProcessedCommandsTaskletTest {
     private ConfigurationDomainService configurationDomainService;
     @Mock
     private StepContribution stepContribution;
-    @Mock
     private ChunkContext chunkContext;
     private RepeatStatus resultStatus;
     private PurgeProcessedCommandsTasklet underTest;
@@ -69,7 +74,14 @@ public class PurgeProcessedCommandsTaskletTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeProcessedCommandsTasklet(repository, configurationDomainService);
+        FineractProperties.FineractJobPurgeProperties purgeProperties = new FineractProperties.FineractJobPurgeProperties();
+        purgeProperties.setChunkSize(2);
+        FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setPurge(purgeProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJob(jobProperties);
+        chunkContext = new ChunkContext(new StepContext(new StepExecution("purge", new JobExecution(1L))));
+        underTest = new PurgeProcessedCommandsTasklet(repository, configurationDomainService, fineractProperties);
     }
 
     @AfterEach
@@ -82,22 +94,40 @@ public class PurgeProcessedCommandsTaskletTest {
         // given
         ArgumentCaptor<OffsetDateTime> dateCriteriaCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
         when(configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderCommandsWithStatus(any(), any(), eq(0L), any())).thenReturn(List.of(1L));
         // when
         resultStatus = underTest.execute(stepContribution, chunkContext);
         // then
-        verify(repository, times(1)).deleteOlderEventsWithStatus(Mockito.any(), Mockito.any());
-        verify(repository).deleteOlderEventsWithStatus(Mockito.any(), dateCriteriaCaptor.capture());
+        verify(repository).findIdsOfOlderCommandsWithStatus(any(), dateCriteriaCaptor.capture(), eq(0L), any());
+        verify(repository, times(1)).deleteCommandsWithIds(List.of(1L));
         OffsetDateTime expectedDateForPurgeCriteriaTest = DateUtils.getAuditOffsetDateTime().minusDays(2);
         OffsetDateTime actualDateForPurgeCriteria = dateCriteriaCaptor.getValue();
         assertTrue(expectedDateForPurgeCriteriaTest.toEpochSecond() - actualDateForPurgeCriteria.toEpochSecond() <= 1);
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenFullChunkWhenTaskExecutionThenPurgeContinuesAfterLastDeletedId() {
+        // given
+        when(configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderCommandsWithStatus(any(), any(), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(repository.findIdsOfOlderCommandsWithStatus(any(), any(), eq(2L), any())).thenReturn(List.of());
+        // when
+        RepeatStatus firstStatus = underTest.execute(stepContribution, chunkContext);
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.CONTINUABLE, firstStatus);
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+        verify(repository, times(1)).deleteCommandsWithIds(List.of(1L, 2L));
+        verify(configurationDomainService, times(1)).retrieveProcessedCommandsPurgeDaysCriteria();
+        verify(stepContribution).incrementWriteCount(2);
+    }
+
     @Test
     public void givenEventsForPurgeWhenExceptionOccursThenJobExecutionFinishesSuccessfully() {
         // given
         when(configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria()).thenReturn(2L);
-        doThrow(new RuntimeException("Test Exception")).when(repository).deleteOlderEventsWithStatus(Mockito.any(), Mockito.any());
+        doThrow(new RuntimeException("Test Exception")).when(repository).findIdsOfOlderCommandsWithStatus(any(), any(), any(), any());
         // when
         resultStatus = underTest.execute(stepContribution, chunkContext);
         // then
@@ -0,0 +1,129 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelImportExecutorTest {
+
+    private ParallelImportExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 10))));
+        final FineractProperties.FineractBulkImportProperties bulkImportProperties = new FineractProperties.FineractBulkImportProperties();
+        bulkImportProperties.setThreadPoolSize(4);
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBulkImport(bulkImportProperties);
+        executor = new ParallelImportExecutor(fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void rowsOfAnAccountAreImportedInOrder() {
+        final List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Row(i, (long) (i % 7)));
+        }
+        final Map<Long, List<Integer>> importedByAccount = new ConcurrentHashMap<>();
+        final List<String> tenants = new CopyOnWriteArrayList<>();
+
+        final Count count = executor.execute(rows, Row::account, row -> {
+            tenants.add(ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+            importedByAccount.computeIfAbsent(row.account(), k -> new CopyOnWriteArrayList<>()).add(row.index());
+        }, (row, error) -> assertNull(error), ImportProgress.NONE);
+
+        assertEquals(1000, count.getSuccessCount());
+        assertEquals(0, count.getErrorCount());
+        assertEquals(7, importedByAccount.size());
+        importedByAccount.forEach((account, indexes) -> {
+            for (int i = 1; i < indexes.size(); i++) {
+                assertEquals(indexes.get(i - 1) + 7, indexes.get(i));
+            }
+        });
+        assertEquals(1000, tenants.stream().filter("default"::equals).count());
+    }
+
+    @Test
+    void failedRowsAreReportedOnTheImportingThread() {
+        final List<Row> rows = List.of(new Row(0, 1L), new Row(1, 1L), new Row(2, null), new Row(3, 2L));
+        final Thread importingThread = Thread.currentThread();
+        final Map<Integer, RuntimeException> errors = new HashMap<>();
+        final List<Integer> progress = new ArrayList<>();
+
+        final Count count = executor.execute(rows, Row::account, row -> {
+            if (row.account() == null || row.index() == 1) {
+                throw new IllegalArgumentException("row " + row.index());
+            }
+        }, (row, error) -> {
+            assertEquals(importingThread, Thread.currentThread());
+            if (error != null) {
+                errors.put(row.index(), error);
+            }
+        }, (successCount, errorCount) -> progress.add(successCount + errorCount));
+
+        assertEquals(2, count.getSuccessCount());
+        assertEquals(2, count.getErrorCount());
+        assertNotNull(errors.get(1));
+        assertNotNull(errors.get(2));
+        assertEquals(List.of(1, 2, 3, 4), progress);
+    }
+
+    private static final class Row {
+
+        private final int index;
+        private final Long account;
+
+        private Row(final int index, final Long account) {
+            this.index = index;
+            this.account = account;
+        }
+
+        private int index() {
+            return index;
+        }
+
+        private Long account() {
+            return account;
+        }
+    }
+}
@@ -72,6 +72,9 @@ public class BusinessDateWritePlatformServiceTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
 
+    @Mock
+    private BusinessDateCache businessDateCache;
+
     @Captor
     private ArgumentCaptor<BusinessDate> businessDateArgumentCaptor;
 
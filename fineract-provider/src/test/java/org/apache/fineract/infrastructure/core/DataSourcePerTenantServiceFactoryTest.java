@@ -21,11 +21,13 @@ package org.apache.fineract.infrastructure.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -352,6 +354,43 @@ public class DataSourcePerTenantServiceFactoryTest {
         assertEquals(MASTER_DB_AUTO_COMMIT_ENABLED, hikariConfig.isAutoCommit());
     }
 
+    @Test
+    void testCreateNewReadReplicaDataSourceFor_ShouldUseReadOnlyConfiguration_WhenInAllMode() {
+        // given
+        FineractProperties.FineractModeProperties modeProperties = createModeProps(true, true, true, true);
+        given(fineractProperties.getMode()).willReturn(modeProperties);
+
+        // when
+        DataSource dataSource = underTest.createNewReadReplicaDataSourceFor(defaultTenant.getConnection());
+
+        // then
+        assertNotNull(dataSource);
+        verify(hikariDataSourceFactory).create(hikariConfigCaptor.capture());
+        HikariConfig hikariConfig = hikariConfigCaptor.getValue();
+        assertTrue(hikariConfig.isReadOnly());
+        assertEquals(READONLY_DB_JDBC_URL, hikariConfig.getJdbcUrl());
+        assertEquals(READONLY_DB_SCHEMA_NAME + "_replica_pool", hikariConfig.getPoolName());
+        assertEquals(READONLY_DB_USERNAME, hikariConfig.getUsername());
+        assertEquals(READONLY_DB_PASSWORD, hikariConfig.getPassword());
+        assertEquals(MASTER_DB_INITIAL_SIZE, hikariConfig.getMinimumIdle());
+        assertEquals(MASTER_DB_MAX_ACTIVE, hikariConfig.getMaximumPoolSize());
+    }
+
+    @Test
+    void testCreateNewReadReplicaDataSourceFor_ShouldReturnNull_WhenNoReadOnlySchemaServer() {
+        // given
+        FineractProperties.FineractModeProperties modeProperties = createModeProps(true, true, true, true);
+        given(fineractProperties.getMode()).willReturn(modeProperties);
+        given(tenantConnection.getReadOnlySchemaServer()).willReturn("");
+
+        // when
+        DataSource dataSource = underTest.createNewReadReplicaDataSourceFor(defaultTenant.getConnection());
+
+        // then
+        assertNull(dataSource);
+        verifyNoInteractions(hikariDataSourceFactory);
+    }
+
     private FineractProperties.FineractModeProperties createModeProps(boolean readEnabled, boolean writeEnabled, boolean batchWorkerEnabled,
             boolean batchManagerEnabled) {
         FineractProperties.FineractModeProperties modeProperties = new FineractProperties.FineractModeProperties();
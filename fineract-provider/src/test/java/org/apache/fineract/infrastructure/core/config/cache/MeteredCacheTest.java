@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class MeteredCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private MeteredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MeteredCache(new ConcurrentMapCache("holidays"), meterRegistry);
+    }
+
+    @Test
+    void countsHitsAndMissesOfLookups() {
+        assertThat(cache.get("default1")).isNull();
+        cache.put("default1", 1L);
+        assertThat(cache.get("default1").get()).isEqualTo(1L);
+        assertThat(cache.get("default1", Long.class)).isEqualTo(1L);
+        assertThat(cache.get("default2", Long.class)).isNull();
+
+        assertThat(count("hit")).isEqualTo(2.0);
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    void countsLookupWithLoaderAsMissOnlyWhenValueIsLoaded() {
+        assertThat(cache.get("default1", () -> 1L)).isEqualTo(1L);
+        assertThat(cache.get("default1", () -> 2L)).isEqualTo(1L);
+
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void doesNotCountWrites() {
+        cache.put("default1", 1L);
+        cache.evict("default1");
+        cache.clear();
+
+        assertThat(count("hit")).isZero();
+        assertThat(count("miss")).isZero();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("fineract.cache.gets").tag("cache", "holidays").tag("result", result).counter().count();
+    }
+}
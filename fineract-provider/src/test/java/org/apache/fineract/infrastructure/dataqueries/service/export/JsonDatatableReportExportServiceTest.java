@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.serialization.ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson;
+import org.apache.fineract.infrastructure.core.serialization.ExcludeNothingWithPrettyPrintingOnJsonSerializerGoogleGson;
+import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericDataService;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericDataServiceImpl;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetStreamHandler;
+import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JsonDatatableReportExportServiceTest {
+
+    private static final String REPORT_NAME = "Active Loans - Details";
+
+    @Mock
+    private ReadReportingService readReportingService;
+
+    @Mock
+    private ToApiJsonSerializer<ReportData> toApiJsonSerializer;
+
+    private final GenericDataService genericDataService = new GenericDataServiceImpl(null, null, null, null, null);
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+
+    private GenericResultsetData result;
+
+    private JsonDatatableReportExportService underTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<ResultsetColumnHeaderData> columnHeaders = List.of(ResultsetColumnHeaderData.basic("id", "BIGINT", DatabaseType.MYSQL),
+                ResultsetColumnHeaderData.basic("name", "VARCHAR", DatabaseType.MYSQL),
+                ResultsetColumnHeaderData.basic("due_date", "DATE", DatabaseType.MYSQL));
+        result = new GenericResultsetData(columnHeaders,
+                List.of(ResultsetRowData.create(Arrays.asList(1L, "Loan \"A\"", LocalDate.of(2024, 1, 31))),
+                        ResultsetRowData.create(Arrays.asList(2L, null, null))));
+
+        when(readReportingService.retrieveGenericResultset(anyString(), anyString(), anyMap(), anyBoolean())).thenReturn(result);
+        doAnswer(invocation -> {
+            GenericResultsetStreamHandler handler = invocation.getArgument(4);
+            handler.columnHeaders(result.getColumnHeaders());
+            for (ResultsetRowData row : result.getData()) {
+                handler.row(row.getRow());
+            }
+            return null;
+        }).when(readReportingService).streamGenericResultset(anyString(), anyString(), anyMap(), anyBoolean(), any());
+
+        FineractProperties.FineractReportStreamingProperties streamingProperties =
+                new FineractProperties.FineractReportStreamingProperties();
+        streamingProperties.setEnabled(true);
+        streamingProperties.setFetchSize(100);
+        FineractProperties.FineractReportProperties reportProperties = new FineractProperties.FineractReportProperties();
+        reportProperties.setStreaming(streamingProperties);
+        fineractProperties.setReport(reportProperties);
+
+        underTest = new JsonDatatableReportExportService(readReportingService, toApiJsonSerializer, genericDataService, fineractProperties);
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "false,", "true,", "false,true", "true,true", "false,false", "true,false" })
+    void testStreamedExportMatchesMaterializedResultset(boolean prettyPrint, String genericResultSet) throws IOException {
+        // given
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        if (prettyPrint) {
+            queryParams.add("pretty", "true");
+        }
+        if (genericResultSet != null) {
+            queryParams.add("genericResultSet", genericResultSet);
+        }
+        String expected = "false".equals(genericResultSet) ? genericDataService.generateJsonFromGenericResultsetData(result)
+                : prettyPrint ? new ExcludeNothingWithPrettyPrintingOnJsonSerializerGoogleGson().serialize(result)
+                        : new ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson().serialize(result);
+
+        // when
+        ResponseHolder response = underTest.export(REPORT_NAME, queryParams, Map.of(), false, "report");
+
+        // then
+        StreamingOutput output = assertInstanceOf(StreamingOutput.class, response.entity());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        output.write(out);
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PipelinedExternalEventDispatcherTest {
+
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private ExternalEventRepository repository;
+    @Mock
+    private ExternalEventProducer eventProducer;
+    @Mock
+    private MessageFactory messageFactory;
+    @Mock
+    private ByteBufferConverter byteBufferConverter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private PipelinedExternalEventDispatcher underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        configureDispatcherProperties();
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        underTest = new PipelinedExternalEventDispatcher(fineractProperties, repository, eventProducer, messageFactory,
+                byteBufferConverter, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.destroy();
+        ThreadLocalContextUtil.reset();
+    }
+
+    private void configureDispatcherProperties() {
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        FineractProperties.FineractExternalEventsDispatcherProperties dispatcherProperties = new FineractProperties.FineractExternalEventsDispatcherProperties();
+        dispatcherProperties.setPipelineEnabled(true);
+        dispatcherProperties.setReadAheadBatches(2);
+        dispatcherProperties.setEncoderThreads(2);
+        externalProperties.setPartitionSize(5000);
+        externalProperties.setDispatcher(dispatcherProperties);
+        eventsProperties.setExternal(externalProperties);
+        when(fineractProperties.getEvents()).thenReturn(eventsProperties);
+    }
+
+    @Test
+    public void givenTwoPagesWhenDispatchThenPagesAreSentInOrderAndMarkedAsSent() {
+        // given
+        ExternalEventView event1 = createExternalEventView(1L, 10L);
+        ExternalEventView event2 = createExternalEventView(2L, 20L);
+        ExternalEventView event3 = createExternalEventView(3L, 10L);
+        when(repository.findByStatusAndIdGreaterThanOrderById(eq(ExternalEventStatus.TO_BE_SENT), eq(0L), any()))
+                .thenReturn(List.of(event1, event2));
+        when(repository.findByStatusAndIdGreaterThanOrderById(eq(ExternalEventStatus.TO_BE_SENT), eq(2L), any()))
+                .thenReturn(List.of(event3));
+        when(repository.findByStatusAndIdGreaterThanOrderById(eq(ExternalEventStatus.TO_BE_SENT), eq(3L), any())).thenReturn(List.of());
+        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
+        when(messageFactory.createMessage(any())).thenReturn(dummyMessage);
+        byte[] byteMsg = new byte[0];
+        when(byteBufferConverter.convert(any(ByteBuffer.class))).thenReturn(byteMsg);
+
+        // when
+        underTest.dispatch(2);
+
+        // then
+        InOrder inOrder = inOrder(eventProducer, repository);
+        inOrder.verify(eventProducer).sendEvents(Map.of(10L, List.of(byteMsg), 20L, List.of(byteMsg)));
+        inOrder.verify(repository).markEventsSent(eq(List.of(1L, 2L)), any());
+        inOrder.verify(eventProducer).sendEvents(Map.of(10L, List.of(byteMsg)));
+        inOrder.verify(repository).markEventsSent(eq(List.of(3L)), any());
+    }
+
+    @Test
+    public void givenSendFailureWhenDispatchThenEventsAreNotMarkedAsSent() {
+        // given
+        ExternalEventView event1 = createExternalEventView(1L, 10L);
+        when(repository.findByStatusAndIdGreaterThanOrderById(eq(ExternalEventStatus.TO_BE_SENT), eq(0L), any()))
+                .thenReturn(List.of(event1));
+        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
+        when(messageFactory.createMessage(any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(any(ByteBuffer.class))).thenReturn(new byte[0]);
+        Mockito.doThrow(new RuntimeException("Event Send Exception")).when(eventProducer).sendEvents(any());
+
+        // when + then
+        assertThrows(RuntimeException.class, () -> underTest.dispatch(2));
+        verify(repository, times(0)).markEventsSent(any(), any());
+    }
+
+    private ExternalEventView createExternalEventView(Long id, Long aggregateRootId) {
+        ExternalEventView result = Mockito.mock(ExternalEventView.class);
+        when(result.getId()).thenReturn(id);
+        when(result.getType()).thenReturn("aType");
+        when(result.getCategory()).thenReturn("aCategory");
+        when(result.getSchema()).thenReturn("aSchema");
+        when(result.getData()).thenReturn(new byte[0]);
+        when(result.getIdempotencyKey()).thenReturn("aIdempotencyKey");
+        when(result.getAggregateRootId()).thenReturn(aggregateRootId);
+        when(result.getCreatedAt()).thenReturn(OffsetDateTime.now(ZoneId.systemDefault()));
+        return result;
+    }
+}
@@ -19,6 +19,8 @@
 package org.apache.fineract.infrastructure.event.external.jobs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -27,9 +29,11 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -41,10 +45,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.repeat.RepeatStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +62,6 @@ public class PurgeExternalEventsTaskletTest {
     private ConfigurationDomainService configurationDomainService;
     @Mock
     private StepContribution stepContribution;
-    @Mock
     private ChunkContext chunkContext;
     private RepeatStatus resultStatus;
     private PurgeExternalEventsTasklet underTest;
@@ -67,7 +72,14 @@ public class PurgeExternalEventsTaskletTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService);
+        FineractProperties.FineractJobPurgeProperties purgeProperties = new FineractProperties.FineractJobPurgeProperties();
+        purgeProperties.setChunkSize(2);
+        FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setPurge(purgeProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJob(jobProperties);
+        chunkContext = new ChunkContext(new StepContext(new StepExecution("purge", new JobExecution(1L))));
+        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService, fineractProperties);
     }
 
     @AfterEach
@@ -80,22 +92,40 @@ public class PurgeExternalEventsTaskletTest {
         // given
         ArgumentCaptor<LocalDate> dateCriteriaCaptor = ArgumentCaptor.forClass(LocalDate.class);
         when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderEventsWithStatus(any(), any(), eq(0L), any())).thenReturn(List.of(1L));
         // when
         resultStatus = underTest.execute(stepContribution, chunkContext);
         // then
-        verify(repository, times(1)).deleteOlderEventsWithSentStatus(Mockito.any(), Mockito.any());
-        verify(repository).deleteOlderEventsWithSentStatus(Mockito.any(), dateCriteriaCaptor.capture());
+        verify(repository).findIdsOfOlderEventsWithStatus(any(), dateCriteriaCaptor.capture(), eq(0L), any());
+        verify(repository, times(1)).deleteEventsWithIds(List.of(1L));
         LocalDate expectedDateForPurgeCriteriaTest = DateUtils.getBusinessLocalDate().minusDays(2);
         LocalDate actualDateForPurgeCriteria = dateCriteriaCaptor.getValue();
         assertEquals(expectedDateForPurgeCriteriaTest, actualDateForPurgeCriteria);
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenFullChunkWhenTaskExecutionThenPurgeContinuesAfterLastDeletedId() {
+        // given
+        when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderEventsWithStatus(any(), any(), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(repository.findIdsOfOlderEventsWithStatus(any(), any(), eq(2L), any())).thenReturn(List.of());
+        // when
+        RepeatStatus firstStatus = underTest.execute(stepContribution, chunkContext);
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.CONTINUABLE, firstStatus);
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+        verify(repository, times(1)).deleteEventsWithIds(List.of(1L, 2L));
+        verify(configurationDomainService, times(1)).retrieveExternalEventsPurgeDaysCriteria();
+        verify(stepContribution).incrementWriteCount(2);
+    }
+
     @Test
     public void givenEventsForPurgeWhenExceptionOccursThenJobExecutionFinishesSuccessfully() {
         // given
         when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
-        doThrow(new RuntimeException("Test Exception")).when(repository).deleteOlderEventsWithSentStatus(Mockito.any(), Mockito.any());
+        doThrow(new RuntimeException("Test Exception")).when(repository).findIdsOfOlderEventsWithStatus(any(), any(), any(), any());
         // when
         resultStatus = underTest.execute(stepContribution, chunkContext);
         // then
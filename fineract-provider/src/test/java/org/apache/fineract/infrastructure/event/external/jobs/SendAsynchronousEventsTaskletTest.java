@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.avro.MessageV2;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
@@ -44,6 +45,7 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventCompression;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
 import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
@@ -82,6 +84,8 @@ class SendAsynchronousEventsTaskletTest {
     private ByteBufferConverter byteBufferConverter;
     @Mock
     private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private PipelinedExternalEventDispatcher pipelinedEventDispatcher;
     private SendAsynchronousEventsTasklet underTest;
     private RepeatStatus resultStatus;
 
@@ -95,7 +99,7 @@ class SendAsynchronousEventsTaskletTest {
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
         configureExternalEventsProducerReadBatchSizeProperty();
         underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
-                configurationDomainService);
+                configurationDomainService, pipelinedEventDispatcher);
     }
 
     @AfterEach
@@ -198,6 +202,27 @@ class SendAsynchronousEventsTaskletTest {
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenCompressedEventWhenTaskExecutionThenEventIsSentAsMessageV2() throws Exception {
+        // given
+        ExternalEventView event = createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L);
+        when(event.getCompression()).thenReturn(ExternalEventCompression.GZIP);
+        List<ExternalEventView> events = List.of(event);
+        MessageV2 dummyMessage = new MessageV2(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", ByteBuffer.wrap(new byte[0]), "GZIP");
+        when(repository.findByStatusOrderById(Mockito.any(), Mockito.any())).thenReturn(events);
+        when(messageFactory.createCompressedMessage(event)).thenReturn(dummyMessage);
+        byte[] byteMsg = new byte[0];
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(byteMsg);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(messageFactory).createCompressedMessage(event);
+        verify(messageFactory, times(0)).createMessage(Mockito.any());
+        verify(eventProducer).sendEvents(Map.of(1L, List.of(byteMsg)));
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     @Test
     public void givenEventBatchSizeIsConfiguredAs10WhenTaskExecutionThenEventReadPageSizeIsCorrect() {
         ArgumentCaptor<Pageable> externalEventPageSizeArgumentCaptor = ArgumentCaptor.forClass(Pageable.class);
@@ -210,6 +235,18 @@ class SendAsynchronousEventsTaskletTest {
         assertThat(externalEventPageSizeArgumentCaptor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    @Test
+    public void givenPipelinedDispatcherEnabledWhenTaskExecutionThenDispatcherSendsEvents() {
+        // given
+        when(pipelinedEventDispatcher.isEnabled()).thenReturn(true);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(pipelinedEventDispatcher).dispatch(10);
+        verify(repository, times(0)).findByStatusOrderById(Mockito.any(), Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     private ExternalEventView createExternalEventView(String type, String category, String schema, byte[] data, String idempotencyKey,
             Long aggregateRootId) {
         ExternalEventView result = Mockito.mock(ExternalEventView.class);
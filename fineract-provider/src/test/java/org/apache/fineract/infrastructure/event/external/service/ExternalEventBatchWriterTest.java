@@ -0,0 +1,217 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExternalEventBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private FineractProperties fineractProperties;
+
+    private ExternalEventBatchWriter underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
+        ThreadLocalContextUtil.setTenant(tenant);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setBatchInsertEnabled(true);
+        eventsProperties.setExternal(externalProperties);
+        given(fineractProperties.getEvents()).willReturn(eventsProperties);
+        given(sqlGenerator.escape(anyString())).willAnswer(invocation -> invocation.getArgument(0));
+        underTest = new ExternalEventBatchWriter(jdbcTemplate, sqlGenerator, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testBufferingIsNotAvailableWithoutTransaction() {
+        assertThat(underTest.isBufferingAvailable()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBufferedEventsAreWrittenInOneBatchBeforeCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThat(underTest.isBufferingAvailable()).isTrue();
+        // when
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "key1", 1L));
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "key2", 1L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        Mockito.verifyNoInteractions(jdbcTemplate);
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        // then
+        assertThat(synchronizations).hasSize(1);
+        ArgumentCaptor<List<Object[]>> paramsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), paramsCaptor.capture());
+        assertThat(paramsCaptor.getValue()).hasSize(2);
+        assertThat(paramsCaptor.getValue().get(0)[7]).isEqualTo("key1");
+        assertThat(paramsCaptor.getValue().get(1)[7]).isEqualTo("key2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEventsOfRolledBackNestedTransactionAreDropped() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionExecution nested = Mockito.mock(TransactionExecution.class);
+        given(nested.isNested()).willReturn(true);
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "outer", 1L));
+        // when
+        underTest.afterBegin(nested, null);
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "nested", 1L));
+        underTest.afterRollback(nested, null);
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "afterNested", 1L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        // then
+        ArgumentCaptor<List<Object[]>> paramsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), paramsCaptor.capture());
+        assertThat(paramsCaptor.getValue()).extracting(params -> params[7]).containsExactly("outer", "afterNested");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEventsOfCommittedNestedTransactionAreKept() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionExecution nested = Mockito.mock(TransactionExecution.class);
+        given(nested.isNested()).willReturn(true);
+        // when
+        underTest.afterBegin(nested, null);
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "nested", 1L));
+        underTest.afterCommit(nested, null);
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        // then
+        ArgumentCaptor<List<Object[]>> paramsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), paramsCaptor.capture());
+        assertThat(paramsCaptor.getValue()).extracting(params -> params[7]).containsExactly("nested");
+    }
+
+    @Test
+    public void testBufferedEventsAreDroppedOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "key1", 1L));
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        // then
+        verify(jdbcTemplate, Mockito.never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEventRaisedFromLaterBeforeCommitIsWritten() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "buffered", 1L));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "raisedBeforeCommit", 1L));
+            }
+        });
+        // when
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        // then
+        ArgumentCaptor<List<Object[]>> paramsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, Mockito.times(2)).batchUpdate(anyString(), paramsCaptor.capture());
+        assertThat(paramsCaptor.getAllValues()).flatExtracting(params -> params.stream().map(param -> param[7]).toList())
+                .containsExactly("buffered", "raisedBeforeCommit");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEventRaisedFromBeforeCommitWithoutBufferIsWrittenOnCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                underTest.buffer(new ExternalEvent("TestType", "TestCategory", "TestSchema", new byte[0], "raisedBeforeCommit", 1L));
+            }
+        });
+        TransactionExecution transaction = Mockito.mock(TransactionExecution.class);
+        // when: the buffer is registered after the beforeCommit callbacks have been collected
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        Mockito.verifyNoInteractions(jdbcTemplate);
+        underTest.beforeCommit(transaction);
+        // then
+        ArgumentCaptor<List<Object[]>> paramsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), paramsCaptor.capture());
+        assertThat(paramsCaptor.getValue()).extracting(params -> params[7]).containsExactly("raisedBeforeCommit");
+    }
+}
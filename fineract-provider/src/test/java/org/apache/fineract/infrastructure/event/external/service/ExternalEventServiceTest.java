@@ -49,11 +49,13 @@ import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEven
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventCompression;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.apache.fineract.infrastructure.event.external.service.support.ExternalEventPayloadCompressor;
 import org.apache.fineract.investor.enricher.LoanAccountDataV1Enricher;
 import org.apache.fineract.investor.enricher.LoanTransactionAdjustmentDataV1Enricher;
 import org.apache.fineract.investor.enricher.LoanTransactionDataV1Enricher;
@@ -91,6 +93,10 @@ class ExternalEventServiceTest {
     private LoanTransactionAdjustmentDataV1Enricher loanTransactionAdjustmentDataV1Enricher;
     @Mock
     private LoanTransactionDataV1Enricher loanTransactionDataV1Enricher;
+    @Mock
+    private ExternalEventBatchWriter batchWriter;
+    @Mock
+    private ExternalEventPayloadCompressor payloadCompressor;
 
     private ExternalEventService underTest;
 
@@ -103,7 +109,7 @@ class ExternalEventServiceTest {
         DataEnricherProcessor dataEnricherProcessor = new DataEnricherProcessor(
                 Optional.of(List.of(loanAccountDataV1Enricher, loanTransactionAdjustmentDataV1Enricher, loanTransactionDataV1Enricher)));
         underTest = new ExternalEventService(repository, idempotencyKeyGenerator, serializerFactory, byteBufferConverter,
-                bulkMessageItemFactory, dataEnricherProcessor);
+                bulkMessageItemFactory, dataEnricherProcessor, batchWriter, payloadCompressor);
         underTest.setEntityManager(entityManager);
         FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
         ThreadLocalContextUtil.setTenant(tenant);
@@ -171,6 +177,61 @@ class ExternalEventServiceTest {
         assertThat(externalEvent.getSchema()).isEqualTo(eventSchema);
     }
 
+    @Test
+    public void testPostEventShouldBufferEventWhenBatchInsertIsAvailable() {
+        // given
+        ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
+
+        String eventType = "TestType";
+        String idempotencyKey = "key";
+        BusinessEvent event = mock(BusinessEvent.class);
+        BusinessEventSerializer eventSerializer = mock(BusinessEventSerializer.class);
+        byte[] data = new byte[0];
+
+        given(batchWriter.isBufferingAvailable()).willReturn(true);
+        given(event.getType()).willReturn(eventType);
+        given(idempotencyKeyGenerator.generate(event)).willReturn(idempotencyKey);
+        given(serializerFactory.create(event)).willReturn(eventSerializer);
+        LoanAccountDataV1 loanAccountData = new LoanAccountDataV1();
+        given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(eventSerializer.toAvroDTO(event)).willReturn(loanAccountData);
+        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
+        // when
+        underTest.postEvent(event);
+        // then
+        verify(batchWriter).buffer(externalEventArgumentCaptor.capture());
+        Mockito.verifyNoInteractions(repository);
+        ExternalEvent externalEvent = externalEventArgumentCaptor.getValue();
+        assertThat(externalEvent.getIdempotencyKey()).isEqualTo(idempotencyKey);
+        assertThat(externalEvent.getType()).isEqualTo(eventType);
+    }
+
+    @Test
+    public void testPostEventShouldStoreCompressedPayloadWithItsCompression() {
+        // given
+        ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
+        BusinessEvent event = mock(BusinessEvent.class);
+        BusinessEventSerializer eventSerializer = mock(BusinessEventSerializer.class);
+        byte[] data = new byte[] { 1, 2, 3 };
+        byte[] compressedData = new byte[] { 4 };
+
+        given(event.getType()).willReturn("TestType");
+        given(idempotencyKeyGenerator.generate(event)).willReturn("key");
+        given(serializerFactory.create(event)).willReturn(eventSerializer);
+        given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(eventSerializer.toAvroDTO(event)).willReturn(new LoanAccountDataV1());
+        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
+        given(payloadCompressor.selectCompression(data)).willReturn(ExternalEventCompression.GZIP);
+        given(payloadCompressor.compress(data, ExternalEventCompression.GZIP)).willReturn(compressedData);
+        // when
+        underTest.postEvent(event);
+        // then
+        verify(repository).save(externalEventArgumentCaptor.capture());
+        ExternalEvent externalEvent = externalEventArgumentCaptor.getValue();
+        assertThat(externalEvent.getData()).isEqualTo(compressedData);
+        assertThat(externalEvent.getCompression()).isEqualTo(ExternalEventCompression.GZIP);
+    }
+
     @Test
     public void testPostEventShouldWorkWithBulkEvent() throws IOException {
         // given
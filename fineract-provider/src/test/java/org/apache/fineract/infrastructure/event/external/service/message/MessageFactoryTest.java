@@ -20,9 +20,21 @@ package org.apache.fineract.infrastructure.event.external.service.message;
 
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.avro.MessageV2;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventCompression;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 public class MessageFactoryTest {
 
@@ -72,4 +84,38 @@ public class MessageFactoryTest {
                 LocalDateTime.parse(localDateTime6.format(customDateTimeFormatter), DateTimeFormatter.ISO_LOCAL_DATE_TIME));
     }
 
+    /**
+     * Test whether compressed events are wrapped into MessageV2 with the same attributes and the compression set.
+     */
+    @Test
+    public void compressedMessageTest() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        try {
+            ExternalEventView event = Mockito.mock(ExternalEventView.class);
+            Mockito.when(event.getId()).thenReturn(1L);
+            Mockito.when(event.getType()).thenReturn("aType");
+            Mockito.when(event.getCategory()).thenReturn("aCategory");
+            Mockito.when(event.getSchema()).thenReturn("aSchema");
+            Mockito.when(event.getData()).thenReturn(new byte[] { 1, 2, 3 });
+            Mockito.when(event.getCreatedAt()).thenReturn(OffsetDateTime.of(localDateTime1, ZoneOffset.UTC));
+            Mockito.when(event.getBusinessDate()).thenReturn(LocalDate.of(2023, 5, 4));
+            Mockito.when(event.getIdempotencyKey()).thenReturn("anIdempotencyKey");
+            Mockito.when(event.getCompression()).thenReturn(ExternalEventCompression.DEFLATE);
+            MessageFactory messageFactory = new MessageFactory(new ByteBufferConverter());
+
+            MessageV1 message = messageFactory.createMessage(event);
+            MessageV2 compressedMessage = messageFactory.createCompressedMessage(event);
+
+            assertEquals("DEFLATE", compressedMessage.getCompression());
+            assertEquals(message.getId(), compressedMessage.getId());
+            assertEquals(message.getSource(), compressedMessage.getSource());
+            assertEquals(message.getCreatedAt(), compressedMessage.getCreatedAt());
+            assertEquals(message.getBusinessDate(), compressedMessage.getBusinessDate());
+            assertEquals("default", compressedMessage.getTenantId());
+            assertEquals("aSchema", compressedMessage.getDataschema());
+            assertEquals(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), compressedMessage.getData());
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
 }
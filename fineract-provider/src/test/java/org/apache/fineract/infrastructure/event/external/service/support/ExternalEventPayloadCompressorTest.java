@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventCompression;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExternalEventPayloadCompressorTest {
+
+    private FineractProperties.FineractExternalEventsCompressionProperties compressionProperties;
+
+    private ExternalEventPayloadCompressor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        compressionProperties = new FineractProperties.FineractExternalEventsCompressionProperties();
+        compressionProperties.setAlgorithm("NONE");
+        compressionProperties.setLevel(1);
+        compressionProperties.setMinSize(64);
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setCompression(compressionProperties);
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(eventsProperties);
+        underTest = new ExternalEventPayloadCompressor(fineractProperties);
+    }
+
+    @Test
+    public void testNoCompressionIsSelectedWhenDisabled() {
+        underTest.afterPropertiesSet();
+        assertThat(underTest.selectCompression(payload())).isNull();
+    }
+
+    @Test
+    public void testNoCompressionIsSelectedBelowMinimumSize() {
+        compressionProperties.setAlgorithm("GZIP");
+        underTest.afterPropertiesSet();
+        assertThat(underTest.selectCompression(new byte[63])).isNull();
+        assertThat(underTest.selectCompression(new byte[64])).isEqualTo(ExternalEventCompression.GZIP);
+    }
+
+    @Test
+    public void testPayloadSurvivesCompressionRoundTrip() {
+        compressionProperties.setAlgorithm("deflate");
+        underTest.afterPropertiesSet();
+        byte[] data = payload();
+
+        ExternalEventCompression compression = underTest.selectCompression(data);
+        byte[] compressed = underTest.compress(data, compression);
+
+        assertThat(compression).isEqualTo(ExternalEventCompression.DEFLATE);
+        assertThat(compressed.length).isLessThan(data.length);
+        assertThat(underTest.decompress(compressed, compression)).isEqualTo(data);
+        assertThat(ExternalEventCompression.GZIP.decompress(ExternalEventCompression.GZIP.compress(data, 9))).isEqualTo(data);
+    }
+
+    @Test
+    public void testInvalidAlgorithmFailsAtStartup() {
+        compressionProperties.setAlgorithm("zstd");
+        assertThatThrownBy(underTest::afterPropertiesSet).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fineract.events.external.compression.algorithm: zstd");
+    }
+
+    @Test
+    public void testInvalidLevelFailsAtStartup() {
+        compressionProperties.setAlgorithm("GZIP");
+        compressionProperties.setLevel(10);
+        assertThatThrownBy(underTest::afterPropertiesSet).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fineract.events.external.compression.level: 10");
+    }
+
+    @Test
+    public void testUncompressedPayloadIsReturnedAsIs() {
+        byte[] data = payload();
+        assertThat(underTest.decompress(data, null)).isSameAs(data);
+    }
+
+    private static byte[] payload() {
+        return "{\"loanId\":1,\"principal\":1000.00,\"currency\":\"USD\"}".repeat(20).getBytes(StandardCharsets.UTF_8);
+    }
+}
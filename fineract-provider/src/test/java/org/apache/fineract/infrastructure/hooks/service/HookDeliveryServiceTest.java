@@ -0,0 +1,253 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractHookDeliveryProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessor;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessorProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HookDeliveryServiceTest {
+
+    private static final String OUTBOX_INSERT = "insert into m_hook_delivery_outbox";
+    private static final String OUTBOX_UPDATE = "update m_hook_delivery_outbox";
+    private static final String OUTBOX_DELETE = "delete from m_hook_delivery_outbox";
+    private static final int BACKOFF_SECONDS = 60;
+
+    @Mock
+    private HookProcessorProvider hookProcessorProvider;
+    @Mock
+    private HookProcessor hookProcessor;
+    @Mock
+    private HookRepository hookRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+    @Mock
+    private Hook hook;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FineractContext context;
+    private HookDeliveryService underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+        context = ThreadLocalContextUtil.getContext();
+
+        final FineractHookDeliveryProperties deliveryProperties = new FineractHookDeliveryProperties();
+        deliveryProperties.setThreads(1);
+        deliveryProperties.setQueueCapacity(1);
+        deliveryProperties.setMaxAttempts(5);
+        deliveryProperties.setRetryBackoffSeconds(BACKOFF_SECONDS);
+        deliveryProperties.setRetryBatchSize(10);
+        final FineractProperties.FineractHooksProperties hooksProperties = new FineractProperties.FineractHooksProperties();
+        hooksProperties.setDelivery(deliveryProperties);
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setHooks(hooksProperties);
+
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        when(hook.getId()).thenReturn(1L);
+        when(hook.getIsActive()).thenReturn(Boolean.TRUE);
+        when(hookProcessorProvider.getProcessor(hook)).thenReturn(hookProcessor);
+        when(sqlGenerator.limit(10)).thenReturn("LIMIT 10");
+        underTest = new HookDeliveryService(fineractProperties, hookProcessorProvider, hookRepository, jdbcTemplate, sqlGenerator,
+                meterRegistryProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.destroy();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void dispatchDeliversOnTheWorkerThread() throws Exception {
+        final CountDownLatch delivered = new CountDownLatch(1);
+        final List<String> threadNames = new ArrayList<>();
+        doAnswer(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            delivered.countDown();
+            return null;
+        }).when(hookProcessor).process(hook, "{}", "CLIENT", "CREATE", context);
+
+        underTest.dispatch(hook, "{}", "CLIENT", "CREATE", context);
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertTrue(threadNames.get(0).startsWith("hook-delivery-"));
+        verify(jdbcTemplate, never()).update(contains(OUTBOX_INSERT), any(Object[].class));
+    }
+
+    @Test
+    void failedDeliveryIsStoredForRetryWithBackoff() throws Exception {
+        doThrow(new IOException("Status: 500")).when(hookProcessor).process(hook, "{}", "CLIENT", "CREATE", context);
+        final OffsetDateTime before = DateUtils.getAuditOffsetDateTime();
+
+        underTest.dispatch(hook, "{}", "CLIENT", "CREATE", context);
+
+        final ArgumentCaptor<OffsetDateTime> nextAttempt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(jdbcTemplate, timeout(5000)).update(contains(OUTBOX_INSERT), eq(1L), eq("CLIENT"), eq("CREATE"), eq("{}"), eq(1),
+                eq("IOException: Status: 500"), nextAttempt.capture(), any(OffsetDateTime.class));
+        assertBackoff(before, nextAttempt.getValue(), BACKOFF_SECONDS);
+    }
+
+    @Test
+    void deliveryWhichDoesNotFitIntoTheQueueIsStoredRightAway() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(hookProcessor).process(any(), anyString(), anyString(),
+                anyString(), any());
+        try {
+            // the first delivery occupies the only worker, the second one the only place in the queue
+            underTest.dispatch(hook, "{}", "CLIENT", "CREATE", context);
+            underTest.dispatch(hook, "{}", "CLIENT", "UPDATE", context);
+            underTest.dispatch(hook, "{}", "CLIENT", "DELETE", context);
+        } finally {
+            release.countDown();
+        }
+
+        verify(jdbcTemplate).update(contains(OUTBOX_INSERT), eq(1L), eq("CLIENT"), eq("DELETE"), eq("{}"), eq(0),
+                eq("Delivery queue is full"), any(OffsetDateTime.class), any(OffsetDateTime.class));
+        assertEquals(1.0, meterRegistry.get("fineract.hooks.delivery.rejected").counter().count());
+        verify(hookProcessor, timeout(5000).times(2)).process(any(), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void retryDeletesDeliveredEntriesAndBacksOffExponentially() throws Exception {
+        givenOutboxEntries(List.of(outboxEntry(10L, "CREATE", 0), outboxEntry(11L, "UPDATE", 3)));
+        when(hookRepository.findById(1L)).thenReturn(Optional.of(hook));
+        doThrow(new IOException("Status: 503")).when(hookProcessor).process(eq(hook), anyString(), eq("CLIENT"), eq("UPDATE"), any());
+        final OffsetDateTime before = DateUtils.getAuditOffsetDateTime();
+
+        assertEquals(1, underTest.retryFailedDeliveries());
+
+        verify(jdbcTemplate).update(OUTBOX_DELETE + " where id = ?", 10L);
+        final ArgumentCaptor<OffsetDateTime> nextAttempt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(jdbcTemplate).update(contains(OUTBOX_UPDATE), eq(4), eq("IOException: Status: 503"), nextAttempt.capture(), eq(11L));
+        // the fourth failed attempt waits eight times the base backoff
+        assertBackoff(before, nextAttempt.getValue(), BACKOFF_SECONDS * 8);
+    }
+
+    @Test
+    void retryDropsEntriesOfInactiveHooks() throws Exception {
+        givenOutboxEntries(List.of(outboxEntry(10L, "CREATE", 1)));
+        when(hook.getIsActive()).thenReturn(Boolean.FALSE);
+        when(hookRepository.findById(1L)).thenReturn(Optional.of(hook));
+
+        assertEquals(0, underTest.retryFailedDeliveries());
+
+        verify(jdbcTemplate).update(OUTBOX_DELETE + " where id = ?", 10L);
+        verify(hookProcessor, never()).process(any(), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void retryBackoffIsCappedAtOneDay() throws Exception {
+        givenOutboxEntries(List.of(outboxEntry(10L, "CREATE", 30)));
+        when(hookRepository.findById(1L)).thenReturn(Optional.of(hook));
+        doThrow(new IOException("Status: 503")).when(hookProcessor).process(any(), anyString(), anyString(), anyString(), any());
+        final OffsetDateTime before = DateUtils.getAuditOffsetDateTime();
+
+        underTest.retryFailedDeliveries();
+
+        final ArgumentCaptor<OffsetDateTime> nextAttempt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(jdbcTemplate, times(1)).update(contains(OUTBOX_UPDATE), eq(31), anyString(), nextAttempt.capture(), eq(10L));
+        assertBackoff(before, nextAttempt.getValue(), TimeUnit.DAYS.toSeconds(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenOutboxEntries(final List<Map<String, Object>> rows) {
+        when(jdbcTemplate.query(contains("from m_hook_delivery_outbox"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    final RowMapper<Object> mapper = invocation.getArgument(1);
+                    final List<Object> result = new ArrayList<>();
+                    for (int i = 0; i < rows.size(); i++) {
+                        final Map<String, Object> row = rows.get(i);
+                        final ResultSet rs = mock(ResultSet.class,
+                                call -> call.getArguments().length == 0 ? null : row.get(call.<String>getArgument(0)));
+                        result.add(mapper.mapRow(rs, i));
+                    }
+                    return result;
+                });
+    }
+
+    private static Map<String, Object> outboxEntry(final Long id, final String actionName, final int attempts) {
+        return Map.of("id", id, "hook_id", 1L, "entity_name", "CLIENT", "action_name", actionName, "payload", "{}", "attempts",
+                attempts);
+    }
+
+    private static void assertBackoff(final OffsetDateTime before, final OffsetDateTime nextAttempt, final long backoffSeconds) {
+        final Duration delay = Duration.between(before, nextAttempt);
+        assertTrue(delay.getSeconds() >= backoffSeconds && delay.getSeconds() < backoffSeconds + 5,
+                "unexpected delay of " + delay.getSeconds() + "s");
+    }
+}
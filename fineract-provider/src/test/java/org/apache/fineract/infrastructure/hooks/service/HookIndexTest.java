@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.domain.HookResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HookIndexTest {
+
+    @Mock
+    private HookRepository hookRepository;
+
+    private HookIndex hookIndex;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        final FineractProperties.FineractHooksProperties hooksProperties = new FineractProperties.FineractHooksProperties();
+        hooksProperties.setIndexRefreshSeconds(300);
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setHooks(hooksProperties);
+        hookIndex = new HookIndex(hookRepository, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void getHooksLoadsTheIndexOnce() {
+        final Hook clientHook = hook("CLIENT", "CREATE");
+        final Hook loanHook = hook("LOAN", "APPROVE");
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of(clientHook, loanHook));
+
+        assertEquals(List.of(clientHook), hookIndex.getHooks("CLIENT", "CREATE"));
+        assertEquals(List.of(loanHook), hookIndex.getHooks("LOAN", "APPROVE"));
+        assertTrue(hookIndex.getHooks("LOAN", "REJECT").isEmpty());
+        verify(hookRepository, times(1)).findAllActiveHooks();
+    }
+
+    @Test
+    void invalidateReloadsTheIndex() {
+        final Hook clientHook = hook("CLIENT", "CREATE");
+        when(hookRepository.findAllActiveHooks()).thenReturn(List.of()).thenReturn(List.of(clientHook));
+
+        assertTrue(hookIndex.getHooks("CLIENT", "CREATE").isEmpty());
+        hookIndex.invalidate();
+
+        assertEquals(List.of(clientHook), hookIndex.getHooks("CLIENT", "CREATE"));
+        verify(hookRepository, times(2)).findAllActiveHooks();
+    }
+
+    private static Hook hook(final String entityName, final String actionName) {
+        final Hook hook = new Hook();
+        hook.setEvents(Set.of(new HookResource().setHook(hook).setEntityName(entityName).setActionName(actionName)));
+        return hook;
+    }
+}
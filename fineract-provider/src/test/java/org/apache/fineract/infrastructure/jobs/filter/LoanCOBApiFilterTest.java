@@ -27,6 +27,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.sun.research.ws.wadl.HTTPMethods;
 import jakarta.servlet.FilterChain;
@@ -45,6 +46,7 @@ import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
 import org.apache.fineract.cob.service.LoanAccountLockService;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
@@ -96,6 +98,8 @@ class LoanCOBApiFilterTest {
     private LoanRescheduleRequestRepository loanRescheduleRequestRepository;
     @Mock
     private RetrieveLoanIdService retrieveLoanIdService;
+    @Mock
+    private LoanCOBStateCache loanCOBStateCache;
 
     @BeforeEach
     public void setUp() {
@@ -169,8 +173,9 @@ class LoanCOBApiFilterTest {
         given(context.authenticatedUser()).willReturn(appUser);
         given(fineractProperties.getQuery()).willReturn(fineractQueryProperties);
         given(fineractQueryProperties.getInClauseParameterSizeLimit()).willReturn(65000);
-        given(retrieveLoanIdService.retrieveLoanIdsBehindDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)),
-                anyList())).willReturn(Collections.emptyList());
+        given(retrieveLoanIdService
+                .retrieveLoanIdsBehindOrUpToDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)), anyList()))
+                .willReturn(Collections.emptyList());
 
         testObj.doFilterInternal(request, response, filterChain);
         verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
@@ -213,13 +218,54 @@ class LoanCOBApiFilterTest {
         given(context.authenticatedUser()).willReturn(appUser);
         given(fineractProperties.getQuery()).willReturn(fineractQueryProperties);
         given(fineractQueryProperties.getInClauseParameterSizeLimit()).willReturn(65000);
-        given(retrieveLoanIdService.retrieveLoanIdsBehindDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)),
-                anyList())).willReturn(Collections.emptyList());
+        given(retrieveLoanIdService
+                .retrieveLoanIdsBehindOrUpToDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)), anyList()))
+                .willReturn(Collections.emptyList());
 
         testObj.doFilterInternal(request, response, filterChain);
         verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
     }
 
+    @Test
+    void shouldSkipBehindLookupButCheckLockWhenLoanIsUpToDate() throws ServletException, IOException {
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        AppUser appUser = mock(AppUser.class);
+
+        given(request.getPathInfo()).willReturn("/v1/loans/2/charges");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(loanCOBStateCache.isUpToDate(2L)).willReturn(true);
+
+        testObj.doFilterInternal(request, response, filterChain);
+        verify(filterChain, times(1)).doFilter(request, response);
+        verify(request, times(0)).getInputStream();
+        verify(loanAccountLockService, times(1)).isLoanHardLocked(2L);
+        verifyNoInteractions(retrieveLoanIdService, inlineLoanCOBExecutorService);
+    }
+
+    @Test
+    void shouldRejectWhenUpToDateLoanIsHardLocked() throws ServletException, IOException {
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        PrintWriter writer = mock(PrintWriter.class);
+        AppUser appUser = mock(AppUser.class);
+
+        given(request.getPathInfo()).willReturn("/v1/loans/2/charges");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(context.authenticatedUser()).willReturn(appUser);
+        // the cache may be stale, e.g. right after the COB date moved on or when an other node locked the loan
+        given(loanCOBStateCache.isUpToDate(2L)).willReturn(true);
+        given(loanAccountLockService.isLoanHardLocked(2L)).willReturn(true);
+        given(response.getWriter()).willReturn(writer);
+
+        testObj.doFilterInternal(request, response, filterChain);
+        verify(response, times(1)).setStatus(HttpStatus.SC_CONFLICT);
+        verify(filterChain, times(0)).doFilter(any(HttpServletRequest.class), eq(response));
+    }
+
     @Test
     void shouldProceedWhenExternalLoanIsNotLockedAndNotBehind() throws ServletException, IOException {
         MockHttpServletRequest request = mock(MockHttpServletRequest.class);
@@ -241,8 +287,9 @@ class LoanCOBApiFilterTest {
         given(loanRepository.findIdByExternalId(any())).willReturn(2L);
         given(fineractProperties.getQuery()).willReturn(fineractQueryProperties);
         given(fineractQueryProperties.getInClauseParameterSizeLimit()).willReturn(65000);
-        given(retrieveLoanIdService.retrieveLoanIdsBehindDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)),
-                anyList())).willReturn(Collections.emptyList());
+        given(retrieveLoanIdService
+                .retrieveLoanIdsBehindOrUpToDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)), anyList()))
+                .willReturn(Collections.emptyList());
 
         testObj.doFilterInternal(request, response, filterChain);
         verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
@@ -270,8 +317,9 @@ class LoanCOBApiFilterTest {
         given(loanRescheduleRequestRepository.getLoanIdByRescheduleRequestId(resourceId)).willReturn(Optional.of(2L));
         given(context.authenticatedUser()).willReturn(appUser);
 
-        given(retrieveLoanIdService.retrieveLoanIdsBehindDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)),
-                anyList())).willReturn(Collections.emptyList());
+        given(retrieveLoanIdService
+                .retrieveLoanIdsBehindOrUpToDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)), anyList()))
+                .willReturn(Collections.emptyList());
 
         testObj.doFilterInternal(request, response, filterChain);
         verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
@@ -300,8 +348,9 @@ class LoanCOBApiFilterTest {
         given(loanAccountLockService.isLoanHardLocked(2L)).willReturn(false);
         given(fineractProperties.getQuery()).willReturn(fineractQueryProperties);
         given(fineractQueryProperties.getInClauseParameterSizeLimit()).willReturn(65000);
-        given(retrieveLoanIdService.retrieveLoanIdsBehindDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)),
-                anyList())).willReturn(Collections.singletonList(result));
+        given(retrieveLoanIdService
+                .retrieveLoanIdsBehindOrUpToDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)), anyList()))
+                .willReturn(Collections.singletonList(result));
         given(context.authenticatedUser()).willReturn(appUser);
 
         testObj.doFilterInternal(request, response, filterChain);
@@ -331,8 +380,9 @@ class LoanCOBApiFilterTest {
         given(loanAccountLockService.isLoanHardLocked(2L)).willReturn(false);
         given(fineractProperties.getQuery()).willReturn(fineractQueryProperties);
         given(fineractQueryProperties.getInClauseParameterSizeLimit()).willReturn(65000);
-        given(retrieveLoanIdService.retrieveLoanIdsBehindDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)),
-                anyList())).willReturn(Collections.emptyList());
+        given(retrieveLoanIdService
+                .retrieveLoanIdsBehindOrUpToDate(eq(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)), anyList()))
+                .willReturn(Collections.emptyList());
 
         given(context.authenticatedUser()).willReturn(appUser);
 
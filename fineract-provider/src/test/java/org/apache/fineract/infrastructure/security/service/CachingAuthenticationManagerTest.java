@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthenticationManagerTest {
+
+    @Mock
+    private AuthenticationManager delegate;
+
+    private BasicAuthenticationCache basicAuthenticationCache;
+    private CachingAuthenticationManager underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        final FineractProperties.FineractSecurityBasicAuthCache cacheProperties = new FineractProperties.FineractSecurityBasicAuthCache();
+        cacheProperties.setEnabled(true);
+        cacheProperties.setTtlSeconds(60);
+        cacheProperties.setMaxEntries(100);
+        final FineractProperties.FineractSecurityBasicAuth basicAuth = new FineractProperties.FineractSecurityBasicAuth();
+        basicAuth.setCache(cacheProperties);
+        final FineractProperties.FineractSecurityProperties security = new FineractProperties.FineractSecurityProperties();
+        security.setBasicauth(basicAuth);
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSecurity(security);
+        basicAuthenticationCache = new BasicAuthenticationCache(fineractProperties);
+        underTest = new CachingAuthenticationManager(delegate, basicAuthenticationCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void repeatedAuthenticationIsServedFromTheCache() {
+        final Authentication authenticated = authenticated("mifos");
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+
+        assertSame(authenticated, underTest.authenticate(request("mifos", "password")));
+        assertSame(authenticated, underTest.authenticate(request("mifos", "password")));
+
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void wrongPasswordIsNotServedFromTheCache() {
+        when(delegate.authenticate(any())).thenReturn(authenticated("mifos")).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        underTest.authenticate(request("mifos", "password"));
+
+        assertThrows(BadCredentialsException.class, () -> underTest.authenticate(request("mifos", "wrong")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void invalidateDropsTheCachedAuthentications() {
+        when(delegate.authenticate(any())).thenReturn(authenticated("mifos"));
+
+        underTest.authenticate(request("mifos", "password"));
+        basicAuthenticationCache.invalidate();
+        underTest.authenticate(request("mifos", "password"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private static Authentication request(final String username, final String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+
+    private static Authentication authenticated(final String username) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null, List.of());
+    }
+}
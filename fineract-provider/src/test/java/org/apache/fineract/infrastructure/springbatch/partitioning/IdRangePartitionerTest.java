@@ -0,0 +1,75 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partitioning;
+
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class IdRangePartitionerTest {
+
+    @Mock
+    private IdRangeJobWork work;
+
+    @Test
+    public void testPartitionsAreContiguousIdRangesOfPartitionSize() {
+        // given
+        when(work.retrieveIds(null, null)).thenReturn(List.of(3L, 5L, 8L, 13L, 21L, 34L, 55L));
+        IdRangePartitioner partitioner = new IdRangePartitioner("TEST_JOB", work, 3);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        // then
+        Assertions.assertEquals(3, partitions.size());
+        validatePartition(partitions, 1, 3L, 8L);
+        validatePartition(partitions, 2, 13L, 34L);
+        validatePartition(partitions, 3, 55L, 55L);
+    }
+
+    @Test
+    public void testOnePartitionIsCreatedWhenThereIsNothingToProcess() {
+        // given
+        when(work.retrieveIds(null, null)).thenReturn(List.of());
+        IdRangePartitioner partitioner = new IdRangePartitioner("TEST_JOB", work, 3);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        // then
+        Assertions.assertEquals(1, partitions.size());
+        validatePartition(partitions, 1, 0L, 0L);
+    }
+
+    private void validatePartition(Map<String, ExecutionContext> partitions, int index, long minId, long maxId) {
+        ExecutionContext partition = partitions.get(IdRangePartitioner.PARTITION_PREFIX + index);
+        Assertions.assertNotNull(partition);
+        Assertions.assertEquals(IdRangePartitioner.PARTITION_PREFIX + index, partition.getString(IdRangePartitioner.PARTITION_KEY));
+        Assertions.assertEquals(minId, partition.getLong(IdRangePartitioner.MIN_ID_KEY));
+        Assertions.assertEquals(maxId, partition.getLong(IdRangePartitioner.MAX_ID_KEY));
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partitioning;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdRangeWorkerStepTest {
+
+    @Mock
+    private JobRepository jobRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private AppUserRepositoryWrapper userRepository;
+    @Mock
+    private IdRangeJobWork work;
+
+    private IdRangeWorkerStep step;
+
+    @BeforeEach
+    public void setUp() {
+        when(userRepository.fetchSystemUser()).thenReturn(mock(AppUser.class));
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        step = new IdRangeWorkerStep("TEST_JOB worker - Step", jobRepository, transactionManager, userRepository, work, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testFailedIdsFailThePartitionAndAreKeptForTheRestart() throws Exception {
+        // given
+        StepExecution stepExecution = createPartition(1L, 5L);
+        when(work.retrieveIds(1L, 5L)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        doThrow(new IllegalStateException("failure")).when(work).process(3L);
+
+        // when
+        step.execute(stepExecution);
+
+        // then
+        Assertions.assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+        Assertions.assertEquals(5, stepExecution.getReadCount());
+        Assertions.assertEquals(4, stepExecution.getWriteCount());
+        Assertions.assertEquals(1, stepExecution.getProcessSkipCount());
+        Assertions.assertEquals(5L, stepExecution.getExecutionContext().getLong(IdRangeWorkerStep.LAST_PROCESSED_ID_KEY));
+        Assertions.assertEquals("3", stepExecution.getExecutionContext().getString(IdRangeWorkerStep.FAILED_IDS_KEY));
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(4)).commit(any());
+        // the progress is saved after every chunk
+        verify(jobRepository, atLeast(3)).updateExecutionContext(stepExecution);
+    }
+
+    @Test
+    public void testRestartedPartitionRetriesFailedIdsAndContinuesAfterTheLastProcessedId() throws Exception {
+        // given
+        StepExecution stepExecution = createPartition(1L, 5L);
+        stepExecution.getExecutionContext().putLong(IdRangeWorkerStep.LAST_PROCESSED_ID_KEY, 3L);
+        stepExecution.getExecutionContext().putString(IdRangeWorkerStep.FAILED_IDS_KEY, "2");
+        when(work.retrieveIds(4L, 5L)).thenReturn(List.of(4L, 5L));
+
+        // when
+        step.execute(stepExecution);
+
+        // then
+        Assertions.assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+        InOrder inOrder = inOrder(work);
+        inOrder.verify(work).process(2L);
+        inOrder.verify(work).process(4L);
+        inOrder.verify(work).process(5L);
+        verify(work, never()).process(1L);
+        verify(work, never()).process(3L);
+        Assertions.assertEquals(5L, stepExecution.getExecutionContext().getLong(IdRangeWorkerStep.LAST_PROCESSED_ID_KEY));
+        Assertions.assertEquals("", stepExecution.getExecutionContext().getString(IdRangeWorkerStep.FAILED_IDS_KEY));
+    }
+
+    private StepExecution createPartition(Long minId, Long maxId) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "TEST_JOB"), 1L, new JobParameters());
+        StepExecution stepExecution = jobExecution.createStepExecution("TEST_JOB partition - Step:partition_1");
+        stepExecution.getExecutionContext().putLong(IdRangePartitioner.MIN_ID_KEY, minId);
+        stepExecution.getExecutionContext().putLong(IdRangePartitioner.MAX_ID_KEY, maxId);
+        return stepExecution;
+    }
+}
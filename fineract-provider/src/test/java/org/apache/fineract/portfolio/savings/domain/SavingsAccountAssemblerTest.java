@@ -0,0 +1,150 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.DepositAccountType;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountDailyBalanceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsAccountAssemblerTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final LocalDate INTEREST_POSTED_TILL_DATE = LocalDate.of(2024, 1, 31);
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 2, 15);
+
+    @Mock
+    private SavingsAccountRepositoryWrapper savingsAccountRepository;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private SavingsAccountDailyBalanceService savingsAccountDailyBalanceService;
+    @Mock
+    private SavingsAccount account;
+
+    private final SavingsAccountSummary summary = new SavingsAccountSummary();
+    private SavingsAccountAssembler underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        summary.setInterestPostedTillDate(INTEREST_POSTED_TILL_DATE);
+        given(account.getId()).willReturn(ACCOUNT_ID);
+        given(account.depositAccountType()).willReturn(DepositAccountType.SAVINGS_DEPOSIT);
+        given(account.getSummary()).willReturn(summary);
+        underTest = new SavingsAccountAssembler(null, null, null, null, null, null, savingsAccountRepository, null, null, null, null,
+                configurationDomainService, null, savingsAccountDailyBalanceService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testOpeningBalanceIsTakenFromSnapshotBeforePivotDate() {
+        SavingsAccountTransaction transaction = mock(SavingsAccountTransaction.class);
+        given(configurationDomainService.isRelaxingDaysConfigForPivotDateEnabled()).willReturn(false);
+        given(savingsAccountRepository.findTransactionsAfterPivotDate(account, INTEREST_POSTED_TILL_DATE)).willReturn(List.of(transaction));
+        given(savingsAccountDailyBalanceService.retrieveEndOfDayBalance(ACCOUNT_ID, INTEREST_POSTED_TILL_DATE.minusDays(1)))
+                .willReturn(new BigDecimal("150"));
+
+        underTest.loadTransactionsToSavingsAccount(account, true);
+
+        assertThat(summary.getRunningBalanceOnPivotDate()).isEqualByComparingTo("150");
+        verify(account).setSavingsAccountTransactions(List.of(transaction));
+    }
+
+    @Test
+    public void testOpeningBalanceIsTakenFromSnapshotBeforeRelaxedPivotDate() {
+        LocalDate relaxedPivotDate = INTEREST_POSTED_TILL_DATE.minusDays(5);
+        SavingsAccountTransaction transaction = mock(SavingsAccountTransaction.class);
+        given(transaction.getSavingsAccount()).willReturn(account);
+        given(configurationDomainService.isRelaxingDaysConfigForPivotDateEnabled()).willReturn(true);
+        given(configurationDomainService.retrieveRelaxingDaysConfigForPivotDate()).willReturn(5L);
+        given(savingsAccountRepository.findTransactionsAfterPivotDate(account, relaxedPivotDate)).willReturn(List.of(transaction));
+        given(savingsAccountDailyBalanceService.retrieveEndOfDayBalance(ACCOUNT_ID, relaxedPivotDate.minusDays(1)))
+                .willReturn(new BigDecimal("80"));
+
+        underTest.loadTransactionsToSavingsAccount(account, true);
+
+        assertThat(summary.getRunningBalanceOnPivotDate()).isEqualByComparingTo("80");
+        verify(account).setStartInterestCalculationDate(relaxedPivotDate);
+    }
+
+    @Test
+    public void testAllTransactionsAreLoadedWithoutInterestPosting() {
+        summary.setInterestPostedTillDate(null);
+        given(savingsAccountRepository.findAllTransactions(account)).willReturn(List.of());
+
+        underTest.loadTransactionsToSavingsAccount(account, true);
+
+        assertThat(summary.getRunningBalanceOnPivotDate()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(savingsAccountDailyBalanceService, never()).retrieveEndOfDayBalance(any(), any());
+    }
+
+    @Test
+    public void testBalancesStartFromSnapshotOfDayBeforeBusinessDateWithoutPivotDate() {
+        LocalDate snapshotDate = BUSINESS_DATE.minusDays(1);
+        given(savingsAccountDailyBalanceService.retrieveEndOfDayBalance(ACCOUNT_ID, snapshotDate)).willReturn(new BigDecimal("300"));
+        given(savingsAccountDailyBalanceService.retrieveAmountOnHold(ACCOUNT_ID, snapshotDate)).willReturn(new BigDecimal("25"));
+
+        underTest.loadTransactionsToSavingsAccount(account, false);
+
+        assertThat(summary.getBalanceSnapshotDate()).isEqualTo(snapshotDate);
+        assertThat(summary.getBalanceOnSnapshotDate()).isEqualByComparingTo("300");
+        assertThat(summary.getAmountOnHoldOnSnapshotDate()).isEqualByComparingTo("25");
+        verify(savingsAccountRepository, never()).findAllTransactions(account);
+    }
+
+    @Test
+    public void testDepositAccountsReplayWholeHistoryWithoutPivotDate() {
+        given(account.depositAccountType()).willReturn(DepositAccountType.FIXED_DEPOSIT);
+
+        underTest.loadTransactionsToSavingsAccount(account, false);
+
+        assertThat(summary.getBalanceSnapshotDate()).isNull();
+        verify(savingsAccountDailyBalanceService, never()).retrieveEndOfDayBalance(any(), any());
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * The balance checks replay the balances from the end of day balance snapshot and fall back to the whole history when
+ * the snapshot can't be trusted.
+ */
+class SavingsAccountBalanceSnapshotTest {
+
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+    private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2024, 1, 31);
+
+    private final SavingsAccountSummary summary = new SavingsAccountSummary();
+    private MockedStatic<MoneyHelper> moneyHelper;
+    private SavingsAccount account;
+    private SavingsAccountTransaction deposit;
+
+    @BeforeEach
+    public void setUp() {
+        moneyHelper = mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        account = new SavingsAccount();
+        ReflectionTestUtils.setField(account, "currency", CURRENCY);
+        ReflectionTestUtils.setField(account, "summary", summary);
+        // loaded transactions
+        deposit = transaction(LocalDate.of(2024, 1, 5), "100", true, "100");
+        account.getTransactions().add(deposit);
+        account.getTransactions().add(transaction(LocalDate.of(2024, 1, 20), "30", false, "70"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        moneyHelper.close();
+    }
+
+    @Test
+    public void testBalanceCheckStartsFromSnapshot() {
+        summary.setBalanceSnapshot(SNAPSHOT_DATE, new BigDecimal("70"), BigDecimal.ZERO);
+        account.addTransaction(transaction(LocalDate.of(2024, 2, 2), "60", false, null));
+
+        assertThatNoException()
+                .isThrownBy(() -> account.validateAccountBalanceDoesNotBecomeNegative(new BigDecimal("60"), false, null, false));
+
+        verify(deposit, never()).getAmount(any(MonetaryCurrency.class));
+    }
+
+    @Test
+    public void testBalanceCheckFromSnapshotRejectsOverdrawingWithdrawal() {
+        summary.setBalanceSnapshot(SNAPSHOT_DATE, new BigDecimal("70"), BigDecimal.ZERO);
+        account.addTransaction(transaction(LocalDate.of(2024, 2, 2), "80", false, null));
+
+        assertThatThrownBy(() -> account.validateAccountBalanceDoesNotBecomeNegative(new BigDecimal("80"), false, null, false))
+                .isInstanceOf(InsufficientAccountBalanceException.class);
+    }
+
+    @Test
+    public void testBalanceCheckLeavesAmountOnHoldOutOfSnapshot() {
+        // the end of day balance includes the hold of 20, the check subtracts the amount on hold of the account at the end
+        account.getTransactions().add(hold(LocalDate.of(2024, 1, 25), "20", "50"));
+        ReflectionTestUtils.setField(account, "savingsOnHoldAmount", new BigDecimal("20"));
+        summary.setBalanceSnapshot(SNAPSHOT_DATE, new BigDecimal("50"), new BigDecimal("20"));
+        account.addTransaction(transaction(LocalDate.of(2024, 2, 2), "40", false, null));
+
+        assertThatNoException()
+                .isThrownBy(() -> account.validateAccountBalanceDoesNotBecomeNegative(new BigDecimal("40"), false, null, false));
+
+        verify(deposit, never()).getAmount(any(MonetaryCurrency.class));
+    }
+
+    @Test
+    public void testBackdatedTransactionReplaysWholeHistory() {
+        summary.setBalanceSnapshot(SNAPSHOT_DATE, new BigDecimal("70"), BigDecimal.ZERO);
+        account.addTransaction(transaction(LocalDate.of(2024, 1, 25), "60", false, null));
+
+        assertThatNoException()
+                .isThrownBy(() -> account.validateAccountBalanceDoesNotBecomeNegative(new BigDecimal("60"), false, null, false));
+
+        verify(deposit, atLeastOnce()).getAmount(any(MonetaryCurrency.class));
+    }
+
+    @Test
+    public void testSnapshotNotMatchingRunningBalancesReplaysWholeHistory() {
+        summary.setBalanceSnapshot(SNAPSHOT_DATE, new BigDecimal("200"), BigDecimal.ZERO);
+        account.addTransaction(transaction(LocalDate.of(2024, 2, 2), "80", false, null));
+
+        assertThatThrownBy(() -> account.validateAccountBalanceDoesNotBecomeNegative(new BigDecimal("80"), false, null, false))
+                .isInstanceOf(InsufficientAccountBalanceException.class);
+
+        verify(deposit, atLeastOnce()).getAmount(any(MonetaryCurrency.class));
+    }
+
+    private static SavingsAccountTransaction transaction(final LocalDate date, final String amount, final boolean credit,
+            final String runningBalance) {
+        SavingsAccountTransaction transaction = mock(SavingsAccountTransaction.class);
+        given(transaction.getTransactionDate()).willReturn(date);
+        given(transaction.isNotReversed()).willReturn(true);
+        given(transaction.isCredit()).willReturn(credit);
+        given(transaction.isDebit()).willReturn(!credit);
+        given(transaction.canProcessBalanceCheck()).willReturn(!credit);
+        given(transaction.getAmount(any(MonetaryCurrency.class))).willReturn(Money.of(CURRENCY, new BigDecimal(amount)));
+        given(transaction.getRunningBalance()).willReturn(runningBalance == null ? null : new BigDecimal(runningBalance));
+        return transaction;
+    }
+
+    private static SavingsAccountTransaction hold(final LocalDate date, final String amount, final String runningBalance) {
+        SavingsAccountTransaction transaction = mock(SavingsAccountTransaction.class);
+        given(transaction.getTransactionDate()).willReturn(date);
+        given(transaction.isNotReversed()).willReturn(true);
+        given(transaction.isAmountOnHold()).willReturn(true);
+        given(transaction.getAmount(any(MonetaryCurrency.class))).willReturn(Money.of(CURRENCY, new BigDecimal(amount)));
+        given(transaction.getRunningBalance()).willReturn(new BigDecimal(runningBalance));
+        return transaction;
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSavingsHotAccountProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSavingsProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.domain.savings.transaction.SavingsDepositBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.portfolio.note.domain.NoteRepository;
+import org.apache.fineract.portfolio.paymentdetail.domain.PaymentDetailRepository;
+import org.apache.fineract.portfolio.savings.SavingsAccountTransactionType;
+import org.apache.fineract.portfolio.savings.SavingsTransactionBooleanValues;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountPendingCreditData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountPendingCreditService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsAccountDomainServiceJpaTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final int MERGE_BATCH_SIZE = 2;
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private SavingsAccountRepositoryWrapper savingsAccountRepository;
+    @Mock
+    private SavingsAccountTransactionRepository savingsAccountTransactionRepository;
+    @Mock
+    private JournalEntryWritePlatformService journalEntryWritePlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private SavingsAccountPendingCreditService savingsAccountPendingCreditService;
+    @Mock
+    private PaymentDetailRepository paymentDetailRepository;
+    @Mock
+    private NoteRepository noteRepository;
+    @Mock
+    private SavingsAccount account;
+
+    private SavingsAccountDomainServiceJpa underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+
+        FineractSavingsHotAccountProperties hotAccountProperties = new FineractSavingsHotAccountProperties();
+        hotAccountProperties.setMergeBatchSize(MERGE_BATCH_SIZE);
+        FineractSavingsProperties savingsProperties = new FineractSavingsProperties();
+        savingsProperties.setHotAccount(hotAccountProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSavings(savingsProperties);
+
+        given(account.getId()).willReturn(ACCOUNT_ID);
+        given(account.isHotAccount()).willReturn(true);
+        given(account.allowWithdrawal()).willReturn(true);
+        given(account.getOnHoldFunds()).willReturn(BigDecimal.ZERO);
+        given(account.getCurrency()).willReturn(new MonetaryCurrency("USD", 2, null));
+
+        underTest = new SavingsAccountDomainServiceJpa(savingsAccountRepository, savingsAccountTransactionRepository, null,
+                journalEntryWritePlatformService, configurationDomainService, context, depositAccountOnHoldTransactionRepository,
+                businessEventNotifierService, savingsAccountPendingCreditService, paymentDetailRepository, noteRepository,
+                fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testWithdrawalMergesAllPendingCreditsBeforeBalanceCheck() {
+        List<SavingsAccountPendingCreditData> firstBatch = List.of(pendingCredit(1L), pendingCredit(2L));
+        List<SavingsAccountPendingCreditData> secondBatch = List.of(pendingCredit(3L));
+        given(savingsAccountPendingCreditService.retrievePendingCreditsForMerge(ACCOUNT_ID, MERGE_BATCH_SIZE)).willReturn(firstBatch,
+                secondBatch, List.of());
+        given(account.deposit(any(), eq(SavingsAccountTransactionType.DEPOSIT), anyBoolean(), any(), any()))
+                .willAnswer(invocation -> mock(SavingsAccountTransaction.class));
+        given(account.withdraw(any(), anyBoolean(), anyBoolean(), any(), any())).willReturn(mock(SavingsAccountTransaction.class));
+
+        underTest.handleWithdrawal(account, DateUtils.DEFAULT_DATE_FORMATTER, BUSINESS_DATE, new BigDecimal("300"), null,
+                new SavingsTransactionBooleanValues(false, true, false, false, false), false);
+
+        InOrder inOrder = inOrder(account, savingsAccountPendingCreditService);
+        inOrder.verify(account).deposit(any(), eq(SavingsAccountTransactionType.DEPOSIT), anyBoolean(), any(), eq("ref-1"));
+        inOrder.verify(account).deposit(any(), eq(SavingsAccountTransactionType.DEPOSIT), anyBoolean(), any(), eq("ref-2"));
+        inOrder.verify(savingsAccountPendingCreditService).removeMergedCredits(ACCOUNT_ID, firstBatch);
+        inOrder.verify(account).deposit(any(), eq(SavingsAccountTransactionType.DEPOSIT), anyBoolean(), any(), eq("ref-3"));
+        inOrder.verify(savingsAccountPendingCreditService).removeMergedCredits(ACCOUNT_ID, secondBatch);
+        inOrder.verify(account).validateAccountBalanceDoesNotBecomeNegative(eq(new BigDecimal("300")), anyBoolean(), any(), anyBoolean());
+        verify(savingsAccountTransactionRepository, times(4)).saveAndFlush(any(SavingsAccountTransaction.class));
+        verify(businessEventNotifierService, times(3)).notifyPostBusinessEvent(any(SavingsDepositBusinessEvent.class));
+    }
+
+    @Test
+    public void testPendingCreditsAreMergedOneBatchAtATime() {
+        List<SavingsAccountPendingCreditData> firstBatch = List.of(pendingCredit(1L), pendingCredit(2L));
+        given(savingsAccountPendingCreditService.retrievePendingCreditsForMerge(ACCOUNT_ID, MERGE_BATCH_SIZE)).willReturn(firstBatch,
+                List.of(pendingCredit(3L)));
+        given(account.deposit(any(), eq(SavingsAccountTransactionType.DEPOSIT), anyBoolean(), any(), any()))
+                .willAnswer(invocation -> mock(SavingsAccountTransaction.class));
+
+        List<SavingsAccountTransaction> deposits = underTest.handlePendingCredits(account, false);
+
+        assertThat(deposits).hasSize(2);
+        verify(savingsAccountPendingCreditService).removeMergedCredits(ACCOUNT_ID, firstBatch);
+        verify(savingsAccountRepository).saveAndFlush(account);
+    }
+
+    private static SavingsAccountPendingCreditData pendingCredit(final Long id) {
+        return SavingsAccountPendingCreditData.builder().id(id).savingsAccountId(ACCOUNT_ID).shardNo(0).transactionDate(BUSINESS_DATE)
+                .amount(new BigDecimal("100")).refNo("ref-" + id).build();
+    }
+}
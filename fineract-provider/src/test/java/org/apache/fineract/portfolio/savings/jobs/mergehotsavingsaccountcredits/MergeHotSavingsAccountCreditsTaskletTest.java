@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.mergehotsavingsaccountcredits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountPendingCreditService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@ExtendWith(MockitoExtension.class)
+class MergeHotSavingsAccountCreditsTaskletTest {
+
+    @Mock
+    private SavingsAccountPendingCreditService savingsAccountPendingCreditService;
+    @Mock
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    @Mock
+    private StepContribution stepContribution;
+    @Mock
+    private ChunkContext chunkContext;
+
+    private MergeHotSavingsAccountCreditsTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        underTest = new MergeHotSavingsAccountCreditsTasklet(savingsAccountPendingCreditService, savingsAccountWritePlatformService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testBatchesAreMergedUntilNoCreditsAreLeft() throws Exception {
+        given(savingsAccountPendingCreditService.retrieveAccountIdsWithPendingCredits()).willReturn(List.of(1L, 2L));
+        given(savingsAccountWritePlatformService.mergePendingCredits(1L)).willReturn(100, 20, 0);
+        given(savingsAccountWritePlatformService.mergePendingCredits(2L)).willReturn(3, 0);
+
+        RepeatStatus status = underTest.execute(stepContribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(savingsAccountWritePlatformService, times(3)).mergePendingCredits(1L);
+        verify(savingsAccountWritePlatformService, times(2)).mergePendingCredits(2L);
+        verify(stepContribution).incrementWriteCount(123);
+    }
+
+    @Test
+    public void testFailedAccountDoesNotStopOtherAccounts() {
+        given(savingsAccountPendingCreditService.retrieveAccountIdsWithPendingCredits()).willReturn(List.of(1L, 2L));
+        given(savingsAccountWritePlatformService.mergePendingCredits(1L)).willThrow(new IllegalStateException("locked"));
+        given(savingsAccountWritePlatformService.mergePendingCredits(2L)).willReturn(5, 0);
+
+        assertThatThrownBy(() -> underTest.execute(stepContribution, chunkContext)).isInstanceOf(JobExecutionException.class);
+
+        verify(savingsAccountWritePlatformService, times(2)).mergePendingCredits(2L);
+        verify(stepContribution).incrementWriteCount(5);
+    }
+}
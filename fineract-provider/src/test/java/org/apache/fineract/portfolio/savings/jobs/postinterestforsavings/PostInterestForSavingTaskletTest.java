@@ -0,0 +1,228 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPosterTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@Timeout(30)
+class PostInterestForSavingTaskletTest {
+
+    private static final Integer ACTIVE = SavingsAccountStatusType.ACTIVE.getValue();
+
+    @Mock
+    private SavingsAccountReadPlatformService savingAccountReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private StepContribution contribution;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChunkContext chunkContext;
+
+    private final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    private final StepExecution stepExecution = new StepExecution("postInterestForSavings", new JobExecution(1L));
+    private final List<List<Long>> postedBatches = Collections.synchronizedList(new ArrayList<>());
+    private PostInterestForSavingTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        taskExecutor.setCorePoolSize(2);
+        taskExecutor.setMaxPoolSize(2);
+        taskExecutor.initialize();
+        given(contribution.getStepExecution()).willReturn(stepExecution);
+        given(applicationContext.getBean(SavingsSchedularInterestPosterTask.class)).willAnswer(invocation -> posterTask(Set.of()));
+        underTest = new PostInterestForSavingTasklet(savingAccountReadPlatformService, configurationDomainService, applicationContext,
+                taskExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskExecutor.shutdown();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testPagesAreSplitIntoBatchesWithoutSplittingAnAccount() throws Exception {
+        givenJobParameters(2, 2);
+        // the data of an account may span several rows, e.g. one per transaction
+        givenPage(0L, 1L, 2L, 2L, 3L);
+        givenPage(3L, 4L, 5L);
+        givenPage(5L);
+
+        RepeatStatus status = underTest.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(postedBatches).containsExactlyInAnyOrder(List.of(1L, 2L, 2L), List.of(3L), List.of(4L, 5L));
+        // pages hold a batch for every poster and are read after the last id of the previous page
+        verify(savingAccountReadPlatformService).retrieveAllSavingsDataForInterestPosting(false, 4, ACTIVE, 0L);
+        verify(savingAccountReadPlatformService).retrieveAllSavingsDataForInterestPosting(false, 4, ACTIVE, 3L);
+        verify(savingAccountReadPlatformService).retrieveAllSavingsDataForInterestPosting(false, 4, ACTIVE, 5L);
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        assertThat(executionContext.getLong("readSavingsAccounts")).isEqualTo(6L);
+        assertThat(executionContext.getLong("postedSavingsAccounts")).isEqualTo(6L);
+        assertThat(executionContext.getLong("failedSavingsAccounts")).isZero();
+        assertThat(executionContext.getInt("failedBatches")).isZero();
+        assertThat(executionContext.getInt("maxQueuedBatches")).isBetween(0, 4);
+        assertThat(executionContext.containsKey("savingsAccountsPerSecond")).isTrue();
+        assertThat(executionContext.containsKey("elapsedMillis")).isTrue();
+        verify(contribution).incrementWriteCount(6L);
+    }
+
+    @Test
+    public void testPostersStopAtEndOfDataAndAreCappedAtExecutorSize() throws Exception {
+        // more posters are asked for than the executor runs, and there are fewer batches than posters
+        givenJobParameters(5, 10);
+        givenPage(0L, 1L);
+        givenPage(1L);
+
+        RepeatStatus status = underTest.execute(contribution, chunkContext);
+
+        // execute returns only after every poster has taken its end of data marker
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(postedBatches).containsExactly(List.of(1L));
+        verify(savingAccountReadPlatformService).retrieveAllSavingsDataForInterestPosting(false, 20, ACTIVE, 0L);
+    }
+
+    @Test
+    public void testFailedBatchesAreCountedAndPostingContinues() throws Exception {
+        givenJobParameters(2, 1);
+        givenPage(0L, 1L, 2L);
+        givenPage(2L, 3L, 4L);
+        givenPage(4L);
+        AtomicBoolean beanCreationFailed = new AtomicBoolean();
+        given(applicationContext.getBean(SavingsSchedularInterestPosterTask.class)).willAnswer(invocation -> {
+            // the first poster task can't even be created, the one of account 3 fails while posting
+            if (beanCreationFailed.compareAndSet(false, true)) {
+                throw new BeanCreationException("savingsSchedularInterestPosterTask", "creation failed");
+            }
+            return posterTask(Set.of(3L));
+        });
+
+        RepeatStatus status = underTest.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(postedBatches).hasSize(3);
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        assertThat(executionContext.getLong("readSavingsAccounts")).isEqualTo(4L);
+        assertThat(executionContext.getLong("postedSavingsAccounts")).isEqualTo(2L);
+        assertThat(executionContext.getLong("failedSavingsAccounts")).isEqualTo(2L);
+        assertThat(executionContext.getInt("failedBatches")).isEqualTo(2);
+        verify(contribution).incrementWriteCount(2L);
+    }
+
+    @Test
+    public void testReaderGivesUpWhenEveryPosterHasStopped() throws Exception {
+        givenJobParameters(1, 1);
+        given(savingAccountReadPlatformService.retrieveAllSavingsDataForInterestPosting(anyBoolean(), anyInt(), any(), anyLong()))
+                .willAnswer(invocation -> List.of(account(invocation.<Long>getArgument(3) + 1)));
+        SavingsSchedularInterestPosterTask dyingTask = mock(SavingsSchedularInterestPosterTask.class);
+        given(dyingTask.call()).willThrow(new AssertionError("poster died"));
+        given(applicationContext.getBean(SavingsSchedularInterestPosterTask.class)).willReturn(dyingTask);
+
+        assertThatThrownBy(() -> underTest.execute(contribution, chunkContext)).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Every savings interest poster has stopped");
+
+        assertThat(stepExecution.getExecutionContext().getLong("postedSavingsAccounts")).isZero();
+    }
+
+    private void givenJobParameters(final int threadPoolSize, final int batchSize) {
+        given(chunkContext.getStepContext().getJobParameters())
+                .willReturn(Map.of("thread-pool-size", String.valueOf(threadPoolSize), "batch-size", String.valueOf(batchSize)));
+    }
+
+    private void givenPage(final Long afterId, final Long... ids) {
+        List<SavingsAccountData> page = new ArrayList<>();
+        for (Long id : ids) {
+            page.add(account(id));
+        }
+        given(savingAccountReadPlatformService.retrieveAllSavingsDataForInterestPosting(eq(false), anyInt(), eq(ACTIVE), eq(afterId)))
+                .willReturn(page);
+    }
+
+    private SavingsSchedularInterestPosterTask posterTask(final Set<Long> failingIds) throws Exception {
+        SavingsSchedularInterestPosterTask task = mock(SavingsSchedularInterestPosterTask.class);
+        AtomicReference<List<Long>> batchIds = new AtomicReference<>();
+        willAnswer(invocation -> {
+            batchIds.set(invocation.<Collection<SavingsAccountData>>getArgument(0).stream().map(SavingsAccountData::getId).toList());
+            postedBatches.add(batchIds.get());
+            return null;
+        }).given(task).setSavingAccounts(anyCollection());
+        given(task.call()).willAnswer(invocation -> {
+            if (batchIds.get().stream().anyMatch(failingIds::contains)) {
+                throw new IllegalStateException("posting failed");
+            }
+            return null;
+        });
+        return task;
+    }
+
+    private static SavingsAccountData account(final Long id) {
+        return SavingsAccountData.lookup(id, "SA" + id, null);
+    }
+}
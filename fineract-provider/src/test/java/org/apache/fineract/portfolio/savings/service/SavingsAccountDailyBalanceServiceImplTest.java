@@ -0,0 +1,174 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountDailyBalanceData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsAccountDailyBalanceServiceImplTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final LocalDate DAY_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate DAY_2 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY_3 = LocalDate.of(2024, 1, 3);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private SavingsAccountDailyBalanceServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        given(sqlGenerator.limit(1)).willReturn("LIMIT 1");
+        underTest = new SavingsAccountDailyBalanceServiceImpl(jdbcTemplate, sqlGenerator);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void testBalanceIsBuiltFromTransactionsWithoutSnapshot() {
+        givenRows("FROM m_savings_account_daily_balance", List.of());
+        givenRows("FROM m_savings_account_transaction",
+                List.of(new Object[] { DAY_1, BigDecimal.valueOf(100) }, new Object[] { DAY_2, BigDecimal.valueOf(-30) }));
+
+        BigDecimal balance = underTest.retrieveEndOfDayBalance(ACCOUNT_ID, DAY_3);
+
+        assertThat(balance).isEqualByComparingTo("70");
+        List<Object[]> snapshots = captureStoredSnapshots();
+        assertThat(snapshots).hasSize(2);
+        assertThat(snapshots.get(0)).containsExactly(ACCOUNT_ID, DAY_1, BigDecimal.valueOf(100));
+        assertThat(snapshots.get(1)).containsExactly(ACCOUNT_ID, DAY_2, BigDecimal.valueOf(70));
+    }
+
+    @Test
+    public void testBalanceStartsFromNearestSnapshot() {
+        givenRows("FROM m_savings_account_daily_balance", List.<Object[]>of(new Object[] { DAY_1, BigDecimal.valueOf(500) }));
+        givenRows("FROM m_savings_account_transaction", List.<Object[]>of(new Object[] { DAY_3, BigDecimal.valueOf(25) }));
+
+        BigDecimal balance = underTest.retrieveEndOfDayBalance(ACCOUNT_ID, DAY_3);
+
+        assertThat(balance).isEqualByComparingTo("525");
+        verify(jdbcTemplate).query(contains("AND transaction_date > ?"), any(RowMapper.class), any(Object[].class));
+        List<Object[]> snapshots = captureStoredSnapshots();
+        assertThat(snapshots).hasSize(1);
+        assertThat(snapshots.get(0)).containsExactly(ACCOUNT_ID, DAY_3, BigDecimal.valueOf(525));
+    }
+
+    @Test
+    public void testSnapshotsAreNotStoredInReadOnlyTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        givenRows("FROM m_savings_account_daily_balance", List.of());
+        givenRows("FROM m_savings_account_transaction", List.<Object[]>of(new Object[] { DAY_1, BigDecimal.TEN }));
+
+        BigDecimal balance = underTest.retrieveEndOfDayBalance(ACCOUNT_ID, DAY_2);
+
+        assertThat(balance).isEqualByComparingTo("10");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void testInvalidationRemovesSnapshotsFromChangedDate() {
+        underTest.invalidateEndOfDayBalances(Map.of(ACCOUNT_ID, DAY_2));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("DELETE FROM m_savings_account_daily_balance"), params.capture());
+        assertThat(params.getValue()).hasSize(1);
+        assertThat(params.getValue().get(0)).containsExactly(ACCOUNT_ID, DAY_2);
+    }
+
+    @Test
+    public void testAmountOnHoldIsZeroWithoutHolds() {
+        given(jdbcTemplate.queryForObject(anyString(), eq(BigDecimal.class), any(Object[].class))).willReturn(null);
+
+        assertThat(underTest.retrieveAmountOnHold(ACCOUNT_ID, DAY_3)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    public void testLatestSnapshotsAreMappedByAccount() {
+        givenRows("MAX(l.balance_date)", List.<Object[]>of(new Object[] { DAY_2, new BigDecimal("40") }));
+
+        Map<Long, SavingsAccountDailyBalanceData> balances = underTest.retrieveLatestEndOfDayBalances(List.of(ACCOUNT_ID));
+
+        assertThat(balances).containsOnlyKeys(ACCOUNT_ID);
+        assertThat(balances.get(ACCOUNT_ID).getBalanceDate()).isEqualTo(DAY_2);
+        assertThat(balances.get(ACCOUNT_ID).getEndOfDayBalance()).isEqualByComparingTo("40");
+        assertThat(underTest.retrieveLatestEndOfDayBalances(List.of())).isEmpty();
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(final String from, final List<Object[]> rows) {
+        given(jdbcTemplate.query(contains(from), any(RowMapper.class), any(Object[].class))).willAnswer(invocation -> {
+            RowMapper<Object> rowMapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                ResultSet rs = mock(ResultSet.class);
+                given(rs.getLong(anyString())).willReturn(ACCOUNT_ID);
+                given(rs.getObject(anyString(), eq(LocalDate.class))).willReturn((LocalDate) rows.get(i)[0]);
+                given(rs.getBigDecimal(anyString())).willReturn((BigDecimal) rows.get(i)[1]);
+                result.add(rowMapper.mapRow(rs, i));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureStoredSnapshots() {
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO m_savings_account_daily_balance"), params.capture());
+        return params.getValue();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountPendingCreditData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsAccountPendingCreditServiceImplTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private SavingsAccountPendingCreditServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new SavingsAccountPendingCreditServiceImpl(jdbcTemplate, sqlGenerator);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergedCreditsAreRemovedFromTheirShardsInShardOrder() {
+        underTest.removeMergedCredits(ACCOUNT_ID, List.of(credit(10L, 3, "5"), credit(11L, 0, "7"), credit(12L, 3, "2.5")));
+
+        ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("DELETE FROM m_savings_account_pending_credit WHERE id = ?"), deletes.capture());
+        assertThat(deletes.getValue()).extracting(args -> args[0]).containsExactly(10L, 11L, 12L);
+
+        ArgumentCaptor<List<Object[]>> shardUpdates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE m_savings_account_balance_shard SET pending_amount = pending_amount + ?"
+                + " WHERE savings_account_id = ? AND shard_no = ?"), shardUpdates.capture());
+        assertThat(shardUpdates.getValue()).hasSize(2);
+        assertThat(shardUpdates.getValue().get(0)).containsExactly(new BigDecimal("-7"), ACCOUNT_ID, 0);
+        assertThat(shardUpdates.getValue().get(1)).containsExactly(new BigDecimal("-7.5"), ACCOUNT_ID, 3);
+    }
+
+    @Test
+    public void testNothingIsRemovedWithoutMergedCredits() {
+        underTest.removeMergedCredits(ACCOUNT_ID, List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testShardsAreCreatedEmpty() {
+        underTest.createShards(ACCOUNT_ID, 3);
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), inserts.capture());
+        assertThat(inserts.getValue()).extracting(args -> args[1]).containsExactly(0, 1, 2);
+        assertThat(inserts.getValue()).extracting(args -> args[2]).containsOnly(BigDecimal.ZERO);
+    }
+
+    private static SavingsAccountPendingCreditData credit(final Long id, final int shardNo, final String amount) {
+        return SavingsAccountPendingCreditData.builder().id(id).savingsAccountId(ACCOUNT_ID).shardNo(shardNo)
+                .transactionDate(LocalDate.of(2024, 1, 1)).amount(new BigDecimal(amount)).refNo("ref-" + id).build();
+    }
+}
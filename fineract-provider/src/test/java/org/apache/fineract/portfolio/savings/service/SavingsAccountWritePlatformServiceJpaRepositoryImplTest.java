@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.dataqueries.service.EntityDatatableChecksWritePlatformService;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.account.service.AccountAssociationsReadPlatformService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDataValidator;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountDomainService;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsAccountWritePlatformServiceJpaRepositoryImplTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private SavingsAccountRepositoryWrapper savingAccountRepositoryWrapper;
+    @Mock
+    private SavingsAccountAssembler savingAccountAssembler;
+    @Mock
+    private SavingsAccountTransactionDataValidator savingsAccountTransactionDataValidator;
+    @Mock
+    private SavingsAccountDomainService savingsAccountDomainService;
+    @Mock
+    private AccountAssociationsReadPlatformService accountAssociationsReadPlatformService;
+    @Mock
+    private EntityDatatableChecksWritePlatformService entityDatatableChecksWritePlatformService;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private SavingsAccountPendingCreditService savingsAccountPendingCreditService;
+
+    @InjectMocks
+    private SavingsAccountWritePlatformServiceJpaRepositoryImpl underTest;
+
+    @Test
+    public void testDisableHotAccountMergesAllPendingCreditsBeforeRemovingShards() {
+        SavingsAccount account = savingsAccount(true);
+        given(savingsAccountDomainService.handlePendingCredits(account, true))
+                .willReturn(List.of(mock(SavingsAccountTransaction.class)), List.of(mock(SavingsAccountTransaction.class)), List.of());
+
+        underTest.disableHotAccount(ACCOUNT_ID);
+
+        InOrder inOrder = inOrder(account, savingsAccountDomainService, savingAccountRepositoryWrapper,
+                savingsAccountPendingCreditService);
+        inOrder.verify(account).disableHotAccount();
+        inOrder.verify(savingsAccountDomainService, times(3)).handlePendingCredits(account, true);
+        inOrder.verify(savingAccountRepositoryWrapper).saveAndFlush(account);
+        inOrder.verify(savingsAccountPendingCreditService).removeShards(ACCOUNT_ID);
+    }
+
+    @Test
+    public void testCloseMergesAllPendingCreditsBeforeValidation() {
+        SavingsAccount account = savingsAccount(false);
+        given(savingsAccountDomainService.handlePendingCredits(account, false))
+                .willReturn(List.of(mock(SavingsAccountTransaction.class)), List.of());
+        JsonCommand command = closeCommand();
+
+        underTest.close(ACCOUNT_ID, command);
+
+        InOrder inOrder = inOrder(savingsAccountDomainService, savingsAccountTransactionDataValidator, account);
+        inOrder.verify(savingsAccountDomainService, times(2)).handlePendingCredits(account, false);
+        inOrder.verify(savingsAccountTransactionDataValidator).validateClosing(command, account);
+        inOrder.verify(account).close(any(), any());
+    }
+
+    @Test
+    public void testCloseDoesNotMergeForRegularAccount() {
+        SavingsAccount account = savingsAccount(false);
+        given(account.isHotAccount()).willReturn(false);
+
+        underTest.close(ACCOUNT_ID, closeCommand());
+
+        verify(savingsAccountDomainService, never()).handlePendingCredits(any(), anyBoolean());
+    }
+
+    private SavingsAccount savingsAccount(final boolean backdatedTxnsAllowedTill) {
+        SavingsAccount account = mock(SavingsAccount.class);
+        given(account.getId()).willReturn(ACCOUNT_ID);
+        given(account.isHotAccount()).willReturn(true);
+        given(account.disableHotAccount()).willReturn(Map.of());
+        given(account.close(any(), any())).willReturn(Map.of());
+        given(savingAccountAssembler.getPivotConfigStatus()).willReturn(backdatedTxnsAllowedTill);
+        given(savingAccountAssembler.assembleFrom(ACCOUNT_ID, backdatedTxnsAllowedTill)).willReturn(account);
+        return account;
+    }
+
+    private static JsonCommand closeCommand() {
+        JsonCommand command = mock(JsonCommand.class);
+        given(command.extractLocale()).willReturn(Locale.ENGLISH);
+        given(command.dateFormat()).willReturn("dd MMMM yyyy");
+        given(command.stringValueOfParameterNamed(anyString())).willReturn(null);
+        return command;
+    }
+}
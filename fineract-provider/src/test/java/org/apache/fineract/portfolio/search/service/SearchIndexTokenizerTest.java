@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTokenizerTest {
+
+    @Test
+    void tokenizeIndexesWholeValuesAndTheirWords() {
+        assertEquals(List.of("john a. smith", "john", "a.", "smith", "000000042"),
+                List.copyOf(SearchIndexTokenizer.tokenize(Arrays.asList(" John A. Smith ", "000000042", null, "  "))));
+    }
+
+    @Test
+    void wholeValuesLeaveOutTheSingleWords() {
+        assertEquals(List.of("john a. smith", "000000042"),
+                List.copyOf(SearchIndexTokenizer.wholeValues(Arrays.asList(" John A. Smith ", "000000042", null, "  "))));
+    }
+
+    @Test
+    void tokenizeTruncatesLongValues() {
+        final String token = SearchIndexTokenizer.tokenize(List.of("x".repeat(150))).iterator().next();
+        assertEquals(SearchIndexTokenizer.MAX_TOKEN_LENGTH, token.length());
+    }
+
+    @Test
+    void prefixPatternEscapesLikeWildcards() {
+        assertEquals("50\\%\\_off%", SearchIndexTokenizer.prefixPattern(" 50%_OFF"));
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientIdentifierBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.apache.fineract.portfolio.client.domain.ClientIdentifier;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchIndexWritePlatformServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private SearchIndexWritePlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractSearchIndexProperties indexProperties = new FineractProperties.FineractSearchIndexProperties();
+        indexProperties.setEnabled(true);
+        indexProperties.setRebuildBatchSize(2);
+        FineractProperties.FineractSearchProperties searchProperties = new FineractProperties.FineractSearchProperties();
+        searchProperties.setIndex(indexProperties);
+        fineractProperties.setSearch(searchProperties);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(sqlGenerator.limit(2)).willReturn("LIMIT 2");
+        underTest = new SearchIndexWritePlatformServiceImpl(jdbcTemplate, namedParameterJdbcTemplate, sqlGenerator, transactionManager,
+                businessEventNotifierService, fineractProperties);
+    }
+
+    @Test
+    public void testListenersAreNotRegisteredWhenIndexIsDisabled() {
+        fineractProperties.getSearch().getIndex().setEnabled(false);
+
+        underTest.addListeners();
+
+        verifyNoInteractions(businessEventNotifierService);
+    }
+
+    @Test
+    public void testClientUpdatesAreReindexed() {
+        givenEntities(List.of(new String[] { "000000001", "John Smith", "EXT-1", "555" }));
+        Client client = mock(Client.class);
+        given(client.getId()).willReturn(1L);
+
+        listener(ClientBusinessEvent.class).onBusinessEvent(new ClientUpdateBusinessEvent(client));
+
+        verify(namedParameterJdbcTemplate).query(contains("from m_client e where e.id in (:ids)"), any(SqlParameterSource.class),
+                any(RowMapper.class));
+        verifyTokensReplaced(SearchIndexEntityType.CLIENT, 1L);
+    }
+
+    @Test
+    public void testGroupUpdatesAreReindexed() {
+        givenEntities(List.of());
+
+        listener(GroupsBusinessEvent.class)
+                .onBusinessEvent(new GroupsUpdateBusinessEvent(new CommandProcessingResultBuilder().withEntityId(7L).build()));
+
+        verify(namedParameterJdbcTemplate).query(contains("from m_group e where e.id in (:ids)"), any(SqlParameterSource.class),
+                any(RowMapper.class));
+        verifyTokensReplaced(SearchIndexEntityType.GROUP, 7L);
+    }
+
+    @Test
+    public void testClientIdentifierChangesAreReindexed() {
+        givenEntities(List.of());
+        ClientIdentifier identifier = mock(ClientIdentifier.class);
+        given(identifier.getId()).willReturn(3L);
+
+        listener(ClientIdentifierBusinessEvent.class).onBusinessEvent(new ClientIdentifierBusinessEvent(identifier));
+
+        // a deleted identifier is no longer found, so only its tokens are removed
+        verifyTokensReplaced(SearchIndexEntityType.CLIENTIDENTIFIER, 3L);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void testOnlyWholeValuesAreFlaggedForExactMatch() {
+        givenEntities(List.of(new String[] { "000000001", "John Smith", null, null }));
+
+        underTest.reindex(SearchIndexEntityType.CLIENT, List.of(1L));
+
+        List<Object[]> params = captureInsertedTokens();
+        assertThat(params).extracting(row -> row[2] + "=" + row[3]).containsExactly("000000001=true", "john smith=true", "john=false",
+                "smith=false");
+        assertThat(params).allSatisfy(row -> assertThat(row).startsWith(SearchIndexEntityType.CLIENT.name(), 1L));
+    }
+
+    @Test
+    public void testRebuildWalksEveryEntityTypeInKeysetBatches() {
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).willAnswer(invocation -> List.of());
+        given(jdbcTemplate.query(contains("from m_client e where e.id > ?"), any(RowMapper.class), eq(0L)))
+                .willAnswer(invocation -> mapRows(invocation.getArgument(1), List.of(new String[] { "1", "Ann", null, null },
+                        new String[] { "2", "Bob", null, null })));
+
+        underTest.rebuild();
+
+        verify(jdbcTemplate).query(contains("from m_client e where e.id > ? order by e.id LIMIT 2"), any(RowMapper.class), eq(2L));
+        verify(jdbcTemplate).update(contains("delete from m_search_index"), eq(SearchIndexEntityType.CLIENT.name()), eq(0L), eq(2L));
+        verify(jdbcTemplate).update(contains("delete from m_search_index"), eq(SearchIndexEntityType.CLIENT.name()), eq(2L),
+                eq(Long.MAX_VALUE));
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            verify(jdbcTemplate).query(contains("from " + entityType.getTableName() + " e where e.id > ?"), any(RowMapper.class),
+                    eq(0L));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends BusinessEvent<?>> BusinessEventListener<T> listener(final Class<T> eventType) {
+        underTest.addListeners();
+        ArgumentCaptor<BusinessEventListener<T>> listener = ArgumentCaptor.forClass(BusinessEventListener.class);
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(eventType), listener.capture());
+        return listener.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenEntities(final List<String[]> rows) {
+        given(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .willAnswer(invocation -> {
+                    List<String[]> rowsWithId = new ArrayList<>();
+                    for (String[] row : rows) {
+                        String[] rowWithId = new String[row.length + 1];
+                        rowWithId[0] = "1";
+                        System.arraycopy(row, 0, rowWithId, 1, row.length);
+                        rowsWithId.add(rowWithId);
+                    }
+                    return mapRows(invocation.getArgument(2), rowsWithId);
+                });
+    }
+
+    private static List<Object> mapRows(final RowMapper<?> rowMapper, final List<String[]> rows) throws Exception {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            ResultSet rs = mock(ResultSet.class);
+            given(rs.getLong(1)).willReturn(Long.valueOf(row[0]));
+            for (int column = 1; column < row.length; column++) {
+                given(rs.getString(column + 1)).willReturn(row[column]);
+            }
+            result.add(rowMapper.mapRow(rs, i));
+        }
+        return result;
+    }
+
+    private void verifyTokensReplaced(final SearchIndexEntityType entityType, final Long entityId) {
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).update(contains("delete from m_search_index"), params.capture());
+        assertThat(params.getValue().getValue("entityType")).isEqualTo(entityType.name());
+        assertThat(params.getValue().getValue("ids")).isEqualTo(Set.of(entityId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureInsertedTokens() {
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("insert into m_search_index (entity_type, entity_id, token, whole_value) values (?, ?, ?, ?)"),
+                params.capture());
+        return params.getValue();
+    }
+}
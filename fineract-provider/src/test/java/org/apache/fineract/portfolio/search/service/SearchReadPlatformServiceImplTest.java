@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchReadPlatformServiceImplTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private LoanProductReadPlatformService loanProductReadPlatformService;
+    @Mock
+    private OfficeReadPlatformService officeReadPlatformService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private AppUser appUser;
+    @Mock
+    private Office office;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private SearchReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractSearchIndexProperties indexProperties = new FineractProperties.FineractSearchIndexProperties();
+        indexProperties.setEnabled(true);
+        FineractProperties.FineractSearchProperties searchProperties = new FineractProperties.FineractSearchProperties();
+        searchProperties.setIndex(indexProperties);
+        fineractProperties.setSearch(searchProperties);
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(appUser.getOffice()).willReturn(office);
+        given(office.getHierarchy()).willReturn(".");
+        given(sqlGenerator.limit(anyInt(), anyInt())).willReturn("LIMIT 50");
+        underTest = new SearchReadPlatformServiceImpl(namedParameterJdbcTemplate, context, loanProductReadPlatformService,
+                officeReadPlatformService, sqlGenerator, fineractProperties);
+    }
+
+    @Test
+    public void testExactMatchOnlyComparesWholeValues() {
+        underTest.retriveMatchingData(new SearchConditions(" John Smith ", "clients", true));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertThat(sql.getValue()).contains("c.id in (select si.entity_id from m_search_index si where si.entity_type = 'CLIENT'"
+                + " and si.token = :search and si.whole_value = true)");
+        assertThat(sql.getValue()).doesNotContain("m_loan", "m_group");
+        assertThat(params.getValue().getValue("search")).isEqualTo("john smith");
+    }
+
+    @Test
+    public void testPrefixSearchMatchesEveryToken() {
+        underTest.retriveMatchingData(new SearchConditions("Smi", null, false));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertThat(sql.getValue()).contains("si.entity_type = 'CLIENT' and si.token like :search)",
+                "si.entity_type = 'LOAN' and si.token like :search)", "si.entity_type = 'CLIENTIDENTIFIER' and si.token like :search)",
+                "si.entity_type = 'GROUP' and si.token like :search)");
+        assertThat(sql.getValue()).doesNotContain("whole_value");
+        assertThat(params.getValue().getValue("search")).isEqualTo("smi%");
+        assertThat(params.getValue().getValue("hierarchy")).isEqualTo(".%");
+    }
+
+    @Test
+    public void testSearchWithoutIndexKeepsColumnMatching() {
+        fineractProperties.getSearch().getIndex().setEnabled(false);
+
+        underTest.retriveMatchingData(new SearchConditions("John", "clients", true));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(namedParameterJdbcTemplate).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertThat(sql.getValue()).contains("c.display_name like :search").doesNotContain("m_search_index");
+    }
+}
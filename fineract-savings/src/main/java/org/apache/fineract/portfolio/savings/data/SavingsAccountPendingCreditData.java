@@ -0,0 +1,48 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Credit of a hot savings account which was accepted but not yet merged into the account as a transaction.
+ */
+@Getter
+@Builder
+public final class SavingsAccountPendingCreditData {
+
+    private final Long id;
+
+    private final Long savingsAccountId;
+
+    private final Integer shardNo;
+
+    private final LocalDate transactionDate;
+
+    private final BigDecimal amount;
+
+    private final Long paymentDetailId;
+
+    private final String refNo;
+
+    private final String note;
+}
@@ -296,6 +296,9 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
     @Column(name = "max_allowed_lien_limit", scale = 6, precision = 19, nullable = true)
     private BigDecimal maxAllowedLienLimit;
 
+    @Column(name = "hot_account_shards", nullable = false)
+    private int hotAccountShards;
+
     @Column(name = "on_hold_funds_derived", scale = 6, precision = 19, nullable = true)
     private BigDecimal onHoldFunds;
 
@@ -323,6 +326,8 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
     protected SavingsHelper savingsHelper;
     @Transient
     protected List<SavingsAccountTransaction> savingsAccountTransactions = new ArrayList<>();
+    @Transient
+    protected LocalDate earliestChangedTransactionDate;
 
     @Column(name = "deposit_type_enum", insertable = false, updatable = false)
     private Integer depositType;
@@ -999,8 +1004,18 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
             accountTransactionsSorted = retrieveListOfTransactions();
         }
 
+        List<SavingsAccountTransaction> replayedTransactions = accountTransactionsSorted;
+        if (!backdatedTxnsAllowedTill) {
+            final List<SavingsAccountTransaction> transactionsAfterSnapshot = retrieveTransactionsAfterBalanceSnapshot(
+                    accountTransactionsSorted);
+            if (transactionsAfterSnapshot != null) {
+                runningBalance = Money.of(this.currency, this.summary.getBalanceOnSnapshotDate());
+                replayedTransactions = transactionsAfterSnapshot;
+            }
+        }
+
         boolean isTransactionsModified = false;
-        for (final SavingsAccountTransaction transaction : accountTransactionsSorted) {
+        for (final SavingsAccountTransaction transaction : replayedTransactions) {
             if (transaction.isReversed() || transaction.isReversalTransaction()) {
                 transaction.zeroBalanceFields();
             } else {
@@ -1105,9 +1120,11 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
                 relaxingDaysConfigForPivotDate, refNo);
     }
 
-    public SavingsAccountTransaction deposit(final SavingsAccountTransactionDTO transactionDTO,
-            final SavingsAccountTransactionType savingsAccountTransactionType, final boolean backdatedTxnsAllowedTill,
-            final Long relaxingDaysConfigForPivotDate, final String refNo) {
+    /**
+     * Validates a deposit without adding it to the account, also used for the pending credits of hot accounts.
+     */
+    public void validateDeposit(final SavingsAccountTransactionDTO transactionDTO, final boolean backdatedTxnsAllowedTill,
+            final Long relaxingDaysConfigForPivotDate) {
         final String resourceTypeName = depositAccountType().resourceName();
         if (isNotActive()) {
             final String defaultUserMessage = "Transaction is not allowed. Account is not active.";
@@ -1149,6 +1166,12 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
                 resourceTypeName);
 
         validateActivityNotBeforeClientOrGroupTransferDate(SavingsEvent.SAVINGS_DEPOSIT, transactionDTO.getTransactionDate());
+    }
+
+    public SavingsAccountTransaction deposit(final SavingsAccountTransactionDTO transactionDTO,
+            final SavingsAccountTransactionType savingsAccountTransactionType, final boolean backdatedTxnsAllowedTill,
+            final Long relaxingDaysConfigForPivotDate, final String refNo) {
+        validateDeposit(transactionDTO, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate);
 
         final Money amount = Money.of(this.currency, transactionDTO.getTransactionAmount());
 
@@ -1452,6 +1475,13 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
         Money runningBalance = Money.zero(this.currency);
         if (backdatedTxnsAllowedTill) {
             runningBalance = Money.of(this.currency, this.summary.getRunningBalanceOnPivotDate());
+        } else {
+            final List<SavingsAccountTransaction> transactionsAfterSnapshot = retrieveTransactionsAfterBalanceSnapshot(
+                    transactionsSortedByDate);
+            if (transactionsAfterSnapshot != null) {
+                runningBalance = balanceOnSnapshotDateWithoutHolds();
+                transactionsSortedByDate = transactionsAfterSnapshot;
+            }
         }
 
         Money minRequiredBalance = minRequiredBalanceDerived(getCurrency());
@@ -1534,6 +1564,13 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
 
         if (backdatedTxnsAllowedTill) {
             runningBalance = Money.of(this.currency, this.summary.getRunningBalanceOnPivotDate());
+        } else {
+            final List<SavingsAccountTransaction> transactionsAfterSnapshot = retrieveTransactionsAfterBalanceSnapshot(
+                    transactionsSortedByDate);
+            if (transactionsAfterSnapshot != null) {
+                runningBalance = balanceOnSnapshotDateWithoutHolds();
+                transactionsSortedByDate = transactionsAfterSnapshot;
+            }
         }
 
         Money minRequiredBalance = minRequiredBalanceDerived(getCurrency());
@@ -2893,6 +2930,50 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
 
     public void addTransaction(final SavingsAccountTransaction transaction) {
         this.transactions.add(transaction);
+        transactionChanged(transaction.getTransactionDate());
+    }
+
+    /**
+     * Records that a transaction of the given date was added or reversed, the end of day balance snapshot can't be used
+     * anymore if it is not after that date.
+     */
+    void transactionChanged(final LocalDate transactionDate) {
+        if (this.earliestChangedTransactionDate == null || DateUtils.isBefore(transactionDate, this.earliestChangedTransactionDate)) {
+            this.earliestChangedTransactionDate = transactionDate;
+        }
+    }
+
+    /**
+     * Returns the transactions after the end of day balance snapshot if the balances can be replayed from it: none of the
+     * transactions up to the snapshot date was added or reversed since the account was loaded, and the running balance of
+     * the last of them matches the snapshot. Returns null if the balances have to be replayed from the first transaction.
+     */
+    protected List<SavingsAccountTransaction> retrieveTransactionsAfterBalanceSnapshot(
+            final List<SavingsAccountTransaction> transactionsSorted) {
+        final LocalDate snapshotDate = this.summary.getBalanceSnapshotDate();
+        if (snapshotDate == null || (this.earliestChangedTransactionDate != null
+                && !DateUtils.isAfter(this.earliestChangedTransactionDate, snapshotDate))) {
+            return null;
+        }
+        int fromIndex = 0;
+        BigDecimal runningBalanceOnSnapshotDate = BigDecimal.ZERO;
+        while (fromIndex < transactionsSorted.size()
+                && !DateUtils.isAfter(transactionsSorted.get(fromIndex).getTransactionDate(), snapshotDate)) {
+            final SavingsAccountTransaction transaction = transactionsSorted.get(fromIndex);
+            if (transaction.isNotReversed() && !transaction.isReversalTransaction()) {
+                runningBalanceOnSnapshotDate = transaction.getRunningBalance();
+            }
+            fromIndex++;
+        }
+        if (runningBalanceOnSnapshotDate == null || runningBalanceOnSnapshotDate.compareTo(this.summary.getBalanceOnSnapshotDate()) != 0) {
+            return null;
+        }
+        return transactionsSorted.subList(fromIndex, transactionsSorted.size());
+    }
+
+    private Money balanceOnSnapshotDateWithoutHolds() {
+        // the end of day balance includes the amounts on hold, the balance checks subtract them at the end
+        return Money.of(this.currency, this.summary.getBalanceOnSnapshotDate()).plus(this.summary.getAmountOnHoldOnSnapshotDate());
     }
 
     public void addTransactionToExisting(final SavingsAccountTransaction transaction) {
@@ -3215,7 +3296,7 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
             this.summary.updateSummaryWithPivotConfig(this.currency, this.savingsAccountTransactionSummaryWrapper, transaction,
                     this.savingsAccountTransactions);
         } else {
-            this.transactions.add(transaction);
+            addTransaction(transaction);
         }
     }
 
@@ -3496,7 +3577,7 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
         LocalDate transactionDate = DateUtils.getBusinessLocalDate();
         if (this.getSummary().getAccountBalance(this.getCurrency()).isGreaterThanZero()) {
             SavingsAccountTransaction transaction = SavingsAccountTransaction.escheat(this, transactionDate, postInterestAsOnDate);
-            this.transactions.add(transaction);
+            addTransaction(transaction);
         }
         recalculateDailyBalances(Money.zero(this.currency), transactionDate, false, postReversals);
         this.summary.updateSummary(this.currency, this.savingsAccountTransactionSummaryWrapper, this.transactions);
@@ -3636,6 +3717,58 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
         return actualChanges;
     }
 
+    public Map<String, Object> enableHotAccount(final int shards) {
+        final Map<String, Object> actualChanges = new LinkedHashMap<>();
+
+        final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
+        final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
+                .resource(depositAccountType().resourceName() + SavingsApiConstants.enableHotAccountAction);
+
+        if (isNotActive()) {
+            baseDataValidator.reset().failWithCodeNoParameterAddedToErrorCode(SavingsApiConstants.ERROR_MSG_SAVINGS_ACCOUNT_NOT_ACTIVE);
+        }
+        if (isHotAccount()) {
+            baseDataValidator.reset().parameter(SavingsApiConstants.hotAccountShardsParamName)
+                    .failWithCodeNoParameterAddedToErrorCode("hot.account.already.enabled");
+        }
+        if (this.gsim != null) {
+            baseDataValidator.reset().failWithCodeNoParameterAddedToErrorCode("hot.account.not.supported.for.gsim");
+        }
+        if (!dataValidationErrors.isEmpty()) {
+            throw new PlatformApiDataValidationException(dataValidationErrors);
+        }
+        this.hotAccountShards = shards;
+        actualChanges.put(SavingsApiConstants.hotAccountShardsParamName, shards);
+        return actualChanges;
+    }
+
+    public Map<String, Object> disableHotAccount() {
+        final Map<String, Object> actualChanges = new LinkedHashMap<>();
+
+        final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
+        final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
+                .resource(depositAccountType().resourceName() + SavingsApiConstants.disableHotAccountAction);
+
+        if (!isHotAccount()) {
+            baseDataValidator.reset().parameter(SavingsApiConstants.hotAccountShardsParamName)
+                    .failWithCodeNoParameterAddedToErrorCode("hot.account.not.enabled");
+        }
+        if (!dataValidationErrors.isEmpty()) {
+            throw new PlatformApiDataValidationException(dataValidationErrors);
+        }
+        this.hotAccountShards = 0;
+        actualChanges.put(SavingsApiConstants.hotAccountShardsParamName, 0);
+        return actualChanges;
+    }
+
+    public boolean isHotAccount() {
+        return this.hotAccountShards > 0;
+    }
+
+    public int getHotAccountShards() {
+        return this.hotAccountShards;
+    }
+
     public Map<String, Object> blockDebits(Integer currentSubstatus) {
 
         final Map<String, Object> actualChanges = new LinkedHashMap<>();
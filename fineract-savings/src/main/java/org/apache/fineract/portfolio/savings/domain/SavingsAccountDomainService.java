@@ -46,4 +46,6 @@ public interface SavingsAccountDomainService {
             boolean backdatedTxnsAllowedTill);
 
     SavingsAccountTransaction handleHold(SavingsAccount account, BigDecimal amount, LocalDate transactionDate, Boolean lienAllowed);
+
+    List<SavingsAccountTransaction> handlePendingCredits(SavingsAccount account, boolean backdatedTxnsAllowedTill);
 }
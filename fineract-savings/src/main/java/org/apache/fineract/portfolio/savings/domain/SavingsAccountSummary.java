@@ -86,6 +86,16 @@ public final class SavingsAccountSummary {
     @Transient
     private BigDecimal runningBalanceOnInterestPostingTillDate = BigDecimal.ZERO;
 
+    // end of day balance snapshot the balances are replayed from when backdated transactions are not limited
+    @Transient
+    private LocalDate balanceSnapshotDate;
+
+    @Transient
+    private BigDecimal balanceOnSnapshotDate;
+
+    @Transient
+    private BigDecimal amountOnHoldOnSnapshotDate;
+
     SavingsAccountSummary() {
         //
     }
@@ -303,6 +313,25 @@ public final class SavingsAccountSummary {
         return this.runningBalanceOnInterestPostingTillDate;
     }
 
+    public void setBalanceSnapshot(final LocalDate balanceSnapshotDate, final BigDecimal balanceOnSnapshotDate,
+            final BigDecimal amountOnHoldOnSnapshotDate) {
+        this.balanceSnapshotDate = balanceSnapshotDate;
+        this.balanceOnSnapshotDate = balanceOnSnapshotDate;
+        this.amountOnHoldOnSnapshotDate = amountOnHoldOnSnapshotDate;
+    }
+
+    public LocalDate getBalanceSnapshotDate() {
+        return this.balanceSnapshotDate;
+    }
+
+    public BigDecimal getBalanceOnSnapshotDate() {
+        return this.balanceOnSnapshotDate;
+    }
+
+    public BigDecimal getAmountOnHoldOnSnapshotDate() {
+        return this.amountOnHoldOnSnapshotDate;
+    }
+
     public BigDecimal getTotalWithdrawals() {
         return this.totalWithdrawals;
     }
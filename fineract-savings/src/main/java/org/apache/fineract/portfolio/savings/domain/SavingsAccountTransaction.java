@@ -373,6 +373,9 @@ public final class SavingsAccountTransaction extends AbstractAuditableWithUTCDat
 
     public void reverse() {
         this.reversed = true;
+        if (this.savingsAccount != null) {
+            this.savingsAccount.transactionChanged(this.dateOf);
+        }
     }
 
     public BigDecimal getAmount() {
@@ -34,4 +34,10 @@ public interface SavingsAccountChargeReadPlatformService {
     Collection<SavingsAccountAnnualFeeData> retrieveChargesWithAnnualFeeDue();
 
     Collection<SavingsAccountAnnualFeeData> retrieveChargesWithDue();
+
+    /**
+     * Same as {@link #retrieveChargesWithDue()}, limited to the savings accounts with an id between the given ids (both
+     * inclusive). A null id means no limit.
+     */
+    Collection<SavingsAccountAnnualFeeData> retrieveChargesWithDue(Long fromAccountId, Long toAccountId);
 }
@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountDailyBalanceData;
+
+/**
+ * End of day balances of savings accounts, kept in m_savings_account_daily_balance so the balance of an account at a
+ * date can be derived from the nearest snapshot instead of replaying all of its transactions.
+ *
+ * The balance is the running balance of the account: holds and releases are included, escheats are not. Snapshots are
+ * built when balances are retrieved and removed as soon as a transaction on or before their date is created, changed or
+ * reversed, so every snapshot present is correct.
+ */
+public interface SavingsAccountDailyBalanceService {
+
+    /**
+     * Returns the balance of the account at the end of the given date and, within a read-write transaction, stores the
+     * end of day balances computed on the way.
+     */
+    BigDecimal retrieveEndOfDayBalance(Long savingsAccountId, LocalDate balanceDate);
+
+    /**
+     * Returns the amount on hold at the end of the given date, which is included in the end of day balance.
+     */
+    BigDecimal retrieveAmountOnHold(Long savingsAccountId, LocalDate balanceDate);
+
+    /**
+     * Returns the latest stored snapshot of each account that has one, without building new ones.
+     */
+    Map<Long, SavingsAccountDailyBalanceData> retrieveLatestEndOfDayBalances(Collection<Long> savingsAccountIds);
+
+    /**
+     * Removes the snapshots of the accounts from the given dates on, for transactions written without JPA.
+     */
+    void invalidateEndOfDayBalances(Map<Long, LocalDate> fromDateBySavingsAccountId);
+}
@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.savings.SavingsAccountTransactionType;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountDailyBalanceData;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+public class SavingsAccountDailyBalanceServiceImpl implements SavingsAccountDailyBalanceService {
+
+    private static final String CREDIT_TYPES = transactionTypes(SavingsAccountTransactionType::isCreditEntryType);
+    private static final String DEBIT_TYPES = transactionTypes(t -> t.isDebitEntryType() && !t.isEscheat());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    @Override
+    public BigDecimal retrieveEndOfDayBalance(final Long savingsAccountId, final LocalDate balanceDate) {
+        final List<DailyBalance> snapshots = jdbcTemplate.query(
+                "SELECT balance_date, end_of_day_balance FROM m_savings_account_daily_balance"
+                        + " WHERE savings_account_id = ? AND balance_date <= ? ORDER BY balance_date DESC " + sqlGenerator.limit(1),
+                (rs, rowNum) -> new DailyBalance(rs.getObject("balance_date", LocalDate.class), rs.getBigDecimal("end_of_day_balance")),
+                savingsAccountId, balanceDate);
+        final DailyBalance snapshot = snapshots.isEmpty() ? null : snapshots.get(0);
+
+        final List<Object> params = new ArrayList<>(List.of(savingsAccountId, false, false, balanceDate));
+        String sql = "SELECT transaction_date, SUM(CASE WHEN transaction_type_enum IN (" + CREDIT_TYPES
+                + ") THEN amount ELSE -amount END) AS movement FROM m_savings_account_transaction"
+                + " WHERE savings_account_id = ? AND is_reversed = ? AND is_reversal = ? AND transaction_date <= ?"
+                + " AND transaction_type_enum IN (" + CREDIT_TYPES + ", " + DEBIT_TYPES + ")";
+        if (snapshot != null) {
+            sql += " AND transaction_date > ?";
+            params.add(snapshot.date);
+        }
+        sql += " GROUP BY transaction_date ORDER BY transaction_date";
+        final List<DailyBalance> movements = jdbcTemplate.query(sql,
+                (rs, rowNum) -> new DailyBalance(rs.getObject("transaction_date", LocalDate.class), rs.getBigDecimal("movement")),
+                params.toArray());
+
+        BigDecimal balance = snapshot == null ? BigDecimal.ZERO : snapshot.balance;
+        final List<Object[]> endOfDayBalances = new ArrayList<>(movements.size());
+        for (DailyBalance movement : movements) {
+            balance = balance.add(movement.balance);
+            endOfDayBalances.add(new Object[] { savingsAccountId, movement.date, balance });
+        }
+        if (!endOfDayBalances.isEmpty() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            storeEndOfDayBalances(savingsAccountId, snapshot == null ? null : snapshot.date, balanceDate, endOfDayBalances);
+        }
+        return balance;
+    }
+
+    @Override
+    public BigDecimal retrieveAmountOnHold(final Long savingsAccountId, final LocalDate balanceDate) {
+        final BigDecimal amountOnHold = jdbcTemplate.queryForObject(
+                "SELECT SUM(CASE WHEN transaction_type_enum = ? THEN amount ELSE -amount END) FROM m_savings_account_transaction"
+                        + " WHERE savings_account_id = ? AND is_reversed = ? AND is_reversal = ? AND transaction_date <= ?"
+                        + " AND transaction_type_enum IN (?, ?)",
+                BigDecimal.class, SavingsAccountTransactionType.AMOUNT_HOLD.getValue(), savingsAccountId, false, false, balanceDate,
+                SavingsAccountTransactionType.AMOUNT_HOLD.getValue(), SavingsAccountTransactionType.AMOUNT_RELEASE.getValue());
+        return amountOnHold == null ? BigDecimal.ZERO : amountOnHold;
+    }
+
+    @Override
+    public Map<Long, SavingsAccountDailyBalanceData> retrieveLatestEndOfDayBalances(final Collection<Long> savingsAccountIds) {
+        if (savingsAccountIds.isEmpty()) {
+            return Map.of();
+        }
+        final String inSql = String.join(", ", Collections.nCopies(savingsAccountIds.size(), "?"));
+        return jdbcTemplate.query(
+                "SELECT d.savings_account_id, d.balance_date, d.end_of_day_balance FROM m_savings_account_daily_balance d"
+                        + " WHERE d.savings_account_id IN (" + inSql + ") AND d.balance_date = (SELECT MAX(l.balance_date)"
+                        + " FROM m_savings_account_daily_balance l WHERE l.savings_account_id = d.savings_account_id)",
+                (rs, rowNum) -> new SavingsAccountDailyBalanceData(rs.getLong("savings_account_id"),
+                        rs.getObject("balance_date", LocalDate.class), rs.getBigDecimal("end_of_day_balance")),
+                savingsAccountIds.toArray()).stream()
+                .collect(Collectors.toMap(SavingsAccountDailyBalanceData::getSavingsAccountId, balance -> balance));
+    }
+
+    @Override
+    public void invalidateEndOfDayBalances(final Map<Long, LocalDate> fromDateBySavingsAccountId) {
+        if (fromDateBySavingsAccountId.isEmpty()) {
+            return;
+        }
+        final List<Object[]> params = fromDateBySavingsAccountId.entrySet().stream()
+                .map(e -> new Object[] { e.getKey(), e.getValue() }).toList();
+        jdbcTemplate.batchUpdate("DELETE FROM m_savings_account_daily_balance WHERE savings_account_id = ? AND balance_date >= ?", params);
+    }
+
+    private void storeEndOfDayBalances(final Long savingsAccountId, final LocalDate fromDate, final LocalDate toDate,
+            final List<Object[]> endOfDayBalances) {
+        // the account row serializes the writers, a concurrent one may have stored the same days meanwhile
+        jdbcTemplate.queryForList("SELECT id FROM m_savings_account WHERE id = ? FOR UPDATE", Long.class, savingsAccountId);
+        if (fromDate == null) {
+            jdbcTemplate.update("DELETE FROM m_savings_account_daily_balance WHERE savings_account_id = ? AND balance_date <= ?",
+                    savingsAccountId, toDate);
+        } else {
+            jdbcTemplate.update(
+                    "DELETE FROM m_savings_account_daily_balance WHERE savings_account_id = ? AND balance_date > ? AND balance_date <= ?",
+                    savingsAccountId, fromDate, toDate);
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO m_savings_account_daily_balance (savings_account_id, balance_date, end_of_day_balance) VALUES (?, ?, ?)",
+                endOfDayBalances);
+    }
+
+    private static String transactionTypes(final Predicate<SavingsAccountTransactionType> filter) {
+        return Arrays.stream(SavingsAccountTransactionType.values()).filter(filter).map(t -> String.valueOf(t.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static final class DailyBalance {
+
+        private final LocalDate date;
+        private final BigDecimal balance;
+
+        private DailyBalance(final LocalDate date, final BigDecimal balance) {
+            this.date = date;
+            this.balance = balance;
+        }
+    }
+}
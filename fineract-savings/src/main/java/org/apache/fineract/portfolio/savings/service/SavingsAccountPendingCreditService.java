@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountPendingCreditData;
+
+/**
+ * Pending credits of hot savings accounts.
+ *
+ * A credit to a hot account is stored as a pending credit row and added to one of the balance shards of the account,
+ * picked at random, instead of updating the account itself. Concurrent credits therefore only contend on the shard
+ * rows. Pending credits are merged into the account as regular transactions later, under the lock of the account.
+ */
+public interface SavingsAccountPendingCreditService {
+
+    /**
+     * Stores the credit and adds it to a random balance shard of the account, returns the id of the pending credit.
+     */
+    Long recordPendingCredit(SavingsAccountPendingCreditData credit, int shards, Long createdBy);
+
+    /**
+     * Returns the oldest pending credits of the account and locks them until the end of the transaction.
+     */
+    List<SavingsAccountPendingCreditData> retrievePendingCreditsForMerge(Long savingsAccountId, int limit);
+
+    /**
+     * Removes merged credits and subtracts them from their balance shards.
+     */
+    void removeMergedCredits(Long savingsAccountId, List<SavingsAccountPendingCreditData> credits);
+
+    /**
+     * Returns the sum of the pending balance shards of the account, or null if the account has no shards because it is
+     * not a hot account.
+     */
+    BigDecimal retrievePendingCreditAmount(Long savingsAccountId);
+
+    List<Long> retrieveAccountIdsWithPendingCredits();
+
+    void createShards(Long savingsAccountId, int shards);
+
+    void removeShards(Long savingsAccountId);
+}
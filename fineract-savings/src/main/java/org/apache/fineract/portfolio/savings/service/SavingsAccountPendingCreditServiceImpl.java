@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountPendingCreditData;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+@RequiredArgsConstructor
+public class SavingsAccountPendingCreditServiceImpl implements SavingsAccountPendingCreditService {
+
+    private static final String INSERT_SQL = "INSERT INTO m_savings_account_pending_credit (savings_account_id, shard_no, transaction_date,"
+            + " amount, payment_detail_id, ref_no, note, created_by, created_on_utc) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADD_TO_SHARD_SQL = "UPDATE m_savings_account_balance_shard SET pending_amount = pending_amount + ?"
+            + " WHERE savings_account_id = ? AND shard_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    @Override
+    public Long recordPendingCredit(final SavingsAccountPendingCreditData credit, final int shards, final Long createdBy) {
+        final int shardNo = ThreadLocalRandom.current().nextInt(shards);
+        final GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL, PreparedStatement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, credit.getSavingsAccountId());
+            ps.setInt(2, shardNo);
+            ps.setObject(3, credit.getTransactionDate());
+            ps.setBigDecimal(4, credit.getAmount());
+            ps.setObject(5, credit.getPaymentDetailId(), Types.BIGINT);
+            ps.setString(6, credit.getRefNo());
+            ps.setString(7, credit.getNote());
+            ps.setLong(8, createdBy);
+            ps.setObject(9, DateUtils.getAuditOffsetDateTime());
+            return ps;
+        }, keyHolder);
+        jdbcTemplate.update(ADD_TO_SHARD_SQL, credit.getAmount(), credit.getSavingsAccountId(), shardNo);
+        return sqlGenerator.fetchPK(keyHolder);
+    }
+
+    @Override
+    public List<SavingsAccountPendingCreditData> retrievePendingCreditsForMerge(final Long savingsAccountId, final int limit) {
+        return jdbcTemplate.query("SELECT id, savings_account_id, shard_no, transaction_date, amount, payment_detail_id, ref_no, note"
+                + " FROM m_savings_account_pending_credit WHERE savings_account_id = ? ORDER BY id " + sqlGenerator.limit(limit)
+                + " FOR UPDATE",
+                (rs, rowNum) -> SavingsAccountPendingCreditData.builder().id(rs.getLong("id"))
+                        .savingsAccountId(rs.getLong("savings_account_id")).shardNo(rs.getInt("shard_no"))
+                        .transactionDate(rs.getObject("transaction_date", LocalDate.class)).amount(rs.getBigDecimal("amount"))
+                        .paymentDetailId(rs.getObject("payment_detail_id", Long.class)).refNo(rs.getString("ref_no"))
+                        .note(rs.getString("note")).build(),
+                savingsAccountId);
+    }
+
+    @Override
+    public void removeMergedCredits(final Long savingsAccountId, final List<SavingsAccountPendingCreditData> credits) {
+        if (credits.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM m_savings_account_pending_credit WHERE id = ?",
+                credits.stream().map(c -> new Object[] { c.getId() }).toList());
+        // one update per shard, in shard order so concurrent merges and credits lock the shards in the same order
+        final Map<Integer, BigDecimal> amountByShard = credits.stream().collect(Collectors.groupingBy(
+                SavingsAccountPendingCreditData::getShardNo, TreeMap::new,
+                Collectors.reducing(BigDecimal.ZERO, SavingsAccountPendingCreditData::getAmount, BigDecimal::add)));
+        final List<Object[]> params = new ArrayList<>(amountByShard.size());
+        amountByShard.forEach((shardNo, amount) -> params.add(new Object[] { amount.negate(), savingsAccountId, shardNo }));
+        jdbcTemplate.batchUpdate(ADD_TO_SHARD_SQL, params);
+    }
+
+    @Override
+    public BigDecimal retrievePendingCreditAmount(final Long savingsAccountId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT SUM(pending_amount) FROM m_savings_account_balance_shard WHERE savings_account_id = ?", BigDecimal.class,
+                savingsAccountId);
+    }
+
+    @Override
+    public List<Long> retrieveAccountIdsWithPendingCredits() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT savings_account_id FROM m_savings_account_pending_credit", Long.class);
+    }
+
+    @Override
+    public void createShards(final Long savingsAccountId, final int shards) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO m_savings_account_balance_shard (savings_account_id, shard_no, pending_amount) VALUES (?, ?, ?)",
+                IntStream.range(0, shards).mapToObj(shardNo -> new Object[] { savingsAccountId, shardNo, BigDecimal.ZERO }).toList());
+    }
+
+    @Override
+    public void removeShards(final Long savingsAccountId) {
+        jdbcTemplate.update("DELETE FROM m_savings_account_balance_shard WHERE savings_account_id = ?", savingsAccountId);
+    }
+}
@@ -111,6 +111,12 @@ public interface SavingsAccountWritePlatformService {
 
     CommandProcessingResult unblockDebits(Long savingsId);
 
+    CommandProcessingResult enableHotAccount(Long savingsId);
+
+    CommandProcessingResult disableHotAccount(Long savingsId);
+
+    int mergePendingCredits(Long savingsId);
+
     CommandProcessingResult releaseAmount(Long savingsId, Long transactionId);
 
     CommandProcessingResult gsimActivate(Long gsimId, JsonCommand command);
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -38,6 +39,7 @@ import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountDailyBalanceData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountSummaryData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
@@ -57,6 +59,7 @@ public class SavingsSchedularInterestPoster {
     private final JdbcTemplate jdbcTemplate;
     private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
     private final PlatformSecurityContext platformSecurityContext;
+    private final SavingsAccountDailyBalanceService savingsAccountDailyBalanceService;
 
     private final List<SavingsAccountData> savingsAccountDataList = new ArrayList<>();
     private Collection<SavingsAccountData> savingAccounts;
@@ -65,6 +68,9 @@ public class SavingsSchedularInterestPoster {
     @Transactional(isolation = Isolation.READ_UNCOMMITTED, rollbackFor = Exception.class)
     public void postInterest() throws JobExecutionException {
         if (!savingAccounts.isEmpty()) {
+            if (!backdatedTxnsAllowedTill) {
+                setBalanceSnapshots();
+            }
             List<Throwable> errors = new ArrayList<>();
             for (SavingsAccountData savingsAccountData : savingAccounts) {
                 boolean postInterestAsOn = false;
@@ -95,6 +101,21 @@ public class SavingsSchedularInterestPoster {
         }
     }
 
+    /**
+     * The daily balances are replayed from the latest end of day balance snapshot of each account instead of from its
+     * first transaction.
+     */
+    private void setBalanceSnapshots() {
+        final Map<Long, SavingsAccountDailyBalanceData> endOfDayBalances = this.savingsAccountDailyBalanceService
+                .retrieveLatestEndOfDayBalances(savingAccounts.stream().map(SavingsAccountData::getId).distinct().toList());
+        for (SavingsAccountData savingsAccountData : savingAccounts) {
+            final SavingsAccountDailyBalanceData endOfDayBalance = endOfDayBalances.get(savingsAccountData.getId());
+            if (endOfDayBalance != null) {
+                savingsAccountData.getSummary().setBalanceSnapshot(endOfDayBalance.getBalanceDate(), endOfDayBalance.getEndOfDayBalance());
+            }
+        }
+    }
+
     private void batchUpdateJournalEntries(final List<SavingsAccountData> savingsAccountDataList,
             final HashMap<String, SavingsAccountTransactionData> savingsAccountTransactionDataHashMap)
             throws DataAccessException, NullPointerException {
@@ -166,6 +187,7 @@ public class SavingsSchedularInterestPoster {
         List<Object[]> paramsForSavingsSummary = new ArrayList<>();
         List<Object[]> paramsForTransactionUpdate = new ArrayList<>();
         List<String> transRefNo = new ArrayList<>();
+        Map<Long, LocalDate> changedFromDates = new HashMap<>();
         LocalDate currentDate = DateUtils.getBusinessLocalDate();
         Long userId = platformSecurityContext.authenticatedUser().getId();
         for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
@@ -184,6 +206,9 @@ public class SavingsSchedularInterestPoster {
             List<SavingsAccountTransactionData> savingsAccountTransactionDataList = savingsAccountData.getSavingsAccountTransactionData();
             for (SavingsAccountTransactionData savingsAccountTransactionData : savingsAccountTransactionDataList) {
                 if (savingsAccountTransactionData.getId() == null) {
+                    // reversed transactions are always replaced by a new one of the same date
+                    changedFromDates.merge(savingsAccountData.getId(), savingsAccountTransactionData.getTransactionDate(),
+                            (d1, d2) -> DateUtils.isBefore(d1, d2) ? d1 : d2);
                     UUID uuid = UUID.randomUUID();
                     savingsAccountTransactionData.setRefNo(uuid.toString());
                     transRefNo.add(uuid.toString());
@@ -211,6 +236,8 @@ public class SavingsSchedularInterestPoster {
             this.jdbcTemplate.batchUpdate(queryForSavingsUpdate, paramsForSavingsSummary);
             this.jdbcTemplate.batchUpdate(queryForTransactionInsertion, paramsForTransactionInsertion);
             this.jdbcTemplate.batchUpdate(queryForTransactionUpdate, paramsForTransactionUpdate);
+            // the transactions are written without JPA, so the end of day balances are not invalidated by the listener
+            this.savingsAccountDailyBalanceService.invalidateEndOfDayBalances(changedFromDates);
             log.debug("`Total No Of Interest Posting:` {}", transRefNo.size());
             List<SavingsAccountTransactionData> savingsAccountTransactionDataList = fetchTransactionsFromIds(transRefNo);
             if (savingsAccountDataList != null) {